@@ -0,0 +1,54 @@
+package com.example.book2onandoncouponservice.benchmark;
+
+import com.example.book2onandoncouponservice.entity.Coupon;
+import com.example.book2onandoncouponservice.entity.CouponPolicy;
+import com.example.book2onandoncouponservice.entity.CouponPolicyDiscountType;
+import com.example.book2onandoncouponservice.entity.CouponPolicyStatus;
+import com.example.book2onandoncouponservice.entity.CouponPolicyType;
+import com.example.book2onandoncouponservice.entity.MemberCoupon;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// 벤치마크 공용 엔티티 생성 (DB 없이 ID를 직접 지정)
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    // Spring 없이 실행되면 logback 기본 설정(DEBUG, 콘솔)이 적용되어 로그 출력이 측정을 덮으므로 WARN으로 낮춘다
+    static void quietLogging() {
+        ((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+    }
+
+    static CouponPolicy policy(Long policyId, CouponPolicyType type, CouponPolicyDiscountType discountType) {
+        return CouponPolicy.builder()
+                .couponPolicyId(policyId)
+                .couponPolicyName("벤치마크 정책 " + policyId)
+                .couponPolicyType(type)
+                .couponPolicyDiscountType(discountType)
+                .couponDiscountValue(discountType == CouponPolicyDiscountType.FIXED ? 3000 : 10)
+                .minPrice(10000)
+                .maxPrice(5000)
+                .fixedStartDate(LocalDate.of(2025, 1, 1))
+                .fixedEndDate(LocalDate.of(2099, 12, 31))
+                .couponPolicyStatus(CouponPolicyStatus.ACTIVE)
+                .build();
+    }
+
+    static Coupon coupon(Long couponId, Integer remainingQuantity, CouponPolicy policy) {
+        Coupon coupon = new Coupon(remainingQuantity, policy);
+        ReflectionTestUtils.setField(coupon, "couponId", couponId);
+        return coupon;
+    }
+
+    static MemberCoupon memberCoupon(Long memberCouponId, Long userId, Coupon coupon) {
+        LocalDateTime now = LocalDateTime.now();
+        MemberCoupon memberCoupon = new MemberCoupon(userId, coupon, now, now.plusYears(50));
+        ReflectionTestUtils.setField(memberCoupon, "memberCouponId", memberCouponId);
+        return memberCoupon;
+    }
+}
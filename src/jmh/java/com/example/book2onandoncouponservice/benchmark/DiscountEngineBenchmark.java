@@ -0,0 +1,124 @@
+package com.example.book2onandoncouponservice.benchmark;
+
+import com.example.book2onandoncouponservice.discount.DiscountCart;
+import com.example.book2onandoncouponservice.discount.DiscountEngine;
+import com.example.book2onandoncouponservice.discount.PolicyDiscountEvaluator;
+import com.example.book2onandoncouponservice.dto.request.CartLineRequestDto;
+import com.example.book2onandoncouponservice.dto.response.CouponDiscountResponseDto;
+import com.example.book2onandoncouponservice.dto.response.CouponTargetResponseDto;
+import com.example.book2onandoncouponservice.entity.CouponPolicy;
+import com.example.book2onandoncouponservice.entity.CouponPolicyDiscountType;
+import com.example.book2onandoncouponservice.entity.CouponPolicyType;
+import com.example.book2onandoncouponservice.entity.MemberCoupon;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// 장바구니 200줄 x 사용 가능 쿠폰 100장 할인 계산 (DB 조회 제외, 계산기는 캐시 적중 상태)
+// targetLists는 주문 서비스가 쿠폰별 /targets 응답(List)으로 계산하던 방식을 옮긴 비교 기준
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DiscountEngineBenchmark {
+
+    private static final int LINES = 200;
+    private static final int BOOK_COUPONS = 60;
+    private static final int CATEGORY_COUPONS = 30;
+    private static final int UNRESTRICTED_COUPONS = 10;
+    private static final int BOOK_TARGETS = 40;
+    private static final int CATEGORY_TARGETS = 5;
+    private static final int BOOK_UNIVERSE = 2_000;
+    private static final int CATEGORY_UNIVERSE = 200;
+
+    private List<CartLineRequestDto> lines;
+    private List<MemberCoupon> candidates;
+    private Map<Long, PolicyDiscountEvaluator> evaluators;
+    private List<CouponTargetResponseDto> targets;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.quietLogging();
+        SplittableRandom random = new SplittableRandom(42);
+
+        lines = new ArrayList<>(LINES);
+        for (int i = 0; i < LINES; i++) {
+            lines.add(new CartLineRequestDto((long) random.nextInt(BOOK_UNIVERSE),
+                    List.of((long) random.nextInt(CATEGORY_UNIVERSE), (long) random.nextInt(CATEGORY_UNIVERSE)),
+                    5000 + random.nextInt(30000), 1 + random.nextInt(3)));
+        }
+
+        candidates = new ArrayList<>();
+        evaluators = new HashMap<>();
+        targets = new ArrayList<>();
+        int total = BOOK_COUPONS + CATEGORY_COUPONS + UNRESTRICTED_COUPONS;
+        for (long id = 1; id <= total; id++) {
+            int books = id <= BOOK_COUPONS ? BOOK_TARGETS : 0;
+            int categories = id > BOOK_COUPONS && id <= BOOK_COUPONS + CATEGORY_COUPONS ? CATEGORY_TARGETS : 0;
+            long[] bookIds = random.longs(books, 0, BOOK_UNIVERSE).toArray();
+            long[] categoryIds = random.longs(categories, 0, CATEGORY_UNIVERSE).toArray();
+
+            CouponPolicy policy = BenchmarkFixtures.policy(id, CouponPolicyType.CUSTOM,
+                    id % 2 == 0 ? CouponPolicyDiscountType.FIXED : CouponPolicyDiscountType.PERCENT);
+            candidates.add(BenchmarkFixtures.memberCoupon(id, 1L, BenchmarkFixtures.coupon(id, null, policy)));
+            evaluators.put(id, PolicyDiscountEvaluator.of(policy, bookIds, categoryIds));
+            targets.add(CouponTargetResponseDto.builder()
+                    .memberCouponId(id)
+                    .targetBookIds(Arrays.stream(bookIds).boxed().toList())
+                    .targetCategoryIds(Arrays.stream(categoryIds).boxed().toList())
+                    .minPrice(policy.getMinPrice())
+                    .maxPrice(policy.getMaxPrice())
+                    .discountType(policy.getCouponPolicyDiscountType())
+                    .discountValue(policy.getCouponDiscountValue())
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public CouponDiscountResponseDto engine() {
+        return DiscountEngine.evaluate(candidates, DiscountCart.of(lines), evaluators);
+    }
+
+    @Benchmark
+    public long targetLists() {
+        long bestDiscount = 0;
+        Long bestId = null;
+        for (CouponTargetResponseDto target : targets) {
+            boolean unrestricted = target.getTargetBookIds().isEmpty() && target.getTargetCategoryIds().isEmpty();
+            long eligible = 0;
+            for (CartLineRequestDto line : lines) {
+                if (unrestricted || target.getTargetBookIds().contains(line.getBookId())
+                        || line.getCategoryIds().stream().anyMatch(target.getTargetCategoryIds()::contains)) {
+                    eligible += (long) line.getPrice() * line.getQuantity();
+                }
+            }
+            long discount = 0;
+            if (eligible > 0 && eligible >= target.getMinPrice()) {
+                discount = target.getDiscountType() == CouponPolicyDiscountType.FIXED
+                        ? Math.min(target.getDiscountValue(), eligible)
+                        : Math.min(eligible * target.getDiscountValue() / 100, target.getMaxPrice());
+            }
+            if (discount > bestDiscount) {
+                bestDiscount = discount;
+                bestId = target.getMemberCouponId();
+            }
+        }
+        return bestId == null ? 0 : bestDiscount;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.book2onandoncouponservice.benchmark;
+
+import com.example.book2onandoncouponservice.dto.response.CouponResponseDto;
+import com.example.book2onandoncouponservice.dto.response.MemberCouponResponseDto;
+import com.example.book2onandoncouponservice.entity.Coupon;
+import com.example.book2onandoncouponservice.entity.CouponPolicyDiscountType;
+import com.example.book2onandoncouponservice.entity.CouponPolicyType;
+import com.example.book2onandoncouponservice.entity.MemberCoupon;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// 쿠폰 목록/내 쿠폰 응답 DTO 변환 비용 (한 페이지 = 20건)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DtoMappingBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"FIXED", "PERCENT"})
+    private CouponPolicyDiscountType discountType;
+
+    private Coupon coupon;
+    private MemberCoupon memberCoupon;
+    private List<Coupon> couponPage;
+    private List<MemberCoupon> memberCouponPage;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.quietLogging();
+        couponPage = new ArrayList<>(PAGE_SIZE);
+        memberCouponPage = new ArrayList<>(PAGE_SIZE);
+        for (long i = 1; i <= PAGE_SIZE; i++) {
+            Coupon c = BenchmarkFixtures.coupon(i, 1000,
+                    BenchmarkFixtures.policy(i, CouponPolicyType.CUSTOM, discountType));
+            couponPage.add(c);
+            memberCouponPage.add(BenchmarkFixtures.memberCoupon(i, 1L, c));
+        }
+        coupon = couponPage.get(0);
+        memberCoupon = memberCouponPage.get(0);
+    }
+
+    @Benchmark
+    public CouponResponseDto couponResponseDto() {
+        return new CouponResponseDto(coupon);
+    }
+
+    @Benchmark
+    public MemberCouponResponseDto memberCouponResponseDto() {
+        return new MemberCouponResponseDto(memberCoupon);
+    }
+
+    @Benchmark
+    public List<CouponResponseDto> couponResponsePage() {
+        return couponPage.stream().map(CouponResponseDto::new).toList();
+    }
+
+    @Benchmark
+    public List<MemberCouponResponseDto> memberCouponResponsePage() {
+        return memberCouponPage.stream().map(MemberCouponResponseDto::new).toList();
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.book2onandoncouponservice.benchmark;
+
+import com.example.book2onandoncouponservice.redis.CouponIssueResult;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+// 발급 게이트 스크립트(coupon-issue.lua)만 JVM 안에서 흉내내는 Redis 대역
+// Redis처럼 스크립트 하나를 통째로 직렬 실행한다
+// 신규 사용자만 계속 들어오는 측정에서 힙이 커지지 않도록 발급 이력은 MAX_USERS마다 비운다
+class InMemoryIssueRedisTemplate extends StringRedisTemplate {
+
+    private static final int MAX_USERS = 65_536;
+
+    private final Map<String, Set<String>> sets = new HashMap<>();
+    private final Map<String, Long> counters = new HashMap<>();
+
+    synchronized void reset(String stockKey, long stock) {
+        sets.clear();
+        counters.clear();
+        counters.put(stockKey, stock);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public synchronized <T> T execute(RedisScript<T> script, List<String> keys, Object... args) {
+        Set<String> users = sets.computeIfAbsent(keys.get(0), k -> new HashSet<>());
+        String userId = (String) args[0];
+
+        if (users.contains(userId)) {
+            return (T) Long.valueOf(CouponIssueResult.DUPLICATE.getCode());
+        }
+
+        long stock = counters.getOrDefault(keys.get(1), 0L);
+        if (stock <= 0) {
+            return (T) Long.valueOf(CouponIssueResult.SOLD_OUT.getCode());
+        }
+
+        counters.put(keys.get(1), stock - 1);
+        if (users.size() >= MAX_USERS) {
+            users.clear();
+        }
+        users.add(userId);
+        return (T) Long.valueOf(CouponIssueResult.ISSUED.getCode());
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.book2onandoncouponservice.benchmark;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.example.book2onandoncouponservice.cache.AvailableCouponCatalog;
+import com.example.book2onandoncouponservice.cache.CouponSnapshotCache;
+import com.example.book2onandoncouponservice.entity.CouponPolicyDiscountType;
+import com.example.book2onandoncouponservice.entity.CouponPolicyType;
+import com.example.book2onandoncouponservice.exception.CouponIssueException;
+import com.example.book2onandoncouponservice.metrics.CouponMetrics;
+import com.example.book2onandoncouponservice.redis.CouponStockStore;
+import com.example.book2onandoncouponservice.repository.CouponRepository;
+import com.example.book2onandoncouponservice.service.impl.CouponIssueService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// CouponIssueService.issueRequest의 판정 경로 (스냅샷 캐시 hit + 발급 게이트 + 발행)
+// Redis는 InMemoryIssueRedisTemplate, RabbitMQ는 전송을 버리는 RabbitTemplate으로 대체해 네트워크 비용은 제외한다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class IssueDecisionBenchmark {
+
+    private static final Long LIMITED_COUPON_ID = 1L;
+    private static final Long SOLD_OUT_COUPON_ID = 2L;
+    private static final Long DUPLICATE_USER_ID = 0L;
+
+    private InMemoryIssueRedisTemplate redisTemplate;
+    private CouponIssueService couponIssueService;
+    private long nextUserId;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.quietLogging();
+        CouponRepository couponRepository = mock(CouponRepository.class);
+        given(couponRepository.findById(LIMITED_COUPON_ID)).willReturn(Optional.of(BenchmarkFixtures.coupon(
+                LIMITED_COUPON_ID, 1_000_000,
+                BenchmarkFixtures.policy(1L, CouponPolicyType.CUSTOM, CouponPolicyDiscountType.FIXED))));
+        given(couponRepository.findById(SOLD_OUT_COUPON_ID)).willReturn(Optional.of(BenchmarkFixtures.coupon(
+                SOLD_OUT_COUPON_ID, 0,
+                BenchmarkFixtures.policy(2L, CouponPolicyType.CUSTOM, CouponPolicyDiscountType.FIXED))));
+
+        redisTemplate = new InMemoryIssueRedisTemplate();
+        CouponSnapshotCache couponSnapshotCache =
+                new CouponSnapshotCache(couponRepository, new SimpleMeterRegistry(), 1000, Duration.ofHours(1));
+        couponIssueService = new CouponIssueService(
+                redisTemplate,
+                message -> {
+                    // 전송 생략
+                },
+                couponSnapshotCache,
+                null,
+                null,
+                new CouponStockStore(redisTemplate, null, null),
+                new CouponMetrics(new SimpleMeterRegistry(), couponSnapshotCache),
+                new AvailableCouponCatalog(couponRepository, null));
+    }
+
+    // 반복마다 발급 이력을 비워 Set 크기가 측정 중에 계속 커지지 않게 한다
+    @Setup(Level.Iteration)
+    public void resetStock() {
+        redisTemplate.reset(CouponStockStore.stockKey(LIMITED_COUPON_ID), Long.MAX_VALUE);
+        redisTemplate.execute(null, List.of(CouponStockStore.usersKey(LIMITED_COUPON_ID),
+                CouponStockStore.stockKey(LIMITED_COUPON_ID)), String.valueOf(DUPLICATE_USER_ID));
+    }
+
+    @Benchmark
+    public boolean issued() {
+        return couponIssueService.issueRequest(++nextUserId, LIMITED_COUPON_ID);
+    }
+
+    @Benchmark
+    public Object duplicate() {
+        try {
+            return couponIssueService.issueRequest(DUPLICATE_USER_ID, LIMITED_COUPON_ID);
+        } catch (CouponIssueException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object soldOut() {
+        try {
+            return couponIssueService.issueRequest(++nextUserId, SOLD_OUT_COUPON_ID);
+        } catch (CouponIssueException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.book2onandoncouponservice.benchmark;
+
+import com.example.book2onandoncouponservice.entity.CouponPolicyDiscountType;
+import com.example.book2onandoncouponservice.entity.CouponPolicyType;
+import com.example.book2onandoncouponservice.entity.MemberCoupon;
+import com.example.book2onandoncouponservice.exception.CouponUseException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// 회원 쿠폰 사용/사용 취소 상태 전이 (정상 경로와 예외 경로)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MemberCouponStateBenchmark {
+
+    private MemberCoupon notUsed;
+    private MemberCoupon used;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.quietLogging();
+        notUsed = BenchmarkFixtures.memberCoupon(1L, 1L, BenchmarkFixtures.coupon(1L, null,
+                BenchmarkFixtures.policy(1L, CouponPolicyType.CUSTOM, CouponPolicyDiscountType.FIXED)));
+        used = BenchmarkFixtures.memberCoupon(2L, 1L, BenchmarkFixtures.coupon(2L, null,
+                BenchmarkFixtures.policy(2L, CouponPolicyType.CUSTOM, CouponPolicyDiscountType.FIXED)));
+        used.use("ORDER-0");
+    }
+
+    @Benchmark
+    public MemberCoupon useThenCancel() {
+        notUsed.use("ORDER-1");
+        notUsed.cancelUsage();
+        return notUsed;
+    }
+
+    // 이미 사용한 쿠폰 재사용 요청 (예외 생성 비용 포함)
+    @Benchmark
+    public Object useAlreadyUsed() {
+        try {
+            used.use("ORDER-2");
+            return used;
+        } catch (CouponUseException e) {
+            return e;
+        }
+    }
+}
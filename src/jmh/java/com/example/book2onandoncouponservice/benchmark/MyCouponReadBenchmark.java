@@ -0,0 +1,154 @@
+package com.example.book2onandoncouponservice.benchmark;
+
+import com.example.book2onandoncouponservice.dto.response.MemberCouponResponseDto;
+import com.example.book2onandoncouponservice.entity.Coupon;
+import com.example.book2onandoncouponservice.entity.CouponIssueOutbox;
+import com.example.book2onandoncouponservice.entity.CouponPolicy;
+import com.example.book2onandoncouponservice.entity.CouponPolicyDiscountType;
+import com.example.book2onandoncouponservice.entity.CouponPolicyStatus;
+import com.example.book2onandoncouponservice.entity.CouponPolicyTargetBook;
+import com.example.book2onandoncouponservice.entity.CouponPolicyTargetCategory;
+import com.example.book2onandoncouponservice.entity.CouponPolicyType;
+import com.example.book2onandoncouponservice.entity.MemberCoupon;
+import com.example.book2onandoncouponservice.entity.MemberCouponStatus;
+import com.example.book2onandoncouponservice.repository.MemberCouponRepository;
+import com.example.book2onandoncouponservice.repository.projection.MemberCouponRow;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+
+// 내 쿠폰 1,000건 한 페이지 조회 (H2 메모리 DB + Hibernate, 조회 → 응답 DTO 변환까지)
+// entityPage는 변경 전 fetch join 조회(엔티티 3종 적재 + 스냅샷), projectionPage는 MemberCouponRepository의 프로젝션 조회
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MyCouponReadBenchmark {
+
+    private static final int PAGE_SIZE = 1_000;
+    private static final int DISCOUNT_VALUES = 50;
+    private static final Long USER_ID = 1L;
+
+    private static final String ENTITY_QUERY = """
+            SELECT mc
+            FROM MemberCoupon mc
+            JOIN FETCH mc.coupon c
+            JOIN FETCH c.couponPolicy cp
+            WHERE mc.userId = :userId
+            AND (:status IS NULL OR mc.memberCouponStatus = :status)
+            ORDER BY mc.memberCouponEndDate, mc.memberCouponId
+            """;
+
+    private SessionFactory sessionFactory;
+    private String projectionQuery;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        BenchmarkFixtures.quietLogging();
+        projectionQuery = MemberCouponRepository.class
+                .getMethod("findCouponsWithPolicyFirstPage", Long.class, MemberCouponStatus.class, Limit.class)
+                .getAnnotation(Query.class)
+                .value();
+
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(CouponPolicy.class)
+                .addAnnotatedClass(CouponPolicyTargetBook.class)
+                .addAnnotatedClass(CouponPolicyTargetCategory.class)
+                .addAnnotatedClass(Coupon.class)
+                .addAnnotatedClass(MemberCoupon.class)
+                .addAnnotatedClass(CouponIssueOutbox.class)
+                .setProperty("hibernate.connection.url", "jdbc:h2:mem:my-coupon-read;DB_CLOSE_DELAY=-1")
+                .setProperty("hibernate.connection.username", "sa")
+                .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+                .buildSessionFactory();
+
+        // 쿠폰:정책은 1:1, 할인 값은 50종이 반복된다 (운영 정책의 할인 값 분포와 비슷하게)
+        sessionFactory.inTransaction(session -> {
+            LocalDateTime now = LocalDateTime.now();
+            for (int i = 0; i < PAGE_SIZE; i++) {
+                CouponPolicyDiscountType discountType =
+                        i % 2 == 0 ? CouponPolicyDiscountType.FIXED : CouponPolicyDiscountType.PERCENT;
+                int variant = i % DISCOUNT_VALUES;
+                CouponPolicy policy = CouponPolicy.builder()
+                        .couponPolicyName("벤치마크 정책 " + i)
+                        .couponPolicyType(CouponPolicyType.CUSTOM)
+                        .couponPolicyDiscountType(discountType)
+                        .couponDiscountValue(discountType == CouponPolicyDiscountType.FIXED
+                                ? 1000 * (variant + 1) : 5 + variant % 25)
+                        .minPrice(10000)
+                        .maxPrice(5000)
+                        .couponPolicyStatus(CouponPolicyStatus.ACTIVE)
+                        .build();
+                session.persist(policy);
+                Coupon coupon = new Coupon(null, policy);
+                session.persist(coupon);
+                session.persist(new MemberCoupon(USER_ID, coupon, now, now.plusDays(i)));
+            }
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    // @Transactional(readOnly = true)와 같은 세션 설정
+    private Session openReadOnlySession() {
+        Session session = sessionFactory.openSession();
+        session.setDefaultReadOnly(true);
+        session.setHibernateFlushMode(FlushMode.MANUAL);
+        session.beginTransaction();
+        return session;
+    }
+
+    @Benchmark
+    public List<MemberCouponResponseDto> entityPage() {
+        try (Session session = openReadOnlySession()) {
+            List<MemberCouponResponseDto> page = session.createQuery(ENTITY_QUERY, MemberCoupon.class)
+                    .setParameter("userId", USER_ID)
+                    .setParameter("status", null)
+                    .setMaxResults(PAGE_SIZE)
+                    .getResultList()
+                    .stream()
+                    .map(MemberCouponResponseDto::new)
+                    .toList();
+            session.getTransaction().commit();
+            return page;
+        }
+    }
+
+    @Benchmark
+    public List<MemberCouponResponseDto> projectionPage() {
+        try (Session session = openReadOnlySession()) {
+            List<MemberCouponResponseDto> page = session.createQuery(projectionQuery, MemberCouponRow.class)
+                    .setParameter("userId", USER_ID)
+                    .setParameter("status", null)
+                    .setMaxResults(PAGE_SIZE)
+                    .getResultList()
+                    .stream()
+                    .map(MemberCouponResponseDto::new)
+                    .toList();
+            session.getTransaction().commit();
+            return page;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.book2onandoncouponservice.benchmark;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.example.book2onandoncouponservice.cache.PolicyTargetIndex;
+import com.example.book2onandoncouponservice.entity.CouponPolicy;
+import com.example.book2onandoncouponservice.entity.CouponPolicyDiscountType;
+import com.example.book2onandoncouponservice.entity.CouponPolicyType;
+import com.example.book2onandoncouponservice.repository.CouponPolicyRepository;
+import com.example.book2onandoncouponservice.repository.CouponPolicyTargetBookRepository;
+import com.example.book2onandoncouponservice.repository.CouponPolicyTargetCategoryRepository;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// 적용 대상 10만 행(도서 8만 + 카테고리 2만) 기준 적용 가능 정책 판정
+// rowScan은 색인 없이 [정책 ID, 대상 ID] 행을 훑는 비교 기준
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PolicyApplicabilityBenchmark {
+
+    private static final int BOOK_POLICIES = 2_000;
+    private static final int CATEGORY_POLICIES = 500;
+    private static final int CUSTOM_POLICIES = 50;
+    private static final int TARGETS_PER_POLICY = 40;
+    private static final int BOOK_UNIVERSE = 200_000;
+    private static final int CATEGORY_UNIVERSE = 2_000;
+    private static final int CART_SIZE = 10;
+
+    private PolicyTargetIndex index;
+    private List<Object[]> bookRows;
+    private List<Object[]> categoryRows;
+
+    private long[] bookPool;
+    private List<List<Long>> categoryPool;
+    private List<List<Long>> cartPool;
+
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.quietLogging();
+        SplittableRandom random = new SplittableRandom(42);
+        List<CouponPolicy> policies = new ArrayList<>();
+        bookRows = new ArrayList<>();
+        categoryRows = new ArrayList<>();
+
+        long policyId = 1;
+        for (int i = 0; i < BOOK_POLICIES; i++, policyId++) {
+            policies.add(BenchmarkFixtures.policy(policyId, CouponPolicyType.BOOK, CouponPolicyDiscountType.FIXED));
+            for (int t = 0; t < TARGETS_PER_POLICY; t++) {
+                bookRows.add(new Object[]{policyId, (long) random.nextInt(BOOK_UNIVERSE)});
+            }
+        }
+        for (int i = 0; i < CATEGORY_POLICIES; i++, policyId++) {
+            policies.add(BenchmarkFixtures.policy(policyId, CouponPolicyType.CATEGORY,
+                    CouponPolicyDiscountType.PERCENT));
+            for (int t = 0; t < TARGETS_PER_POLICY; t++) {
+                categoryRows.add(new Object[]{policyId, (long) random.nextInt(CATEGORY_UNIVERSE)});
+            }
+        }
+        for (int i = 0; i < CUSTOM_POLICIES; i++, policyId++) {
+            policies.add(BenchmarkFixtures.policy(policyId, CouponPolicyType.CUSTOM, CouponPolicyDiscountType.FIXED));
+        }
+
+        CouponPolicyRepository policyRepository = mock(CouponPolicyRepository.class);
+        CouponPolicyTargetBookRepository bookRepository = mock(CouponPolicyTargetBookRepository.class);
+        CouponPolicyTargetCategoryRepository categoryRepository = mock(CouponPolicyTargetCategoryRepository.class);
+        given(policyRepository.findAll()).willReturn(policies);
+        given(bookRepository.findAllPolicyTargetPairs()).willReturn(bookRows);
+        given(categoryRepository.findAllPolicyTargetPairs()).willReturn(categoryRows);
+
+        index = new PolicyTargetIndex(policyRepository, bookRepository, categoryRepository);
+        index.reloadAll();
+
+        bookPool = new long[1024];
+        categoryPool = new ArrayList<>(1024);
+        cartPool = new ArrayList<>(1024);
+        for (int i = 0; i < 1024; i++) {
+            bookPool[i] = random.nextInt(BOOK_UNIVERSE);
+            categoryPool.add(List.of((long) random.nextInt(CATEGORY_UNIVERSE),
+                    (long) random.nextInt(CATEGORY_UNIVERSE), (long) random.nextInt(CATEGORY_UNIVERSE)));
+            List<Long> cart = new ArrayList<>(CART_SIZE);
+            for (int c = 0; c < CART_SIZE; c++) {
+                cart.add((long) random.nextInt(BOOK_UNIVERSE));
+            }
+            cartPool.add(cart);
+        }
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & 1023;
+        return cursor;
+    }
+
+    // 상품 페이지: 도서 1권 + 카테고리 3개
+    @Benchmark
+    public List<Long> indexIssuable() {
+        int i = next();
+        return index.findIssuablePolicyIds(bookPool[i], categoryPool.get(i));
+    }
+
+    // 주문서: 도서 10권 + 카테고리 3개
+    @Benchmark
+    public List<Long> indexApplicable() {
+        int i = next();
+        return index.findApplicablePolicyIds(cartPool.get(i), categoryPool.get(i));
+    }
+
+    @Benchmark
+    public Set<Long> rowScanIssuable() {
+        int i = next();
+        long bookId = bookPool[i];
+        Set<Long> categoryIds = new HashSet<>(categoryPool.get(i));
+        Set<Long> result = new TreeSet<>();
+        for (Object[] row : bookRows) {
+            if ((Long) row[1] == bookId) {
+                result.add((Long) row[0]);
+            }
+        }
+        for (Object[] row : categoryRows) {
+            if (categoryIds.contains((Long) row[1])) {
+                result.add((Long) row[0]);
+            }
+        }
+        return result;
+    }
+}
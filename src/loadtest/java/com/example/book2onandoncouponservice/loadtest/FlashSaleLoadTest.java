@@ -0,0 +1,259 @@
+package com.example.book2onandoncouponservice.loadtest;
+
+import com.example.book2onandoncouponservice.Book2onandoncouponserviceApplication;
+import com.example.book2onandoncouponservice.dto.request.CouponCreateRequestDto;
+import com.example.book2onandoncouponservice.dto.request.CouponPolicyRequestDto;
+import com.example.book2onandoncouponservice.entity.CouponPolicyDiscountType;
+import com.example.book2onandoncouponservice.entity.CouponPolicyType;
+import com.example.book2onandoncouponservice.exception.CouponErrorCode;
+import com.example.book2onandoncouponservice.exception.CouponIssueException;
+import com.example.book2onandoncouponservice.redis.CouponStockStore;
+import com.example.book2onandoncouponservice.repository.CouponRepository;
+import com.example.book2onandoncouponservice.repository.MemberCouponRepository;
+import com.example.book2onandoncouponservice.service.CouponPolicyService;
+import com.example.book2onandoncouponservice.service.CouponService;
+import com.example.book2onandoncouponservice.service.impl.CouponIssueService;
+import com.example.book2onandoncouponservice.service.impl.CouponStockReconciler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import redis.embedded.RedisServer;
+
+// 선착순 발급 부하 테스트: 내장 Redis + 로컬 메시지 전달 + H2(MySQL 모드)로 애플리케이션을 띄우고
+// 사용자 N명이 쿠폰 M개를 동시에 요청하는 상황을 재현한 뒤 처리량, 지연 백분위, 초과 발급, Redis/DB 재고 차이를 출력한다
+//
+// ./mvnw -Ploadtest test-compile exec:exec -Dloadtest.users=5000 -Dloadtest.coupons=3 -Dloadtest.stock=1000
+public final class FlashSaleLoadTest {
+
+    private final int users = Integer.getInteger("loadtest.users", 2000);
+    private final int coupons = Integer.getInteger("loadtest.coupons", 3);
+    private final int stock = Integer.getInteger("loadtest.stock", 500);
+    private final int clients = Integer.getInteger("loadtest.clients", 32);
+    private final int consumers = Integer.getInteger("loadtest.consumers", 4);
+    private final boolean writeBehind = Boolean.getBoolean("loadtest.write-behind");
+    // true면 애플리케이션을 가상 스레드 모드로 띄우고, 요청마다 가상 스레드 1개 (Tomcat 가상 스레드 모드와 같은 조건)
+    // false면 clients개 플랫폼 스레드 풀 (Tomcat 스레드 풀 상한과 같은 조건)
+    private final boolean virtualThreads = Boolean.getBoolean("loadtest.virtual-threads");
+    // 발행 1건당 브로커 왕복 지연(ms) - 0이면 지연 없음 (로컬 Redis/H2만으로는 I/O 대기가 거의 없다)
+    private final long publishLatencyMs = Long.getLong("loadtest.publish-latency-ms", 0);
+
+    private FlashSaleLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        // devtools 재시작 클래스로더가 끼면 main 스레드가 끝나기 전에 컨텍스트가 다시 뜬다
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        System.exit(new FlashSaleLoadTest().run() ? 0 : 1);
+    }
+
+    private boolean run() throws Exception {
+        int redisPort = freePort();
+        RedisServer redis = RedisServer.newRedisServer()
+                .port(redisPort)
+                .bind("127.0.0.1")
+                .setting("save \"\"")
+                .build();
+        redis.start();
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                Book2onandoncouponserviceApplication.class)
+                .profiles("loadtest")
+                // 기본 프로퍼티는 application.yml보다 우선순위가 낮으므로 커맨드라인 인자로 덮어쓴다
+                .run("--spring.data.redis.host=127.0.0.1",
+                        "--spring.data.redis.port=" + redisPort,
+                        "--loadtest.consumers=" + consumers,
+                        "--coupon.stock.write-behind.enabled=" + writeBehind,
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--coupon.threads.pinning-monitor.enabled=" + virtualThreads,
+                        "--loadtest.publish-latency-ms=" + publishLatencyMs)) {
+            return execute(context);
+        } finally {
+            redis.stop();
+        }
+    }
+
+    private boolean execute(ConfigurableApplicationContext context) throws InterruptedException {
+        CouponPolicyService couponPolicyService = context.getBean(CouponPolicyService.class);
+        CouponService couponService = context.getBean(CouponService.class);
+        CouponIssueService couponIssueService = context.getBean(CouponIssueService.class);
+        LocalDispatchRabbitTemplate dispatcher = context.getBean(LocalDispatchRabbitTemplate.class);
+
+        long[] couponIds = new long[coupons];
+        for (int i = 0; i < coupons; i++) {
+            Long policyId = couponPolicyService.createPolicy(new CouponPolicyRequestDto(
+                    "부하 테스트 " + i, CouponPolicyType.CUSTOM, CouponPolicyDiscountType.FIXED,
+                    1000, 0, null, 30, null, null, null, null));
+            couponIds[i] = couponService.createCouponUnit(new CouponCreateRequestDto(stock, policyId));
+        }
+
+        // 사용자 x 쿠폰 요청을 섞어 동시에 시작
+        List<long[]> requests = new ArrayList<>(users * coupons);
+        for (long userId = 1; userId <= users; userId++) {
+            for (int c = 0; c < coupons; c++) {
+                requests.add(new long[]{userId, c});
+            }
+        }
+        Collections.shuffle(requests, new Random(42));
+
+        long[] latencies = new long[requests.size()];
+        long[] responseTimes = new long[requests.size()];
+        long[] burstStart = new long[1];
+        AtomicLongArray accepted = new AtomicLongArray(coupons);
+        AtomicLong duplicate = new AtomicLong();
+        AtomicLong soldOut = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+
+        ExecutorService pool = virtualThreads
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(clients);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(requests.size());
+
+        for (int i = 0; i < requests.size(); i++) {
+            int index = i;
+            long userId = requests.get(i)[0];
+            int coupon = (int) requests.get(i)[1];
+            pool.execute(() -> {
+                try {
+                    start.await();
+                    long began = System.nanoTime();
+                    try {
+                        couponIssueService.issueRequest(userId, couponIds[coupon]);
+                        accepted.incrementAndGet(coupon);
+                    } catch (CouponIssueException e) {
+                        if (e.getErrorCode() == CouponErrorCode.COUPON_OUT_OF_STOCK) {
+                            soldOut.incrementAndGet();
+                        } else if (e.getErrorCode() == CouponErrorCode.COUPON_ALREADY_ISSUED) {
+                            duplicate.incrementAndGet();
+                        } else {
+                            errors.incrementAndGet();
+                        }
+                    } catch (RuntimeException e) {
+                        errors.incrementAndGet();
+                    }
+                    long finished = System.nanoTime();
+                    latencies[index] = finished - began;
+                    responseTimes[index] = finished - burstStart[0];
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long began = System.nanoTime();
+        burstStart[0] = began;
+        start.countDown();
+        done.await();
+        long requestNanos = System.nanoTime() - began;
+        pool.shutdown();
+
+        boolean drained = dispatcher.awaitIdle(5, TimeUnit.MINUTES);
+        long totalNanos = System.nanoTime() - began;
+
+        if (writeBehind) {
+            context.getBean(CouponStockReconciler.class).reconcile();
+        }
+
+        printSummary(requests.size(), requestNanos, totalNanos, latencies, responseTimes, duplicate.get(),
+                soldOut.get(), errors.get(), dispatcher, drained);
+        if (virtualThreads) {
+            printPinning(context.getBean(MeterRegistry.class));
+        }
+        return printStock(context, couponIds, accepted) && drained;
+    }
+
+    private void printSummary(int requestCount, long requestNanos, long totalNanos, long[] latencies,
+                              long[] responseTimes, long duplicate, long soldOut, long errors,
+                              LocalDispatchRabbitTemplate dispatcher, boolean drained) {
+        Arrays.sort(latencies);
+        Arrays.sort(responseTimes);
+        System.out.println();
+        System.out.printf("== 선착순 발급 부하 테스트: users=%d, coupons=%d, stock=%d, clients=%s, consumers=%d, "
+                        + "write-behind=%s, threads=%s, publishLatency=%dms, maxHeap=%dMB%n", users, coupons, stock,
+                virtualThreads ? "요청당 1개" : String.valueOf(clients), consumers, writeBehind,
+                virtualThreads ? "virtual" : "platform", publishLatencyMs,
+                Runtime.getRuntime().maxMemory() / (1024 * 1024));
+        System.out.printf("요청 %d건: 접수 처리량 %.0f req/s (%.2fs), 소비 완료까지 %.2fs%s%n",
+                requestCount, requestCount / (requestNanos / 1e9), requestNanos / 1e9, totalNanos / 1e9,
+                drained ? "" : " (소비 미완료)");
+        printPercentiles("접수 지연(ms, 처리 시작 기준)", latencies);
+        // 모든 요청이 동시에 도착하므로 스레드를 기다린 시간까지 포함한 클라이언트 관점 응답 시간
+        printPercentiles("응답 시간(ms, 도착 기준)", responseTimes);
+        System.out.printf("거절: 중복 %d, 소진 %d, 오류 %d / 소비: 성공 %d, 재전달 %d, DLQ %d%n",
+                duplicate, soldOut, errors, dispatcher.delivered(), dispatcher.redelivered(),
+                dispatcher.deadLettered());
+    }
+
+    private static void printPercentiles(String label, long[] sorted) {
+        System.out.printf("%s: p50=%.2f p90=%.2f p99=%.2f p99.9=%.2f max=%.2f%n", label,
+                percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99),
+                percentile(sorted, 99.9), sorted[sorted.length - 1] / 1e6);
+    }
+
+    // 가상 스레드 pinning 발생 위치별 횟수/최대 시간 (VirtualThreadPinningMonitor)
+    private static void printPinning(MeterRegistry meterRegistry) {
+        Collection<Timer> timers = meterRegistry.find("coupon.vthread.pinned").timers();
+        if (timers.isEmpty()) {
+            System.out.println("가상 스레드 pinning: 없음");
+            return;
+        }
+        for (Timer timer : timers) {
+            System.out.printf("가상 스레드 pinning: site=%s, count=%d, max=%.2fms%n",
+                    timer.getId().getTag("site"), timer.count(), timer.max(TimeUnit.MILLISECONDS));
+        }
+    }
+
+    // 쿠폰별 초과 발급과 Redis/DB 재고 차이 (미반영 차감량 포함), 둘 다 0이면 true
+    private boolean printStock(ConfigurableApplicationContext context, long[] couponIds, AtomicLongArray accepted) {
+        CouponRepository couponRepository = context.getBean(CouponRepository.class);
+        MemberCouponRepository memberCouponRepository = context.getBean(MemberCouponRepository.class);
+        CouponStockStore couponStockStore = context.getBean(CouponStockStore.class);
+
+        boolean consistent = true;
+        System.out.printf("%-20s %8s %8s %8s %10s %8s %8s %8s %8s%n",
+                "couponId", "stock", "accepted", "issued", "dbRemain", "redis", "pending", "oversell", "drift");
+        for (int i = 0; i < couponIds.length; i++) {
+            Long couponId = couponIds[i];
+            long issued = memberCouponRepository.countByCoupon_CouponId(couponId);
+            int dbRemaining = couponRepository.findById(couponId).orElseThrow().getCouponRemainingQuantity();
+            Long redisStock = couponStockStore.stock(couponId);
+            long pending = couponStockStore.pending(couponId);
+
+            long oversell = Math.max(0, issued - stock);
+            long drift = (redisStock == null ? 0 : redisStock) - (dbRemaining - pending);
+            consistent &= oversell == 0 && drift == 0;
+
+            System.out.printf("%-20d %8d %8d %8d %10d %8d %8d %8d %8d%n",
+                    couponId, stock, accepted.get(i), issued, dbRemaining, redisStock, pending, oversell, drift);
+        }
+        return consistent;
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.book2onandoncouponservice.loadtest;
+
+import com.example.book2onandoncouponservice.messaging.consumer.CouponIssueListener;
+import com.example.book2onandoncouponservice.redis.CouponStockStore;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+@Profile("loadtest")
+public class LoadTestConfig {
+
+    @Bean
+    @Primary
+    LocalDispatchRabbitTemplate localDispatchRabbitTemplate(
+            ConnectionFactory connectionFactory,
+            ObjectProvider<CouponIssueListener> couponIssueListener,
+            ObjectProvider<CouponStockStore> couponStockStore,
+            @Value("${loadtest.consumers:4}") int consumers,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${loadtest.publish-latency-ms:0}") long publishLatencyMs) {
+        return new LocalDispatchRabbitTemplate(connectionFactory, couponIssueListener, couponStockStore, consumers,
+                virtualThreads, publishLatencyMs);
+    }
+}
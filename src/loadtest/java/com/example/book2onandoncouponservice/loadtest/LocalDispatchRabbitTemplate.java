@@ -0,0 +1,124 @@
+package com.example.book2onandoncouponservice.loadtest;
+
+import com.example.book2onandoncouponservice.messaging.CouponIssueMessage;
+import com.example.book2onandoncouponservice.messaging.consumer.CouponIssueListener;
+import com.example.book2onandoncouponservice.redis.CouponStockStore;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.support.MessageBuilder;
+
+// 브로커 대신 발급 메시지를 로컬 소비자 스레드에서 CouponIssueListener로 바로 넘기는 RabbitTemplate
+// 리스너가 예외를 던지면 재전달(최대 MAX_ATTEMPTS)을 흉내내고, 끝내 실패하면 DLQ 리스너처럼 재고를 반환한다
+@Slf4j
+class LocalDispatchRabbitTemplate extends RabbitTemplate {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final ObjectProvider<CouponIssueListener> listener;
+    private final ObjectProvider<CouponStockStore> couponStockStore;
+    private final ExecutorService consumers;
+    // 브로커 왕복(발행 확인) 시간 흉내 - 호출 스레드가 이 시간만큼 블로킹된다
+    private final long publishLatencyMs;
+
+    private final AtomicLong inFlight = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong redelivered = new AtomicLong();
+    private final AtomicLong deadLettered = new AtomicLong();
+
+    // 커넥션 팩토리는 RabbitTemplate 초기화 검증용으로만 받고 실제 연결은 열지 않는다
+    LocalDispatchRabbitTemplate(ConnectionFactory connectionFactory,
+                                ObjectProvider<CouponIssueListener> listener,
+                                ObjectProvider<CouponStockStore> couponStockStore,
+                                int consumerCount,
+                                boolean virtualThreads,
+                                long publishLatencyMs) {
+        super(connectionFactory);
+        this.listener = listener;
+        this.couponStockStore = couponStockStore;
+        this.publishLatencyMs = publishLatencyMs;
+        // 가상 스레드 모드에서는 Boot가 리스너 컨테이너 소비자를 가상 스레드로 돌리므로 동일하게 맞춘다
+        this.consumers = virtualThreads
+                ? Executors.newFixedThreadPool(consumerCount, Thread.ofVirtual().name("dispatch-", 0).factory())
+                : Executors.newFixedThreadPool(consumerCount);
+    }
+
+    @Override
+    public void convertAndSend(String exchange, String routingKey, Object message) {
+        if (!(message instanceof CouponIssueMessage issueMessage)) {
+            log.debug("부하 테스트에서 처리하지 않는 메시지 무시. routingKey={}", routingKey);
+            return;
+        }
+
+        if (publishLatencyMs > 0) {
+            try {
+                Thread.sleep(publishLatencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AmqpException(e);
+            }
+        }
+
+        inFlight.incrementAndGet();
+        consumers.execute(() -> {
+            try {
+                deliver(issueMessage);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+    }
+
+    private void deliver(CouponIssueMessage message) {
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try {
+                listener.getObject().receive(MessageBuilder.withPayload(message)
+                        .setHeader(AmqpHeaders.REDELIVERED, attempt > 1)
+                        .build());
+                delivered.incrementAndGet();
+                return;
+            } catch (RuntimeException e) {
+                redelivered.incrementAndGet();
+            }
+        }
+        deadLettered.incrementAndGet();
+        couponStockStore.getObject().release(message.couponId(), message.userId());
+    }
+
+    // 발행된 메시지가 모두 소비될 때까지 대기
+    boolean awaitIdle(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (inFlight.get() > 0) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+        return true;
+    }
+
+    long delivered() {
+        return delivered.get();
+    }
+
+    long redelivered() {
+        return redelivered.get();
+    }
+
+    long deadLettered() {
+        return deadLettered.get();
+    }
+
+    @Override
+    public void destroy() {
+        consumers.shutdownNow();
+        super.destroy();
+    }
+}
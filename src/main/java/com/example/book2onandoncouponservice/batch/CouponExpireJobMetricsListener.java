@@ -0,0 +1,39 @@
+package com.example.book2onandoncouponservice.batch;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+
+// 쿠폰 만료 Job 전체 소요 시간을 실행 모드, 종료 상태별로 기록
+public class CouponExpireJobMetricsListener implements JobExecutionListener {
+
+    static final String DURATION = "coupon.expire.duration";
+
+    private final MeterRegistry meterRegistry;
+    private final String mode;
+
+    public CouponExpireJobMetricsListener(MeterRegistry meterRegistry, String mode) {
+        this.meterRegistry = meterRegistry;
+        this.mode = mode;
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        LocalDateTime startTime = jobExecution.getStartTime();
+        if (startTime == null) {
+            return;
+        }
+        LocalDateTime endTime = jobExecution.getEndTime() != null ? jobExecution.getEndTime() : LocalDateTime.now();
+
+        Timer.builder(DURATION)
+                .description("쿠폰 만료 Job 처리 시간")
+                .tag("mode", mode)
+                .tag("status", jobExecution.getStatus().name())
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(Duration.between(startTime, endTime));
+    }
+}
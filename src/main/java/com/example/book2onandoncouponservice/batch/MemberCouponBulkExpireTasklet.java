@@ -0,0 +1,74 @@
+package com.example.book2onandoncouponservice.batch;
+
+import com.example.book2onandoncouponservice.repository.MemberCouponBulkRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+
+// PK keyset 구간 단위로 bulk UPDATE 하는 만료 Tasklet
+// execute 1회 = 청크 1개 = 트랜잭션 1개, 진행 위치(lastId)는 StepExecution 컨텍스트에 저장되어 재시작 시 이어서 처리
+@Slf4j
+public class MemberCouponBulkExpireTasklet implements Tasklet {
+
+    public static final String LAST_ID_KEY = "expire.lastId";
+
+    private final MemberCouponBulkRepository memberCouponBulkRepository;
+    private final LocalDateTime now;
+    private final int chunkSize;
+    private final long startAfterId;
+    private final long maxId;
+
+    private final Counter expiredCounter;
+    private final Counter chunkCounter;
+    private final Timer chunkTimer;
+
+    public MemberCouponBulkExpireTasklet(MemberCouponBulkRepository memberCouponBulkRepository,
+                                         MeterRegistry meterRegistry,
+                                         LocalDateTime now, int chunkSize, long startAfterId, long maxId) {
+        this.memberCouponBulkRepository = memberCouponBulkRepository;
+        this.now = now;
+        this.chunkSize = chunkSize;
+        this.startAfterId = startAfterId;
+        this.maxId = maxId;
+        this.expiredCounter = Counter.builder("coupon.expire.bulk.rows")
+                .description("bulk UPDATE로 만료 처리된 회원 쿠폰 수")
+                .register(meterRegistry);
+        this.chunkCounter = Counter.builder("coupon.expire.bulk.chunks")
+                .description("커밋된 만료 청크 수")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("coupon.expire.bulk.chunk.duration")
+                .description("만료 청크 1개 처리 시간")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        ExecutionContext executionContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        long lastId = executionContext.getLong(LAST_ID_KEY, startAfterId);
+
+        Timer.Sample sample = Timer.start();
+        Long upperId = memberCouponBulkRepository.findExpireChunkUpperId(lastId, maxId, now, chunkSize);
+        if (upperId == null) {
+            log.info("쿠폰 만료 bulk 처리 완료: lastId={}, 누적={}건", lastId, contribution.getWriteCount());
+            return RepeatStatus.FINISHED;
+        }
+
+        int expired = memberCouponBulkRepository.expireRange(lastId, upperId, now);
+        sample.stop(chunkTimer);
+
+        executionContext.putLong(LAST_ID_KEY, upperId);
+        contribution.incrementWriteCount(expired);
+        expiredCounter.increment(expired);
+        chunkCounter.increment();
+
+        log.debug("쿠폰 만료 청크 커밋: ({}, {}] {}건", lastId, upperId, expired);
+        return RepeatStatus.CONTINUABLE;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.book2onandoncouponservice.batch;
+
+import com.example.book2onandoncouponservice.service.CouponService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 대량 발급 Job 청크 쓰기 - 청크 1개 = 보유 여부 조회 1회 + multi-row INSERT + 재고 차감 1회
+// CouponService 트랜잭션은 Step 청크 트랜잭션에 참여한다
+@Slf4j
+public class MemberCouponBulkIssueWriter implements ItemWriter<Long> {
+
+    static final String ISSUED = "coupon.issue.bulk.issued";
+    static final String SKIPPED = "coupon.issue.bulk.skipped";
+
+    private final CouponService couponService;
+    private final Long couponId;
+    private final Counter issuedCounter;
+    private final Counter skippedCounter;
+
+    public MemberCouponBulkIssueWriter(CouponService couponService, MeterRegistry meterRegistry, Long couponId) {
+        this.couponService = couponService;
+        this.couponId = couponId;
+        this.issuedCounter = Counter.builder(ISSUED)
+                .description("대량 발급 Job으로 발급된 회원 쿠폰 수")
+                .register(meterRegistry);
+        this.skippedCounter = Counter.builder(SKIPPED)
+                .description("대량 발급 Job에서 이미 보유 중이거나 중복이라 건너뛴 사용자 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void write(Chunk<? extends Long> chunk) {
+        List<Long> userIds = new ArrayList<>(chunk.getItems());
+        int issued = couponService.issueMemberCouponsChunk(couponId, userIds);
+
+        int skipped = userIds.size() - issued;
+        afterCommit(() -> {
+            issuedCounter.increment(issued);
+            skippedCounter.increment(skipped);
+        });
+        log.debug("대량 발급 청크 처리. couponId={}, users={}, issued={}", couponId, userIds.size(), issued);
+    }
+
+    // 청크가 롤백되면 지표에 반영하지 않는다
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.book2onandoncouponservice.batch;
+
+import com.example.book2onandoncouponservice.repository.MemberCouponBulkRepository;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+// member_coupon을 PK 순서로 행 수가 비슷한 gridSize개의 (startAfterId, maxId] 구간으로 분할
+// 각 파티션은 별도 StepExecution으로 JobRepository에 기록되어 실패한 파티션만 재시작됨
+@Slf4j
+@RequiredArgsConstructor
+public class MemberCouponIdRangePartitioner implements Partitioner {
+
+    public static final String START_AFTER_ID_KEY = "startAfterId";
+    public static final String MAX_ID_KEY = "maxId";
+
+    private static final String PARTITION_PREFIX = "partition";
+
+    private final MemberCouponBulkRepository memberCouponBulkRepository;
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+
+        int grid = Math.max(1, gridSize);
+        List<long[]> quantiles = memberCouponBulkRepository.findIdQuantiles(grid);
+        if (quantiles.isEmpty()) {
+            log.info("쿠폰 만료 파티션 분할: 대상 없음");
+            partitions.put(PARTITION_PREFIX + 0, context(0L, 0L));
+            return partitions;
+        }
+
+        // 구간 사이에 빈틈이 없도록 이전 구간의 상한을 다음 구간의 시작점으로 사용
+        long startAfter = quantiles.get(0)[0] - 1;
+        for (int i = 0; i < quantiles.size(); i++) {
+            long upper = quantiles.get(i)[1];
+            partitions.put(PARTITION_PREFIX + i, context(startAfter, upper));
+            startAfter = upper;
+        }
+
+        log.info("쿠폰 만료 파티션 분할: id=[{}, {}], {}개",
+                quantiles.get(0)[0], startAfter, partitions.size());
+        return partitions;
+    }
+
+    private ExecutionContext context(long startAfterId, long maxId) {
+        ExecutionContext context = new ExecutionContext();
+        context.putLong(START_AFTER_ID_KEY, startAfterId);
+        context.putLong(MAX_ID_KEY, maxId);
+        return context;
+    }
+}
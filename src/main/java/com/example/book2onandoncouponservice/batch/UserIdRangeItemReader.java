@@ -0,0 +1,51 @@
+package com.example.book2onandoncouponservice.batch;
+
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+
+// [fromUserId, toUserId] 구간의 사용자 ID를 순서대로 생성 (DB 조회 없음)
+// 읽은 개수가 StepExecution 컨텍스트에 저장되어 재시작 시 마지막 커밋 청크 다음 ID부터 이어서 읽는다
+public class UserIdRangeItemReader extends AbstractItemCountingItemStreamItemReader<Long> {
+
+    private final long fromUserId;
+    private final long toUserId;
+
+    private long next;
+
+    public UserIdRangeItemReader(long fromUserId, long toUserId) {
+        if (fromUserId > toUserId) {
+            throw new IllegalArgumentException("fromUserId는 toUserId보다 클 수 없습니다.");
+        }
+        if (toUserId - fromUserId >= Integer.MAX_VALUE) {
+            // 읽은 개수(int)로 재시작 위치를 저장하므로
+            throw new IllegalArgumentException("사용자 ID 구간이 너무 큽니다.");
+        }
+        this.fromUserId = fromUserId;
+        this.toUserId = toUserId;
+        setName("userIdRangeReader");
+        setMaxItemCount((int) (toUserId - fromUserId + 1));
+    }
+
+    @Override
+    protected void doOpen() {
+        next = fromUserId;
+    }
+
+    @Override
+    protected Long doRead() {
+        if (next > toUserId) {
+            return null;
+        }
+        return next++;
+    }
+
+    // 기본 구현은 doRead를 itemIndex번 반복하므로 바로 위치를 옮긴다
+    @Override
+    protected void jumpToItem(int itemIndex) {
+        next = fromUserId + itemIndex;
+    }
+
+    @Override
+    protected void doClose() {
+        next = fromUserId;
+    }
+}
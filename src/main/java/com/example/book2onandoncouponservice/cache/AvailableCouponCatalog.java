@@ -0,0 +1,225 @@
+package com.example.book2onandoncouponservice.cache;
+
+import com.example.book2onandoncouponservice.dto.response.AvailableCouponPageDto;
+import com.example.book2onandoncouponservice.dto.response.CouponResponseDto;
+import com.example.book2onandoncouponservice.entity.CouponPolicyStatus;
+import com.example.book2onandoncouponservice.redis.CouponStockStore;
+import com.example.book2onandoncouponservice.repository.CouponRepository;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+// 사용자용 발급 가능 쿠폰 목록(GET /coupons) 스냅샷
+// 결과는 정책/쿠폰 변경, 재고 소진, 날짜 변경 때만 달라지므로 미리 만든 불변 배열에서 페이지를 잘라 응답한다
+// ETag는 내용 지문이라 같은 내용이면 인스턴스가 달라도 같은 값이 나온다 (게이트웨이 뒤 여러 노드)
+@Slf4j
+@Component
+public class AvailableCouponCatalog implements CacheInvalidationListener {
+
+    private final CouponRepository couponRepository;
+    private final CouponStockStore couponStockStore;
+    private final Clock clock;
+
+    // DB 조회를 락 안에서 하므로 synchronized 대신 사용 (가상 스레드 pinning 방지)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 조회는 락 없이 불변 스냅샷만 읽는다 (null이면 아직 적재 전)
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public AvailableCouponCatalog(CouponRepository couponRepository, CouponStockStore couponStockStore) {
+        this(couponRepository, couponStockStore, Clock.systemDefaultZone());
+    }
+
+    AvailableCouponCatalog(CouponRepository couponRepository, CouponStockStore couponStockStore, Clock clock) {
+        this.couponRepository = couponRepository;
+        this.couponStockStore = couponStockStore;
+        this.clock = clock;
+    }
+
+    // 애플리케이션 기동 완료 후 전체 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        try {
+            reloadAll();
+        } catch (RuntimeException e) {
+            // 적재 실패 시 DB 조회로 동작하므로 기동은 계속한다
+            log.error("발급 가능 쿠폰 카탈로그 적재 실패. DB 조회로 대체합니다.", e);
+        }
+    }
+
+    @Override
+    public void reloadAll() {
+        lock.lock();
+        try {
+            LocalDate today = LocalDate.now(clock);
+            List<CouponResponseDto> coupons = couponRepository
+                    .findAvailableCouponList(CouponPolicyStatus.ACTIVE, today)
+                    .stream()
+                    .map(CouponResponseDto::new)
+                    .toList();
+            publish(excludeSoldOut(coupons).toArray(CouponResponseDto[]::new), today);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onPolicyChanged(Long policyId) {
+        reloadAll();
+    }
+
+    @Override
+    public void onCouponChanged(Long couponId) {
+        reloadAll();
+    }
+
+    // 발급 요청에서 Redis 재고 소진을 확인한 쿠폰을 DB 조회 없이 목록에서 뺀다
+    // 다른 노드는 자기 노드의 소진 응답이나 주기 갱신 때 반영한다
+    public void onSoldOut(Long couponId) {
+        if (!contains(snapshot, couponId)) {
+            return;
+        }
+        lock.lock();
+        try {
+            Snapshot current = snapshot;
+            if (!contains(current, couponId)) {
+                return;
+            }
+            CouponResponseDto[] remaining = Arrays.stream(current.items())
+                    .filter(item -> !couponId.equals(item.getCouponId()))
+                    .toArray(CouponResponseDto[]::new);
+            publish(remaining, current.builtFor());
+            log.info("재고 소진 쿠폰을 발급 가능 목록에서 제외. couponId={}", couponId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    // 페이지의 쿠폰 DTO는 모든 요청이 공유하므로 수정하지 않는다
+    public AvailableCouponPageDto page(Pageable pageable) {
+        Snapshot current = requireSnapshot();
+        LocalDate today = LocalDate.now(clock);
+        if (!current.builtFor().equals(today)) {
+            // 자정 갱신보다 요청이 먼저 온 경우 - 동시에 들어온 요청 중 한 번만 다시 만든다
+            reloadIfBuiltBefore(today);
+            current = requireSnapshot();
+        }
+
+        CouponResponseDto[] items = current.items();
+        int from = (int) Math.min(pageable.getOffset(), items.length);
+        int to = Math.min(from + pageable.getPageSize(), items.length);
+        List<CouponResponseDto> content = Collections.unmodifiableList(Arrays.asList(items).subList(from, to));
+
+        String etag = "\"" + Long.toHexString(current.fingerprint())
+                + "-" + pageable.getPageNumber() + "-" + pageable.getPageSize() + "\"";
+        return new AvailableCouponPageDto(new PageImpl<>(content, pageable, items.length), etag);
+    }
+
+    private void reloadIfBuiltBefore(LocalDate today) {
+        lock.lock();
+        try {
+            if (snapshot.builtFor().isBefore(today)) {
+                reloadAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Snapshot requireSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            throw new IllegalStateException("발급 가능 쿠폰 카탈로그가 아직 적재되지 않았습니다.");
+        }
+        return current;
+    }
+
+    private void publish(CouponResponseDto[] items, LocalDate builtFor) {
+        Snapshot previous = snapshot;
+        long fingerprint = fingerprint(items);
+        snapshot = new Snapshot(items, builtFor, fingerprint);
+        if (previous != null && previous.fingerprint() == fingerprint) {
+            return;
+        }
+        log.debug("발급 가능 쿠폰 카탈로그 갱신. coupons={}, fingerprint={}", items.length,
+                Long.toHexString(fingerprint));
+    }
+
+    // DB 재고는 MQ 소비/재고 반영 지연만큼 늦으므로 Redis 재고가 0 이하인 수량 제한 쿠폰은 제외한다
+    private List<CouponResponseDto> excludeSoldOut(List<CouponResponseDto> coupons) {
+        List<Long> limitedIds = coupons.stream()
+                .filter(coupon -> coupon.getCouponRemainingQuantity() != null)
+                .map(CouponResponseDto::getCouponId)
+                .toList();
+        if (limitedIds.isEmpty()) {
+            return coupons;
+        }
+
+        Map<Long, Long> stocks;
+        try {
+            stocks = couponStockStore.stocks(limitedIds);
+        } catch (RuntimeException e) {
+            log.warn("발급 가능 쿠폰 카탈로그 Redis 재고 조회 실패. DB 재고 기준으로 만듭니다. {}", e.getMessage());
+            return coupons;
+        }
+        return coupons.stream()
+                .filter(coupon -> {
+                    Long stock = stocks.get(coupon.getCouponId());
+                    return stock == null || stock > 0;
+                })
+                .toList();
+    }
+
+    private static boolean contains(Snapshot current, Long couponId) {
+        if (current == null) {
+            return false;
+        }
+        for (CouponResponseDto item : current.items()) {
+            if (couponId.equals(item.getCouponId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 응답에 나가는 필드로 만든 64비트 지문 (노드 간 동일해야 하므로 identity hash는 쓰지 않는다)
+    static long fingerprint(CouponResponseDto[] items) {
+        long hash = 1125899906842597L;
+        for (CouponResponseDto item : items) {
+            hash = 31 * hash + Objects.hash(
+                    item.getCouponId(),
+                    item.getCouponName(),
+                    item.getDiscountDescription(),
+                    item.getDiscountValue(),
+                    item.getDiscountType() == null ? null : item.getDiscountType().name(),
+                    item.getMinPrice(),
+                    item.getMaxPrice(),
+                    item.getDurationDays(),
+                    item.getStartDate(),
+                    item.getEndDate(),
+                    item.getStatus() == null ? null : item.getStatus().name(),
+                    item.getCouponRemainingQuantity());
+        }
+        return hash;
+    }
+
+    private record Snapshot(CouponResponseDto[] items, LocalDate builtFor, long fingerprint) {
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.book2onandoncouponservice.cache;
+
+import com.example.book2onandoncouponservice.cache.CacheInvalidationEvent.Target;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 여러 인스턴스의 로컬 캐시(정책/쿠폰)를 맞추기 위한 Redis Pub/Sub 무효화 채널
+// 변경한 노드는 커밋 직후 로컬 캐시에 바로 반영하고, 다른 노드는 이벤트를 받아 해당 ID만 갱신한다
+// 이벤트마다 전역 순번을 붙여 누락(구독 끊김 등)이 감지되면 전체 재적재한다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationBus implements MessageListener {
+
+    public static final String CHANNEL = "coupon:cache:invalidation";
+    static final String SEQUENCE_KEY = "coupon:cache:invalidation:seq";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisScript<Long> cacheInvalidationScript;
+    private final List<CacheInvalidationListener> listeners;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 마지막으로 처리한 이벤트 순번 (0이면 아직 기준 순번 없음, lock으로 동기화)
+    private long lastSequence;
+
+    // 전체 재적재(DB 조회)를 락 안에서 하므로 synchronized 대신 사용 (가상 스레드 pinning 방지)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public void publishPolicyChanged(Long policyId) {
+        publishAfterCommit(Target.POLICY, policyId);
+    }
+
+    public void publishCouponChanged(Long couponId) {
+        publishAfterCommit(Target.COUPON, couponId);
+    }
+
+    private void publishAfterCommit(Target target, Long id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(target, id);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(target, id);
+            }
+        });
+    }
+
+    private void publish(Target target, Long id) {
+        // 변경한 노드는 이벤트 왕복을 기다리지 않고 바로 반영
+        dispatch(target, id);
+
+        try {
+            Long sequence = redisTemplate.execute(cacheInvalidationScript, List.of(SEQUENCE_KEY),
+                    CHANNEL, CacheInvalidationEvent.body(nodeId, target, id));
+            log.debug("캐시 무효화 이벤트 발행. sequence={}, target={}, id={}", sequence, target, id);
+        } catch (RuntimeException e) {
+            log.error("캐시 무효화 이벤트 발행 실패. 다른 노드의 캐시가 갱신되지 않을 수 있습니다. target={}, id={}",
+                    target, id, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        CacheInvalidationEvent event;
+        try {
+            event = CacheInvalidationEvent.parse(payload);
+        } catch (IllegalArgumentException e) {
+            log.warn("캐시 무효화 이벤트 파싱 실패. payload={}", payload);
+            return;
+        }
+        handle(event);
+    }
+
+    void handle(CacheInvalidationEvent event) {
+        lock.lock();
+        try {
+            long sequence = event.sequence();
+
+            if (lastSequence > 0 && sequence <= lastSequence) {
+                log.debug("이미 처리한 캐시 무효화 이벤트. sequence={}, last={}", sequence, lastSequence);
+                return;
+            }
+
+            if (lastSequence > 0 && sequence > lastSequence + 1) {
+                log.warn("캐시 무효화 이벤트 누락 감지. 전체 재적재합니다. expected={}, received={}",
+                        lastSequence + 1, sequence);
+                lastSequence = sequence;
+                reloadAll();
+                return;
+            }
+
+            lastSequence = sequence;
+            if (!nodeId.equals(event.nodeId())) {
+                dispatch(event.target(), event.id());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 마지막 이벤트가 유실되면 다음 이벤트가 올 때까지 누락을 알 수 없으므로 주기적으로 순번을 대조
+    @Scheduled(fixedDelayString = "${coupon.cache.invalidation.check-interval-ms:30000}")
+    public void verifySequence() {
+        String value;
+        try {
+            value = redisTemplate.opsForValue().get(SEQUENCE_KEY);
+        } catch (RuntimeException e) {
+            log.warn("캐시 무효화 순번 조회 실패. {}", e.getMessage());
+            return;
+        }
+        if (value == null) {
+            return;
+        }
+
+        long remoteSequence = Long.parseLong(value);
+        lock.lock();
+        try {
+            if (lastSequence == 0) {
+                lastSequence = remoteSequence;
+                return;
+            }
+            if (remoteSequence > lastSequence) {
+                log.warn("수신하지 못한 캐시 무효화 이벤트 감지. 전체 재적재합니다. last={}, remote={}",
+                        lastSequence, remoteSequence);
+                lastSequence = remoteSequence;
+                reloadAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void dispatch(Target target, Long id) {
+        for (CacheInvalidationListener listener : listeners) {
+            try {
+                switch (target) {
+                    case POLICY -> listener.onPolicyChanged(id);
+                    case COUPON -> listener.onCouponChanged(id);
+                }
+            } catch (RuntimeException e) {
+                log.error("캐시 무효화 처리 실패. listener={}, target={}, id={}",
+                        listener.getClass().getSimpleName(), target, id, e);
+            }
+        }
+    }
+
+    private void reloadAll() {
+        for (CacheInvalidationListener listener : listeners) {
+            try {
+                listener.reloadAll();
+            } catch (RuntimeException e) {
+                log.error("캐시 전체 재적재 실패. listener={}", listener.getClass().getSimpleName(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.book2onandoncouponservice.cache;
+
+// 캐시 무효화 이벤트 ({sequence}:{nodeId}:{target}:{id})
+// Snowflake ID가 JSON 숫자(double) 정밀도를 넘으므로 Lua cjson 대신 구분자 형식을 사용
+public record CacheInvalidationEvent(long sequence, String nodeId, Target target, long id) {
+
+    public enum Target {
+        POLICY, COUPON
+    }
+
+    static String body(String nodeId, Target target, long id) {
+        return nodeId + ":" + target.name() + ":" + id;
+    }
+
+    static CacheInvalidationEvent parse(String payload) {
+        String[] parts = payload.split(":");
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("잘못된 캐시 무효화 이벤트 형식: " + payload);
+        }
+        return new CacheInvalidationEvent(
+                Long.parseLong(parts[0]),
+                parts[1],
+                Target.valueOf(parts[2]),
+                Long.parseLong(parts[3]));
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.book2onandoncouponservice.cache;
+
+// 캐시 무효화 이벤트 수신 (CacheInvalidationBus가 Bean으로 등록된 구현체를 모두 호출)
+public interface CacheInvalidationListener {
+
+    default void onPolicyChanged(Long policyId) {
+    }
+
+    default void onCouponChanged(Long couponId) {
+    }
+
+    // 이벤트 유실(순번 누락)이 감지되면 전체 재적재
+    void reloadAll();
+}
@@ -0,0 +1,31 @@
+package com.example.book2onandoncouponservice.cache;
+
+import com.example.book2onandoncouponservice.entity.Coupon;
+import com.example.book2onandoncouponservice.entity.CouponPolicy;
+import com.example.book2onandoncouponservice.entity.CouponPolicyType;
+import java.time.LocalDate;
+
+// 발급 경로에서 필요한 쿠폰/정책 값만 담은 불변 스냅샷 (엔티티를 캐시에 두지 않기 위함)
+public record CouponSnapshot(
+        Long couponId,
+        boolean limited,
+        Long policyId,
+        CouponPolicyType policyType,
+        boolean issuable,
+        LocalDate fixedEndDate,
+        Integer durationDays
+) {
+
+    public static CouponSnapshot of(Coupon coupon) {
+        CouponPolicy policy = coupon.getCouponPolicy();
+        return new CouponSnapshot(
+                coupon.getCouponId(),
+                coupon.getCouponRemainingQuantity() != null,
+                policy.getCouponPolicyId(),
+                policy.getCouponPolicyType(),
+                policy.isIssuable(),
+                policy.getFixedEndDate(),
+                policy.getDurationDays()
+        );
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.book2onandoncouponservice.cache;
+
+import com.example.book2onandoncouponservice.repository.CouponRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 발급 경로(발급 요청 접수, MQ 소비)의 쿠폰/정책 조회용 로컬 캐시
+// 크기 + TTL로 제한하고, 정책/쿠폰 변경 시에는 무효화 이벤트로 즉시 제거한다
+// 같은 키의 동시 미스는 한 번만 DB를 조회한다 (선착순 오픈 직후 동일 쿠폰 폭주 대비)
+@Slf4j
+@Component
+public class CouponSnapshotCache implements CacheInvalidationListener {
+
+    static final String CACHE_NAME = "coupon.snapshot";
+
+    private final CouponRepository couponRepository;
+    private final Cache<Long, CouponSnapshot> cache;
+
+    public CouponSnapshotCache(CouponRepository couponRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${coupon.cache.snapshot.max-size:10000}") long maxSize,
+                               @Value("${coupon.cache.snapshot.ttl:60s}") Duration ttl) {
+        this.couponRepository = couponRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    // 존재하지 않는 쿠폰은 캐시하지 않는다
+    public Optional<CouponSnapshot> find(Long couponId) {
+        return Optional.ofNullable(cache.get(couponId, this::load));
+    }
+
+    private CouponSnapshot load(Long couponId) {
+        return couponRepository.findById(couponId)
+                .map(CouponSnapshot::of)
+                .orElse(null);
+    }
+
+    @Override
+    public void onCouponChanged(Long couponId) {
+        cache.invalidate(couponId);
+    }
+
+    @Override
+    public void onPolicyChanged(Long policyId) {
+        cache.asMap().values().removeIf(snapshot -> Objects.equals(snapshot.policyId(), policyId));
+    }
+
+    @Override
+    public void reloadAll() {
+        cache.invalidateAll();
+        log.info("쿠폰 스냅샷 캐시 전체 무효화");
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.book2onandoncouponservice.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// 박싱 없이 long 값을 모으는 가변 배열
+final class LongArrayBuilder {
+
+    private long[] elements;
+    private int size;
+
+    LongArrayBuilder() {
+        this(8);
+    }
+
+    LongArrayBuilder(int initialCapacity) {
+        this.elements = new long[Math.max(initialCapacity, 1)];
+    }
+
+    void add(long value) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size * 2);
+        }
+        elements[size++] = value;
+    }
+
+    void addAll(long[] values) {
+        for (long value : values) {
+            add(value);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    long[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    // 정렬 후 중복 제거
+    long[] toSortedArray() {
+        long[] sorted = toArray();
+        Arrays.sort(sorted);
+
+        int unique = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[unique++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, unique);
+    }
+
+    List<Long> toSortedList() {
+        long[] sorted = toSortedArray();
+        List<Long> result = new ArrayList<>(sorted.length);
+        for (long value : sorted) {
+            result.add(value);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.book2onandoncouponservice.cache;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+// long -> long[] 불변 멀티맵 (정렬된 키 배열 + 값 배열을 구간으로 나눈 CSR 구조)
+// 박싱 없이 이진 탐색으로 조회하므로 조회 시 추가 객체 생성이 없다
+final class LongMultiMap {
+
+    private final long[] keys;
+    private final int[] offsets;
+    private final long[] values;
+
+    private LongMultiMap(long[] keys, int[] offsets, long[] values) {
+        this.keys = keys;
+        this.offsets = offsets;
+        this.values = values;
+    }
+
+    // 정책 ID -> 대상 ID 목록을 뒤집어 대상 ID -> 정책 ID 목록으로 만든다
+    static LongMultiMap invert(Map<Long, long[]> source) {
+        SortedMap<Long, LongArrayBuilder> inverted = new TreeMap<>();
+        for (Map.Entry<Long, long[]> entry : source.entrySet()) {
+            long policyId = entry.getKey();
+            for (long targetId : entry.getValue()) {
+                inverted.computeIfAbsent(targetId, k -> new LongArrayBuilder()).add(policyId);
+            }
+        }
+
+        long[] keys = new long[inverted.size()];
+        int[] offsets = new int[inverted.size() + 1];
+        LongArrayBuilder values = new LongArrayBuilder();
+
+        int i = 0;
+        for (Map.Entry<Long, LongArrayBuilder> entry : inverted.entrySet()) {
+            keys[i] = entry.getKey();
+            offsets[i] = values.size();
+            long[] policyIds = entry.getValue().toSortedArray();
+            for (long policyId : policyIds) {
+                values.add(policyId);
+            }
+            i++;
+        }
+        offsets[i] = values.size();
+        return new LongMultiMap(keys, offsets, values.toArray());
+    }
+
+    // key에 해당하는 값들을 out에 추가
+    void collect(long key, LongArrayBuilder out) {
+        int index = Arrays.binarySearch(keys, key);
+        if (index < 0) {
+            return;
+        }
+        for (int i = offsets[index]; i < offsets[index + 1]; i++) {
+            out.add(values[i]);
+        }
+    }
+
+    int keyCount() {
+        return keys.length;
+    }
+}
@@ -0,0 +1,258 @@
+package com.example.book2onandoncouponservice.cache;
+
+import com.example.book2onandoncouponservice.entity.CouponPolicy;
+import com.example.book2onandoncouponservice.entity.CouponPolicyStatus;
+import com.example.book2onandoncouponservice.entity.CouponPolicyType;
+import com.example.book2onandoncouponservice.repository.CouponPolicyRepository;
+import com.example.book2onandoncouponservice.repository.CouponPolicyTargetBookRepository;
+import com.example.book2onandoncouponservice.repository.CouponPolicyTargetCategoryRepository;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// 쿠폰 정책 적용 대상(도서/카테고리) 역색인
+// 도서 ID -> 정책 ID, 카테고리 ID -> 정책 ID 맵과 대상이 없는 정책 목록을 메모리에 유지해
+// 주문/상품 페이지의 적용 가능 쿠폰 조회 시 정책 테이블 조인을 생략한다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PolicyTargetIndex implements CacheInvalidationListener {
+
+    private final CouponPolicyRepository couponPolicyRepository;
+    private final CouponPolicyTargetBookRepository targetBookRepository;
+    private final CouponPolicyTargetCategoryRepository targetCategoryRepository;
+
+    // 정책별 적용 대상 (인덱스 재구성의 원본, lock으로 동기화)
+    private final Map<Long, PolicyTargets> policies = new HashMap<>();
+
+    // DB 조회를 락 안에서 하므로 synchronized 대신 사용 (가상 스레드가 캐리어 스레드를 고정하지 않도록)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 조회는 락 없이 불변 스냅샷만 읽는다 (null이면 아직 적재 전)
+    private volatile Snapshot snapshot;
+
+    // 애플리케이션 기동 완료 후 전체 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        try {
+            reloadAll();
+        } catch (RuntimeException e) {
+            // 적재 실패 시 DB 조회로 동작하므로 기동은 계속한다
+            log.error("쿠폰 정책 적용 대상 인덱스 적재 실패. DB 조회로 대체합니다.", e);
+        }
+    }
+
+    @Override
+    public void reloadAll() {
+        lock.lock();
+        try {
+            Map<Long, LongArrayBuilder> books = groupByPolicy(targetBookRepository.findAllPolicyTargetPairs());
+            Map<Long, LongArrayBuilder> categories =
+                    groupByPolicy(targetCategoryRepository.findAllPolicyTargetPairs());
+
+            policies.clear();
+            for (CouponPolicy policy : couponPolicyRepository.findAll()) {
+                Long policyId = policy.getCouponPolicyId();
+                policies.put(policyId, new PolicyTargets(
+                        policy.getCouponPolicyType(),
+                        policy.getCouponPolicyStatus(),
+                        toSortedArray(books.get(policyId)),
+                        toSortedArray(categories.get(policyId))));
+            }
+
+            rebuild();
+            log.info("쿠폰 정책 적용 대상 인덱스 적재 완료. policies={}, books={}, categories={}",
+                    policies.size(), snapshot.bookIndex().keyCount(), snapshot.categoryIndex().keyCount());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 정책 하나의 적용 대상을 DB에서 다시 읽어 반영
+    public void refresh(Long policyId) {
+        lock.lock();
+        try {
+            if (snapshot == null) {
+                // 전체 적재 시 최신 상태를 읽으므로 생략
+                return;
+            }
+
+            Optional<CouponPolicy> policy = couponPolicyRepository.findById(policyId);
+            if (policy.isEmpty()) {
+                policies.remove(policyId);
+            } else {
+                policies.put(policyId, new PolicyTargets(
+                        policy.get().getCouponPolicyType(),
+                        policy.get().getCouponPolicyStatus(),
+                        toSortedArray(targetBookRepository.findBookIdsByPolicyId(policyId)),
+                        toSortedArray(targetCategoryRepository.findCategoryIdsByPolicyId(policyId))));
+            }
+
+            rebuild();
+            log.debug("쿠폰 정책 적용 대상 인덱스 갱신. policyId={}", policyId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onPolicyChanged(Long policyId) {
+        refresh(policyId);
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    // 주문 도서/카테고리에 적용 가능한 정책 ID (CouponPolicyRepository.findApplicablePolicyIds 대체)
+    // 도서 또는 카테고리가 일치하거나 적용 대상이 없는 정책
+    public List<Long> findApplicablePolicyIds(Collection<Long> bookIds, Collection<Long> categoryIds) {
+        Snapshot current = requireSnapshot();
+
+        LongArrayBuilder result = new LongArrayBuilder(current.unrestricted().length + 16);
+        result.addAll(current.unrestricted());
+        collect(current.bookIndex(), bookIds, result);
+        collect(current.categoryIndex(), categoryIds, result);
+        return result.toSortedList();
+    }
+
+    // 상품 페이지에서 발급 가능한 쿠폰의 정책 ID (CouponRepository.findAppliableCoupons 대체)
+    // ACTIVE 정책 중 BOOK/CATEGORY는 대상이 일치하거나 지정되지 않은 경우, CUSTOM은 항상
+    public List<Long> findIssuablePolicyIds(Long bookId, Collection<Long> categoryIds) {
+        Snapshot current = requireSnapshot();
+
+        LongArrayBuilder matched = new LongArrayBuilder();
+        if (bookId != null) {
+            current.bookIndex().collect(bookId, matched);
+        }
+        int bookMatched = matched.size();
+        collect(current.categoryIndex(), categoryIds, matched);
+
+        LongArrayBuilder result = new LongArrayBuilder(current.alwaysIssuable().length + matched.size());
+        result.addAll(current.alwaysIssuable());
+
+        long[] candidates = matched.toArray();
+        for (int i = 0; i < candidates.length; i++) {
+            PolicyTargets targets = current.policies().get(candidates[i]);
+            CouponPolicyType expectedType = i < bookMatched ? CouponPolicyType.BOOK : CouponPolicyType.CATEGORY;
+            if (targets != null && targets.status() == CouponPolicyStatus.ACTIVE && targets.type() == expectedType) {
+                result.add(candidates[i]);
+            }
+        }
+        return result.toSortedList();
+    }
+
+    // 정책별 적용 대상 도서/카테고리 (쿠폰 적용 대상 일괄 조회용, 반환 배열은 수정하지 않는다)
+    // 인덱스에 없는 정책(생성 직후 무효화 이벤트 반영 전 등)은 결과에서 빠진다
+    public Map<Long, PolicyTargets> findTargets(Collection<Long> policyIds) {
+        Snapshot current = requireSnapshot();
+
+        Map<Long, PolicyTargets> result = new HashMap<>();
+        for (Long policyId : policyIds) {
+            PolicyTargets targets = current.policies().get(policyId);
+            if (targets != null) {
+                result.put(policyId, targets);
+            }
+        }
+        return result;
+    }
+
+    private Snapshot requireSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            throw new IllegalStateException("쿠폰 정책 적용 대상 인덱스가 아직 적재되지 않았습니다.");
+        }
+        return current;
+    }
+
+    private void rebuild() {
+        Map<Long, long[]> bookTargets = new HashMap<>();
+        Map<Long, long[]> categoryTargets = new HashMap<>();
+        LongArrayBuilder unrestricted = new LongArrayBuilder();
+        LongArrayBuilder alwaysIssuable = new LongArrayBuilder();
+
+        policies.forEach((policyId, targets) -> {
+            bookTargets.put(policyId, targets.bookIds());
+            categoryTargets.put(policyId, targets.categoryIds());
+            if (targets.isUnrestricted()) {
+                unrestricted.add(policyId);
+            }
+            if (targets.isAlwaysIssuable()) {
+                alwaysIssuable.add(policyId);
+            }
+        });
+
+        snapshot = new Snapshot(
+                Map.copyOf(policies),
+                LongMultiMap.invert(bookTargets),
+                LongMultiMap.invert(categoryTargets),
+                unrestricted.toSortedArray(),
+                alwaysIssuable.toSortedArray());
+    }
+
+    private static void collect(LongMultiMap index, Collection<Long> keys, LongArrayBuilder out) {
+        if (keys == null) {
+            return;
+        }
+        for (Long key : keys) {
+            if (key != null) {
+                index.collect(key, out);
+            }
+        }
+    }
+
+    private static Map<Long, LongArrayBuilder> groupByPolicy(List<Object[]> pairs) {
+        Map<Long, LongArrayBuilder> grouped = new HashMap<>();
+        for (Object[] pair : pairs) {
+            grouped.computeIfAbsent((Long) pair[0], k -> new LongArrayBuilder()).add((Long) pair[1]);
+        }
+        return grouped;
+    }
+
+    private static long[] toSortedArray(LongArrayBuilder builder) {
+        return builder == null ? new long[0] : builder.toSortedArray();
+    }
+
+    private static long[] toSortedArray(List<Long> ids) {
+        LongArrayBuilder builder = new LongArrayBuilder(ids.size());
+        for (Long id : ids) {
+            builder.add(id);
+        }
+        return builder.toSortedArray();
+    }
+
+    public record PolicyTargets(CouponPolicyType type, CouponPolicyStatus status, long[] bookIds, long[] categoryIds) {
+
+        boolean isUnrestricted() {
+            return bookIds.length == 0 && categoryIds.length == 0;
+        }
+
+        // 상품 페이지 발급 가능 여부가 대상 도서/카테고리와 무관한 정책
+        boolean isAlwaysIssuable() {
+            if (status != CouponPolicyStatus.ACTIVE) {
+                return false;
+            }
+            return switch (type) {
+                case CUSTOM -> true;
+                case BOOK -> bookIds.length == 0;
+                case CATEGORY -> categoryIds.length == 0;
+                default -> false;
+            };
+        }
+    }
+
+    private record Snapshot(Map<Long, PolicyTargets> policies,
+                            LongMultiMap bookIndex,
+                            LongMultiMap categoryIndex,
+                            long[] unrestricted,
+                            long[] alwaysIssuable) {
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.book2onandoncouponservice.cache;
+
+import com.example.book2onandoncouponservice.entity.CouponPolicyType;
+import com.example.book2onandoncouponservice.exception.CouponNotFoundException;
+import com.example.book2onandoncouponservice.exception.CouponPolicyNotFoundException;
+import com.example.book2onandoncouponservice.repository.CouponPolicyRepository;
+import com.example.book2onandoncouponservice.repository.projection.SystemCouponRow;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// 웰컴/생일 쿠폰처럼 타입당 활성 정책이 하나인 시스템 쿠폰의 현재 쿠폰 ID
+// 가입/생일 이벤트마다 정책 → 쿠폰 2회 조회하던 것을 정책/쿠폰 변경 이벤트와 TTL로만 다시 적재한다
+// 같은 타입의 활성 정책이 여러 개이거나 정책에 쿠폰이 여러 개면 적재 시점에 바로 로그로 알리고, 해당 타입 발급은 모호한 상태로 거절한다
+@Slf4j
+@Component
+public class SystemCouponRegistry implements CacheInvalidationListener {
+
+    static final Set<CouponPolicyType> SYSTEM_TYPES = EnumSet.of(CouponPolicyType.WELCOME, CouponPolicyType.BIRTHDAY);
+
+    private final CouponPolicyRepository policyRepository;
+    private final Duration ttl;
+    private final Clock clock;
+
+    // DB 조회를 락 안에서 하므로 synchronized 대신 사용 (가상 스레드 pinning 방지)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 조회는 락 없이 불변 스냅샷만 읽는다 (null이면 아직 적재 전)
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public SystemCouponRegistry(CouponPolicyRepository policyRepository,
+                                @Value("${coupon.cache.system-coupon.ttl:10m}") Duration ttl) {
+        this(policyRepository, ttl, Clock.systemDefaultZone());
+    }
+
+    SystemCouponRegistry(CouponPolicyRepository policyRepository, Duration ttl, Clock clock) {
+        this.policyRepository = policyRepository;
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    // 애플리케이션 기동 완료 후 전체 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        try {
+            reloadAll();
+        } catch (RuntimeException e) {
+            // 첫 조회 때 다시 적재하므로 기동은 계속한다
+            log.error("시스템 쿠폰 레지스트리 적재 실패. 첫 발급 때 다시 적재합니다.", e);
+        }
+    }
+
+    @Override
+    public void reloadAll() {
+        lock.lock();
+        try {
+            Map<CouponPolicyType, List<SystemCouponRow>> rowsByType = new EnumMap<>(CouponPolicyType.class);
+            for (SystemCouponRow row : policyRepository.findActiveSystemCoupons(SYSTEM_TYPES)) {
+                rowsByType.computeIfAbsent(row.couponPolicyType(), type -> new ArrayList<>()).add(row);
+            }
+
+            Map<CouponPolicyType, Entry> entries = new EnumMap<>(CouponPolicyType.class);
+            rowsByType.forEach((type, rows) -> {
+                // 정책-쿠폰 LEFT JOIN 결과라 쿠폰이 여러 개인 정책은 여러 행으로 온다
+                Map<Long, List<Long>> couponIdsByPolicy = new LinkedHashMap<>();
+                for (SystemCouponRow row : rows) {
+                    List<Long> couponIds = couponIdsByPolicy.computeIfAbsent(row.couponPolicyId(),
+                            policyId -> new ArrayList<>());
+                    if (row.couponId() != null) {
+                        couponIds.add(row.couponId());
+                    }
+                }
+
+                List<Long> policyIds = List.copyOf(couponIdsByPolicy.keySet());
+                List<Long> couponIds = List.copyOf(couponIdsByPolicy.get(policyIds.get(0)));
+                if (policyIds.size() > 1) {
+                    log.error("활성 {} 정책이 여러 개입니다. 하나만 남기기 전까지 {} 쿠폰은 발급되지 않습니다. policyIds={}",
+                            type, type, policyIds);
+                } else if (couponIds.size() > 1) {
+                    log.error("{} 정책에 쿠폰이 여러 개입니다. 하나만 남기기 전까지 {} 쿠폰은 발급되지 않습니다. "
+                            + "policyId={}, couponIds={}", type, type, policyIds.get(0), couponIds);
+                }
+                entries.put(type, new Entry(policyIds, couponIds));
+            });
+
+            snapshot = new Snapshot(entries, clock.instant());
+            log.debug("시스템 쿠폰 레지스트리 갱신. {}", entries);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 변경된 정책/쿠폰이 시스템 쿠폰인지는 적재해봐야 알 수 있고 조회 1회라 항상 다시 적재
+    @Override
+    public void onPolicyChanged(Long policyId) {
+        reloadAll();
+    }
+
+    @Override
+    public void onCouponChanged(Long couponId) {
+        reloadAll();
+    }
+
+    // 타입의 현재 활성 쿠폰 ID (정책이 없으면 CouponPolicyNotFoundException, 쿠폰이 없으면 CouponNotFoundException,
+    // 활성 정책이나 정책의 쿠폰이 여러 개면 IllegalStateException)
+    public Long couponId(CouponPolicyType type) {
+        Entry entry = current().entries().get(type);
+        if (entry == null) {
+            log.warn("활성화된 {} 쿠폰 정책이 없습니다.", type);
+            throw new CouponPolicyNotFoundException();
+        }
+        if (entry.policyIds().size() > 1) {
+            throw new IllegalStateException(
+                    "활성 " + type + " 정책이 여러 개입니다. policyIds=" + entry.policyIds());
+        }
+        if (entry.couponIds().isEmpty()) {
+            log.error("{} 쿠폰이 존재하지 않습니다. policyId={}", type, entry.policyIds().get(0));
+            throw new CouponNotFoundException();
+        }
+        if (entry.couponIds().size() > 1) {
+            throw new IllegalStateException("활성 " + type + " 정책에 쿠폰이 여러 개입니다. policyId="
+                    + entry.policyIds().get(0) + ", couponIds=" + entry.couponIds());
+        }
+        return entry.couponIds().get(0);
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null && !isExpired(current)) {
+            return current;
+        }
+
+        lock.lock();
+        try {
+            // 동시에 들어온 요청 중 한 번만 다시 적재
+            if (snapshot == current) {
+                try {
+                    reloadAll();
+                } catch (RuntimeException e) {
+                    if (current == null) {
+                        throw e;
+                    }
+                    // 적재된 값이 있으면 DB 장애 동안은 이전 값으로 발급
+                    log.warn("시스템 쿠폰 레지스트리 갱신 실패. 이전 값을 사용합니다. {}", e.getMessage());
+                    return current;
+                }
+            }
+            return snapshot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isExpired(Snapshot current) {
+        return !current.loadedAt().plus(ttl).isAfter(clock.instant());
+    }
+
+    // policyIds나 couponIds가 2개 이상이면 모호한 상태 (couponIds는 첫 정책 기준)
+    private record Entry(List<Long> policyIds, List<Long> couponIds) {
+    }
+
+    private record Snapshot(Map<CouponPolicyType, Entry> entries, Instant loadedAt) {
+    }
+}
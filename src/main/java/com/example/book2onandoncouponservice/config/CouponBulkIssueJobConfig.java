@@ -0,0 +1,110 @@
+package com.example.book2onandoncouponservice.config;
+
+import com.example.book2onandoncouponservice.batch.MemberCouponBulkIssueWriter;
+import com.example.book2onandoncouponservice.batch.UserIdRangeItemReader;
+import com.example.book2onandoncouponservice.service.CouponService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParametersInvalidException;
+import org.springframework.batch.core.JobParametersValidator;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.DefaultJobParametersValidator;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.file.FlatFileParseException;
+import org.springframework.batch.item.file.builder.FlatFileItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+// 관리자 대상 지정 캠페인 쿠폰 대량 발급 Job
+// 사용자 ID 파일(한 줄에 하나) 또는 ID 구간을 스트리밍으로 읽어 청크 단위로 발급하고,
+// 진행 위치는 JobRepository에 저장되어 같은 파라미터로 다시 실행하면 실패한 청크부터 이어서 처리
+@Configuration
+@RequiredArgsConstructor
+public class CouponBulkIssueJobConfig {
+
+    public static final String JOB_NAME = "couponBulkIssueJob";
+
+    public static final String COUPON_ID = "couponId";
+    public static final String USER_ID_FILE = "userIdFile";
+    public static final String FROM_USER_ID = "fromUserId";
+    public static final String TO_USER_ID = "toUserId";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final CouponService couponService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${coupon.bulk-issue.chunk-size:1000}")
+    private int chunkSize;
+
+    // 숫자가 아닌 줄(빈 줄 등)은 이 수까지 건너뛰고, 넘으면 Job 실패
+    @Value("${coupon.bulk-issue.skip-limit:1000}")
+    private int skipLimit;
+
+    @Bean
+    public Job couponBulkIssueJob(Step couponBulkIssueStep) {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .validator(couponBulkIssueParametersValidator())
+                .start(couponBulkIssueStep)
+                .build();
+    }
+
+    // Reader/Writer는 Step 범위 Bean이라 프록시로 주입받는다
+    @Bean
+    public Step couponBulkIssueStep(ItemStreamReader<Long> couponBulkIssueReader,
+                                    MemberCouponBulkIssueWriter couponBulkIssueWriter) {
+        return new StepBuilder("couponBulkIssueStep", jobRepository)
+                .<Long, Long>chunk(chunkSize, transactionManager)
+                .reader(couponBulkIssueReader)
+                .writer(couponBulkIssueWriter)
+                .faultTolerant()
+                .skip(FlatFileParseException.class)
+                .skipLimit(skipLimit)
+                .build();
+    }
+
+    // 실행 시점에 대상(파일 또는 ID 구간)이 없으면 Job을 만들지 않고 거절
+    JobParametersValidator couponBulkIssueParametersValidator() {
+        DefaultJobParametersValidator keys = new DefaultJobParametersValidator(
+                new String[]{COUPON_ID},
+                new String[]{USER_ID_FILE, FROM_USER_ID, TO_USER_ID});
+        return parameters -> {
+            keys.validate(parameters);
+            boolean hasRange = parameters.getLong(FROM_USER_ID) != null && parameters.getLong(TO_USER_ID) != null;
+            if (parameters.getString(USER_ID_FILE) == null && !hasRange) {
+                throw new JobParametersInvalidException("사용자 ID 파일 또는 ID 구간이 필요합니다.");
+            }
+        };
+    }
+
+    @Bean
+    @StepScope
+    public ItemStreamReader<Long> couponBulkIssueReader(
+            @Value("#{jobParameters['" + USER_ID_FILE + "']}") String userIdFile,
+            @Value("#{jobParameters['" + FROM_USER_ID + "']}") Long fromUserId,
+            @Value("#{jobParameters['" + TO_USER_ID + "']}") Long toUserId) {
+        if (userIdFile != null) {
+            return new FlatFileItemReaderBuilder<Long>()
+                    .name("userIdFileReader")
+                    .resource(new FileSystemResource(userIdFile))
+                    .lineMapper((line, lineNumber) -> Long.valueOf(line.trim()))
+                    .build();
+        }
+        return new UserIdRangeItemReader(fromUserId, toUserId);
+    }
+
+    @Bean
+    @StepScope
+    public MemberCouponBulkIssueWriter couponBulkIssueWriter(
+            @Value("#{jobParameters['" + COUPON_ID + "']}") Long couponId) {
+        return new MemberCouponBulkIssueWriter(couponService, meterRegistry, couponId);
+    }
+}
@@ -1,8 +1,15 @@
 package com.example.book2onandoncouponservice.config;
 
+import com.example.book2onandoncouponservice.batch.CouponExpireJobMetricsListener;
+import com.example.book2onandoncouponservice.batch.MemberCouponBulkExpireTasklet;
+import com.example.book2onandoncouponservice.batch.MemberCouponIdRangePartitioner;
 import com.example.book2onandoncouponservice.entity.MemberCoupon;
+import com.example.book2onandoncouponservice.repository.MemberCouponBulkRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityManagerFactory;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,8 +24,10 @@ import org.springframework.batch.item.database.JpaCursorItemReader;
 import org.springframework.batch.item.database.JpaItemWriter;
 import org.springframework.batch.item.database.builder.JpaCursorItemReaderBuilder;
 import org.springframework.batch.item.database.builder.JpaItemWriterBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 @Slf4j
@@ -29,13 +38,44 @@ public class CouponExpireJobConfig {
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
     private final EntityManagerFactory entityManagerFactory;
+    private final MemberCouponBulkRepository memberCouponBulkRepository;
+    private final MeterRegistry meterRegistry;
 
     private static final int CHUNK_SIZE = 1000;
 
+    static final String MODE_ENTITY = "entity";
+    static final String MODE_BULK = "bulk";
+    static final String MODE_PARTITIONED = "partitioned";
+
+    // entity: 엔티티 단위 dirty checking (기본) / bulk: PK 구간 단위 bulk UPDATE / partitioned: bulk를 PK 범위별 병렬 실행
+    @Value("${coupon.expire.mode:entity}")
+    private String expireMode;
+
+    @Value("${coupon.expire.partitions:4}")
+    private int expirePartitions;
+
+    @Value("${coupon.expire.threads:4}")
+    private int expireThreads;
+
     @Bean
     public Job couponExpireJob() {
+        Step step;
+        String mode;
+        if (MODE_PARTITIONED.equalsIgnoreCase(expireMode)) {
+            step = couponExpirePartitionedStep();
+            mode = MODE_PARTITIONED;
+        } else if (MODE_BULK.equalsIgnoreCase(expireMode)) {
+            step = couponExpireBulkStep();
+            mode = MODE_BULK;
+        } else {
+            step = couponExpireStep();
+            mode = MODE_ENTITY;
+        }
+        log.info("쿠폰 만료 Job 구성: mode={}, step={}", mode, step.getName());
+
         return new JobBuilder("couponExpireJob", jobRepository)
-                .start(couponExpireStep())
+                .listener(new CouponExpireJobMetricsListener(meterRegistry, mode))
+                .start(step)
                 .build();
     }
 
@@ -78,4 +118,54 @@ public class CouponExpireJobConfig {
                 .entityManagerFactory(entityManagerFactory)
                 .build();
     }
-}
\ No newline at end of file
+
+    @Bean
+    public Step couponExpireBulkStep() {
+        return new StepBuilder("couponExpireBulkStep", jobRepository)
+                .tasklet(couponExpireBulkTasklet(null, null, null), transactionManager)
+                .build();
+    }
+
+    // 기준 시각은 Job 파라미터(time)로 고정해 재시작해도 같은 대상을 처리
+    // 파티션 실행 시에는 파티션 컨텍스트의 PK 구간만 처리
+    @Bean
+    @StepScope
+    public MemberCouponBulkExpireTasklet couponExpireBulkTasklet(
+            @Value("#{jobParameters['time']}") Long time,
+            @Value("#{stepExecutionContext['startAfterId']}") Long startAfterId,
+            @Value("#{stepExecutionContext['maxId']}") Long maxId) {
+        LocalDateTime now = time == null
+                ? LocalDateTime.now()
+                : LocalDateTime.ofInstant(Instant.ofEpochMilli(time), ZoneId.systemDefault());
+        return new MemberCouponBulkExpireTasklet(memberCouponBulkRepository, meterRegistry, now, CHUNK_SIZE,
+                startAfterId == null ? 0L : startAfterId,
+                maxId == null ? Long.MAX_VALUE : maxId);
+    }
+
+    @Bean
+    public Step couponExpirePartitionedStep() {
+        return new StepBuilder("couponExpirePartitionedStep", jobRepository)
+                .partitioner("couponExpireBulkStep", couponExpirePartitioner())
+                .step(couponExpireBulkStep())
+                .gridSize(expirePartitions)
+                .taskExecutor(couponExpireTaskExecutor())
+                .build();
+    }
+
+    @Bean
+    public MemberCouponIdRangePartitioner couponExpirePartitioner() {
+        return new MemberCouponIdRangePartitioner(memberCouponBulkRepository);
+    }
+
+    // 파티션 워커 스레드 수 제한 (애플리케이션 기본 TaskExecutor를 대체하지 않도록 Bean으로 등록하지 않음)
+    private ThreadPoolTaskExecutor couponExpireTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(expireThreads);
+        executor.setMaxPoolSize(expireThreads);
+        executor.setQueueCapacity(Math.max(1, expirePartitions));
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setThreadNamePrefix("coupon-expire-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.book2onandoncouponservice.config;
+
+import com.example.book2onandoncouponservice.entity.id.IdGenerator;
+import com.example.book2onandoncouponservice.entity.id.IdGenerators;
+import com.example.book2onandoncouponservice.entity.id.SnowflakeIdGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Slf4j
+@Configuration
+public class IdGeneratorConfig {
+
+    // 인스턴스마다 서로 다른 노드 ID(0 ~ 1023)를 설정해야 ID가 충돌하지 않는다
+    // 기본값으로 채우면 여러 인스턴스가 같은 노드 ID를 쓰게 되므로 설정이 없으면 기동을 실패시킨다
+    @Bean
+    @ConditionalOnMissingBean(IdGenerator.class)
+    public IdGenerator idGenerator(@Value("${coupon.id.node-id:#{null}}") Long nodeId) {
+        if (nodeId == null) {
+            throw new IllegalStateException(
+                    "coupon.id.node-id 설정이 필요합니다. 인스턴스마다 서로 다른 값(0 ~ "
+                            + SnowflakeIdGenerator.MAX_NODE_ID + ")을 지정하세요.");
+        }
+        log.info("Snowflake ID 생성기 초기화. nodeId={}", nodeId);
+        return new SnowflakeIdGenerator(nodeId);
+    }
+
+    // 엔티티 식별자 생성기가 사용할 수 있도록 등록
+    @Bean
+    public InitializingBean idGeneratorRegistrar(IdGenerator idGenerator) {
+        return () -> IdGenerators.use(idGenerator);
+    }
+}
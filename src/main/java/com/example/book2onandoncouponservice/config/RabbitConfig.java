@@ -1,14 +1,26 @@
 package com.example.book2onandoncouponservice.config;
 
+import com.example.book2onandoncouponservice.messaging.converter.CouponIssueEnvelopeBatchingStrategy;
+import com.example.book2onandoncouponservice.messaging.converter.CouponIssueMessageConverter;
+import java.util.Arrays;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.rabbit.batch.BatchingStrategy;
+import org.springframework.amqp.rabbit.config.ContainerCustomizer;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
 @Configuration
 public class RabbitConfig {
@@ -23,6 +35,8 @@ public class RabbitConfig {
     public static final String QUEUE_BIRTHDAY_DLQ = "book2.dev.birthday.dlq";
     public static final String ROUTING_KEY_BIRTHDAY = "coupon.birthday";
     public static final String DLX_ROUTING_KEY_BIRTHDAY = "coupon.birthday.dlq";
+    public static final String QUEUE_BIRTHDAY_COHORT = "book2.dev.birthday.cohort.queue";
+    public static final String ROUTING_KEY_BIRTHDAY_COHORT = "coupon.birthday.cohort";
 
     //쿠폰 롤백 RabbitMQ 설정
     public static final String ORDER_EXCHANGE = "book2.dev.order-payment.exchange";
@@ -40,11 +54,81 @@ public class RabbitConfig {
 
     public static final String DLX_EXCHANGE = "book2.dev.dlx.coupon.exchange";
 
+    public static final String ISSUE_BATCH_CONTAINER_FACTORY = "couponIssueBatchContainerFactory";
+    public static final String BIRTHDAY_BATCH_CONTAINER_FACTORY = "birthdayBatchContainerFactory";
+
     @Bean
     public MessageConverter jsonMessageConverter() {
         return new Jackson2JsonMessageConverter();
     }
 
+    //발급 요청은 coupon.issue.message-format=binary일 때 고정 길이 바이너리로, 그 외 메시지는 JSON
+    @Bean
+    @Primary
+    public MessageConverter couponMessageConverter(
+            @Value("${coupon.issue.message-format:json}") String issueMessageFormat) {
+        return new CouponIssueMessageConverter(jsonMessageConverter(), "binary".equalsIgnoreCase(issueMessageFormat));
+    }
+
+    //발급 메시지 묶음(CouponIssueEnvelope)을 리스너 컨테이너에서 단건으로 나눔
+    @Bean
+    public BatchingStrategy couponIssueEnvelopeBatchingStrategy() {
+        return new CouponIssueEnvelopeBatchingStrategy();
+    }
+
+    //기본 리스너 컨테이너 팩토리 중 발급 큐 컨테이너에만 적용
+    //DLQ 리스너는 묶음을 통째로 받아 미발급분만 재고를 복구해야 하므로 나누지 않는다
+    @Bean
+    public ContainerCustomizer<SimpleMessageListenerContainer> couponIssueEnvelopeDebatching() {
+        return container -> {
+            if (Arrays.asList(container.getQueueNames()).contains(QUEUE_ISSUE)) {
+                container.setBatchingStrategy(couponIssueEnvelopeBatchingStrategy());
+            }
+        };
+    }
+
+    //쿠폰 발급 큐 배치 소비용 (coupon.issue.batch.enabled=true)
+    @Bean(ISSUE_BATCH_CONTAINER_FACTORY)
+    @ConditionalOnProperty(name = "coupon.issue.batch.enabled", havingValue = "true")
+    public SimpleRabbitListenerContainerFactory couponIssueBatchContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            @Value("${coupon.issue.batch.size:100}") int batchSize,
+            @Value("${coupon.issue.batch.receive-timeout-ms:1000}") long receiveTimeoutMs) {
+
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchingStrategy(couponIssueEnvelopeBatchingStrategy());
+        factory.setBatchSize(batchSize);
+        factory.setReceiveTimeout(receiveTimeoutMs);
+        // 배치 크기만큼은 미리 받아둬야 한 번에 묶을 수 있음
+        factory.setPrefetchCount(batchSize);
+        return factory;
+    }
+
+    //생일 쿠폰 큐 배치 소비용 (coupon.birthday.cohort.enabled=true)
+    @Bean(BIRTHDAY_BATCH_CONTAINER_FACTORY)
+    @ConditionalOnProperty(name = "coupon.birthday.cohort.enabled", havingValue = "true")
+    public SimpleRabbitListenerContainerFactory birthdayBatchContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            @Value("${coupon.birthday.cohort.batch-size:500}") int batchSize,
+            @Value("${coupon.birthday.cohort.receive-timeout-ms:1000}") long receiveTimeoutMs) {
+
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setReceiveTimeout(receiveTimeoutMs);
+        factory.setPrefetchCount(batchSize);
+        return factory;
+    }
+
     //공통 exchange
     @Bean
     public DirectExchange userExchange() {
@@ -123,6 +207,22 @@ public class RabbitConfig {
                 .with(DLX_ROUTING_KEY_BIRTHDAY);
     }
 
+    //생일 대상자 묶음 메시지 - 처리 실패 시 생일 DLQ로
+    @Bean
+    public Queue birthdayCohortQueue() {
+        return QueueBuilder.durable(QUEUE_BIRTHDAY_COHORT)
+                .deadLetterExchange(DLX_EXCHANGE)
+                .deadLetterRoutingKey(DLX_ROUTING_KEY_BIRTHDAY)
+                .build();
+    }
+
+    @Bean
+    public Binding birthdayCohortBinding() {
+        return BindingBuilder.bind(birthdayCohortQueue())
+                .to(userExchange())
+                .with(ROUTING_KEY_BIRTHDAY_COHORT);
+    }
+
     @Bean
     public Queue cancelQueue() {
         return QueueBuilder.durable(QUEUE_CANCEL)
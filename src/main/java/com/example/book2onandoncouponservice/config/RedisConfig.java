@@ -0,0 +1,58 @@
+package com.example.book2onandoncouponservice.config;
+
+import com.example.book2onandoncouponservice.cache.CacheInvalidationBus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class RedisConfig {
+
+    //선착순 발급 게이트 (중복 검사 + 재고 차감 + 이력 기록을 1 RTT로 처리)
+    @Bean
+    public RedisScript<Long> couponIssueScript() {
+        return RedisScript.of(new ClassPathResource("scripts/coupon-issue.lua"), Long.class);
+    }
+
+    //발급 실패 시 재고 반환 (발급 이력 제거에 성공한 경우만 재고 복구)
+    @Bean
+    public RedisScript<Long> couponReleaseScript() {
+        return RedisScript.of(new ClassPathResource("scripts/coupon-release.lua"), Long.class);
+    }
+
+    //대량 발급분 재고 일괄 차감 (남은 재고가 충분할 때만 차감)
+    @Bean
+    public RedisScript<Long> couponStockReserveScript() {
+        return RedisScript.of(new ClassPathResource("scripts/coupon-stock-reserve.lua"), Long.class);
+    }
+
+    //캐시 무효화 이벤트 순번 채번 + 발행
+    @Bean
+    public RedisScript<Long> cacheInvalidationScript() {
+        return RedisScript.of(new ClassPathResource("scripts/cache-invalidation-publish.lua"), Long.class);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            CacheInvalidationBus cacheInvalidationBus) {
+
+        // 순번 누락 검사를 위해 이벤트를 수신 순서대로 한 스레드에서 처리
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("cache-invalidation-");
+        executor.initialize();
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setTaskExecutor(executor);
+        container.addMessageListener(cacheInvalidationBus, new ChannelTopic(CacheInvalidationBus.CHANNEL));
+        return container;
+    }
+}
@@ -1,15 +1,20 @@
 package com.example.book2onandoncouponservice.controller;
 
+import com.example.book2onandoncouponservice.dto.request.BulkIssueRangeRequestDto;
 import com.example.book2onandoncouponservice.dto.request.CouponCreateRequestDto;
 import com.example.book2onandoncouponservice.dto.request.CouponUpdateRequestDto;
+import com.example.book2onandoncouponservice.dto.response.BulkIssueJobResponseDto;
 import com.example.book2onandoncouponservice.dto.response.CouponResponseDto;
+import com.example.book2onandoncouponservice.dto.response.CursorPageResponseDto;
 import com.example.book2onandoncouponservice.service.CouponService;
+import com.example.book2onandoncouponservice.service.impl.CouponBulkIssueService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -18,7 +23,9 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -27,6 +34,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class AdminCouponController {
 
     private final CouponService couponService;
+    private final CouponBulkIssueService couponBulkIssueService;
 
     // 관리자 쿠폰 조회
     @GetMapping
@@ -38,6 +46,16 @@ public class AdminCouponController {
         return ResponseEntity.ok(coupons);
     }
 
+    // 관리자 쿠폰 커서 조회 (응답의 nextCursor를 다음 요청의 cursor로 전달)
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponseDto<CouponResponseDto>> getCouponsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String status) {
+
+        return ResponseEntity.ok(couponService.getCouponsByCursor(cursor, size, status));
+    }
+
     // 쿠폰 생성
     @PostMapping
     public ResponseEntity<Void> createCoupon(
@@ -57,4 +75,31 @@ public class AdminCouponController {
 
         return ResponseEntity.ok(couponService.updateAccount(couponId, request.getQuantity()));
     }
-}
\ No newline at end of file
+
+    // 대량 발급 - 사용자 ID 구간 (비동기 실행, 같은 구간으로 다시 요청하면 실패한 실행을 이어서 처리)
+    @PostMapping("/{coupon-id}/bulk-issue")
+    public ResponseEntity<BulkIssueJobResponseDto> bulkIssueRange(
+            @PathVariable("coupon-id") Long couponId,
+            @Valid @RequestBody BulkIssueRangeRequestDto request) {
+
+        return ResponseEntity.accepted().body(couponBulkIssueService.launchRange(
+                couponId, request.getFromUserId(), request.getToUserId()));
+    }
+
+    // 대량 발급 - 사용자 ID 파일 (한 줄에 ID 하나)
+    @PostMapping(value = "/{coupon-id}/bulk-issue/file", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<BulkIssueJobResponseDto> bulkIssueFile(
+            @PathVariable("coupon-id") Long couponId,
+            @RequestPart("file") MultipartFile file) {
+
+        return ResponseEntity.accepted().body(couponBulkIssueService.launchFile(couponId, file));
+    }
+
+    // 대량 발급 진행 상황
+    @GetMapping("/bulk-issue/{job-execution-id}")
+    public ResponseEntity<BulkIssueJobResponseDto> getBulkIssue(
+            @PathVariable("job-execution-id") Long jobExecutionId) {
+
+        return ResponseEntity.of(couponBulkIssueService.find(jobExecutionId));
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.book2onandoncouponservice.controller;
 
 
+import com.example.book2onandoncouponservice.dto.response.AvailableCouponPageDto;
 import com.example.book2onandoncouponservice.dto.response.CouponResponseDto;
 import com.example.book2onandoncouponservice.service.CouponService;
 import com.example.book2onandoncouponservice.service.impl.CouponIssueService;
@@ -9,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -32,8 +34,16 @@ public class CouponController {
     @GetMapping
     public ResponseEntity<Page<CouponResponseDto>> availableCoupon(Pageable pageable) {
 
-        Page<CouponResponseDto> coupons = couponService.getAvailableCoupon(pageable);
-        return ResponseEntity.ok(coupons);
+        AvailableCouponPageDto coupons = couponService.getAvailableCoupon(pageable);
+        if (coupons.getEtag() == null) {
+            return ResponseEntity.ok(coupons.getCoupons());
+        }
+
+        // If-None-Match가 ETag와 같으면 Spring이 본문 없이 304로 응답한다
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(coupons.getEtag())
+                .body(coupons.getCoupons());
     }
 
     @GetMapping("/{coupon-id}")
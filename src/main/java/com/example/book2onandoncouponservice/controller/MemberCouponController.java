@@ -1,8 +1,13 @@
 package com.example.book2onandoncouponservice.controller;
 
+import com.example.book2onandoncouponservice.dto.request.CouponDiscountRequestDto;
+import com.example.book2onandoncouponservice.dto.request.CouponTargetBulkRequestDto;
 import com.example.book2onandoncouponservice.dto.request.OrderCouponCheckRequestDto;
 import com.example.book2onandoncouponservice.dto.request.UseCouponRequestDto;
+import com.example.book2onandoncouponservice.dto.response.CouponDiscountResponseDto;
+import com.example.book2onandoncouponservice.dto.response.CouponTargetBulkResponseDto;
 import com.example.book2onandoncouponservice.dto.response.CouponTargetResponseDto;
+import com.example.book2onandoncouponservice.dto.response.CursorPageResponseDto;
 import com.example.book2onandoncouponservice.dto.response.MemberCouponResponseDto;
 import com.example.book2onandoncouponservice.service.MemberCouponService;
 import jakarta.validation.Valid;
@@ -45,6 +50,17 @@ public class MemberCouponController {
         return ResponseEntity.ok(coupons);
     }
 
+    //커서 기반 목록 조회 (응답의 nextCursor를 다음 요청의 cursor로 전달)
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponseDto<MemberCouponResponseDto>> getMyCouponsByCursor(
+            @RequestHeader("X-USER-ID") Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String status) {
+
+        return ResponseEntity.ok(memberCouponService.getMyCouponsByCursor(userId, cursor, size, status));
+    }
+
     //주문 사용 가능용
     @PostMapping("/usable")
     public ResponseEntity<List<MemberCouponResponseDto>> getUsableCoupons(
@@ -58,6 +74,15 @@ public class MemberCouponController {
         return ResponseEntity.ok(result);
     }
 
+    //주문 장바구니 기준 쿠폰별 할인 금액 + 최적 쿠폰 (usable + 쿠폰별 targets 조회 대체)
+    @PostMapping("/discounts")
+    public ResponseEntity<CouponDiscountResponseDto> calculateDiscounts(
+            @RequestHeader("X-USER-ID") Long userId,
+            @Valid @RequestBody CouponDiscountRequestDto requestDto) {
+
+        return ResponseEntity.ok(memberCouponService.calculateDiscounts(userId, requestDto));
+    }
+
     @GetMapping("/{member-coupon-id}/targets")
     public ResponseEntity<CouponTargetResponseDto> getCouponTargets(
             @PathVariable("member-coupon-id") Long memberCouponId) {
@@ -66,4 +91,12 @@ public class MemberCouponController {
 
         return ResponseEntity.ok(response);
     }
+
+    //여러 회원 쿠폰의 적용 대상 일괄 조회 (같은 정책은 한 번만 응답)
+    @PostMapping("/targets")
+    public ResponseEntity<CouponTargetBulkResponseDto> getCouponTargets(
+            @Valid @RequestBody CouponTargetBulkRequestDto requestDto) {
+
+        return ResponseEntity.ok(memberCouponService.getCouponTargets(requestDto.getMemberCouponIds()));
+    }
 }
@@ -0,0 +1,148 @@
+package com.example.book2onandoncouponservice.discount;
+
+import com.example.book2onandoncouponservice.dto.request.CartLineRequestDto;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 할인 계산용 장바구니 (줄별 금액을 한 번만 계산해 모든 쿠폰 평가에서 공유)
+// 도서/카테고리 ID → 해당 줄 비트마스크 역색인을 함께 만들어, 대상이 적은 정책은 줄을 훑지 않고 대상 ID만 조회한다
+public final class DiscountCart {
+
+    private static final long[] NO_CATEGORIES = new long[0];
+
+    private final long[] bookIds;
+    private final long[][] categoryIds;
+    private final long[] amounts;
+    private final long total;
+    private final Map<Long, long[]> bookLines;
+    private final Map<Long, long[]> categoryLines;
+
+    private DiscountCart(long[] bookIds, long[][] categoryIds, long[] amounts, long total) {
+        this.bookIds = bookIds;
+        this.categoryIds = categoryIds;
+        this.amounts = amounts;
+        this.total = total;
+        this.bookLines = new HashMap<>();
+        this.categoryLines = new HashMap<>();
+        for (int i = 0; i < bookIds.length; i++) {
+            mark(bookLines, bookIds[i], i);
+            for (long categoryId : categoryIds[i]) {
+                mark(categoryLines, categoryId, i);
+            }
+        }
+    }
+
+    private void mark(Map<Long, long[]> index, long id, int line) {
+        index.computeIfAbsent(id, key -> new long[maskLength()])[line >>> 6] |= 1L << line;
+    }
+
+    public static DiscountCart of(List<CartLineRequestDto> lines) {
+        int size = lines.size();
+        long[] bookIds = new long[size];
+        long[][] categoryIds = new long[size][];
+        long[] amounts = new long[size];
+        long total = 0;
+
+        for (int i = 0; i < size; i++) {
+            CartLineRequestDto line = lines.get(i);
+            bookIds[i] = line.getBookId();
+            categoryIds[i] = toArray(line.getCategoryIds());
+            amounts[i] = (long) line.getPrice() * line.getQuantity();
+            total += amounts[i];
+        }
+        return new DiscountCart(bookIds, categoryIds, amounts, total);
+    }
+
+    private static long[] toArray(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return NO_CATEGORIES;
+        }
+        long[] result = new long[ids.size()];
+        int size = 0;
+        for (Long id : ids) {
+            if (id != null) {
+                result[size++] = id;
+            }
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    public int size() {
+        return amounts.length;
+    }
+
+    public long bookId(int line) {
+        return bookIds[line];
+    }
+
+    public long[] categoryIds(int line) {
+        return categoryIds[line];
+    }
+
+    public long amount(int line) {
+        return amounts[line];
+    }
+
+    public long total() {
+        return total;
+    }
+
+    // 줄 비트마스크 길이 (long 하나당 64줄)
+    public int maskLength() {
+        return (amounts.length + 63) >>> 6;
+    }
+
+    // 해당 도서/카테고리가 있는 줄을 mask에 더한다
+    public void markBook(long bookId, long[] mask) {
+        or(bookLines.get(bookId), mask);
+    }
+
+    public void markCategory(long categoryId, long[] mask) {
+        or(categoryLines.get(categoryId), mask);
+    }
+
+    public long sum(long[] mask) {
+        long sum = 0;
+        for (int word = 0; word < mask.length; word++) {
+            long bits = mask[word];
+            while (bits != 0) {
+                sum += amounts[(word << 6) + Long.numberOfTrailingZeros(bits)];
+                bits &= bits - 1;
+            }
+        }
+        return sum;
+    }
+
+    private static void or(long[] lines, long[] mask) {
+        if (lines == null) {
+            return;
+        }
+        for (int word = 0; word < lines.length; word++) {
+            mask[word] |= lines[word];
+        }
+    }
+
+    // 적용 가능 정책 조회(PolicyTargetIndex)용 중복 없는 도서/카테고리 ID
+    public List<Long> distinctBookIds() {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (long bookId : bookIds) {
+            ids.add(bookId);
+        }
+        return new ArrayList<>(ids);
+    }
+
+    public List<Long> distinctCategoryIds() {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (long[] lineCategories : categoryIds) {
+            for (long categoryId : lineCategories) {
+                ids.add(categoryId);
+            }
+        }
+        return new ArrayList<>(ids);
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.book2onandoncouponservice.discount;
+
+import com.example.book2onandoncouponservice.cache.CacheInvalidationListener;
+import com.example.book2onandoncouponservice.dto.response.CouponDiscountDto;
+import com.example.book2onandoncouponservice.dto.response.CouponDiscountResponseDto;
+import com.example.book2onandoncouponservice.entity.CouponPolicy;
+import com.example.book2onandoncouponservice.entity.MemberCoupon;
+import com.example.book2onandoncouponservice.repository.CouponPolicyRepository;
+import com.example.book2onandoncouponservice.repository.CouponPolicyTargetBookRepository;
+import com.example.book2onandoncouponservice.repository.CouponPolicyTargetCategoryRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 주문 장바구니 기준 쿠폰별 할인 금액과 최적 쿠폰 계산
+// 정책별 계산기(PolicyDiscountEvaluator)는 적용 대상까지 미리 만들어 캐시하고, 정책 변경 시 무효화 이벤트로 제거한다
+@Slf4j
+@Component
+public class DiscountEngine implements CacheInvalidationListener {
+
+    static final String CACHE_NAME = "coupon.discount.evaluator";
+
+    // 할인 금액 큰 순 → 만료일 빠른 순 → 회원 쿠폰 ID 순 (같은 할인이면 곧 만료되는 쿠폰을 먼저 쓰도록)
+    private static final Comparator<CouponDiscountDto> BEST_FIRST = Comparator
+            .comparingLong(CouponDiscountDto::getDiscountAmount).reversed()
+            .thenComparing(CouponDiscountDto::getMemberCouponEndDate,
+                    Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(CouponDiscountDto::getMemberCouponId);
+
+    private final CouponPolicyRepository couponPolicyRepository;
+    private final CouponPolicyTargetBookRepository targetBookRepository;
+    private final CouponPolicyTargetCategoryRepository targetCategoryRepository;
+    private final Cache<Long, PolicyDiscountEvaluator> cache;
+
+    public DiscountEngine(CouponPolicyRepository couponPolicyRepository,
+                          CouponPolicyTargetBookRepository targetBookRepository,
+                          CouponPolicyTargetCategoryRepository targetCategoryRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${coupon.cache.discount-evaluator.max-size:10000}") long maxSize,
+                          @Value("${coupon.cache.discount-evaluator.ttl:10m}") Duration ttl) {
+        this.couponPolicyRepository = couponPolicyRepository;
+        this.targetBookRepository = targetBookRepository;
+        this.targetCategoryRepository = targetCategoryRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    // 후보 회원 쿠폰은 정책까지 로딩된 상태여야 한다 (findUsableCouponsByPolicyIds)
+    public CouponDiscountResponseDto evaluate(List<MemberCoupon> candidates, DiscountCart cart) {
+        Set<Long> policyIds = new LinkedHashSet<>();
+        for (MemberCoupon candidate : candidates) {
+            policyIds.add(policyId(candidate));
+        }
+        // 캐시에 없는 정책만 모아 한 번에 적재한다
+        Map<Long, PolicyDiscountEvaluator> evaluators = policyIds.isEmpty()
+                ? Map.of()
+                : cache.getAll(policyIds, this::load);
+        return evaluate(candidates, cart, evaluators);
+    }
+
+    public static CouponDiscountResponseDto evaluate(List<MemberCoupon> candidates, DiscountCart cart,
+                                                     Map<Long, PolicyDiscountEvaluator> evaluators) {
+        List<CouponDiscountDto> results = new ArrayList<>(candidates.size());
+        for (MemberCoupon candidate : candidates) {
+            PolicyDiscountEvaluator evaluator = evaluators.get(policyId(candidate));
+            if (evaluator == null) {
+                // 조회 사이에 정책이 삭제된 경우
+                continue;
+            }
+            long eligibleAmount = evaluator.eligibleAmount(cart);
+            long discountAmount = evaluator.discount(eligibleAmount);
+            results.add(new CouponDiscountDto(candidate, evaluator.description(), eligibleAmount, discountAmount));
+        }
+        results.sort(BEST_FIRST);
+
+        CouponDiscountDto best = results.isEmpty() || !results.getFirst().isApplicable() ? null : results.getFirst();
+        return new CouponDiscountResponseDto(cart.total(), results, best);
+    }
+
+    private Map<Long, PolicyDiscountEvaluator> load(Set<? extends Long> keys) {
+        List<Long> policyIds = List.copyOf(keys);
+        Map<Long, List<Long>> books = group(targetBookRepository.findPolicyTargetPairsByPolicyIds(policyIds));
+        Map<Long, List<Long>> categories = group(
+                targetCategoryRepository.findPolicyTargetPairsByPolicyIds(policyIds));
+
+        Map<Long, PolicyDiscountEvaluator> loaded = new HashMap<>();
+        for (CouponPolicy policy : couponPolicyRepository.findAllById(policyIds)) {
+            Long policyId = policy.getCouponPolicyId();
+            loaded.put(policyId, PolicyDiscountEvaluator.of(policy,
+                    toArray(books.get(policyId)), toArray(categories.get(policyId))));
+        }
+        log.debug("할인 계산기 적재. requested={}, loaded={}", policyIds.size(), loaded.size());
+        return loaded;
+    }
+
+    private static Map<Long, List<Long>> group(List<Object[]> pairs) {
+        Map<Long, List<Long>> grouped = new HashMap<>();
+        for (Object[] pair : pairs) {
+            grouped.computeIfAbsent((Long) pair[0], id -> new ArrayList<>()).add((Long) pair[1]);
+        }
+        return grouped;
+    }
+
+    private static long[] toArray(List<Long> ids) {
+        return ids == null ? new long[0] : ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static Long policyId(MemberCoupon memberCoupon) {
+        return memberCoupon.getCoupon().getCouponPolicy().getCouponPolicyId();
+    }
+
+    @Override
+    public void onPolicyChanged(Long policyId) {
+        cache.invalidate(policyId);
+    }
+
+    @Override
+    public void reloadAll() {
+        cache.invalidateAll();
+        log.info("할인 계산기 캐시 전체 무효화");
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.book2onandoncouponservice.discount;
+
+import com.example.book2onandoncouponservice.dto.response.DiscountDescriptions;
+import com.example.book2onandoncouponservice.entity.CouponPolicy;
+import com.example.book2onandoncouponservice.entity.CouponPolicyDiscountType;
+import java.util.Arrays;
+
+// 정책 하나의 할인 계산기 (정책/적용 대상이 바뀌지 않는 한 재사용)
+// 대상 수가 장바구니 줄 수보다 적으면 대상 ID로 장바구니 역색인을 조회하고,
+// 많으면 줄마다 정렬된 대상 배열을 이진 탐색한다
+public final class PolicyDiscountEvaluator {
+
+    private final Long policyId;
+    private final CouponPolicyDiscountType discountType;
+    private final int discountValue;
+    private final long minPrice;
+    private final Integer maxPrice;
+    private final long[] targetBookIds;
+    private final long[] targetCategoryIds;
+    private final boolean unrestricted;
+    private final String description;
+
+    private PolicyDiscountEvaluator(CouponPolicy policy, long[] targetBookIds, long[] targetCategoryIds) {
+        this.policyId = policy.getCouponPolicyId();
+        this.discountType = policy.getCouponPolicyDiscountType();
+        this.discountValue = policy.getCouponDiscountValue() == null ? 0 : policy.getCouponDiscountValue();
+        this.minPrice = policy.getMinPrice() == null ? 0 : policy.getMinPrice();
+        this.maxPrice = policy.getMaxPrice();
+        this.targetBookIds = targetBookIds;
+        this.targetCategoryIds = targetCategoryIds;
+        this.unrestricted = targetBookIds.length == 0 && targetCategoryIds.length == 0;
+        this.description = DiscountDescriptions.of(discountType, policy.getCouponDiscountValue());
+    }
+
+    public static PolicyDiscountEvaluator of(CouponPolicy policy, long[] targetBookIds, long[] targetCategoryIds) {
+        long[] books = targetBookIds.clone();
+        long[] categories = targetCategoryIds.clone();
+        Arrays.sort(books);
+        Arrays.sort(categories);
+        return new PolicyDiscountEvaluator(policy, books, categories);
+    }
+
+    public Long policyId() {
+        return policyId;
+    }
+
+    public String description() {
+        return description;
+    }
+
+    // 적용 대상 도서 금액 합계 (도서 또는 카테고리 중 하나라도 일치하면 대상, 대상이 없으면 전체)
+    public long eligibleAmount(DiscountCart cart) {
+        if (unrestricted) {
+            return cart.total();
+        }
+        if (targetBookIds.length + targetCategoryIds.length < cart.size()) {
+            long[] mask = new long[cart.maskLength()];
+            for (long bookId : targetBookIds) {
+                cart.markBook(bookId, mask);
+            }
+            for (long categoryId : targetCategoryIds) {
+                cart.markCategory(categoryId, mask);
+            }
+            return cart.sum(mask);
+        }
+        long sum = 0;
+        for (int i = 0; i < cart.size(); i++) {
+            if (Arrays.binarySearch(targetBookIds, cart.bookId(i)) >= 0 || matchesCategory(cart.categoryIds(i))) {
+                sum += cart.amount(i);
+            }
+        }
+        return sum;
+    }
+
+    // 최소 주문 금액 미만이면 0, 정액은 대상 금액을 넘지 않고, 정률은 최대 할인 금액을 넘지 않는다
+    public long discount(long eligibleAmount) {
+        if (eligibleAmount <= 0 || eligibleAmount < minPrice) {
+            return 0;
+        }
+        if (discountType == CouponPolicyDiscountType.FIXED) {
+            return Math.min(discountValue, eligibleAmount);
+        }
+        long discount = eligibleAmount * discountValue / 100;
+        return maxPrice == null ? discount : Math.min(discount, maxPrice);
+    }
+
+    private boolean matchesCategory(long[] categoryIds) {
+        if (targetCategoryIds.length == 0) {
+            return false;
+        }
+        for (long categoryId : categoryIds) {
+            if (Arrays.binarySearch(targetCategoryIds, categoryId) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
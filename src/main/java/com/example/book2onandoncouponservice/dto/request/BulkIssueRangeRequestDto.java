@@ -0,0 +1,21 @@
+package com.example.book2onandoncouponservice.dto.request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkIssueRangeRequestDto {
+
+    @NotNull(message = "시작 사용자 ID는 필수입니다.")
+    @Min(value = 1, message = "사용자 ID는 1 이상이어야 합니다.")
+    private Long fromUserId;
+
+    @NotNull(message = "끝 사용자 ID는 필수입니다.")
+    @Min(value = 1, message = "사용자 ID는 1 이상이어야 합니다.")
+    private Long toUserId;
+}
@@ -0,0 +1,28 @@
+package com.example.book2onandoncouponservice.dto.request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CartLineRequestDto {
+
+    @NotNull(message = "책ID는 필수입니다.")
+    private Long bookId;
+
+    // 도서가 속한 카테고리 ID 목록 (상위 카테고리 포함)
+    private List<Long> categoryIds;
+
+    @NotNull(message = "가격은 필수입니다.")
+    @Min(value = 0, message = "가격은 0 이상이어야 합니다.")
+    private Integer price;
+
+    @NotNull(message = "수량은 필수입니다.")
+    @Min(value = 1, message = "수량은 1 이상이어야 합니다.")
+    private Integer quantity;
+}
@@ -0,0 +1,19 @@
+package com.example.book2onandoncouponservice.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CouponDiscountRequestDto {
+
+    @NotEmpty(message = "주문 도서는 1건 이상이어야 합니다.")
+    @Size(max = 500, message = "주문 도서는 500건 이내여야 합니다.")
+    private List<@Valid CartLineRequestDto> lines;
+}
@@ -0,0 +1,19 @@
+package com.example.book2onandoncouponservice.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CouponTargetBulkRequestDto {
+
+    @NotEmpty(message = "회원 쿠폰 ID는 1개 이상이어야 합니다.")
+    @Size(max = 500, message = "회원 쿠폰 ID는 500개 이내여야 합니다.")
+    private List<@NotNull Long> memberCouponIds;
+}
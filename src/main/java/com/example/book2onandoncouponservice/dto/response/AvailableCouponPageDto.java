@@ -0,0 +1,15 @@
+package com.example.book2onandoncouponservice.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+// 발급 가능 쿠폰 목록 페이지와 ETag
+// etag는 If-None-Match 비교에 그대로 쓰는 따옴표 포함 값 (카탈로그를 거치지 않은 DB 조회 결과면 null)
+@Getter
+@AllArgsConstructor
+public class AvailableCouponPageDto {
+
+    private Page<CouponResponseDto> coupons;
+    private String etag;
+}
@@ -0,0 +1,42 @@
+package com.example.book2onandoncouponservice.dto.response;
+
+import com.example.book2onandoncouponservice.config.CouponBulkIssueJobConfig;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkIssueJobResponseDto {
+
+    private Long jobExecutionId;
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long couponId;
+    private String status;        // BatchStatus (STARTING, STARTED, COMPLETED, FAILED ...)
+    private String exitCode;
+    private long readCount;       // 읽은 사용자 수
+    private long writeCount;      // 발급 처리한 사용자 수 (이미 보유해 건너뛴 사용자 포함)
+    private long skipCount;       // 형식 오류로 건너뛴 줄 수
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+
+    public BulkIssueJobResponseDto(JobExecution execution) {
+        this.jobExecutionId = execution.getId();
+        this.couponId = execution.getJobParameters().getLong(CouponBulkIssueJobConfig.COUPON_ID);
+        this.status = execution.getStatus().name();
+        this.exitCode = execution.getExitStatus().getExitCode();
+        for (StepExecution step : execution.getStepExecutions()) {
+            this.readCount += step.getReadCount();
+            this.writeCount += step.getWriteCount();
+            this.skipCount += step.getSkipCount();
+        }
+        this.startTime = execution.getStartTime();
+        this.endTime = execution.getEndTime();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.book2onandoncouponservice.dto.response;
+
+import com.example.book2onandoncouponservice.entity.CouponPolicy;
+import com.example.book2onandoncouponservice.entity.CouponPolicyDiscountType;
+import com.example.book2onandoncouponservice.entity.MemberCoupon;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CouponDiscountDto {
+
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long memberCouponId;
+    private String couponName;
+    private CouponPolicyDiscountType discountType;
+    private Integer discountValue;
+    private String discountDescription;
+    private LocalDateTime memberCouponEndDate;
+
+    private long eligibleAmount;   // 적용 대상 도서 금액 합계
+    private long discountAmount;   // 할인 금액 (적용 불가면 0)
+    private boolean applicable;    // 최소 주문 금액 충족 + 할인 금액 > 0
+
+    public CouponDiscountDto(MemberCoupon memberCoupon, String discountDescription, long eligibleAmount,
+                             long discountAmount) {
+        CouponPolicy policy = memberCoupon.getCoupon().getCouponPolicy();
+        this.memberCouponId = memberCoupon.getMemberCouponId();
+        this.couponName = policy.getCouponPolicyName();
+        this.discountType = policy.getCouponPolicyDiscountType();
+        this.discountValue = policy.getCouponDiscountValue();
+        this.discountDescription = discountDescription;
+        this.memberCouponEndDate = memberCoupon.getMemberCouponEndDate();
+        this.eligibleAmount = eligibleAmount;
+        this.discountAmount = discountAmount;
+        this.applicable = discountAmount > 0;
+    }
+}
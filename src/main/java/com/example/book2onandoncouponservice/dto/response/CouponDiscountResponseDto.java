@@ -0,0 +1,27 @@
+package com.example.book2onandoncouponservice.dto.response;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CouponDiscountResponseDto {
+
+    private long cartAmount;
+    private List<CouponDiscountDto> coupons;   // 할인 금액 내림차순
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long bestMemberCouponId;           // 적용 가능한 쿠폰이 없으면 null
+    private long bestDiscountAmount;
+
+    public CouponDiscountResponseDto(long cartAmount, List<CouponDiscountDto> coupons, CouponDiscountDto best) {
+        this.cartAmount = cartAmount;
+        this.coupons = coupons;
+        this.bestMemberCouponId = best == null ? null : best.getMemberCouponId();
+        this.bestDiscountAmount = best == null ? 0 : best.getDiscountAmount();
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.book2onandoncouponservice.dto.response;
 
 import com.example.book2onandoncouponservice.entity.CouponPolicyTargetBook;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -11,6 +13,7 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class CouponPolicyTargetBookResponseDto {
     
+    @JsonSerialize(using = ToStringSerializer.class)
     private Long policyTargetBookId;
     private Long couponPolicyId;
     private Long bookId;
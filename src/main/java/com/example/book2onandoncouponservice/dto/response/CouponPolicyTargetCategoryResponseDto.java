@@ -1,6 +1,8 @@
 package com.example.book2onandoncouponservice.dto.response;
 
 import com.example.book2onandoncouponservice.entity.CouponPolicyTargetCategory;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -10,6 +12,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class CouponPolicyTargetCategoryResponseDto {
 
+    @JsonSerialize(using = ToStringSerializer.class)
     private Long policyTargetCategoryId;
     private Long couponPolicyId;
     private Long categoryId;
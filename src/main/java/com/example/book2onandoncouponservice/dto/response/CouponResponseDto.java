@@ -4,6 +4,8 @@ import com.example.book2onandoncouponservice.entity.Coupon;
 import com.example.book2onandoncouponservice.entity.CouponPolicy;
 import com.example.book2onandoncouponservice.entity.CouponPolicyDiscountType;
 import com.example.book2onandoncouponservice.entity.CouponPolicyStatus;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import java.time.LocalDate;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -14,6 +16,7 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class CouponResponseDto {
 
+    @JsonSerialize(using = ToStringSerializer.class)
     private Long couponId;
     private String couponName;
     private String discountDescription;
@@ -40,11 +43,10 @@ public class CouponResponseDto {
 
         this.discountType = policy.getCouponPolicyDiscountType();
 
+        this.discountDescription = DiscountDescriptions.of(this.discountType, policy.getCouponDiscountValue());
         if (this.discountType == CouponPolicyDiscountType.FIXED) {
-            this.discountDescription = String.format("%,d원 할인", policy.getCouponDiscountValue());
             this.maxPrice = null;
         } else {
-            this.discountDescription = String.format("%d%% 할인", policy.getCouponDiscountValue());
             this.maxPrice = policy.getMaxPrice();
         }
 
@@ -0,0 +1,17 @@
+package com.example.book2onandoncouponservice.dto.response;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CouponTargetBulkResponseDto {
+    private List<PolicyTargetGroupDto> policies;      // 정책 ID 오름차순
+    @JsonSerialize(contentUsing = ToStringSerializer.class)
+    private List<Long> notFoundMemberCouponIds;       // 존재하지 않는 회원 쿠폰 ID
+}
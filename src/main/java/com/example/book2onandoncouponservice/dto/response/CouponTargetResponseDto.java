@@ -1,6 +1,8 @@
 package com.example.book2onandoncouponservice.dto.response;
 
 import com.example.book2onandoncouponservice.entity.CouponPolicyDiscountType;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -12,6 +14,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @Builder
 public class CouponTargetResponseDto {
+    @JsonSerialize(using = ToStringSerializer.class)
     private Long memberCouponId;
     private List<Long> targetBookIds;     // 적용 가능한 책 ID 목록
     private List<Long> targetCategoryIds; // 적용 가능한 카테고리 ID 목록
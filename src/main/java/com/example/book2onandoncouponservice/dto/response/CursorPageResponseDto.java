@@ -0,0 +1,27 @@
+package com.example.book2onandoncouponservice.dto.response;
+
+import java.util.List;
+import java.util.function.Function;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// keyset(커서) 페이지 응답 - 전체 건수를 세지 않고, 다음 페이지가 있으면 nextCursor를 준다
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPageResponseDto<T> {
+
+    private List<T> content;
+    private String nextCursor; // 마지막 페이지면 null
+    private boolean hasNext;
+
+    // size + 1건을 조회한 결과로 다음 페이지 여부를 판단
+    public static <E, T> CursorPageResponseDto<T> of(List<E> rows, int size, Function<E, T> mapper,
+                                                     Function<E, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null;
+        return new CursorPageResponseDto<>(page.stream().map(mapper).toList(), nextCursor, hasNext);
+    }
+}
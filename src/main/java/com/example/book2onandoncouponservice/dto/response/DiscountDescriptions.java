@@ -0,0 +1,40 @@
+package com.example.book2onandoncouponservice.dto.response;
+
+import com.example.book2onandoncouponservice.entity.CouponPolicyDiscountType;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 할인 문구("3,000원 할인", "10% 할인")는 (할인 방식, 할인 값)으로만 정해지므로 한 번 만든 문자열을 재사용한다
+public final class DiscountDescriptions {
+
+    // 할인 값 종류는 정책 수를 넘지 않지만, 비정상 입력으로 무한히 커지지 않도록 상한을 둔다
+    static final int MAX_CACHED = 4096;
+
+    private static final Map<Long, String> CACHE = new ConcurrentHashMap<>();
+
+    private DiscountDescriptions() {
+    }
+
+    public static String of(CouponPolicyDiscountType discountType, Integer discountValue) {
+        if (discountType == null || discountValue == null) {
+            return format(discountType, discountValue);
+        }
+        long key = ((long) discountType.ordinal() << 32) | (discountValue & 0xFFFFFFFFL);
+        String cached = CACHE.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        String description = format(discountType, discountValue);
+        if (CACHE.size() < MAX_CACHED) {
+            CACHE.putIfAbsent(key, description);
+        }
+        return description;
+    }
+
+    private static String format(CouponPolicyDiscountType discountType, Integer discountValue) {
+        if (discountType == CouponPolicyDiscountType.FIXED) {
+            return String.format("%,d원 할인", discountValue);
+        }
+        return String.format("%d%% 할인", discountValue);
+    }
+}
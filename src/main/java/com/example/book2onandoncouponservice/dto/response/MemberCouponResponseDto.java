@@ -5,6 +5,9 @@ import com.example.book2onandoncouponservice.entity.CouponPolicy;
 import com.example.book2onandoncouponservice.entity.CouponPolicyDiscountType;
 import com.example.book2onandoncouponservice.entity.MemberCoupon;
 import com.example.book2onandoncouponservice.entity.MemberCouponStatus;
+import com.example.book2onandoncouponservice.repository.projection.MemberCouponRow;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -16,6 +19,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class MemberCouponResponseDto {
 
+    @JsonSerialize(using = ToStringSerializer.class)
     private Long memberCouponId;
 
     private String couponName;                // CouponPolicy
@@ -39,19 +43,26 @@ public class MemberCouponResponseDto {
         Coupon coupon = memberCoupon.getCoupon();
         CouponPolicy policy = coupon.getCouponPolicy();
 
-        String discountDescription;
-        if (policy.getCouponPolicyDiscountType() == CouponPolicyDiscountType.FIXED) {
-            discountDescription = String.format("%,d원 할인", policy.getCouponDiscountValue());
-        } else {
-            discountDescription = String.format("%d%% 할인", policy.getCouponDiscountValue());
-        }
-
         this.couponName = policy.getCouponPolicyName();
         this.minPrice = policy.getMinPrice();
         this.maxPrice = policy.getMaxPrice();
         this.discountValue = policy.getCouponDiscountValue();
         this.discountType = policy.getCouponPolicyDiscountType();
-        this.discountDescription = discountDescription;
+        this.discountDescription = DiscountDescriptions.of(this.discountType, this.discountValue);
+    }
+
+    // 목록 조회 프로젝션 -> DTO 변환
+    public MemberCouponResponseDto(MemberCouponRow row) {
+        this.memberCouponId = row.memberCouponId();
+        this.couponName = row.couponName();
+        this.minPrice = row.minPrice();
+        this.maxPrice = row.maxPrice();
+        this.discountValue = row.discountValue();
+        this.discountType = row.discountType();
+        this.memberCouponStatus = row.memberCouponStatus();
+        this.memberCouponEndDate = row.memberCouponEndDate();
+        this.memberCouponUseDate = row.memberCouponUsedDate();
+        this.discountDescription = DiscountDescriptions.of(this.discountType, this.discountValue);
     }
 }
 
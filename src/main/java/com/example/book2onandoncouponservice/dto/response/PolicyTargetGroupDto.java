@@ -0,0 +1,27 @@
+package com.example.book2onandoncouponservice.dto.response;
+
+import com.example.book2onandoncouponservice.entity.CouponPolicyDiscountType;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 같은 정책을 쓰는 회원 쿠폰을 묶어 적용 대상/할인 조건을 한 번만 내려준다
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PolicyTargetGroupDto {
+    private Long couponPolicyId;
+    @JsonSerialize(contentUsing = ToStringSerializer.class)
+    private List<Long> memberCouponIds;   // 이 정책을 쓰는 요청 회원 쿠폰 (요청 순서)
+    private List<Long> targetBookIds;     // 적용 가능한 책 ID 목록
+    private List<Long> targetCategoryIds; // 적용 가능한 카테고리 ID 목록
+    private Integer minPrice; //최소 주문 금액
+    private Integer maxPrice; //최대 할인 금액
+    private CouponPolicyDiscountType discountType; //할인 유형 FIXED, PERCENT
+    private Integer discountValue;
+}
@@ -0,0 +1,44 @@
+package com.example.book2onandoncouponservice.entity;
+
+import com.example.book2onandoncouponservice.entity.id.SnowflakeId;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 선착순 발급 요청의 전송 대기 기록 (outbox 모드)
+// Snowflake ID가 시간순이므로 PK 순서가 곧 접수 순서이며, 릴레이가 브로커 확인을 받은 뒤 행을 삭제한다
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "coupon_issue_outbox")
+public class CouponIssueOutbox {
+
+    @Id
+    @SnowflakeId
+    @Column(name = "outbox_id")
+    private Long outboxId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "coupon_id", nullable = false)
+    private Long couponId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 전송 후 확인을 받지 못한 적이 있음 (다시 보낼 때 재전송 표시)
+    @Column(name = "relay_failed", nullable = false)
+    private boolean relayFailed;
+
+    public CouponIssueOutbox(Long userId, Long couponId, LocalDateTime createdAt) {
+        this.userId = userId;
+        this.couponId = couponId;
+        this.createdAt = createdAt;
+    }
+}
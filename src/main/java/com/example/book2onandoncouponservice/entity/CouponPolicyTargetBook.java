@@ -1,10 +1,9 @@
 package com.example.book2onandoncouponservice.entity;
 
+import com.example.book2onandoncouponservice.entity.id.SnowflakeId;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
@@ -28,7 +27,7 @@ import lombok.NoArgsConstructor;
         })
 public class CouponPolicyTargetBook {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "policy_target_book_id")
     private Long policyTargetBookId;
 
@@ -1,5 +1,6 @@
 package com.example.book2onandoncouponservice.entity;
 
+import com.example.book2onandoncouponservice.entity.id.SnowflakeId;
 import com.example.book2onandoncouponservice.exception.CouponErrorCode;
 import com.example.book2onandoncouponservice.exception.CouponUseException;
 import jakarta.persistence.Column;
@@ -7,8 +8,6 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
@@ -47,7 +46,7 @@ import lombok.NoArgsConstructor;
 public class MemberCoupon {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "member_coupon_id")
     private Long memberCouponId;
 
@@ -0,0 +1,7 @@
+package com.example.book2onandoncouponservice.entity.id;
+
+// 엔티티 PK 생성기 (구현체를 Bean으로 등록하면 교체 가능)
+public interface IdGenerator {
+
+    long nextId();
+}
@@ -0,0 +1,21 @@
+package com.example.book2onandoncouponservice.entity.id;
+
+import java.util.Objects;
+
+// Hibernate가 생성하는 식별자 생성기는 Spring Bean을 주입받을 수 없으므로 정적 홀더를 통해 공유
+// 설정(IdGeneratorConfig)이 적용되기 전에는 노드 ID 0의 기본 생성기를 사용한다
+public final class IdGenerators {
+
+    private static volatile IdGenerator generator = new SnowflakeIdGenerator(0);
+
+    private IdGenerators() {
+    }
+
+    public static long nextId() {
+        return generator.nextId();
+    }
+
+    public static void use(IdGenerator idGenerator) {
+        generator = Objects.requireNonNull(idGenerator);
+    }
+}
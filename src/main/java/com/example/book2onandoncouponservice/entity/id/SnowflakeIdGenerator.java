@@ -0,0 +1,78 @@
+package com.example.book2onandoncouponservice.entity.id;
+
+import java.util.function.LongSupplier;
+
+// 시간 순 정렬되는 64bit ID 생성기
+// [1bit 부호][41bit 타임스탬프(ms)][10bit 노드 ID][12bit 시퀀스]
+public class SnowflakeIdGenerator implements IdGenerator {
+
+    // 2025-01-01T00:00:00Z
+    static final long EPOCH = 1735689600000L;
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    public static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    // 이 이상 시계가 뒤로 가면 기다리지 않고 실패
+    static final long MAX_CLOCK_BACKWARD_MS = 5L;
+
+    private final long nodeId;
+    private final LongSupplier clock;
+
+    private long lastTimestamp = -1L;
+    private long sequence = 0L;
+
+    public SnowflakeIdGenerator(long nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    SnowflakeIdGenerator(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0 ~ " + MAX_NODE_ID + " 범위여야 합니다. nodeId=" + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    @Override
+    public synchronized long nextId() {
+        long now = clock.getAsLong();
+
+        // 시계가 뒤로 가면 조금은 따라잡을 때까지 기다리고, 크게 되돌아가면 중복 위험이 있어 실패시킨다
+        if (now < lastTimestamp) {
+            long backwardMs = lastTimestamp - now;
+            if (backwardMs > MAX_CLOCK_BACKWARD_MS) {
+                throw new IllegalStateException(
+                        "시계가 " + backwardMs + "ms 뒤로 이동해 ID를 생성할 수 없습니다. nodeId=" + nodeId);
+            }
+            now = waitUntil(lastTimestamp);
+        }
+
+        if (now == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            // 같은 ms 안에서 시퀀스를 다 쓰면 다음 ms가 될 때까지 기다린다
+            // 앞당겨 쓰면 재시작 후 같은 ms에서 ID가 겹칠 수 있음
+            if (sequence == 0) {
+                now = waitUntil(lastTimestamp + 1);
+            }
+        } else {
+            sequence = 0;
+        }
+
+        lastTimestamp = now;
+        return ((now - EPOCH) << (NODE_BITS + SEQUENCE_BITS))
+                | (nodeId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    // 최대 수 ms 이므로 스레드를 재우지 않고 스핀으로 기다린다
+    private long waitUntil(long timestamp) {
+        long now = clock.getAsLong();
+        while (now < timestamp) {
+            Thread.onSpinWait();
+            now = clock.getAsLong();
+        }
+        return now;
+    }
+}
@@ -23,6 +23,9 @@ public enum CouponErrorCode {
     NOT_COUPON_OWNER(HttpStatus.FORBIDDEN, "해당 쿠폰의 소유자가 아닙니다."),
     INVALID_COUPON_ORDER_MATCH(HttpStatus.BAD_REQUEST, "해당 주문에 사용한 쿠폰이 아닙니다."),
 
+    // 503 Service Unavailable
+    ISSUE_REQUEST_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "발급 요청이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해 주세요."),
+
     // 500 Server Error
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다."),
     FAIL_TO_ISSUE_COUPON(HttpStatus.INTERNAL_SERVER_ERROR, "쿠폰 발급 메시지 전송에 실패했습니다.");
@@ -25,6 +25,8 @@ public class DlqErrorHandler {
     private String botToken;
 
     private static final String X_DEATH_HEADER = "x-death";
+    //리스너가 직접 DLQ로 보낸 메시지의 실패 원인
+    public static final String FAILURE_REASON_HEADER = "x-coupon-failure-reason";
 
     public String getErrorReason(Message message) {
         Map<String, Object> headers = message.getMessageProperties().getHeaders();
@@ -34,6 +36,9 @@ public class DlqErrorHandler {
                 return String.valueOf(deaths.get(0).get("reason"));
             }
         }
+        if (headers.containsKey(FAILURE_REASON_HEADER)) {
+            return String.valueOf(headers.get(FAILURE_REASON_HEADER));
+        }
         return "Unknown";
     }
 
@@ -0,0 +1,9 @@
+package com.example.book2onandoncouponservice.messaging;
+
+import java.util.List;
+
+// 하루치 생일 대상자 전체를 한 메시지로 받는 생일 쿠폰 발급 요청
+public record BirthdayCohortMessage(
+        List<Long> userIds
+) {
+}
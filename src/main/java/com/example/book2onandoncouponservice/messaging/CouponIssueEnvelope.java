@@ -0,0 +1,10 @@
+package com.example.book2onandoncouponservice.messaging;
+
+import java.util.List;
+
+// AMQP 메시지 1건에 여러 발급 요청을 담는 묶음 (binary 형식 전용)
+// 소비 측에서는 리스너 컨테이너가 CouponIssueMessage 단위로 풀어서 전달한다
+public record CouponIssueEnvelope(
+        List<CouponIssueMessage> messages
+) {
+}
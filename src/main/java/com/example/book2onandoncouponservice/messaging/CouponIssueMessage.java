@@ -4,4 +4,7 @@ public record CouponIssueMessage(
         Long userId,
         Long couponId
 ) {
-}
\ No newline at end of file
+
+    // 발행 측이 브로커 확인을 받지 못해 다시 보낸 메시지 표시 (앞선 전송이 이미 발급됐을 수 있음)
+    public static final String REPUBLISHED_HEADER = "x-coupon-republished";
+}
@@ -0,0 +1,101 @@
+package com.example.book2onandoncouponservice.messaging.consumer;
+
+import com.example.book2onandoncouponservice.config.RabbitConfig;
+import com.example.book2onandoncouponservice.exception.CouponIssueException;
+import com.example.book2onandoncouponservice.exception.CouponNotFoundException;
+import com.example.book2onandoncouponservice.exception.CouponPolicyNotFoundException;
+import com.example.book2onandoncouponservice.handler.DlqErrorHandler;
+import com.example.book2onandoncouponservice.messaging.BirthdayCohortMessage;
+import com.example.book2onandoncouponservice.service.CouponService;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+// 생일 쿠폰 대상자 묶음 발급 (coupon.birthday.cohort.enabled=true일 때 BirthdayCouponListener 대신 동작)
+// 생일 큐의 단건 메시지를 배치로 받거나 하루치 대상자 묶음 메시지를 받아 정책/쿠폰은 한 번만 조회하고
+// 청크 단위 multi-row insert로 발급한다. 청크가 실패하면 사용자별로 다시 발급하고 실패한 사용자만 생일 DLQ로 보낸다
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "coupon.birthday.cohort.enabled", havingValue = "true")
+public class BirthdayCohortListener {
+
+    private final CouponService couponService;
+    private final RabbitTemplate rabbitTemplate;
+    private final int chunkSize;
+
+    public BirthdayCohortListener(CouponService couponService, RabbitTemplate rabbitTemplate,
+                                  @Value("${coupon.birthday.cohort.chunk-size:1000}") int chunkSize) {
+        this.couponService = couponService;
+        this.rabbitTemplate = rabbitTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    @RabbitListener(queues = RabbitConfig.QUEUE_BIRTHDAY,
+            containerFactory = RabbitConfig.BIRTHDAY_BATCH_CONTAINER_FACTORY)
+    public void receive(List<Long> userIds) {
+        log.debug("생일 쿠폰 메시지 배치 수신. size={}", userIds.size());
+        issueCohort(userIds);
+    }
+
+    @RabbitListener(queues = RabbitConfig.QUEUE_BIRTHDAY_COHORT)
+    public void receiveCohort(BirthdayCohortMessage message) {
+        List<Long> userIds = message.userIds() == null ? List.of() : message.userIds();
+        log.info("생일 쿠폰 대상자 묶음 수신. size={}", userIds.size());
+        issueCohort(userIds);
+    }
+
+    private void issueCohort(List<Long> userIds) {
+        List<Long> targets = userIds.stream().distinct().toList();
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        Long couponId;
+        try {
+            couponId = couponService.getBirthdayCouponId();
+        } catch (CouponNotFoundException | CouponPolicyNotFoundException | IllegalStateException e) {
+            // 정책/쿠폰이 없거나 활성 정책·쿠폰이 여러 개인 설정 문제라 사용자별로 DLQ에 보내지 않음
+            log.warn("생일 쿠폰 발급 불가(정책/쿠폰 설정 오류) 재시도 하지 않음. size={}, reason:{}",
+                    targets.size(), e.getMessage());
+            return;
+        }
+
+        int issued = 0;
+        for (int from = 0; from < targets.size(); from += chunkSize) {
+            List<Long> chunk = targets.subList(from, Math.min(from + chunkSize, targets.size()));
+            try {
+                issued += couponService.issueMemberCouponsChunk(couponId, chunk);
+            } catch (CouponIssueException e) {
+                // 발급 기간 종료/재고 소진은 남은 대상자도 같으므로 중단
+                log.warn("생일 쿠폰 발급 불가(비즈니스 예외) 재시도 하지 않음. couponId={}, remaining={}, reason:{}",
+                        couponId, targets.size() - from, e.getMessage());
+                return;
+            } catch (Exception e) {
+                log.warn("생일 쿠폰 청크 발급 실패, 개별 발급으로 전환. couponId={}, size={}, reason={}",
+                        couponId, chunk.size(), e.getMessage());
+                chunk.forEach(userId -> issueOne(userId, couponId));
+            }
+        }
+        log.info("생일 쿠폰 묶음 발급 완료. couponId={}, size={}, issued={}", couponId, targets.size(), issued);
+    }
+
+    private void issueOne(Long userId, Long couponId) {
+        try {
+            couponService.issueMemberCoupon(userId, couponId);
+        } catch (CouponIssueException e) {
+            log.info("생일 쿠폰 발급 불가(비즈니스 예외) 재시도 하지 않음. userId={}, reason:{}", userId, e.getMessage());
+        } catch (Exception e) {
+            log.error("생일 쿠폰 개별 발급 실패, DLQ로 전송. userId={}, reason={}", userId, e.getMessage());
+            rabbitTemplate.convertAndSend(RabbitConfig.DLX_EXCHANGE, RabbitConfig.DLX_ROUTING_KEY_BIRTHDAY, userId,
+                    amqpMessage -> {
+                        amqpMessage.getMessageProperties().setHeader(DlqErrorHandler.FAILURE_REASON_HEADER,
+                                e.getMessage());
+                        return amqpMessage;
+                    });
+        }
+    }
+}
@@ -7,11 +7,13 @@ import com.example.book2onandoncouponservice.service.CouponService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@ConditionalOnProperty(name = "coupon.birthday.cohort.enabled", havingValue = "false", matchIfMissing = true)
 public class BirthdayCouponListener {
     private final CouponService couponService;
 
@@ -2,6 +2,7 @@ package com.example.book2onandoncouponservice.messaging.consumer;
 
 import com.example.book2onandoncouponservice.config.RabbitConfig;
 import com.example.book2onandoncouponservice.handler.DlqErrorHandler;
+import com.example.book2onandoncouponservice.messaging.BirthdayCohortMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.core.Message;
@@ -25,11 +26,14 @@ public class BirthdayDlqListener {
             String reason = dlqErrorHandler.getErrorReason(message);
 
             Object payload = rabbitTemplate.getMessageConverter().fromMessage(message);
-            Long userId = (Long) payload;
+            // 단건 메시지는 userId, 대상자 묶음(birthday cohort) 메시지는 대상자 수만 (하루치 ID 목록은 알림에 싣지 않음)
+            String target = payload instanceof BirthdayCohortMessage cohort
+                    ? "생일 대상자 묶음 " + (cohort.userIds() == null ? 0 : cohort.userIds().size()) + "명"
+                    : String.valueOf(payload);
 
-            log.error("알림 발송 대상 userId={}, reason={}", userId, reason);
+            log.error("알림 발송 대상 userId={}, reason={}", target, reason);
             String text = "[긴급] 생일 쿠폰 발급 실패 (DLQ)";
-            dlqErrorHandler.sendDoorayAlert(text, String.valueOf(userId), reason);
+            dlqErrorHandler.sendDoorayAlert(text, target, reason);
 
         } catch (Exception e) {
             log.error("Birthday Coupon DLQ 처리 중 예외 발생", e);
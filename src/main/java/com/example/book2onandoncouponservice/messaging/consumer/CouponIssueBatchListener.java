@@ -0,0 +1,122 @@
+package com.example.book2onandoncouponservice.messaging.consumer;
+
+import com.example.book2onandoncouponservice.config.RabbitConfig;
+import com.example.book2onandoncouponservice.exception.CouponErrorCode;
+import com.example.book2onandoncouponservice.exception.CouponIssueException;
+import com.example.book2onandoncouponservice.handler.DlqErrorHandler;
+import com.example.book2onandoncouponservice.messaging.CouponIssueMessage;
+import com.example.book2onandoncouponservice.redis.CouponStockStore;
+import com.example.book2onandoncouponservice.service.CouponService;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "coupon.issue.batch.enabled", havingValue = "true")
+public class CouponIssueBatchListener {
+    private final CouponService couponService;
+    private final RabbitTemplate rabbitTemplate;
+    private final CouponStockStore couponStockStore;
+
+    @RabbitListener(queues = RabbitConfig.QUEUE_ISSUE, containerFactory = RabbitConfig.ISSUE_BATCH_CONTAINER_FACTORY)
+    public void receive(List<Message<CouponIssueMessage>> issueMessages) {
+
+        log.debug("쿠폰 발급 메시지 배치 수신. size={}", issueMessages.size());
+
+        Map<Long, List<Message<CouponIssueMessage>>> messagesByCoupon = issueMessages.stream()
+                .collect(Collectors.groupingBy(message -> message.getPayload().couponId(), LinkedHashMap::new,
+                        Collectors.toList()));
+
+        messagesByCoupon.forEach(this::issueGroup);
+    }
+
+    // 쿠폰 단위로 재고 1회 차감 + multi-row insert, 실패 시 메시지별로 다시 처리
+    private void issueGroup(Long couponId, List<Message<CouponIssueMessage>> messages) {
+        List<Long> userIds = messages.stream().map(message -> message.getPayload().userId()).toList();
+
+        List<Long> duplicatedUserIds;
+        try {
+            duplicatedUserIds = couponService.issueMemberCoupons(couponId, userIds);
+        } catch (Exception e) {
+            log.warn("쿠폰 일괄 발급 실패, 개별 발급으로 전환. couponId={}, size={}, reason={}",
+                    couponId, messages.size(), e.getMessage());
+
+            messages.forEach(this::issueOne);
+            return;
+        }
+
+        if (duplicatedUserIds.isEmpty()) {
+            return;
+        }
+
+        // 묶음 안에서 같은 사용자가 반복된 경우는 같은 요청이 두 번 온 것이라 선점 재고가 1개뿐이므로 반환하지 않음
+        Map<Long, Long> countByUser = userIds.stream()
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        Set<Long> duplicated = Set.copyOf(duplicatedUserIds);
+        for (Message<CouponIssueMessage> message : messages) {
+            Long userId = message.getPayload().userId();
+            if (duplicated.contains(userId) && countByUser.get(userId) == 1) {
+                releaseIfNotRedelivered(message);
+            }
+        }
+    }
+
+    private void issueOne(Message<CouponIssueMessage> message) {
+        CouponIssueMessage issueMessage = message.getPayload();
+        try {
+            couponService.issueReservedMemberCoupon(issueMessage.userId(), issueMessage.couponId());
+        } catch (CouponIssueException e) {
+            if (e.getErrorCode() == CouponErrorCode.COUPON_ALREADY_ISSUED) {
+                releaseIfNotRedelivered(message);
+                return;
+            }
+            log.error("쿠폰 개별 발급 실패, DLQ로 전송. userId = {}, couponId = {}, reason={}",
+                    issueMessage.userId(), issueMessage.couponId(), e.getMessage());
+            sendToDlq(issueMessage, e.getMessage());
+        } catch (Exception e) {
+            log.error("쿠폰 개별 발급 실패, DLQ로 전송. userId = {}, couponId = {}, reason={}",
+                    issueMessage.userId(), issueMessage.couponId(), e.getMessage());
+            sendToDlq(issueMessage, e.getMessage());
+        }
+    }
+
+    // 이미 보유 중인 사용자의 메시지
+    // 재전달/재전송된 메시지: 앞선 전달에서 발급됐을 수 있으므로 무시
+    // 처음 받은 메시지: 발급 이력 만료 후 다시 요청해 게이트를 통과한 경우이므로 선점 재고를 반환
+    private void releaseIfNotRedelivered(Message<CouponIssueMessage> message) {
+        CouponIssueMessage issueMessage = message.getPayload();
+        MessageHeaders headers = message.getHeaders();
+        if (Boolean.TRUE.equals(headers.get(AmqpHeaders.REDELIVERED, Boolean.class))
+                || headers.containsKey(CouponIssueMessage.REPUBLISHED_HEADER)) {
+            log.info("이미 발급된 쿠폰 메시지 무시(재전달). userId = {}, couponId = {}",
+                    issueMessage.userId(), issueMessage.couponId());
+            return;
+        }
+        log.info("이미 보유 중인 사용자의 발급 요청, 재고 반환. userId = {}, couponId = {}",
+                issueMessage.userId(), issueMessage.couponId());
+        couponStockStore.release(issueMessage.couponId(), issueMessage.userId());
+    }
+
+    // 실패한 메시지만 DLQ로 보내고 재고 복구/알림은 CouponIssueDlqListener에 위임
+    private void sendToDlq(CouponIssueMessage message, String reason) {
+        rabbitTemplate.convertAndSend(RabbitConfig.DLX_EXCHANGE, RabbitConfig.DLX_ROUTING_KEY_ISSUE, message,
+                amqpMessage -> {
+                    amqpMessage.getMessageProperties().setHeader(DlqErrorHandler.FAILURE_REASON_HEADER, reason);
+                    return amqpMessage;
+                });
+    }
+}
@@ -2,13 +2,21 @@ package com.example.book2onandoncouponservice.messaging.consumer;
 
 import com.example.book2onandoncouponservice.config.RabbitConfig;
 import com.example.book2onandoncouponservice.handler.DlqErrorHandler;
+import com.example.book2onandoncouponservice.messaging.CouponIssueEnvelope;
 import com.example.book2onandoncouponservice.messaging.CouponIssueMessage;
+import com.example.book2onandoncouponservice.redis.CouponStockStore;
+import com.example.book2onandoncouponservice.repository.MemberCouponRepository;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -17,7 +25,8 @@ import org.springframework.stereotype.Component;
 public class CouponIssueDlqListener {
     private final RabbitTemplate rabbitTemplate;
     private final DlqErrorHandler dlqErrorHandler;
-    private final StringRedisTemplate redisTemplate;
+    private final CouponStockStore couponStockStore;
+    private final MemberCouponRepository memberCouponRepository;
 
 
     @RabbitListener(queues = RabbitConfig.QUEUE_ISSUE_DLQ)
@@ -25,25 +34,48 @@ public class CouponIssueDlqListener {
         try {
             String reason = dlqErrorHandler.getErrorReason(message);
 
-            CouponIssueMessage payload =
-                    (CouponIssueMessage) rabbitTemplate.getMessageConverter().fromMessage(message);
+            Object payload = rabbitTemplate.getMessageConverter().fromMessage(message);
 
-            // Redis 재고 복구
-            String stockKey = "coupon:" + payload.couponId() + "stock:";
-            redisTemplate.opsForValue().increment(stockKey);
+            // binary 형식 묶음(CouponIssueEnvelope)은 통째로 DLQ에 들어오므로 담긴 요청 중 미발급분만 복구
+            List<CouponIssueMessage> issueMessages = payload instanceof CouponIssueEnvelope envelope
+                    ? notIssued(envelope.messages())
+                    : List.of((CouponIssueMessage) payload);
 
-            log.error(
-                    "쿠폰 발급 최종 실패(DLQ). userId={}, couponId={}, reason={}",
-                    payload.userId(),
-                    payload.couponId(),
-                    reason
-            );
+            for (CouponIssueMessage issueMessage : issueMessages) {
+                // Redis 재고 복구 (같은 메시지가 여러 번 들어와도 1회만 반환)
+                couponStockStore.release(issueMessage.couponId(), issueMessage.userId());
+
+                log.error(
+                        "쿠폰 발급 최종 실패(DLQ). userId={}, couponId={}, reason={}",
+                        issueMessage.userId(),
+                        issueMessage.couponId(),
+                        reason
+                );
+            }
 
             String text = "[긴급] 쿠폰 발급 실패 (DLQ)";
-            dlqErrorHandler.sendDoorayAlert(text, payload.toString(), reason);
+            String detail = payload instanceof CouponIssueEnvelope envelope
+                    ? "발급 요청 묶음 " + envelope.messages().size() + "건 중 미발급 " + issueMessages.size() + "건"
+                    : payload.toString();
+            dlqErrorHandler.sendDoorayAlert(text, detail, reason);
 
         } catch (Exception e) {
             log.error("Issue DLQ 처리 중 예외 발생", e);
         }
     }
+
+    // 묶음의 일부 요청은 DLQ로 가기 전 발급에 성공했을 수 있으므로 DB에 없는 요청만 남긴다
+    private List<CouponIssueMessage> notIssued(List<CouponIssueMessage> messages) {
+        List<CouponIssueMessage> result = new ArrayList<>();
+        messages.stream()
+                .collect(Collectors.groupingBy(CouponIssueMessage::couponId, LinkedHashMap::new, Collectors.toList()))
+                .forEach((couponId, group) -> {
+                    Set<Long> issuedUserIds = new HashSet<>(memberCouponRepository.findIssuedUserIds(couponId,
+                            group.stream().map(CouponIssueMessage::userId).toList()));
+                    group.stream()
+                            .filter(message -> !issuedUserIds.contains(message.userId()))
+                            .forEach(result::add);
+                });
+        return result;
+    }
 }
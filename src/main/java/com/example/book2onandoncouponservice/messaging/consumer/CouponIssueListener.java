@@ -1,34 +1,50 @@
 package com.example.book2onandoncouponservice.messaging.consumer;
 
 import com.example.book2onandoncouponservice.config.RabbitConfig;
+import com.example.book2onandoncouponservice.exception.CouponErrorCode;
 import com.example.book2onandoncouponservice.exception.CouponIssueException;
 import com.example.book2onandoncouponservice.exception.CouponNotFoundException;
 import com.example.book2onandoncouponservice.messaging.CouponIssueMessage;
+import com.example.book2onandoncouponservice.redis.CouponStockStore;
 import com.example.book2onandoncouponservice.service.CouponService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@ConditionalOnProperty(name = "coupon.issue.batch.enabled", havingValue = "false", matchIfMissing = true)
 public class CouponIssueListener {
     private final CouponService couponService;
-    private final StringRedisTemplate redisTemplate;
+    private final CouponStockStore couponStockStore;
 
     @RabbitListener(queues = RabbitConfig.QUEUE_ISSUE)
-    public void receive(CouponIssueMessage issueMessage) {
+    public void receive(Message<CouponIssueMessage> message) {
 
+        CouponIssueMessage issueMessage = message.getPayload();
         try {
             log.debug("쿠폰 발급 메시지 수신. userId = {}, couponId = {}", issueMessage.userId(), issueMessage.couponId());
-            couponService.issueMemberCoupon(issueMessage.userId(), issueMessage.couponId());
-        } catch (CouponIssueException | CouponNotFoundException e) {
+            couponService.issueReservedMemberCoupon(issueMessage.userId(), issueMessage.couponId());
+        } catch (CouponIssueException e) {
+            // 재전달/재전송된 메시지가 이미 처리된 경우: 앞선 전달로 발급됐으므로 재고를 반환하지 않음
+            if (e.getErrorCode() == CouponErrorCode.COUPON_ALREADY_ISSUED && mayBeDuplicate(message)) {
+                log.info("이미 발급된 쿠폰 메시지 무시(재전달). userId = {}, couponId = {}",
+                        issueMessage.userId(), issueMessage.couponId());
+                return;
+            }
+            // 처음 받은 메시지인데 이미 보유 중: 발급 이력 만료 후 다시 요청해 게이트를 통과한 경우이므로 선점 재고를 반환
             log.error("발급 불가(비즈니스 예외) 재시도 하지 않음. reason:{}", e.getMessage());
+            couponStockStore.release(issueMessage.couponId(), issueMessage.userId());
 
-            String stockKey = "coupon:" + issueMessage.couponId() + "stock:";
-            redisTemplate.opsForValue().increment(stockKey);
+        } catch (CouponNotFoundException e) {
+            log.error("발급 불가(비즈니스 예외) 재시도 하지 않음. reason:{}", e.getMessage());
+            couponStockStore.release(issueMessage.couponId(), issueMessage.userId());
 
         } catch (Exception e) {
             log.error("쿠폰 지급 중 에러 발생 재시도. userId = {}, couponId = {}", issueMessage.userId(), issueMessage.couponId(),
@@ -36,4 +52,11 @@ public class CouponIssueListener {
             throw e;
         }
     }
+
+    // 브로커 재전달이거나 발행 측 재전송이면 앞선 전달에서 이미 발급됐을 수 있음
+    private static boolean mayBeDuplicate(Message<CouponIssueMessage> message) {
+        MessageHeaders headers = message.getHeaders();
+        return Boolean.TRUE.equals(headers.get(AmqpHeaders.REDELIVERED, Boolean.class))
+                || headers.containsKey(CouponIssueMessage.REPUBLISHED_HEADER);
+    }
 }
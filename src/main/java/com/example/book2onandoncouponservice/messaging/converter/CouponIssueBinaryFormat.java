@@ -0,0 +1,94 @@
+package com.example.book2onandoncouponservice.messaging.converter;
+
+import com.example.book2onandoncouponservice.messaging.CouponIssueEnvelope;
+import com.example.book2onandoncouponservice.messaging.CouponIssueMessage;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+// 발급 요청 고정 길이 바이너리 형식 (big-endian)
+//   단건: [version:1][userId:8][couponId:8]                     = 17 bytes
+//   묶음: [version:1][count:4]([userId:8][couponId:8]) x count   = 5 + 16 x count bytes
+// 필드를 늘릴 때는 VERSION을 올리고 이전 버전 해석을 남겨 둔다
+public final class CouponIssueBinaryFormat {
+
+    public static final String CONTENT_TYPE = "application/x-coupon-issue";
+    public static final String ENVELOPE_CONTENT_TYPE = "application/x-coupon-issue-envelope";
+
+    static final byte VERSION = 1;
+    static final int ENTRY_BYTES = Long.BYTES * 2;
+    static final int MESSAGE_BYTES = 1 + ENTRY_BYTES;
+    static final int ENVELOPE_HEADER_BYTES = 1 + Integer.BYTES;
+
+    private CouponIssueBinaryFormat() {
+    }
+
+    public static byte[] encode(CouponIssueMessage message) {
+        ByteBuffer buffer = ByteBuffer.allocate(MESSAGE_BYTES).put(VERSION);
+        putEntry(buffer, message);
+        return buffer.array();
+    }
+
+    public static byte[] encode(CouponIssueEnvelope envelope) {
+        List<CouponIssueMessage> messages = envelope.messages();
+        ByteBuffer buffer = ByteBuffer.allocate(ENVELOPE_HEADER_BYTES + ENTRY_BYTES * messages.size())
+                .put(VERSION)
+                .putInt(messages.size());
+        messages.forEach(message -> putEntry(buffer, message));
+        return buffer.array();
+    }
+
+    public static CouponIssueMessage decodeMessage(byte[] body) {
+        ByteBuffer buffer = ByteBuffer.wrap(body);
+        checkVersion(buffer);
+        if (buffer.remaining() != ENTRY_BYTES) {
+            throw new MessageConversionException("발급 메시지 길이 오류. length=" + body.length);
+        }
+        return getEntry(buffer);
+    }
+
+    public static CouponIssueEnvelope decodeEnvelope(byte[] body) {
+        int count = envelopeSize(body);
+        ByteBuffer buffer = ByteBuffer.wrap(body, ENVELOPE_HEADER_BYTES, body.length - ENVELOPE_HEADER_BYTES);
+        List<CouponIssueMessage> messages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            messages.add(getEntry(buffer));
+        }
+        return new CouponIssueEnvelope(messages);
+    }
+
+    // 버전과 길이를 확인하고 묶음에 담긴 요청 수를 반환
+    static int envelopeSize(byte[] body) {
+        ByteBuffer buffer = ByteBuffer.wrap(body);
+        checkVersion(buffer);
+        int count = buffer.remaining() >= Integer.BYTES ? buffer.getInt() : -1;
+        if (count < 0 || buffer.remaining() != (long) ENTRY_BYTES * count) {
+            throw new MessageConversionException("발급 메시지 묶음 길이 오류. length=" + body.length);
+        }
+        return count;
+    }
+
+    // 묶음의 i번째 요청을 단건 형식으로 (재직렬화 없이 바이트 복사)
+    static byte[] entryAsMessage(byte[] envelopeBody, int index) {
+        byte[] body = new byte[MESSAGE_BYTES];
+        body[0] = VERSION;
+        System.arraycopy(envelopeBody, ENVELOPE_HEADER_BYTES + ENTRY_BYTES * index, body, 1, ENTRY_BYTES);
+        return body;
+    }
+
+    private static void checkVersion(ByteBuffer buffer) {
+        byte version = buffer.hasRemaining() ? buffer.get() : -1;
+        if (version != VERSION) {
+            throw new MessageConversionException("지원하지 않는 발급 메시지 버전. version=" + version);
+        }
+    }
+
+    private static void putEntry(ByteBuffer buffer, CouponIssueMessage message) {
+        buffer.putLong(message.userId()).putLong(message.couponId());
+    }
+
+    private static CouponIssueMessage getEntry(ByteBuffer buffer) {
+        return new CouponIssueMessage(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.book2onandoncouponservice.messaging.converter;
+
+import com.example.book2onandoncouponservice.messaging.CouponIssueEnvelope;
+import com.example.book2onandoncouponservice.messaging.CouponIssueMessage;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.MessagePropertiesBuilder;
+import org.springframework.amqp.rabbit.batch.BatchingStrategy;
+import org.springframework.amqp.rabbit.batch.MessageBatch;
+
+// 발급 메시지 묶음(CouponIssueEnvelope) 형식의 BatchingStrategy
+// 발행: BatchingRabbitTemplate에서 binary 단건 메시지를 batchSize개씩 묶음 메시지로 만든다
+// 소비: 리스너 컨테이너가 묶음을 단건 메시지로 나눠 리스너에 넘긴다 (발급 큐 컨테이너에만 적용)
+public class CouponIssueEnvelopeBatchingStrategy implements BatchingStrategy {
+
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    private static final long DEFAULT_TIMEOUT_MS = 100L;
+
+    private final int batchSize;
+    private final long timeoutMs;
+
+    private final List<CouponIssueMessage> pending = new ArrayList<>();
+    private String exchange;
+    private String routingKey;
+
+    public CouponIssueEnvelopeBatchingStrategy() {
+        this(DEFAULT_BATCH_SIZE, DEFAULT_TIMEOUT_MS);
+    }
+
+    public CouponIssueEnvelopeBatchingStrategy(int batchSize, long timeoutMs) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize는 1 이상이어야 합니다. batchSize=" + batchSize);
+        }
+        this.batchSize = batchSize;
+        this.timeoutMs = timeoutMs;
+    }
+
+    @Override
+    public synchronized MessageBatch addToBatch(String exchange, String routingKey, Message message) {
+        if (!CouponIssueBinaryFormat.CONTENT_TYPE.equals(message.getMessageProperties().getContentType())) {
+            throw new IllegalArgumentException(
+                    "binary 형식 발급 메시지만 묶을 수 있습니다. contentType=" + message.getMessageProperties().getContentType());
+        }
+
+        // 목적지가 바뀌면 쌓인 묶음을 먼저 내보냄
+        MessageBatch batch = null;
+        if (!pending.isEmpty()
+                && (!Objects.equals(this.exchange, exchange) || !Objects.equals(this.routingKey, routingKey))) {
+            batch = release();
+        }
+
+        this.exchange = exchange;
+        this.routingKey = routingKey;
+        pending.add(CouponIssueBinaryFormat.decodeMessage(message.getBody()));
+
+        if (batch == null && pending.size() >= batchSize) {
+            batch = release();
+        }
+        return batch;
+    }
+
+    @Override
+    public synchronized Date nextRelease() {
+        if (pending.isEmpty() || timeoutMs <= 0) {
+            return null;
+        }
+        return new Date(System.currentTimeMillis() + timeoutMs);
+    }
+
+    @Override
+    public synchronized Collection<MessageBatch> releaseBatches() {
+        return pending.isEmpty() ? List.of() : List.of(release());
+    }
+
+    @Override
+    public boolean canDebatch(MessageProperties properties) {
+        return CouponIssueBinaryFormat.ENVELOPE_CONTENT_TYPE.equals(properties.getContentType());
+    }
+
+    @Override
+    public void deBatch(Message message, Consumer<Message> fragmentListener) {
+        byte[] body = message.getBody();
+        MessageProperties source = message.getMessageProperties();
+        int count = CouponIssueBinaryFormat.envelopeSize(body);
+        for (int i = 0; i < count; i++) {
+            byte[] fragment = CouponIssueBinaryFormat.entryAsMessage(body, i);
+
+            // x-death, 실패 사유 등 원본 헤더와 수신 정보는 그대로 두고 본문 관련 속성만 바꿈
+            MessageProperties properties = MessagePropertiesBuilder.fromClonedProperties(source)
+                    .setContentType(CouponIssueBinaryFormat.CONTENT_TYPE)
+                    .setContentLength(fragment.length)
+                    .build();
+            properties.setDeliveryTag(source.getDeliveryTag());
+            properties.setRedelivered(source.getRedelivered());
+            properties.setConsumerTag(source.getConsumerTag());
+            properties.setConsumerQueue(source.getConsumerQueue());
+            properties.setLastInBatch(i == count - 1);
+            fragmentListener.accept(new Message(fragment, properties));
+        }
+    }
+
+    private MessageBatch release() {
+        byte[] body = CouponIssueBinaryFormat.encode(new CouponIssueEnvelope(List.copyOf(pending)));
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(CouponIssueBinaryFormat.ENVELOPE_CONTENT_TYPE);
+        properties.setContentLength(body.length);
+
+        MessageBatch batch = new MessageBatch(exchange, routingKey, new Message(body, properties));
+        pending.clear();
+        exchange = null;
+        routingKey = null;
+        return batch;
+    }
+}
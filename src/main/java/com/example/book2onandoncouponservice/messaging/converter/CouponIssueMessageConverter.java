@@ -0,0 +1,56 @@
+package com.example.book2onandoncouponservice.messaging.converter;
+
+import com.example.book2onandoncouponservice.messaging.CouponIssueEnvelope;
+import com.example.book2onandoncouponservice.messaging.CouponIssueMessage;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+// 발급 요청만 바이너리 형식으로 보내고 나머지는 JSON 변환기에 맡긴다
+// 수신은 content-type으로 판별하므로 binaryEnabled와 무관하게 두 형식을 모두 읽는다
+// (소비 측을 먼저 배포한 뒤 발행 측에서 coupon.issue.message-format=binary를 켠다)
+public class CouponIssueMessageConverter implements MessageConverter {
+
+    private final MessageConverter fallback;
+    private final boolean binaryEnabled;
+
+    public CouponIssueMessageConverter(MessageConverter fallback, boolean binaryEnabled) {
+        this.fallback = fallback;
+        this.binaryEnabled = binaryEnabled;
+    }
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) throws MessageConversionException {
+        if (object instanceof CouponIssueEnvelope envelope) {
+            if (!binaryEnabled) {
+                throw new MessageConversionException("발급 메시지 묶음은 binary 형식에서만 보낼 수 있습니다");
+            }
+            return binary(CouponIssueBinaryFormat.encode(envelope), CouponIssueBinaryFormat.ENVELOPE_CONTENT_TYPE,
+                    messageProperties);
+        }
+        if (binaryEnabled && object instanceof CouponIssueMessage message) {
+            return binary(CouponIssueBinaryFormat.encode(message), CouponIssueBinaryFormat.CONTENT_TYPE,
+                    messageProperties);
+        }
+        return fallback.toMessage(object, messageProperties);
+    }
+
+    @Override
+    public Object fromMessage(Message message) throws MessageConversionException {
+        String contentType = message.getMessageProperties().getContentType();
+        if (CouponIssueBinaryFormat.CONTENT_TYPE.equals(contentType)) {
+            return CouponIssueBinaryFormat.decodeMessage(message.getBody());
+        }
+        if (CouponIssueBinaryFormat.ENVELOPE_CONTENT_TYPE.equals(contentType)) {
+            return CouponIssueBinaryFormat.decodeEnvelope(message.getBody());
+        }
+        return fallback.fromMessage(message);
+    }
+
+    private static Message binary(byte[] body, String contentType, MessageProperties messageProperties) {
+        messageProperties.setContentType(contentType);
+        messageProperties.setContentLength(body.length);
+        return new Message(body, messageProperties);
+    }
+}
@@ -0,0 +1,332 @@
+package com.example.book2onandoncouponservice.messaging.publisher;
+
+import com.example.book2onandoncouponservice.config.RabbitConfig;
+import com.example.book2onandoncouponservice.exception.CouponErrorCode;
+import com.example.book2onandoncouponservice.exception.CouponIssueException;
+import com.example.book2onandoncouponservice.messaging.CouponIssueEnvelope;
+import com.example.book2onandoncouponservice.messaging.CouponIssueMessage;
+import com.example.book2onandoncouponservice.redis.CouponStockStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+// 요청 스레드는 제한된 메모리 버퍼에 넣기만 하고, 전송 스레드가 버퍼를 묶어서 한 채널로 보낸다
+// 메시지마다 CorrelationData로 비동기 확인(correlated publisher confirm)을 받아 확인 지연을 기록하고,
+// nack/반송(return)/시간 초과는 버퍼로 되돌려 재전송한다
+// MAX_ATTEMPTS를 넘기면 nack/반송으로만 실패한 요청은 Redis 재고/이력을 복구하고,
+// 한 번이라도 시간 초과된 요청은 이미 도착했을 수 있으므로 복구하지 않고 정산(UnconfirmedIssueReconciler)에 넘긴다
+// 확인 대기 중인 메시지 수(in-flight)와 버퍼가 모두 가득 차면 issueRequest가 ISSUE_REQUEST_BUSY로 실패한다 (back-pressure)
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "coupon.issue.publisher", havingValue = "buffered")
+public class BufferedCouponIssuePublisher implements CouponIssuePublisher, SmartLifecycle {
+
+    static final String CONFIRM_LATENCY = "coupon.issue.publish.confirm.latency";
+    static final String BUFFERED = "coupon.issue.publish.buffered";
+    static final String IN_FLIGHT = "coupon.issue.publish.inflight";
+    static final String REJECTED = "coupon.issue.publish.rejected";
+    static final String DROPPED = "coupon.issue.publish.dropped";
+    static final String UNCONFIRMED = "coupon.issue.publish.unconfirmed";
+
+    static final int MAX_ATTEMPTS = 3;
+    private static final long POLL_INTERVAL_MS = 100;
+
+    private final RabbitTemplate rabbitTemplate;
+    private final CouponStockStore couponStockStore;
+    private final BlockingQueue<Pending> buffer;
+    private final Semaphore inFlight;
+    private final int maxInFlight;
+    private final int batchSize;
+    private final long offerTimeoutMs;
+    private final long confirmTimeoutMs;
+    private final int flusherCount;
+    private final int envelopeSize;
+
+    private final Timer ackTimer;
+    private final Timer nackTimer;
+    private final Timer timeoutTimer;
+    private final Counter rejectedCounter;
+    private final Counter droppedCounter;
+    private final Counter unconfirmedCounter;
+
+    private final List<Thread> flushers = new ArrayList<>();
+    private volatile boolean running;
+
+    // unconfirmed: 이전 전송 중 확인 시간 초과가 있었음 (브로커 도착 여부 불명)
+    record Pending(CouponIssueMessage message, int attempt, boolean unconfirmed) {
+
+        Pending(CouponIssueMessage message, int attempt) {
+            this(message, attempt, false);
+        }
+
+        Pending markUnconfirmed() {
+            return new Pending(message, attempt, true);
+        }
+
+        Pending nextAttempt() {
+            return new Pending(message, attempt + 1, unconfirmed);
+        }
+    }
+
+    public BufferedCouponIssuePublisher(RabbitTemplate rabbitTemplate,
+                                        CouponStockStore couponStockStore,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${coupon.issue.buffer.capacity:10000}") int capacity,
+                                        @Value("${coupon.issue.buffer.batch-size:200}") int batchSize,
+                                        @Value("${coupon.issue.buffer.max-in-flight:5000}") int maxInFlight,
+                                        @Value("${coupon.issue.buffer.offer-timeout-ms:50}") long offerTimeoutMs,
+                                        @Value("${coupon.issue.buffer.confirm-timeout-ms:5000}") long confirmTimeoutMs,
+                                        @Value("${coupon.issue.buffer.flushers:1}") int flusherCount,
+                                        @Value("${coupon.issue.buffer.envelope-size:1}") int envelopeSize,
+                                        @Value("${coupon.issue.message-format:json}") String messageFormat) {
+        if (!rabbitTemplate.getConnectionFactory().isPublisherConfirms()) {
+            throw new IllegalStateException(
+                    "buffered 모드는 spring.rabbitmq.publisher-confirm-type=correlated 설정이 필요합니다");
+        }
+        if (envelopeSize > 1 && !"binary".equalsIgnoreCase(messageFormat)) {
+            throw new IllegalStateException(
+                    "coupon.issue.buffer.envelope-size > 1 은 coupon.issue.message-format=binary 설정이 필요합니다");
+        }
+        if (!rabbitTemplate.getConnectionFactory().isPublisherReturns()) {
+            log.warn("spring.rabbitmq.publisher-returns 설정이 꺼져 있어 라우팅되지 않은 발급 요청을 감지할 수 없습니다");
+        }
+        this.rabbitTemplate = rabbitTemplate;
+        this.couponStockStore = couponStockStore;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        // 배치 하나는 항상 in-flight 한도 안에 들어가야 전송 스레드가 멈추지 않는다
+        this.maxInFlight = Math.max(maxInFlight, batchSize);
+        this.inFlight = new Semaphore(this.maxInFlight);
+        this.batchSize = batchSize;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.confirmTimeoutMs = confirmTimeoutMs;
+        this.flusherCount = flusherCount;
+        this.envelopeSize = Math.max(envelopeSize, 1);
+
+        this.ackTimer = confirmTimer(meterRegistry, "ack");
+        this.nackTimer = confirmTimer(meterRegistry, "nack");
+        this.timeoutTimer = confirmTimer(meterRegistry, "timeout");
+        this.rejectedCounter = Counter.builder(REJECTED)
+                .description("버퍼가 가득 차 거절한 발급 요청 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder(DROPPED)
+                .description("재전송 한도를 넘겨 재고를 복구한 발급 요청 수")
+                .register(meterRegistry);
+        this.unconfirmedCounter = Counter.builder(UNCONFIRMED)
+                .description("확인 시간 초과로 전달 여부를 알 수 없어 정산에 넘긴 발급 요청 수")
+                .register(meterRegistry);
+        Gauge.builder(BUFFERED, buffer, BlockingQueue::size)
+                .description("전송 대기 중인 발급 요청 수")
+                .register(meterRegistry);
+        Gauge.builder(IN_FLIGHT, inFlight, semaphore -> this.maxInFlight - semaphore.availablePermits())
+                .description("브로커 확인을 기다리는 발급 요청 수")
+                .register(meterRegistry);
+    }
+
+    private static Timer confirmTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder(CONFIRM_LATENCY)
+                .description("전송부터 브로커 확인(또는 시간 초과)까지 걸린 시간")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void publish(CouponIssueMessage message) {
+        boolean accepted;
+        try {
+            accepted = buffer.offer(new Pending(message, 1), offerTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+        if (!accepted) {
+            rejectedCounter.increment();
+            throw new CouponIssueException(CouponErrorCode.ISSUE_REQUEST_BUSY);
+        }
+    }
+
+    private void flushLoop() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        try {
+            // 종료 요청 후에도 버퍼에 남은 요청은 모두 보낸다
+            while (running || !buffer.isEmpty()) {
+                Pending first = buffer.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+                flush(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    void flush(List<Pending> batch) throws InterruptedException {
+        inFlight.acquire(batch.size());
+
+        int[] sent = {0};
+        try {
+            rabbitTemplate.invoke(operations -> {
+                while (sent[0] < batch.size()) {
+                    List<Pending> group = List.copyOf(
+                            batch.subList(sent[0], Math.min(sent[0] + envelopeSize, batch.size())));
+                    send(operations, group);
+                    sent[0] += group.size();
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("발급 요청 배치 전송 실패, 남은 {}건 재전송. cause={}", batch.size() - sent[0], e.getMessage());
+            for (Pending pending : batch.subList(sent[0], batch.size())) {
+                inFlight.release();
+                retry(pending, false, "send-failed");
+            }
+        }
+    }
+
+    // envelopeSize가 1보다 크면 여러 요청을 AMQP 메시지 1건(CouponIssueEnvelope)으로 묶어 확인도 한 번에 받는다
+    private void send(RabbitOperations operations, List<Pending> group) {
+        Object payload = group.size() == 1
+                ? group.get(0).message()
+                : new CouponIssueEnvelope(group.stream().map(Pending::message).toList());
+
+        CorrelationData correlation = new CorrelationData();
+        long startNanos = System.nanoTime();
+        if (group.stream().anyMatch(pending -> pending.attempt() > 1)) {
+            // 재전송은 앞선 전송이 이미 도착했을 수 있으므로 소비 측이 재고를 반환하지 않도록 표시
+            operations.convertAndSend(RabbitConfig.COUPON_EXCHANGE, RabbitConfig.ROUTING_KEY_ISSUE, payload,
+                    BufferedCouponIssuePublisher::markRepublished, correlation);
+        } else {
+            operations.convertAndSend(RabbitConfig.COUPON_EXCHANGE, RabbitConfig.ROUTING_KEY_ISSUE, payload,
+                    correlation);
+        }
+
+        correlation.getFuture()
+                .orTimeout(confirmTimeoutMs, TimeUnit.MILLISECONDS)
+                .whenComplete((confirm, error) -> {
+                    inFlight.release(group.size());
+                    long elapsed = System.nanoTime() - startNanos;
+                    if (error != null) {
+                        // 확인만 늦었을 뿐 브로커에 도착했을 수 있음
+                        timeoutTimer.record(elapsed, TimeUnit.NANOSECONDS);
+                        group.forEach(pending -> retry(pending, true, "timeout"));
+                    } else if (!confirm.isAck()) {
+                        nackTimer.record(elapsed, TimeUnit.NANOSECONDS);
+                        group.forEach(pending -> retry(pending, false, "nack: " + confirm.getReason()));
+                    } else if (correlation.getReturned() != null) {
+                        // 라우팅되지 않아 반송된 메시지는 ack가 와도 큐에 들어가지 않았음
+                        ackTimer.record(elapsed, TimeUnit.NANOSECONDS);
+                        group.forEach(pending -> retry(pending, false,
+                                "returned: " + correlation.getReturned().getReplyText()));
+                    } else {
+                        ackTimer.record(elapsed, TimeUnit.NANOSECONDS);
+                    }
+                });
+    }
+
+    private static Message markRepublished(Message message) {
+        message.getMessageProperties().setHeader(CouponIssueMessage.REPUBLISHED_HEADER, true);
+        return message;
+    }
+
+    // 확인 콜백 스레드에서도 불리므로 버퍼에 다시 넣을 때 대기하지 않는다
+    void retry(Pending pending, boolean timedOut, String reason) {
+        Pending failed = timedOut ? pending.markUnconfirmed() : pending;
+        if (failed.attempt() < MAX_ATTEMPTS && buffer.offer(failed.nextAttempt())) {
+            return;
+        }
+        drop(failed, reason);
+    }
+
+    // nack/반송으로만 실패한 요청은 발급 큐에 들어가지 않았으므로 DLQ와 같이 Redis 재고/이력을 복구한다
+    // 시간 초과가 섞인 요청은 소비 측에서 발급됐을 수 있어 복구하지 않고 정산 대상으로 기록한다
+    private void drop(Pending pending, String reason) {
+        CouponIssueMessage message = pending.message();
+        if (pending.unconfirmed()) {
+            unconfirmedCounter.increment();
+            couponStockStore.markUnconfirmed(message.couponId(), message.userId(), System.currentTimeMillis());
+            log.error("발급 요청 전송 최종 실패, 전달 여부 불명으로 정산에 넘김. userId={}, couponId={}, attempt={}, reason={}",
+                    message.userId(), message.couponId(), pending.attempt(), reason);
+            return;
+        }
+        droppedCounter.increment();
+        couponStockStore.release(message.couponId(), message.userId());
+        log.error("발급 요청 전송 최종 실패, 재고 복구. userId={}, couponId={}, attempt={}, reason={}",
+                message.userId(), message.couponId(), pending.attempt(), reason);
+    }
+
+    int bufferedCount() {
+        return buffer.size();
+    }
+
+    int inFlightCount() {
+        return maxInFlight - inFlight.availablePermits();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        for (int i = 0; i < flusherCount; i++) {
+            flushers.add(Thread.ofPlatform()
+                    .name("coupon-issue-publisher-" + i)
+                    .daemon()
+                    .start(this::flushLoop));
+        }
+        log.info("발급 요청 버퍼 전송 시작. flushers={}, batchSize={}, envelopeSize={}, maxInFlight={}", flusherCount,
+                batchSize, envelopeSize, maxInFlight);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            for (Thread flusher : flushers) {
+                flusher.join(confirmTimeoutMs);
+            }
+            // 보낸 요청의 확인까지 기다린다
+            if (inFlight.tryAcquire(maxInFlight, confirmTimeoutMs * 2, TimeUnit.MILLISECONDS)) {
+                inFlight.release(maxInFlight);
+            } else {
+                log.warn("종료 시점에 확인을 받지 못한 발급 요청이 남아 있음. inFlight={}", inFlightCount());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushers.clear();
+
+        // 재전송하려고 버퍼에 돌아온 요청은 더 보낼 스레드가 없으므로 재고를 복구한다
+        List<Pending> remaining = new ArrayList<>();
+        buffer.drainTo(remaining);
+        remaining.forEach(pending -> drop(pending, "shutdown"));
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 웹 서버보다 먼저 시작하고 늦게 멈춰, 종료 중 마지막 요청까지 버퍼를 비운다
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.book2onandoncouponservice.messaging.publisher;
+
+import com.example.book2onandoncouponservice.config.RabbitConfig;
+import com.example.book2onandoncouponservice.entity.CouponIssueOutbox;
+import com.example.book2onandoncouponservice.messaging.CouponIssueMessage;
+import com.example.book2onandoncouponservice.repository.CouponIssueOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+// outbox 기록을 오래된 순으로 묶어 한 채널에서 전송하고, 브로커 확인(publisher confirm)을 받은 뒤에만 삭제한다
+// 확인 전에 실패하면 행을 표시해 두고 다음 주기에 재전송 표시와 함께 다시 보낸다
+// (중복 전달은 CouponIssueListener가 COUPON_ALREADY_ISSUED로 무시)
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "coupon.issue.publisher", havingValue = "outbox")
+public class CouponIssueOutboxRelay {
+
+    static final String PUBLISHED = "coupon.issue.outbox.published";
+    static final String FAILED = "coupon.issue.outbox.failed";
+    static final String RELAY_DURATION = "coupon.issue.outbox.relay.duration";
+
+    // 릴레이 스케줄러의 ShedLock 최대 보유 시간 - 한 번의 릴레이는 이 안에 끝나야 다른 인스턴스와 겹치지 않는다
+    public static final String LOCK_AT_MOST_FOR = "PT1M";
+
+    private final CouponIssueOutboxRepository outboxRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final int batchSize;
+    private final long confirmTimeoutMs;
+    private final long relayBudgetNanos;
+
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Timer relayTimer;
+
+    public CouponIssueOutboxRelay(CouponIssueOutboxRepository outboxRepository,
+                                  RabbitTemplate rabbitTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${coupon.issue.outbox.batch-size:500}") int batchSize,
+                                  @Value("${coupon.issue.outbox.confirm-timeout-ms:5000}") long confirmTimeoutMs,
+                                  @Value("${coupon.issue.outbox.relay-budget-ms:30000}") long relayBudgetMs) {
+        if (!rabbitTemplate.getConnectionFactory().isSimplePublisherConfirms()) {
+            throw new IllegalStateException(
+                    "outbox 모드는 spring.rabbitmq.publisher-confirm-type=simple 설정이 필요합니다");
+        }
+        // 예산을 넘기기 직전에 시작한 배치도 확인 대기까지 락 시간 안에 끝나야 한다
+        if (relayBudgetMs + confirmTimeoutMs >= Duration.parse(LOCK_AT_MOST_FOR).toMillis()) {
+            throw new IllegalStateException("coupon.issue.outbox.relay-budget-ms + confirm-timeout-ms는 릴레이 락 시간("
+                    + LOCK_AT_MOST_FOR + ")보다 짧아야 합니다");
+        }
+        this.outboxRepository = outboxRepository;
+        this.rabbitTemplate = rabbitTemplate;
+        this.batchSize = batchSize;
+        this.confirmTimeoutMs = confirmTimeoutMs;
+        this.relayBudgetNanos = TimeUnit.MILLISECONDS.toNanos(relayBudgetMs);
+        this.publishedCounter = Counter.builder(PUBLISHED)
+                .description("브로커 확인을 받고 outbox에서 삭제한 발급 요청 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder(FAILED)
+                .description("전송/확인에 실패해 다음 주기로 미룬 발급 요청 수")
+                .register(meterRegistry);
+        this.relayTimer = Timer.builder(RELAY_DURATION)
+                .description("outbox 배치 1회 전송 + 확인 대기 시간")
+                .register(meterRegistry);
+    }
+
+    // 쌓인 기록이 없어지거나 시간 예산(relay-budget-ms)을 다 쓸 때까지 배치 단위로 전송, 전송한 건수를 반환
+    // 예산을 넘겨 남은 기록은 다음 주기에 이어서 보낸다
+    public int relay() {
+        long startNanos = System.nanoTime();
+        int total = 0;
+        while (true) {
+            int relayed = relayBatch();
+            total += relayed;
+            if (relayed < batchSize) {
+                return total;
+            }
+            if (System.nanoTime() - startNanos >= relayBudgetNanos) {
+                log.info("outbox 릴레이 시간 예산 소진, 남은 기록은 다음 주기에 전송. relayed={}", total);
+                return total;
+            }
+        }
+    }
+
+    int relayBatch() {
+        List<CouponIssueOutbox> batch = outboxRepository.findOldest(PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            relayTimer.record(() -> rabbitTemplate.invoke(operations -> {
+                for (CouponIssueOutbox outbox : batch) {
+                    CouponIssueMessage message = new CouponIssueMessage(outbox.getUserId(), outbox.getCouponId());
+                    if (outbox.isRelayFailed()) {
+                        // 앞선 전송이 이미 도착했을 수 있으므로 소비 측이 재고를 반환하지 않도록 표시
+                        operations.convertAndSend(RabbitConfig.COUPON_EXCHANGE, RabbitConfig.ROUTING_KEY_ISSUE,
+                                message, CouponIssueOutboxRelay::markRepublished);
+                    } else {
+                        operations.convertAndSend(RabbitConfig.COUPON_EXCHANGE, RabbitConfig.ROUTING_KEY_ISSUE,
+                                message);
+                    }
+                }
+                operations.waitForConfirmsOrDie(confirmTimeoutMs);
+                return null;
+            }));
+        } catch (RuntimeException e) {
+            failedCounter.increment(batch.size());
+            log.error("outbox 발급 요청 전송 실패, 다음 주기에 재전송. size={}", batch.size(), e);
+            markRelayFailed(batch);
+            return 0;
+        }
+
+        try {
+            outboxRepository.deleteAllByIdInBatch(batch.stream().map(CouponIssueOutbox::getOutboxId).toList());
+        } catch (RuntimeException e) {
+            // 브로커에는 이미 도착했으므로 다음 주기에 다시 보낼 때 재전송 표시가 붙도록 남긴다
+            log.error("outbox 전송 후 기록 삭제 실패, 다음 주기에 재전송. size={}", batch.size(), e);
+            markRelayFailed(batch);
+            return 0;
+        }
+        publishedCounter.increment(batch.size());
+        return batch.size();
+    }
+
+    private void markRelayFailed(List<CouponIssueOutbox> batch) {
+        List<Long> outboxIds = batch.stream()
+                .filter(outbox -> !outbox.isRelayFailed())
+                .map(CouponIssueOutbox::getOutboxId)
+                .toList();
+        if (outboxIds.isEmpty()) {
+            return;
+        }
+        try {
+            outboxRepository.markRelayFailed(outboxIds);
+        } catch (RuntimeException e) {
+            log.error("outbox 재전송 표시 실패. size={}", outboxIds.size(), e);
+        }
+    }
+
+    private static Message markRepublished(Message message) {
+        message.getMessageProperties().setHeader(CouponIssueMessage.REPUBLISHED_HEADER, true);
+        return message;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.book2onandoncouponservice.messaging.publisher;
+
+import com.example.book2onandoncouponservice.messaging.CouponIssueMessage;
+
+// 선착순 발급 요청을 발급 큐로 넘기는 방식 (coupon.issue.publisher)
+// 예외가 나면 호출 측이 Redis 재고/이력을 되돌린다
+public interface CouponIssuePublisher {
+
+    void publish(CouponIssueMessage message);
+}
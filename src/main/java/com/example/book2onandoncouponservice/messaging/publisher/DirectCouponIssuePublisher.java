@@ -0,0 +1,22 @@
+package com.example.book2onandoncouponservice.messaging.publisher;
+
+import com.example.book2onandoncouponservice.config.RabbitConfig;
+import com.example.book2onandoncouponservice.messaging.CouponIssueMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 요청 스레드에서 바로 전송 (기본값)
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "coupon.issue.publisher", havingValue = "direct", matchIfMissing = true)
+public class DirectCouponIssuePublisher implements CouponIssuePublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+
+    @Override
+    public void publish(CouponIssueMessage message) {
+        rabbitTemplate.convertAndSend(RabbitConfig.COUPON_EXCHANGE, RabbitConfig.ROUTING_KEY_ISSUE, message);
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.book2onandoncouponservice.messaging.publisher;
+
+import com.example.book2onandoncouponservice.entity.CouponIssueOutbox;
+import com.example.book2onandoncouponservice.messaging.CouponIssueMessage;
+import com.example.book2onandoncouponservice.repository.CouponIssueOutboxRepository;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 요청 스레드는 outbox 테이블에 INSERT 1회만 하고, 전송은 CouponIssueOutboxRelay가 묶어서 처리한다
+// 브로커 장애가 요청 지연/보상으로 번지지 않는다
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "coupon.issue.publisher", havingValue = "outbox")
+public class OutboxCouponIssuePublisher implements CouponIssuePublisher {
+
+    private final CouponIssueOutboxRepository outboxRepository;
+
+    @Override
+    public void publish(CouponIssueMessage message) {
+        outboxRepository.save(new CouponIssueOutbox(message.userId(), message.couponId(), LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.book2onandoncouponservice.metrics;
+
+import com.example.book2onandoncouponservice.cache.CouponSnapshot;
+import com.example.book2onandoncouponservice.cache.CouponSnapshotCache;
+import com.example.book2onandoncouponservice.exception.CouponErrorCode;
+import com.example.book2onandoncouponservice.exception.CouponServiceException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+// 발급/사용/취소 처리 시간(히스토그램)과 실패 건수(에러 코드, 쿠폰 정책 타입별) 지표
+// 쿠폰 타입은 처리가 끝난 뒤 스냅샷 캐시에서 조회하므로 처리 경로에 추가 조회를 만들지 않는다
+@Slf4j
+@Component
+public class CouponMetrics {
+
+    static final String DURATION = "coupon.operation.duration";
+    static final String FAILURES = "coupon.operation.failures";
+    static final String UNKNOWN_TYPE = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final CouponSnapshotCache couponSnapshotCache;
+
+    public CouponMetrics(MeterRegistry meterRegistry, CouponSnapshotCache couponSnapshotCache) {
+        this.meterRegistry = meterRegistry;
+        this.couponSnapshotCache = couponSnapshotCache;
+    }
+
+    public enum Operation {
+        ISSUE_REQUEST("issue.request"),
+        ISSUE("issue"),
+        USE("use"),
+        CANCEL("cancel");
+
+        private final String tag;
+
+        Operation(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    // 처리 중에 알게 된 쿠폰 ID를 기록 (쿠폰 타입 태그용)
+    public static final class Sample {
+
+        private Long couponId;
+
+        public void coupon(Long couponId) {
+            this.couponId = couponId;
+        }
+    }
+
+    public <T> T record(Operation operation, Long couponId, Supplier<T> body) {
+        return record(operation, sample -> {
+            sample.coupon(couponId);
+            return body.get();
+        });
+    }
+
+    public void run(Operation operation, Consumer<Sample> body) {
+        record(operation, sample -> {
+            body.accept(sample);
+            return null;
+        });
+    }
+
+    public <T> T record(Operation operation, Function<Sample, T> body) {
+        Sample sample = new Sample();
+        Timer.Sample timer = Timer.start(meterRegistry);
+        try {
+            T result = body.apply(sample);
+            stop(timer, operation, sample, null);
+            return result;
+        } catch (CouponServiceException e) {
+            stop(timer, operation, sample, e.getErrorCode());
+            throw e;
+        } catch (RuntimeException e) {
+            stop(timer, operation, sample, CouponErrorCode.INTERNAL_SERVER_ERROR);
+            throw e;
+        }
+    }
+
+    private void stop(Timer.Sample timer, Operation operation, Sample sample, CouponErrorCode errorCode) {
+        String couponType = couponType(sample.couponId, errorCode);
+
+        timer.stop(Timer.builder(DURATION)
+                .description("쿠폰 발급/사용/취소 처리 시간")
+                .tag("operation", operation.tag)
+                .tag("couponType", couponType)
+                .tag("outcome", errorCode == null ? "success" : "failure")
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+
+        if (errorCode != null) {
+            Counter.builder(FAILURES)
+                    .description("쿠폰 발급/사용/취소 실패 건수")
+                    .tag("operation", operation.tag)
+                    .tag("couponType", couponType)
+                    .tag("errorCode", errorCode.name())
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    private String couponType(Long couponId, CouponErrorCode errorCode) {
+        // 존재하지 않는 쿠폰은 캐시되지 않으므로 다시 조회하지 않는다
+        if (couponId == null || errorCode == CouponErrorCode.COUPON_NOT_FOUND) {
+            return UNKNOWN_TYPE;
+        }
+        try {
+            return couponSnapshotCache.find(couponId)
+                    .map(CouponSnapshot::policyType)
+                    .map(Enum::name)
+                    .orElse(UNKNOWN_TYPE);
+        } catch (RuntimeException e) {
+            log.debug("지표용 쿠폰 타입 조회 실패. couponId={}", couponId, e);
+            return UNKNOWN_TYPE;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.book2onandoncouponservice.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.stereotype.Component;
+
+// RabbitConfig에 선언된 큐별 적체 메시지 수/소비자 수 게이지
+// 브로커 조회(queue.declare passive)는 주기적으로(CouponMetricsGaugeScheduler)만 수행한다
+@Slf4j
+@Component
+public class CouponQueueGauges {
+
+    static final String MESSAGES = "coupon.queue.messages";
+    static final String CONSUMERS = "coupon.queue.consumers";
+
+    private final AmqpAdmin amqpAdmin;
+    private final List<Queue> queues;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, QueueGauge> gauges = new ConcurrentHashMap<>();
+
+    public CouponQueueGauges(AmqpAdmin amqpAdmin, List<Queue> queues, MeterRegistry meterRegistry) {
+        this.amqpAdmin = amqpAdmin;
+        this.queues = queues;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void refresh() {
+        for (Queue queue : queues) {
+            QueueInformation info = amqpAdmin.getQueueInfo(queue.getName());
+            if (info == null) {
+                log.debug("브로커에 큐가 없어 게이지 갱신 생략. queue={}", queue.getName());
+                continue;
+            }
+            QueueGauge gauge = gauges.computeIfAbsent(queue.getName(), this::register);
+            gauge.messages().set(info.getMessageCount());
+            gauge.consumers().set(info.getConsumerCount());
+        }
+    }
+
+    private QueueGauge register(String queueName) {
+        AtomicLong messages = new AtomicLong();
+        AtomicLong consumers = new AtomicLong();
+        Gauge.builder(MESSAGES, messages, AtomicLong::get)
+                .description("큐에 적체된 (미전달) 메시지 수")
+                .tag("queue", queueName)
+                .register(meterRegistry);
+        Gauge.builder(CONSUMERS, consumers, AtomicLong::get)
+                .description("큐 소비자 수")
+                .tag("queue", queueName)
+                .register(meterRegistry);
+        return new QueueGauge(messages, consumers);
+    }
+
+    private record QueueGauge(AtomicLong messages, AtomicLong consumers) {
+    }
+}
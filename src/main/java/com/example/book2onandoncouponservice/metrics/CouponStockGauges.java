@@ -0,0 +1,67 @@
+package com.example.book2onandoncouponservice.metrics;
+
+import com.example.book2onandoncouponservice.entity.CouponPolicyStatus;
+import com.example.book2onandoncouponservice.redis.CouponStockStore;
+import com.example.book2onandoncouponservice.repository.CouponRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+// 진행 중인 선착순 쿠폰별 Redis 재고 게이지
+// 스크랩마다 Redis를 조회하지 않도록 주기적으로(CouponMetricsGaugeScheduler) 값을 갱신하고,
+// 종료된 쿠폰의 게이지는 제거한다
+@Slf4j
+@Component
+public class CouponStockGauges {
+
+    static final String STOCK = "coupon.stock.redis";
+
+    private final CouponRepository couponRepository;
+    private final CouponStockStore couponStockStore;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, StockGauge> gauges = new ConcurrentHashMap<>();
+
+    public CouponStockGauges(CouponRepository couponRepository,
+                             CouponStockStore couponStockStore,
+                             MeterRegistry meterRegistry) {
+        this.couponRepository = couponRepository;
+        this.couponStockStore = couponStockStore;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void refresh() {
+        List<Long> couponIds = couponRepository.findActiveLimitedCouponIds(CouponPolicyStatus.ACTIVE, LocalDate.now());
+        Map<Long, Long> stocks = couponStockStore.stocks(couponIds);
+
+        stocks.forEach((couponId, stock) -> gauges.computeIfAbsent(couponId, this::register).value().set(stock));
+
+        // 종료되었거나 Redis 재고가 사라진 쿠폰
+        gauges.keySet().removeIf(couponId -> {
+            if (stocks.containsKey(couponId)) {
+                return false;
+            }
+            meterRegistry.remove(gauges.get(couponId).gauge());
+            return true;
+        });
+        log.debug("선착순 쿠폰 재고 게이지 갱신. coupons={}", gauges.size());
+    }
+
+    private StockGauge register(Long couponId) {
+        AtomicLong value = new AtomicLong();
+        Gauge gauge = Gauge.builder(STOCK, value, AtomicLong::get)
+                .description("선착순 쿠폰의 Redis 남은 재고")
+                .tag("couponId", String.valueOf(couponId))
+                .register(meterRegistry);
+        return new StockGauge(value, gauge);
+    }
+
+    private record StockGauge(AtomicLong value, Gauge gauge) {
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.book2onandoncouponservice.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// 가상 스레드 모드(spring.threads.virtual.enabled) 진단용
+// 가상 스레드가 synchronized/네이티브 프레임 안에서 블로킹되어 캐리어 스레드를 고정(pinning)하면
+// JFR jdk.VirtualThreadPinned 이벤트를 받아 발생 위치(site)별 시간을 기록하고, 위치마다 첫 1회는 스택을 남긴다
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "coupon.threads.pinning-monitor.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    static final String PINNED = "coupon.vthread.pinned";
+    static final String EVENT_NAME = "jdk.VirtualThreadPinned";
+    static final String UNKNOWN_SITE = "unknown";
+
+    private static final int LOGGED_FRAMES = 12;
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${coupon.threads.pinning-monitor.threshold:20ms}")
+                                       Duration threshold) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = threshold;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (stream != null) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(EVENT_NAME).withThreshold(threshold).withStackTrace();
+        stream.onEvent(EVENT_NAME, this::onPinned);
+        stream.startAsync();
+        log.info("가상 스레드 pinning 감시 시작. threshold={}", threshold);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace == null ? List.of() : stackTrace.getFrames();
+        String site = site(frames);
+
+        Timer.builder(PINNED)
+                .description("가상 스레드가 캐리어 스레드를 고정한 시간")
+                .tag("site", site)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        if (reportedSites.add(site)) {
+            log.warn("가상 스레드 pinning 감지. site={}, duration={}ms\n{}", site, event.getDuration().toMillis(),
+                    frames.stream()
+                            .limit(LOGGED_FRAMES)
+                            .map(VirtualThreadPinningMonitor::frame)
+                            .collect(Collectors.joining("\n\tat ", "\tat ", "")));
+        }
+    }
+
+    // JDK 내부(잠금, 파킹) 프레임을 건너뛴 첫 번째 애플리케이션/라이브러리 프레임
+    static String site(List<RecordedFrame> frames) {
+        return frames.stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(VirtualThreadPinningMonitor::frame)
+                .filter(frame -> !frame.startsWith("java.") && !frame.startsWith("jdk.")
+                        && !frame.startsWith("sun."))
+                .findFirst()
+                .orElse(UNKNOWN_SITE);
+    }
+
+    private static String frame(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.book2onandoncouponservice.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// keyset 페이지네이션의 마지막 행 키를 클라이언트에 넘기는 불투명 토큰
+// 클라이언트는 내용을 해석하지 않고 다음 요청에 그대로 돌려준다 (형식 변경 시 VERSION을 올림)
+public final class CursorCodec {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    private CursorCodec() {
+    }
+
+    public static String encode(Object... keys) {
+        StringBuilder raw = new StringBuilder(VERSION);
+        for (Object key : keys) {
+            raw.append(SEPARATOR).append(key);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 키 개수가 맞지 않거나 해석할 수 없는 토큰은 IllegalArgumentException (400)
+    public static String[] decode(String cursor, int keyCount) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+        String[] parts = raw.split("\\" + SEPARATOR, -1);
+        if (parts.length != keyCount + 1 || !VERSION.equals(parts[0])) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+        String[] keys = new String[keyCount];
+        System.arraycopy(parts, 1, keys, 0, keyCount);
+        return keys;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.book2onandoncouponservice.redis;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// coupon-issue.lua 실행 결과
+@Getter
+@AllArgsConstructor
+public enum CouponIssueResult {
+    ISSUED(0L),
+    DUPLICATE(1L),
+    SOLD_OUT(2L);
+
+    private final long code;
+
+    public static CouponIssueResult fromCode(Long code) {
+        if (code != null) {
+            for (CouponIssueResult result : values()) {
+                if (result.code == code) {
+                    return result;
+                }
+            }
+        }
+        throw new IllegalStateException("알 수 없는 쿠폰 발급 스크립트 결과입니다. code=" + code);
+    }
+}
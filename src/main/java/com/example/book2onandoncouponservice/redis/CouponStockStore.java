@@ -0,0 +1,186 @@
+package com.example.book2onandoncouponservice.redis;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+// 선착순 쿠폰 재고의 Redis 측 상태
+// - 재고 카운터/발급 이력: 발급 게이트(coupon-issue.lua)가 관리
+// - 미반영 차감량: write-behind 모드에서 발급 완료 후 누적, CouponStockReconciler가 DB에 일괄 반영
+// - 대량 발급 수: 발급 게이트를 거치지 않은 발급(관리자 대량 발급)으로 차감한 재고 (불일치 계산용)
+// - 전달 여부 불명 요청: 확인 시간 초과로 끝난 발급 요청, UnconfirmedIssueReconciler가 DB와 대조해 정리
+@Component
+@RequiredArgsConstructor
+public class CouponStockStore {
+
+    // 미반영 차감량이 있는 쿠폰 ID
+    static final String DIRTY_KEY = "coupon:stock:dirty";
+    // 재고 불일치를 감시할 쿠폰 ID (발급 이력이 만료되면 제외)
+    static final String TRACKED_KEY = "coupon:stock:tracked";
+    // 전달 여부를 알 수 없는 발급 요청 (member = "couponId:userId", score = 기록 시각 ms)
+    static final String UNCONFIRMED_KEY = "coupon:issue:unconfirmed";
+
+    // reserve 결과: 재고 부족 / 재고 키 없음
+    public static final long RESERVE_SOLD_OUT = -1L;
+    public static final long RESERVE_UNTRACKED = -2L;
+
+    private static final Duration BULK_ISSUED_TTL = Duration.ofDays(7);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisScript<Long> couponReleaseScript;
+    private final RedisScript<Long> couponStockReserveScript;
+
+    public static String stockKey(Long couponId) {
+        return "coupon:" + couponId + "stock:";
+    }
+
+    public static String usersKey(Long couponId) {
+        return "coupon:" + couponId + "users:";
+    }
+
+    static String pendingKey(Long couponId) {
+        return "coupon:" + couponId + "stock:pending:";
+    }
+
+    static String bulkIssuedKey(Long couponId) {
+        return "coupon:" + couponId + "bulk:";
+    }
+
+    // 발급 실패 시 선점한 재고 반환 (이미 반환된 경우 false)
+    public boolean release(Long couponId, Long userId) {
+        Long released = redisTemplate.execute(couponReleaseScript,
+                List.of(usersKey(couponId), stockKey(couponId)), String.valueOf(userId));
+        return released != null && released == 1L;
+    }
+
+    // 대량 발급분 재고를 한 번에 차감 (차감 후 남은 재고, RESERVE_SOLD_OUT, RESERVE_UNTRACKED)
+    public long reserve(Long couponId, int count) {
+        Long result = redisTemplate.execute(couponStockReserveScript,
+                List.of(stockKey(couponId)), String.valueOf(count));
+        return result == null ? RESERVE_UNTRACKED : result;
+    }
+
+    // reserve로 차감한 재고를 되돌림 (대량 발급 트랜잭션 롤백)
+    public void restock(Long couponId, int count) {
+        redisTemplate.opsForValue().increment(stockKey(couponId), count);
+    }
+
+    // 발급 게이트를 거치지 않고 발급된 수 누적 (발급 이력 Set과 함께 DB 발급 수와 비교)
+    public void recordBulkIssued(Long couponId, int count) {
+        redisTemplate.opsForValue().increment(bulkIssuedKey(couponId), count);
+        redisTemplate.expire(bulkIssuedKey(couponId), BULK_ISSUED_TTL);
+    }
+
+    public long bulkIssuedCount(Long couponId) {
+        String value = redisTemplate.opsForValue().get(bulkIssuedKey(couponId));
+        return value == null ? 0L : Long.parseLong(value);
+    }
+
+    // DB에 아직 반영하지 않은 발급 수량 누적
+    public void recordIssued(Long couponId, long count) {
+        redisTemplate.opsForValue().increment(pendingKey(couponId), count);
+        redisTemplate.opsForSet().add(DIRTY_KEY, String.valueOf(couponId));
+        redisTemplate.opsForSet().add(TRACKED_KEY, String.valueOf(couponId));
+    }
+
+    // 누적된 차감량을 가져오면서 0으로 초기화
+    public long claimPending(Long couponId) {
+        String value = redisTemplate.opsForValue().getAndDelete(pendingKey(couponId));
+        return value == null ? 0L : Long.parseLong(value);
+    }
+
+    // DB 반영 실패 시 다음 주기에 다시 반영하도록 되돌림
+    public void restorePending(Long couponId, long count) {
+        recordIssued(couponId, count);
+    }
+
+    // 관리자가 재고를 직접 지정하면 이전 차감량은 의미가 없어지므로 폐기
+    public void resetPending(Long couponId) {
+        redisTemplate.delete(pendingKey(couponId));
+    }
+
+    public long pending(Long couponId) {
+        String value = redisTemplate.opsForValue().get(pendingKey(couponId));
+        return value == null ? 0L : Long.parseLong(value);
+    }
+
+    // 미반영 차감량이 있는 쿠폰 ID를 꺼낸다 (꺼낸 뒤 누적된 차감량은 다시 등록됨)
+    public Set<Long> drainDirtyCouponIds() {
+        Set<String> members = redisTemplate.opsForSet().members(DIRTY_KEY);
+        if (members == null || members.isEmpty()) {
+            return Set.of();
+        }
+        redisTemplate.opsForSet().remove(DIRTY_KEY, members.toArray());
+        return members.stream().map(Long::valueOf).collect(Collectors.toSet());
+    }
+
+    public Set<Long> trackedCouponIds() {
+        Set<String> members = redisTemplate.opsForSet().members(TRACKED_KEY);
+        if (members == null) {
+            return Set.of();
+        }
+        return members.stream().map(Long::valueOf).collect(Collectors.toSet());
+    }
+
+    public void untrack(Long couponId) {
+        redisTemplate.opsForSet().remove(TRACKED_KEY, String.valueOf(couponId));
+    }
+
+    public void markUnconfirmed(Long couponId, Long userId, long recordedAtMillis) {
+        redisTemplate.opsForZSet().add(UNCONFIRMED_KEY,
+                new UnconfirmedIssue(couponId, userId).member(), recordedAtMillis);
+    }
+
+    // recordedBeforeMillis 이전에 기록된 요청을 오래된 순으로 최대 limit건
+    public List<UnconfirmedIssue> unconfirmedBefore(long recordedBeforeMillis, int limit) {
+        Set<String> members = redisTemplate.opsForZSet()
+                .rangeByScore(UNCONFIRMED_KEY, 0, recordedBeforeMillis, 0, limit);
+        if (members == null) {
+            return List.of();
+        }
+        return members.stream().map(UnconfirmedIssue::fromMember).toList();
+    }
+
+    public void removeUnconfirmed(UnconfirmedIssue issue) {
+        redisTemplate.opsForZSet().remove(UNCONFIRMED_KEY, issue.member());
+    }
+
+    public Long stock(Long couponId) {
+        String value = redisTemplate.opsForValue().get(stockKey(couponId));
+        return value == null ? null : Long.valueOf(value);
+    }
+
+    // 여러 쿠폰의 재고를 MGET 1회로 조회 (재고 키가 없는 쿠폰은 제외)
+    public Map<Long, Long> stocks(Collection<Long> couponIds) {
+        List<Long> ids = List.copyOf(couponIds);
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        List<String> values = redisTemplate.opsForValue()
+                .multiGet(ids.stream().map(CouponStockStore::stockKey).toList());
+        Map<Long, Long> stocks = new HashMap<>();
+        for (int i = 0; values != null && i < ids.size(); i++) {
+            if (values.get(i) != null) {
+                stocks.put(ids.get(i), Long.valueOf(values.get(i)));
+            }
+        }
+        return stocks;
+    }
+
+    public boolean hasIssueHistory(Long couponId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(usersKey(couponId)));
+    }
+
+    public long issuedUserCount(Long couponId) {
+        Long size = redisTemplate.opsForSet().size(usersKey(couponId));
+        return size == null ? 0L : size;
+    }
+}
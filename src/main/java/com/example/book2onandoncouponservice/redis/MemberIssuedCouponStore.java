@@ -0,0 +1,113 @@
+package com.example.book2onandoncouponservice.redis;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+// 회원별 발급받은 쿠폰 ID 집합 (상품 페이지의 "발급 완료" 표시용)
+// 쿠폰 ID가 Snowflake(64bit)라 비트맵 오프셋으로 쓸 수 없어 Set + SMISMEMBER로 화면의 쿠폰만 조회한다
+// 적재 완료 표시(WARM_MARKER)가 없으면 콜드 상태로 보고 DB에서 다시 적재한다
+@Slf4j
+@Component
+public class MemberIssuedCouponStore {
+
+    static final String WARM_MARKER = "warm";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public MemberIssuedCouponStore(StringRedisTemplate redisTemplate,
+                                   @Value("${coupon.member.issued.ttl:1d}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    static String issuedKey(Long userId) {
+        return "coupon:member:" + userId + ":issued";
+    }
+
+    // couponIds 중 발급받은 쿠폰 ID, 콜드 상태거나 Redis 장애면 empty
+    public Optional<Set<Long>> findIssued(Long userId, Collection<Long> couponIds) {
+        List<Object> members = new ArrayList<>(couponIds.size() + 1);
+        members.add(WARM_MARKER);
+        for (Long couponId : couponIds) {
+            members.add(String.valueOf(couponId));
+        }
+
+        Map<Object, Boolean> result;
+        try {
+            result = redisTemplate.opsForSet().isMember(issuedKey(userId), members.toArray());
+        } catch (RuntimeException e) {
+            log.warn("회원 발급 쿠폰 조회 실패. DB 조회로 대체합니다. userId={}", userId, e);
+            return Optional.empty();
+        }
+
+        if (result == null || !Boolean.TRUE.equals(result.get(WARM_MARKER))) {
+            return Optional.empty();
+        }
+
+        Set<Long> issued = new HashSet<>();
+        for (Long couponId : couponIds) {
+            if (Boolean.TRUE.equals(result.get(String.valueOf(couponId)))) {
+                issued.add(couponId);
+            }
+        }
+        return Optional.of(issued);
+    }
+
+    // DB에서 읽은 전체 발급 이력으로 적재 (그 사이 markIssued로 추가된 값은 합집합으로 유지됨)
+    public void warm(Long userId, Collection<Long> couponIds) {
+        String key = issuedKey(userId);
+        String[] members = new String[couponIds.size() + 1];
+        members[0] = WARM_MARKER;
+        int i = 1;
+        for (Long couponId : couponIds) {
+            members[i++] = String.valueOf(couponId);
+        }
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                stringConnection.sAdd(key, members);
+                stringConnection.expire(key, ttl.toSeconds());
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("회원 발급 쿠폰 적재 실패. userId={}", userId, e);
+        }
+    }
+
+    // 발급 커밋 후 호출, 콜드 상태의 키에 추가돼도 WARM_MARKER가 없으므로 다음 조회 때 DB에서 적재된다
+    public void markIssued(Long userId, Long couponId) {
+        markIssued(List.of(userId), couponId);
+    }
+
+    public void markIssued(Collection<Long> userIds, Long couponId) {
+        String member = String.valueOf(couponId);
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (Long userId : userIds) {
+                    String key = issuedKey(userId);
+                    stringConnection.sAdd(key, member);
+                    stringConnection.expire(key, ttl.toSeconds());
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("회원 발급 쿠폰 기록 실패. couponId={}, count={}", couponId, userIds.size(), e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.book2onandoncouponservice.redis;
+
+// 브로커 확인을 받지 못해 발급 큐 전달 여부를 알 수 없는 발급 요청
+public record UnconfirmedIssue(Long couponId, Long userId) {
+
+    String member() {
+        return couponId + ":" + userId;
+    }
+
+    static UnconfirmedIssue fromMember(String member) {
+        int separator = member.indexOf(':');
+        return new UnconfirmedIssue(Long.valueOf(member.substring(0, separator)),
+                Long.valueOf(member.substring(separator + 1)));
+    }
+}
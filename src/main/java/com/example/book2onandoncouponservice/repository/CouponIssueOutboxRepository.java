@@ -0,0 +1,24 @@
+package com.example.book2onandoncouponservice.repository;
+
+import com.example.book2onandoncouponservice.entity.CouponIssueOutbox;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface CouponIssueOutboxRepository extends JpaRepository<CouponIssueOutbox, Long> {
+
+    //릴레이가 전송할 가장 오래된 기록부터 조회
+    @Query("SELECT o FROM CouponIssueOutbox o ORDER BY o.outboxId")
+    List<CouponIssueOutbox> findOldest(Pageable pageable);
+
+    //확인을 받지 못한 기록 표시 (릴레이는 트랜잭션 밖에서 호출)
+    @Transactional
+    @Modifying
+    @Query("UPDATE CouponIssueOutbox o SET o.relayFailed = true WHERE o.outboxId IN :outboxIds")
+    int markRelayFailed(@Param("outboxIds") Collection<Long> outboxIds);
+}
@@ -4,6 +4,8 @@ import com.example.book2onandoncouponservice.entity.CouponPolicy;
 import com.example.book2onandoncouponservice.entity.CouponPolicyDiscountType;
 import com.example.book2onandoncouponservice.entity.CouponPolicyStatus;
 import com.example.book2onandoncouponservice.entity.CouponPolicyType;
+import com.example.book2onandoncouponservice.repository.projection.SystemCouponRow;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -30,6 +32,20 @@ public interface CouponPolicyRepository extends JpaRepository<CouponPolicy, Long
             "AND cp.couponPolicyStatus = 'ACTIVE'")
     Optional<CouponPolicy> findActivePolicyByType(@Param("type") CouponPolicyType type);
 
+    // 타입별 활성 정책과 그 쿠폰 ID를 한 번에 조회 (같은 타입의 활성 정책이 여러 개면 모두 반환)
+    // (정책, 쿠폰)당 한 행이며 쿠폰이 없으면 couponId null 한 행
+    // 엔티티는 정책당 쿠폰 하나(coupon_policy_id 유니크)지만 제약이 없는 DB에서는 한 정책이 여러 행으로 올 수 있다
+    @Query("""
+            SELECT new com.example.book2onandoncouponservice.repository.projection.SystemCouponRow(
+                cp.couponPolicyType, cp.couponPolicyId, c.couponId)
+            FROM CouponPolicy cp
+            LEFT JOIN Coupon c ON c.couponPolicy = cp
+            WHERE cp.couponPolicyType IN :types
+            AND cp.couponPolicyStatus = 'ACTIVE'
+            ORDER BY cp.couponPolicyId, c.couponId
+            """)
+    List<SystemCouponRow> findActiveSystemCoupons(@Param("types") Collection<CouponPolicyType> types);
+
 
     // 주문에게서 받은 bookids, categoryIds를 포함하는 쿠폰 정책 조회
     @Query("SELECT DISTINCT p.couponPolicyId FROM CouponPolicy p " +
@@ -1,8 +1,11 @@
 package com.example.book2onandoncouponservice.repository;
 
 import com.example.book2onandoncouponservice.entity.CouponPolicyTargetBook;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CouponPolicyTargetBookRepository extends JpaRepository<CouponPolicyTargetBook, Long> {
 
@@ -12,4 +15,15 @@ public interface CouponPolicyTargetBookRepository extends JpaRepository<CouponPo
     // 특정 정책의 대상 도서 일괄 삭제
     void deleteByCouponPolicy_CouponPolicyId(Long policyId);
 
-}
\ No newline at end of file
+    // 적용 대상 인덱스(PolicyTargetIndex) 적재용 [정책 ID, 대상 ID] 목록
+    @Query("SELECT b.couponPolicy.couponPolicyId, b.bookId FROM CouponPolicyTargetBook b")
+    List<Object[]> findAllPolicyTargetPairs();
+
+    // 할인 계산기(DiscountEngine) 적재용 - 여러 정책의 [정책 ID, 대상 ID]를 한 번에 조회
+    @Query("SELECT b.couponPolicy.couponPolicyId, b.bookId FROM CouponPolicyTargetBook b "
+            + "WHERE b.couponPolicy.couponPolicyId IN :policyIds")
+    List<Object[]> findPolicyTargetPairsByPolicyIds(@Param("policyIds") Collection<Long> policyIds);
+
+    @Query("SELECT b.bookId FROM CouponPolicyTargetBook b WHERE b.couponPolicy.couponPolicyId = :policyId")
+    List<Long> findBookIdsByPolicyId(@Param("policyId") Long policyId);
+}
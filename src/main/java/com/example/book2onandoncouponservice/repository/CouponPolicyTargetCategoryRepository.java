@@ -1,8 +1,11 @@
 package com.example.book2onandoncouponservice.repository;
 
 import com.example.book2onandoncouponservice.entity.CouponPolicyTargetCategory;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CouponPolicyTargetCategoryRepository extends JpaRepository<CouponPolicyTargetCategory, Long> {
 
@@ -12,4 +15,15 @@ public interface CouponPolicyTargetCategoryRepository extends JpaRepository<Coup
     //특정 정책의 대상 카테고리 일괄 삭제
     void deleteByCouponPolicy_CouponPolicyId(Long policyId);
 
-}
\ No newline at end of file
+    // 적용 대상 인덱스(PolicyTargetIndex) 적재용 [정책 ID, 대상 ID] 목록
+    @Query("SELECT c.couponPolicy.couponPolicyId, c.categoryId FROM CouponPolicyTargetCategory c")
+    List<Object[]> findAllPolicyTargetPairs();
+
+    // 할인 계산기(DiscountEngine) 적재용 - 여러 정책의 [정책 ID, 대상 ID]를 한 번에 조회
+    @Query("SELECT c.couponPolicy.couponPolicyId, c.categoryId FROM CouponPolicyTargetCategory c "
+            + "WHERE c.couponPolicy.couponPolicyId IN :policyIds")
+    List<Object[]> findPolicyTargetPairsByPolicyIds(@Param("policyIds") Collection<Long> policyIds);
+
+    @Query("SELECT c.categoryId FROM CouponPolicyTargetCategory c WHERE c.couponPolicy.couponPolicyId = :policyId")
+    List<Long> findCategoryIdsByPolicyId(@Param("policyId") Long policyId);
+}
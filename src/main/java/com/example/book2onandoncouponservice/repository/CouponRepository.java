@@ -3,8 +3,10 @@ package com.example.book2onandoncouponservice.repository;
 import com.example.book2onandoncouponservice.entity.Coupon;
 import com.example.book2onandoncouponservice.entity.CouponPolicyStatus;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
@@ -12,6 +14,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface CouponRepository extends JpaRepository<Coupon, Long> {
 
@@ -21,6 +24,22 @@ public interface CouponRepository extends JpaRepository<Coupon, Long> {
             "WHERE (:status IS NULL OR p.couponPolicyStatus = :status)")
     Page<Coupon> findAllByPolicyStatus(@Param("status") CouponPolicyStatus status, Pageable pageable);
 
+    //관리자용 keyset 페이지네이션 - 최신(ID 내림차순)부터, count 쿼리 없이 limit = size + 1
+    @Query("SELECT c FROM Coupon c " +
+            "JOIN FETCH c.couponPolicy p " +
+            "WHERE (:status IS NULL OR p.couponPolicyStatus = :status) " +
+            "ORDER BY c.couponId DESC")
+    List<Coupon> findAllByPolicyStatusFirstPage(@Param("status") CouponPolicyStatus status, Limit limit);
+
+    @Query("SELECT c FROM Coupon c " +
+            "JOIN FETCH c.couponPolicy p " +
+            "WHERE (:status IS NULL OR p.couponPolicyStatus = :status) " +
+            "AND c.couponId < :couponId " +
+            "ORDER BY c.couponId DESC")
+    List<Coupon> findAllByPolicyStatusAfter(@Param("status") CouponPolicyStatus status,
+                                            @Param("couponId") Long couponId,
+                                            Limit limit);
+
     @EntityGraph(attributePaths = {"couponPolicy"})
     Optional<Coupon> findById(Long couponId);
 
@@ -32,12 +51,37 @@ public interface CouponRepository extends JpaRepository<Coupon, Long> {
               AND (c.couponPolicy.fixedEndDate IS NULL OR c.couponPolicy.fixedEndDate >= :today)
             """)
     @EntityGraph(attributePaths = {"couponPolicy"})
+    @Transactional(readOnly = true)
     Page<Coupon> findAvailableCoupons(
             @Param("status") CouponPolicyStatus status,
             @Param("today") LocalDate today,
             Pageable pageable
     );
 
+    // 발급 가능 쿠폰 카탈로그(AvailableCouponCatalog) 적재용 - findAvailableCoupons와 같은 조건의 전체 목록
+    @Query("""
+            SELECT c
+            FROM Coupon c
+            WHERE c.couponPolicy.couponPolicyStatus = :status
+              AND (c.couponRemainingQuantity IS NULL OR c.couponRemainingQuantity > 0)
+              AND (c.couponPolicy.fixedEndDate IS NULL OR c.couponPolicy.fixedEndDate >= :today)
+            ORDER BY c.couponId
+            """)
+    @EntityGraph(attributePaths = {"couponPolicy"})
+    List<Coupon> findAvailableCouponList(@Param("status") CouponPolicyStatus status,
+                                         @Param("today") LocalDate today);
+
+    // 진행 중인 선착순(수량 제한) 쿠폰 ID - 재고 지표용
+    @Query("""
+            SELECT c.couponId
+            FROM Coupon c
+            WHERE c.couponRemainingQuantity IS NOT NULL
+              AND c.couponPolicy.couponPolicyStatus = :status
+              AND (c.couponPolicy.fixedEndDate IS NULL OR c.couponPolicy.fixedEndDate >= :today)
+            """)
+    List<Long> findActiveLimitedCouponIds(@Param("status") CouponPolicyStatus status,
+                                          @Param("today") LocalDate today);
+
     //쿠폰정책 ID로 해당 쿠폰을 찾는 메서드
     Optional<Coupon> findByCouponPolicy_CouponPolicyId(Long couponPolicyId);
 
@@ -56,10 +100,34 @@ public interface CouponRepository extends JpaRepository<Coupon, Long> {
     List<Coupon> findAppliableCoupons(@Param("bookId") Long bookId,
                                       @Param("categoryIds") List<Long> categoryIds);
 
+    // 적용 대상 인덱스로 찾은 정책 ID 목록의 쿠폰 조회
+    @Query("SELECT c FROM Coupon c " +
+            "JOIN FETCH c.couponPolicy p " +
+            "WHERE p.couponPolicyId IN :policyIds")
+    List<Coupon> findAllByPolicyIds(@Param("policyIds") Collection<Long> policyIds);
+
     @Modifying(clearAutomatically = true)
     @Query("UPDATE Coupon c SET c.couponRemainingQuantity = c.couponRemainingQuantity - 1 " +
             "WHERE c.couponId = :couponId " +
             "AND c.couponRemainingQuantity > 0 " +
             "AND c.couponRemainingQuantity IS NOT NULL")
     int decreaseRemainingQuantity(@Param("couponId") Long couponId);
-}
\ No newline at end of file
+
+    // 같은 쿠폰에 대한 발급 묶음을 한 번의 조건부 UPDATE로 차감 (재고 정산 스케줄러는 트랜잭션 밖에서 호출)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Coupon c SET c.couponRemainingQuantity = c.couponRemainingQuantity - :amount " +
+            "WHERE c.couponId = :couponId " +
+            "AND c.couponRemainingQuantity >= :amount " +
+            "AND c.couponRemainingQuantity IS NOT NULL")
+    int decreaseRemainingQuantityBy(@Param("couponId") Long couponId, @Param("amount") int amount);
+
+    // 재고 정산에서 차감량이 남은 수량보다 많을 때(초과 발급) 0 아래로 내려가지 않게 차감
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Coupon c SET c.couponRemainingQuantity = " +
+            "CASE WHEN c.couponRemainingQuantity > :amount THEN c.couponRemainingQuantity - :amount ELSE 0 END " +
+            "WHERE c.couponId = :couponId " +
+            "AND c.couponRemainingQuantity IS NOT NULL")
+    int decreaseRemainingQuantityToZero(@Param("couponId") Long couponId, @Param("amount") int amount);
+}
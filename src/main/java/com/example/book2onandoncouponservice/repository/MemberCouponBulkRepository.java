@@ -0,0 +1,156 @@
+package com.example.book2onandoncouponservice.repository;
+
+import com.example.book2onandoncouponservice.entity.MemberCouponStatus;
+import com.example.book2onandoncouponservice.entity.id.IdGenerators;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// 대량 발급용 multi-row INSERT (PK는 엔티티와 동일한 Snowflake 생성기로 채번) / 만료 처리용 PK 구간 bulk UPDATE
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class MemberCouponBulkRepository {
+
+    private static final int ROWS_PER_STATEMENT = 500;
+
+    private static final String INSERT_PREFIX = "INSERT INTO member_coupon "
+            + "(member_coupon_id, user_id, coupon_id, member_coupon_status, member_coupon_issued_date, "
+            + "member_coupon_end_date) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?)";
+
+    // (user_id, coupon_id) 유니크 키와 겹치는 행은 건너뛴다 - MySQL/MariaDB
+    private static final String INSERT_IGNORE_PREFIX = "INSERT IGNORE INTO member_coupon "
+            + "(member_coupon_id, user_id, coupon_id, member_coupon_status, member_coupon_issued_date, "
+            + "member_coupon_end_date) VALUES ";
+
+    // 그 외 DB(H2 테스트 등)는 표준 MERGE로 같은 동작
+    private static final String MERGE_PREFIX = "MERGE INTO member_coupon t USING (VALUES ";
+    private static final String MERGE_ROW_PLACEHOLDER = "(CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS BIGINT), "
+            + "CAST(? AS VARCHAR(20)), CAST(? AS TIMESTAMP), CAST(? AS TIMESTAMP))";
+    private static final String MERGE_SUFFIX = ") AS s(member_coupon_id, user_id, coupon_id, member_coupon_status, "
+            + "member_coupon_issued_date, member_coupon_end_date) "
+            + "ON t.user_id = s.user_id AND t.coupon_id = s.coupon_id "
+            + "WHEN NOT MATCHED THEN INSERT (member_coupon_id, user_id, coupon_id, member_coupon_status, "
+            + "member_coupon_issued_date, member_coupon_end_date) VALUES (s.member_coupon_id, s.user_id, s.coupon_id, "
+            + "s.member_coupon_status, s.member_coupon_issued_date, s.member_coupon_end_date)";
+
+    // (user_id, status, end_date) 인덱스는 user_id 선두라 전역 스캔에 쓸 수 없음 -> PK 순서로 다음 청크의 상한 ID를 찾음
+    private static final String EXPIRE_CHUNK_UPPER_ID_SQL = "SELECT MAX(t.member_coupon_id) FROM ("
+            + "SELECT member_coupon_id FROM member_coupon "
+            + "WHERE member_coupon_id > ? AND member_coupon_id <= ? "
+            + "AND member_coupon_status = ? AND member_coupon_end_date < ? "
+            + "ORDER BY member_coupon_id LIMIT ?) t";
+
+    private static final String EXPIRE_RANGE_SQL = "UPDATE member_coupon SET member_coupon_status = ? "
+            + "WHERE member_coupon_id > ? AND member_coupon_id <= ? "
+            + "AND member_coupon_status = ? AND member_coupon_end_date < ?";
+
+    // Snowflake PK는 시각·노드 비트 때문에 값 구간이 고르지 않음 -> PK 순서로 행 수가 같은 버킷으로 나눠 경계를 구함
+    private static final String ID_QUANTILES_SQL = "SELECT MIN(t.member_coupon_id), MAX(t.member_coupon_id) FROM ("
+            + "SELECT member_coupon_id, NTILE(?) OVER (ORDER BY member_coupon_id) AS bucket FROM member_coupon) t "
+            + "GROUP BY t.bucket ORDER BY t.bucket";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // DB 종류에 따라 최초 호출 시 결정
+    private volatile Boolean insertIgnoreSupported;
+
+    public int insertAll(Long couponId, List<Long> userIds, LocalDateTime issuedDate, LocalDateTime endDate) {
+        int inserted = 0;
+
+        for (int from = 0; from < userIds.size(); from += ROWS_PER_STATEMENT) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + ROWS_PER_STATEMENT, userIds.size()));
+            inserted += jdbcTemplate.update(buildInsertSql(chunk.size()),
+                    buildArgs(couponId, chunk, issuedDate, endDate));
+        }
+        return inserted;
+    }
+
+    // 이미 보유한 사용자(동시 단건 발급 포함)는 건너뛰고 실제로 저장된 행 수를 반환
+    // 호출 전에 보유 여부를 걸러도 청크 사이에 들어온 단건 발급과 겹칠 수 있으므로 유니크 키로 한 번 더 막는다
+    public int insertIgnoreAll(Long couponId, List<Long> userIds, LocalDateTime issuedDate, LocalDateTime endDate) {
+        boolean insertIgnore = isInsertIgnoreSupported();
+        int inserted = 0;
+
+        for (int from = 0; from < userIds.size(); from += ROWS_PER_STATEMENT) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + ROWS_PER_STATEMENT, userIds.size()));
+            String sql = insertIgnore
+                    ? buildSql(INSERT_IGNORE_PREFIX, ROW_PLACEHOLDER, chunk.size(), "")
+                    : buildSql(MERGE_PREFIX, MERGE_ROW_PLACEHOLDER, chunk.size(), MERGE_SUFFIX);
+            inserted += jdbcTemplate.update(sql, buildArgs(couponId, chunk, issuedDate, endDate));
+        }
+        return inserted;
+    }
+
+    private boolean isInsertIgnoreSupported() {
+        Boolean supported = insertIgnoreSupported;
+        if (supported == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            supported = product != null
+                    && (product.equalsIgnoreCase("MySQL") || product.equalsIgnoreCase("MariaDB"));
+            insertIgnoreSupported = supported;
+            log.info("회원 쿠폰 중복 무시 INSERT 방식: db={}, insertIgnore={}", product, supported);
+        }
+        return supported;
+    }
+
+    // PK 순서로 행 수가 (거의) 같은 buckets개 구간의 {min, max} 목록, 행이 buckets보다 적으면 행 수만큼 (파티션 분할용)
+    public List<long[]> findIdQuantiles(int buckets) {
+        return jdbcTemplate.query(ID_QUANTILES_SQL,
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)}, buckets);
+    }
+
+    // (afterId, maxId] 구간에서 만료 대상 chunkSize건을 덮는 마지막 PK, 대상이 없으면 null
+    public Long findExpireChunkUpperId(long afterId, long maxId, LocalDateTime now, int chunkSize) {
+        return jdbcTemplate.queryForObject(EXPIRE_CHUNK_UPPER_ID_SQL, Long.class,
+                afterId, maxId, MemberCouponStatus.NOT_USED.name(), Timestamp.valueOf(now), chunkSize);
+    }
+
+    // (afterId, upperId] 구간의 미사용 만료 쿠폰을 EXPIRED로 일괄 변경
+    public int expireRange(long afterId, long upperId, LocalDateTime now) {
+        return jdbcTemplate.update(EXPIRE_RANGE_SQL,
+                MemberCouponStatus.EXPIRED.name(), afterId, upperId,
+                MemberCouponStatus.NOT_USED.name(), Timestamp.valueOf(now));
+    }
+
+    private String buildInsertSql(int rows) {
+        return buildSql(INSERT_PREFIX, ROW_PLACEHOLDER, rows, "");
+    }
+
+    private static String buildSql(String prefix, String rowPlaceholder, int rows, String suffix) {
+        StringBuilder sql = new StringBuilder(
+                prefix.length() + rows * (rowPlaceholder.length() + 2) + suffix.length());
+        sql.append(prefix);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(rowPlaceholder);
+        }
+        return sql.append(suffix).toString();
+    }
+
+    private Object[] buildArgs(Long couponId, List<Long> userIds, LocalDateTime issuedDate, LocalDateTime endDate) {
+        Timestamp issued = Timestamp.valueOf(issuedDate);
+        Timestamp end = Timestamp.valueOf(endDate);
+
+        List<Object> args = new ArrayList<>(userIds.size() * 6);
+        for (Long userId : userIds) {
+            args.add(IdGenerators.nextId());
+            args.add(userId);
+            args.add(couponId);
+            args.add(MemberCouponStatus.NOT_USED.name());
+            args.add(issued);
+            args.add(end);
+        }
+        return args.toArray();
+    }
+}
@@ -2,9 +2,13 @@ package com.example.book2onandoncouponservice.repository;
 
 import com.example.book2onandoncouponservice.entity.MemberCoupon;
 import com.example.book2onandoncouponservice.entity.MemberCouponStatus;
+import com.example.book2onandoncouponservice.repository.projection.MemberCouponPolicyRow;
+import com.example.book2onandoncouponservice.repository.projection.MemberCouponRow;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -15,15 +19,27 @@ public interface MemberCouponRepository extends JpaRepository<MemberCoupon, Long
 
     boolean existsByUserIdAndCoupon_CouponId(Long userId, Long couponId);
 
+    // 쿠폰별 발급 수 (Redis 발급 이력과의 불일치 감시용)
+    long countByCoupon_CouponId(Long couponId);
+
+    //대량 발급 전 이미 발급받은 유저 조회
+    @Query("SELECT mc.userId FROM MemberCoupon mc " +
+            "WHERE mc.coupon.couponId = :couponId " +
+            "AND mc.userId IN :userIds")
+    List<Long> findIssuedUserIds(@Param("couponId") Long couponId, @Param("userIds") List<Long> userIds);
+
     //특정 user가 보유한 쿠폰 목록 조회
     @Query("SELECT mc.coupon.couponId FROM MemberCoupon mc WHERE mc.userId = :userId")
     List<Long> findAllCouponIdsByUserId(@Param("userId") Long userId);
 
+    // 내 쿠폰 목록 - 엔티티 대신 필요한 컬럼만 프로젝션으로 조회 (영속성 컨텍스트/스냅샷 없음)
     @Query(value = """
-            SELECT mc 
+            SELECT new com.example.book2onandoncouponservice.repository.projection.MemberCouponRow(
+                mc.memberCouponId, cp.couponPolicyName, cp.minPrice, cp.maxPrice, cp.couponDiscountValue,
+                cp.couponPolicyDiscountType, mc.memberCouponStatus, mc.memberCouponEndDate, mc.memberCouponUsedDate)
             FROM MemberCoupon mc
-            JOIN FETCH mc.coupon c
-            JOIN FETCH c.couponPolicy cp
+            JOIN mc.coupon c
+            JOIN c.couponPolicy cp
             WHERE mc.userId = :userId
             AND (:status IS NULL OR mc.memberCouponStatus = :status)
             """,
@@ -33,12 +49,48 @@ public interface MemberCouponRepository extends JpaRepository<MemberCoupon, Long
                     WHERE mc.userId = :userId
                     AND (:status IS NULL OR mc.memberCouponStatus = :status)
                     """)
-    Page<MemberCoupon> findCouponsWithPolicy(
+    Page<MemberCouponRow> findCouponsWithPolicy(
             @Param("userId") Long userId,
             @Param("status") MemberCouponStatus status,
             Pageable pageable
     );
 
+    // keyset 페이지네이션 - (만료일, ID) 순, count 쿼리 없이 limit = size + 1
+    @Query("""
+            SELECT new com.example.book2onandoncouponservice.repository.projection.MemberCouponRow(
+                mc.memberCouponId, cp.couponPolicyName, cp.minPrice, cp.maxPrice, cp.couponDiscountValue,
+                cp.couponPolicyDiscountType, mc.memberCouponStatus, mc.memberCouponEndDate, mc.memberCouponUsedDate)
+            FROM MemberCoupon mc
+            JOIN mc.coupon c
+            JOIN c.couponPolicy cp
+            WHERE mc.userId = :userId
+            AND (:status IS NULL OR mc.memberCouponStatus = :status)
+            ORDER BY mc.memberCouponEndDate, mc.memberCouponId
+            """)
+    List<MemberCouponRow> findCouponsWithPolicyFirstPage(@Param("userId") Long userId,
+                                                         @Param("status") MemberCouponStatus status,
+                                                         Limit limit);
+
+    // 이전 페이지 마지막 행 (endDate, memberCouponId) 다음부터
+    @Query("""
+            SELECT new com.example.book2onandoncouponservice.repository.projection.MemberCouponRow(
+                mc.memberCouponId, cp.couponPolicyName, cp.minPrice, cp.maxPrice, cp.couponDiscountValue,
+                cp.couponPolicyDiscountType, mc.memberCouponStatus, mc.memberCouponEndDate, mc.memberCouponUsedDate)
+            FROM MemberCoupon mc
+            JOIN mc.coupon c
+            JOIN c.couponPolicy cp
+            WHERE mc.userId = :userId
+            AND (:status IS NULL OR mc.memberCouponStatus = :status)
+            AND (mc.memberCouponEndDate > :endDate
+                OR (mc.memberCouponEndDate = :endDate AND mc.memberCouponId > :memberCouponId))
+            ORDER BY mc.memberCouponEndDate, mc.memberCouponId
+            """)
+    List<MemberCouponRow> findCouponsWithPolicyAfter(@Param("userId") Long userId,
+                                                     @Param("status") MemberCouponStatus status,
+                                                     @Param("endDate") LocalDateTime endDate,
+                                                     @Param("memberCouponId") Long memberCouponId,
+                                                     Limit limit);
+
     Optional<MemberCoupon> findByOrderNumber(String orderNumber);
 
     // 쿠폰 정책 id 리스트로 받아서 정책 id에 해당하는 쿠폰 조회
@@ -60,4 +112,17 @@ public interface MemberCouponRepository extends JpaRepository<MemberCoupon, Long
             "JOIN FETCH c.couponPolicy cp " +
             "WHERE mc.memberCouponId = :memberCouponId")
     Optional<MemberCoupon> findByIdWithTargets(@Param("memberCouponId") Long memberCouponId);
+
+    // 쿠폰 적용 대상 일괄 조회 - 회원 쿠폰별 정책 ID와 할인 조건 (대상 도서/카테고리는 PolicyTargetIndex에서)
+    @Query("""
+            SELECT new com.example.book2onandoncouponservice.repository.projection.MemberCouponPolicyRow(
+                mc.memberCouponId, cp.couponPolicyId, cp.minPrice, cp.maxPrice, cp.couponPolicyDiscountType,
+                cp.couponDiscountValue)
+            FROM MemberCoupon mc
+            JOIN mc.coupon c
+            JOIN c.couponPolicy cp
+            WHERE mc.memberCouponId IN :memberCouponIds
+            """)
+    List<MemberCouponPolicyRow> findPolicyRowsByMemberCouponIds(
+            @Param("memberCouponIds") Collection<Long> memberCouponIds);
 }
@@ -0,0 +1,14 @@
+package com.example.book2onandoncouponservice.repository.projection;
+
+import com.example.book2onandoncouponservice.entity.CouponPolicyDiscountType;
+
+// 쿠폰 적용 대상 일괄 조회용 회원 쿠폰 → 정책 할인 조건 프로젝션
+public record MemberCouponPolicyRow(
+        Long memberCouponId,
+        Long couponPolicyId,
+        Integer minPrice,
+        Integer maxPrice,
+        CouponPolicyDiscountType discountType,
+        Integer discountValue
+) {
+}
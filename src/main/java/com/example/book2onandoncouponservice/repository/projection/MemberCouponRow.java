@@ -0,0 +1,19 @@
+package com.example.book2onandoncouponservice.repository.projection;
+
+import com.example.book2onandoncouponservice.entity.CouponPolicyDiscountType;
+import com.example.book2onandoncouponservice.entity.MemberCouponStatus;
+import java.time.LocalDateTime;
+
+// 내 쿠폰 목록 조회용 평면 프로젝션 (엔티티를 영속성 컨텍스트에 올리지 않는다)
+public record MemberCouponRow(
+        Long memberCouponId,
+        String couponName,
+        Integer minPrice,
+        Integer maxPrice,
+        Integer discountValue,
+        CouponPolicyDiscountType discountType,
+        MemberCouponStatus memberCouponStatus,
+        LocalDateTime memberCouponEndDate,
+        LocalDateTime memberCouponUsedDate
+) {
+}
@@ -0,0 +1,11 @@
+package com.example.book2onandoncouponservice.repository.projection;
+
+import com.example.book2onandoncouponservice.entity.CouponPolicyType;
+
+// 시스템 쿠폰(웰컴/생일) 레지스트리 적재용 활성 정책 → 쿠폰 프로젝션 (쿠폰이 없으면 couponId null)
+public record SystemCouponRow(
+        CouponPolicyType couponPolicyType,
+        Long couponPolicyId,
+        Long couponId
+) {
+}
@@ -0,0 +1,36 @@
+package com.example.book2onandoncouponservice.scheduler;
+
+import com.example.book2onandoncouponservice.cache.AvailableCouponCatalog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 인스턴스마다 자기 메모리의 카탈로그를 갱신해야 하므로 ShedLock을 걸지 않는다
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AvailableCouponCatalogScheduler {
+    private final AvailableCouponCatalog availableCouponCatalog;
+
+    // 날짜가 바뀌면 종료일이 지난 정책이 빠진다
+    @Scheduled(cron = "0 0 0 * * *")
+    public void rebuildAtMidnight() {
+        rebuild();
+    }
+
+    // 다른 노드에서 소진된 쿠폰과 남은 수량 반영
+    @Scheduled(fixedDelayString = "${coupon.catalog.refresh-interval-ms:60000}",
+            initialDelayString = "${coupon.catalog.refresh-interval-ms:60000}")
+    public void refresh() {
+        rebuild();
+    }
+
+    private void rebuild() {
+        try {
+            availableCouponCatalog.reloadAll();
+        } catch (Exception e) {
+            log.warn("발급 가능 쿠폰 카탈로그 갱신 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.book2onandoncouponservice.scheduler;
+
+import com.example.book2onandoncouponservice.messaging.publisher.CouponIssueOutboxRelay;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 여러 인스턴스가 같은 outbox 행을 중복 전송하지 않도록 한 인스턴스만 릴레이한다
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "coupon.issue.publisher", havingValue = "outbox")
+public class CouponIssueOutboxRelayScheduler {
+    private final CouponIssueOutboxRelay couponIssueOutboxRelay;
+
+    @Scheduled(fixedDelayString = "${coupon.issue.outbox.relay-interval-ms:200}")
+    @SchedulerLock(
+            name = "coupon_issue_outbox_relay",
+            lockAtMostFor = CouponIssueOutboxRelay.LOCK_AT_MOST_FOR
+    )
+    public void relay() {
+        try {
+            couponIssueOutboxRelay.relay();
+        } catch (Exception e) {
+            log.error("outbox 릴레이 중 오류 발생", e);
+        }
+    }
+}
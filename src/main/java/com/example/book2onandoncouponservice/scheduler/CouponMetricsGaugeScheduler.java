@@ -0,0 +1,33 @@
+package com.example.book2onandoncouponservice.scheduler;
+
+import com.example.book2onandoncouponservice.metrics.CouponQueueGauges;
+import com.example.book2onandoncouponservice.metrics.CouponStockGauges;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 인스턴스마다 자기 MeterRegistry를 갱신해야 하므로 ShedLock을 걸지 않는다
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "coupon.metrics.gauges.enabled", havingValue = "true", matchIfMissing = true)
+public class CouponMetricsGaugeScheduler {
+    private final CouponStockGauges couponStockGauges;
+    private final CouponQueueGauges couponQueueGauges;
+
+    @Scheduled(fixedDelayString = "${coupon.metrics.gauges.refresh-interval-ms:15000}")
+    public void refresh() {
+        try {
+            couponStockGauges.refresh();
+        } catch (Exception e) {
+            log.warn("쿠폰 재고 게이지 갱신 실패: {}", e.getMessage());
+        }
+        try {
+            couponQueueGauges.refresh();
+        } catch (Exception e) {
+            log.warn("큐 적체 게이지 갱신 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.book2onandoncouponservice.scheduler;
+
+import com.example.book2onandoncouponservice.service.impl.CouponStockReconciler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "coupon.stock.write-behind.enabled", havingValue = "true")
+public class CouponStockReconcileScheduler {
+    private final CouponStockReconciler couponStockReconciler;
+
+    @Scheduled(fixedDelayString = "${coupon.stock.reconcile-interval-ms:5000}")
+    @SchedulerLock(
+            name = "coupon_stock_reconcile",
+            lockAtMostFor = "1m"
+    )
+    public void reconcile() {
+        try {
+            couponStockReconciler.reconcile();
+        } catch (Exception e) {
+            log.error("쿠폰 재고 정산 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.book2onandoncouponservice.scheduler;
+
+import com.example.book2onandoncouponservice.service.impl.UnconfirmedIssueReconciler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "coupon.issue.publisher", havingValue = "buffered")
+public class UnconfirmedIssueReconcileScheduler {
+    private final UnconfirmedIssueReconciler unconfirmedIssueReconciler;
+
+    @Scheduled(fixedDelayString = "${coupon.issue.unconfirmed.reconcile-interval-ms:60000}")
+    @SchedulerLock(
+            name = "coupon_issue_unconfirmed_reconcile",
+            lockAtMostFor = "1m"
+    )
+    public void reconcile() {
+        try {
+            unconfirmedIssueReconciler.reconcile();
+        } catch (Exception e) {
+            log.error("전달 여부 불명 발급 요청 정산 중 오류 발생", e);
+        }
+    }
+}
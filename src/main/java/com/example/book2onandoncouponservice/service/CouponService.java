@@ -1,7 +1,9 @@
 package com.example.book2onandoncouponservice.service;
 
 import com.example.book2onandoncouponservice.dto.request.CouponCreateRequestDto;
+import com.example.book2onandoncouponservice.dto.response.AvailableCouponPageDto;
 import com.example.book2onandoncouponservice.dto.response.CouponResponseDto;
+import com.example.book2onandoncouponservice.dto.response.CursorPageResponseDto;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -15,15 +17,28 @@ public interface CouponService {
     //관리자용 모든 쿠폰 목록 조회
     Page<CouponResponseDto> getCoupons(Pageable pageable, String status);
 
+    //관리자용 쿠폰 목록 커서 조회 (최신순, count 없음)
+    CursorPageResponseDto<CouponResponseDto> getCouponsByCursor(String cursor, int size, String status);
+
     //특정 쿠폰 조회
     CouponResponseDto getCouponDetail(Long couponUnitId);
 
     //사용자용 발급가능한 쿠폰 목록 조회
-    Page<CouponResponseDto> getAvailableCoupon(Pageable pageable);
+    // 정렬 조건이 없으면 카탈로그 스냅샷에서 응답하고 ETag를 함께 준다 (정렬 요청이나 적재 전에는 DB 조회, etag null)
+    AvailableCouponPageDto getAvailableCoupon(Pageable pageable);
 
     //사용자 쿠폰 발급
     Long issueMemberCoupon(Long userId, Long couponUnitId);
 
+    //Redis 발급 게이트에서 재고를 선점한 사용자 쿠폰 발급 (발급 대기열 소비자용)
+    Long issueReservedMemberCoupon(Long userId, Long couponId);
+
+    //사용자 쿠폰 대량 발급 (중복으로 발급되지 않은 userId 목록 반환)
+    List<Long> issueMemberCoupons(Long couponId, List<Long> userIds);
+
+    //대량 발급 Job 청크 발급 (이미 보유한 사용자는 건너뛰고 실제 발급 수 반환, 재고는 발급 수만큼 한 번에 차감)
+    int issueMemberCouponsChunk(Long couponId, List<Long> userIds);
+
     //쿠폰 수량 업데이트
     Integer updateAccount(Long couponId, Integer account);
 
@@ -33,6 +48,9 @@ public interface CouponService {
     //생일쿠폰 지급
     void issueBirthdayCoupon(Long userId);
 
+    //생일쿠폰 ID (대상자 묶음 발급 시 정책/쿠폰을 한 번만 조회)
+    Long getBirthdayCouponId();
+
     //적용가능한 쿠폰 확인
     @Transactional(readOnly = true)
     List<CouponResponseDto> getIssuableCoupons(Long userId, Long bookId, List<Long> categoryIds);
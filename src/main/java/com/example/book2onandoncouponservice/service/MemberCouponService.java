@@ -1,8 +1,12 @@
 package com.example.book2onandoncouponservice.service;
 
 
+import com.example.book2onandoncouponservice.dto.request.CouponDiscountRequestDto;
 import com.example.book2onandoncouponservice.dto.request.OrderCouponCheckRequestDto;
+import com.example.book2onandoncouponservice.dto.response.CouponDiscountResponseDto;
+import com.example.book2onandoncouponservice.dto.response.CouponTargetBulkResponseDto;
 import com.example.book2onandoncouponservice.dto.response.CouponTargetResponseDto;
+import com.example.book2onandoncouponservice.dto.response.CursorPageResponseDto;
 import com.example.book2onandoncouponservice.dto.response.MemberCouponResponseDto;
 import java.util.List;
 import org.springframework.data.domain.Page;
@@ -14,6 +18,10 @@ public interface MemberCouponService {
     @Transactional(readOnly = true)
     Page<MemberCouponResponseDto> getMyCoupon(Long userId, Pageable pageable, String status);
 
+    //내 쿠폰 목록 커서 조회 (만료일 빠른 순, count 없음)
+    CursorPageResponseDto<MemberCouponResponseDto> getMyCouponsByCursor(Long userId, String cursor, int size,
+                                                                       String status);
+
     //쿠폰 사용
     void useMemberCoupon(Long memberCouponId, Long userId, String orderNumber);
 
@@ -22,6 +30,12 @@ public interface MemberCouponService {
 
     List<MemberCouponResponseDto> getUsableCoupons(Long userId, OrderCouponCheckRequestDto requestDto);
 
+    //주문 장바구니 기준 사용 가능 쿠폰별 할인 금액과 최적 쿠폰
+    CouponDiscountResponseDto calculateDiscounts(Long userId, CouponDiscountRequestDto requestDto);
+
     @Transactional(readOnly = true)
     CouponTargetResponseDto getCouponTargets(Long memberCouponId);
-}
\ No newline at end of file
+
+    //여러 회원 쿠폰의 적용 대상을 정책별로 묶어 일괄 조회
+    CouponTargetBulkResponseDto getCouponTargets(List<Long> memberCouponIds);
+}
@@ -0,0 +1,154 @@
+package com.example.book2onandoncouponservice.service.impl;
+
+import com.example.book2onandoncouponservice.config.CouponBulkIssueJobConfig;
+import com.example.book2onandoncouponservice.dto.response.BulkIssueJobResponseDto;
+import com.example.book2onandoncouponservice.exception.CouponNotFoundException;
+import com.example.book2onandoncouponservice.repository.CouponRepository;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.JobParametersInvalidException;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+// 대량 발급 Job 실행/조회 (관리자 API용)
+// 요청 스레드를 잡아두지 않도록 전용 스레드에서 비동기로 실행하고 실행 ID를 바로 돌려준다
+// 같은 쿠폰 + 같은 대상(파일 내용 해시 또는 ID 구간)은 같은 JobInstance라서
+// 실패한 실행은 다시 요청하면 이어서 처리되고, 완료된 대상은 다시 발급되지 않는다
+@Slf4j
+@Service
+public class CouponBulkIssueService {
+
+    private final Job couponBulkIssueJob;
+    private final JobExplorer jobExplorer;
+    private final CouponRepository couponRepository;
+    private final Path uploadDir;
+    private final ThreadPoolTaskExecutor executor;
+    private final TaskExecutorJobLauncher jobLauncher;
+
+    public CouponBulkIssueService(@Qualifier(CouponBulkIssueJobConfig.JOB_NAME) Job couponBulkIssueJob,
+                                  JobRepository jobRepository,
+                                  JobExplorer jobExplorer,
+                                  CouponRepository couponRepository,
+                                  @Value("${coupon.bulk-issue.upload-dir:${java.io.tmpdir}/coupon-bulk-issue}")
+                                  String uploadDir,
+                                  @Value("${coupon.bulk-issue.threads:1}") int threads) throws Exception {
+        this.couponBulkIssueJob = couponBulkIssueJob;
+        this.jobExplorer = jobExplorer;
+        this.couponRepository = couponRepository;
+        this.uploadDir = Path.of(uploadDir);
+
+        // 애플리케이션 기본 TaskExecutor/JobLauncher를 대체하지 않도록 Bean으로 등록하지 않음
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("coupon-bulk-issue-");
+        executor.initialize();
+
+        this.jobLauncher = new TaskExecutorJobLauncher();
+        jobLauncher.setJobRepository(jobRepository);
+        jobLauncher.setTaskExecutor(executor);
+        jobLauncher.afterPropertiesSet();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public BulkIssueJobResponseDto launchRange(Long couponId, long fromUserId, long toUserId) {
+        if (fromUserId > toUserId) {
+            throw new IllegalArgumentException("fromUserId는 toUserId보다 클 수 없습니다.");
+        }
+        return launch(couponId, new JobParametersBuilder()
+                .addLong(CouponBulkIssueJobConfig.COUPON_ID, couponId)
+                .addLong(CouponBulkIssueJobConfig.FROM_USER_ID, fromUserId)
+                .addLong(CouponBulkIssueJobConfig.TO_USER_ID, toUserId)
+                .toJobParameters());
+    }
+
+    // 업로드 파일은 재시작 때 다시 읽어야 하므로 내용 해시 이름으로 보관
+    // (재시작은 파일을 받은 인스턴스에서 처리되어야 하므로 업로드 디렉터리는 공유 볼륨 권장)
+    public BulkIssueJobResponseDto launchFile(Long couponId, MultipartFile file) {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("사용자 ID 파일이 비어 있습니다.");
+        }
+        Path stored = store(couponId, file);
+        return launch(couponId, new JobParametersBuilder()
+                .addLong(CouponBulkIssueJobConfig.COUPON_ID, couponId)
+                .addString(CouponBulkIssueJobConfig.USER_ID_FILE, stored.toString())
+                .toJobParameters());
+    }
+
+    public Optional<BulkIssueJobResponseDto> find(Long jobExecutionId) {
+        return Optional.ofNullable(jobExplorer.getJobExecution(jobExecutionId))
+                .filter(execution -> CouponBulkIssueJobConfig.JOB_NAME.equals(execution.getJobInstance().getJobName()))
+                .map(BulkIssueJobResponseDto::new);
+    }
+
+    private BulkIssueJobResponseDto launch(Long couponId, JobParameters parameters) {
+        if (!couponRepository.existsById(couponId)) {
+            log.warn("대량 발급 실패: 존재하지 않는 쿠폰. couponId={}", couponId);
+            throw new CouponNotFoundException();
+        }
+
+        try {
+            JobExecution execution = jobLauncher.run(couponBulkIssueJob, parameters);
+            log.info("쿠폰 대량 발급 Job 시작. couponId={}, jobExecutionId={}, parameters={}",
+                    couponId, execution.getId(), parameters);
+            return new BulkIssueJobResponseDto(execution);
+        } catch (JobExecutionAlreadyRunningException e) {
+            throw new IllegalStateException("같은 대상의 대량 발급이 이미 진행 중입니다.");
+        } catch (JobInstanceAlreadyCompleteException e) {
+            throw new IllegalStateException("같은 대상의 대량 발급이 이미 완료되었습니다.");
+        } catch (JobRestartException | JobParametersInvalidException e) {
+            log.warn("쿠폰 대량 발급 Job 실행 불가. couponId={}, reason={}", couponId, e.getMessage());
+            throw new IllegalArgumentException("대량 발급을 실행할 수 없습니다: " + e.getMessage());
+        }
+    }
+
+    private Path store(Long couponId, MultipartFile file) {
+        try {
+            Files.createDirectories(uploadDir);
+            Path temp = Files.createTempFile(uploadDir, "upload-", ".tmp");
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream in = file.getInputStream();
+                 OutputStream out = new DigestOutputStream(Files.newOutputStream(temp), digest)) {
+                in.transferTo(out);
+            }
+            Path target = uploadDir.resolve(
+                    "coupon-" + couponId + "-" + HexFormat.of().formatHex(digest.digest()) + ".txt");
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return target;
+        } catch (IOException e) {
+            throw new UncheckedIOException("사용자 ID 파일 저장 실패", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
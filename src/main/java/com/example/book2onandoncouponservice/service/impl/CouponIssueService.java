@@ -1,16 +1,22 @@
 package com.example.book2onandoncouponservice.service.impl;
 
-import com.example.book2onandoncouponservice.config.RabbitConfig;
-import com.example.book2onandoncouponservice.entity.Coupon;
+import com.example.book2onandoncouponservice.cache.AvailableCouponCatalog;
+import com.example.book2onandoncouponservice.cache.CouponSnapshot;
+import com.example.book2onandoncouponservice.cache.CouponSnapshotCache;
 import com.example.book2onandoncouponservice.exception.CouponErrorCode;
 import com.example.book2onandoncouponservice.exception.CouponIssueException;
 import com.example.book2onandoncouponservice.messaging.CouponIssueMessage;
-import com.example.book2onandoncouponservice.repository.CouponRepository;
+import com.example.book2onandoncouponservice.messaging.publisher.CouponIssuePublisher;
+import com.example.book2onandoncouponservice.metrics.CouponMetrics;
+import com.example.book2onandoncouponservice.redis.CouponIssueResult;
+import com.example.book2onandoncouponservice.redis.CouponStockStore;
 import com.example.book2onandoncouponservice.service.CouponService;
+import java.time.Duration;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -19,60 +25,68 @@ import org.springframework.stereotype.Service;
 public class CouponIssueService {
 
     private final StringRedisTemplate redisTemplate;
-    private final RabbitTemplate rabbitTemplate;
-    private final CouponRepository couponRepository;
+    private final CouponIssuePublisher couponIssuePublisher;
+    private final CouponSnapshotCache couponSnapshotCache;
     private final CouponService couponService;
-    private static final long FIXED_ISSUE_HISTORY_TTL_DAYS = 7;
+    private final RedisScript<Long> couponIssueScript;
+    private final CouponStockStore couponStockStore;
+    private final CouponMetrics couponMetrics;
+    private final AvailableCouponCatalog availableCouponCatalog;
+    private static final Duration ISSUE_HISTORY_TTL = Duration.ofDays(7);
 
     public boolean issueRequest(Long userId, Long couponId) {
+        return couponMetrics.record(CouponMetrics.Operation.ISSUE_REQUEST, couponId,
+                () -> requestIssue(userId, couponId));
+    }
+
+    private boolean requestIssue(Long userId, Long couponId) {
 
-        Coupon coupon = couponRepository.findById(couponId)
+        CouponSnapshot coupon = couponSnapshotCache.find(couponId)
                 .orElseThrow(() -> new CouponIssueException(CouponErrorCode.COUPON_NOT_FOUND));
 
-        if (!coupon.getCouponPolicy().isIssuable()) {
-            log.warn("발급 불가능한 정책. policyId={}, userId={}", coupon.getCouponPolicy().getCouponPolicyId(), userId);
+        if (!coupon.issuable()) {
+            log.warn("발급 불가능한 정책. policyId={}, userId={}", coupon.policyId(), userId);
             throw new CouponIssueException(CouponErrorCode.POLICY_NOT_ISSUABLE);
         }
 
-        boolean isLimited = coupon.getCouponRemainingQuantity() != null;
+        boolean isLimited = coupon.limited();
 
         if (!isLimited) {
             couponService.issueMemberCoupon(userId, couponId);
             return true;
         }
 
-        String issueKey = "coupon:" + couponId + "users:";
-        Long isAdded = redisTemplate.opsForSet().add(issueKey, String.valueOf(userId));
+        String issueKey = CouponStockStore.usersKey(couponId);
+        String stockKey = CouponStockStore.stockKey(couponId);
 
-        redisTemplate.expire(issueKey, java.time.Duration.ofDays(FIXED_ISSUE_HISTORY_TTL_DAYS));
+        // 중복 검사 + 재고 차감 + 이력 기록을 한 번의 스크립트 호출로 판정 (보상 쓰기 불필요)
+        Long resultCode = redisTemplate.execute(couponIssueScript, List.of(issueKey, stockKey),
+                String.valueOf(userId), String.valueOf(ISSUE_HISTORY_TTL.toSeconds()));
+        CouponIssueResult result = CouponIssueResult.fromCode(resultCode);
 
-        if (isAdded != null && isAdded == 0) {
+        if (result == CouponIssueResult.DUPLICATE) {
             throw new CouponIssueException(CouponErrorCode.COUPON_ALREADY_ISSUED);
         }
 
-        String stockKey = "coupon:" + couponId + "stock:";
-        Long stock = redisTemplate.opsForValue().decrement(stockKey);
-
-        if (stock != null && stock < 0) {
+        if (result == CouponIssueResult.SOLD_OUT) {
             log.info("쿠폰 재고 소진. userId={}, couponId={}", userId, couponId);
-
-            redisTemplate.opsForSet().remove(issueKey, String.valueOf(userId));
-            redisTemplate.opsForValue().increment(stockKey);
-
+            availableCouponCatalog.onSoldOut(couponId);
             throw new CouponIssueException(CouponErrorCode.COUPON_OUT_OF_STOCK);
         }
 
         try {
-            CouponIssueMessage message = new CouponIssueMessage(userId, couponId);
-            rabbitTemplate.convertAndSend(RabbitConfig.COUPON_EXCHANGE, RabbitConfig.ROUTING_KEY_ISSUE, message);
+            couponIssuePublisher.publish(new CouponIssueMessage(userId, couponId));
 
             log.info("쿠폰 발급 요청 접수 완료. userId={}, couponId={}", userId, couponId);
+        } catch (CouponIssueException e) {
+            // 전송 버퍼가 가득 찬 경우 (back-pressure) - 재고를 되돌리고 그대로 알린다
+            couponStockStore.release(couponId, userId);
+            throw e;
         } catch (Exception e) {
 
-            redisTemplate.opsForSet().remove(issueKey, String.valueOf(userId));
-            redisTemplate.opsForValue().increment(stockKey);
+            couponStockStore.release(couponId, userId);
 
-            log.error("메시지 큐 전송 에러. userId={}, couponId={}", userId, couponId, e);
+            log.error("발급 요청 전송 에러. userId={}, couponId={}", userId, couponId, e);
             throw new CouponIssueException(CouponErrorCode.FAIL_TO_ISSUE_COUPON);
         }
         return false;
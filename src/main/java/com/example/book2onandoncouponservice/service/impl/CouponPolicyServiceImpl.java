@@ -1,5 +1,6 @@
 package com.example.book2onandoncouponservice.service.impl;
 
+import com.example.book2onandoncouponservice.cache.CacheInvalidationBus;
 import com.example.book2onandoncouponservice.dto.request.CouponPolicyRequestDto;
 import com.example.book2onandoncouponservice.dto.request.CouponPolicyUpdateRequestDto;
 import com.example.book2onandoncouponservice.dto.response.CouponPolicyResponseDto;
@@ -30,6 +31,7 @@ public class CouponPolicyServiceImpl implements CouponPolicyService {
     private final CouponPolicyRepository couponPolicyRepository;
     private final CouponPolicyTargetBookRepository targetBookRepository;
     private final CouponPolicyTargetCategoryRepository targetCategoryRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
 
     //쿠폰정책 조회 Pageable
     @Transactional(readOnly = true)
@@ -94,6 +96,7 @@ public class CouponPolicyServiceImpl implements CouponPolicyService {
 
         saveTargetBooks(savedPolicy, requestDto.getTargetBookIds());
         saveTargetCategories(savedPolicy, requestDto.getTargetCategoryIds());
+        cacheInvalidationBus.publishPolicyChanged(savedPolicy.getCouponPolicyId());
 
         log.info("쿠폰 정책 생성 완료. policyId={}", savedPolicy.getCouponPolicyId());
         return savedPolicy.getCouponPolicyId();
@@ -132,6 +135,7 @@ public class CouponPolicyServiceImpl implements CouponPolicyService {
             targetCategoryRepository.deleteByCouponPolicy_CouponPolicyId(couponPolicyId);
             saveTargetCategories(couponPolicy, requestDto.getTargetCategoryIds());
         }
+        cacheInvalidationBus.publishPolicyChanged(couponPolicyId);
         log.info("쿠폰 정책 수정 완료. policyId={}", couponPolicyId);
     }
 
@@ -149,6 +153,7 @@ public class CouponPolicyServiceImpl implements CouponPolicyService {
                 });
 
         couponPolicy.deActive();
+        cacheInvalidationBus.publishPolicyChanged(couponPolicyId);
         log.info("쿠폰 정책 비활성화 완료. policyId={}", couponPolicyId);
     }
 
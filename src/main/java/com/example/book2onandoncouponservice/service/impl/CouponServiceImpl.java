@@ -1,7 +1,15 @@
 package com.example.book2onandoncouponservice.service.impl;
 
+import com.example.book2onandoncouponservice.cache.AvailableCouponCatalog;
+import com.example.book2onandoncouponservice.cache.CacheInvalidationBus;
+import com.example.book2onandoncouponservice.cache.CouponSnapshot;
+import com.example.book2onandoncouponservice.cache.CouponSnapshotCache;
+import com.example.book2onandoncouponservice.cache.PolicyTargetIndex;
+import com.example.book2onandoncouponservice.cache.SystemCouponRegistry;
 import com.example.book2onandoncouponservice.dto.request.CouponCreateRequestDto;
+import com.example.book2onandoncouponservice.dto.response.AvailableCouponPageDto;
 import com.example.book2onandoncouponservice.dto.response.CouponResponseDto;
+import com.example.book2onandoncouponservice.dto.response.CursorPageResponseDto;
 import com.example.book2onandoncouponservice.entity.Coupon;
 import com.example.book2onandoncouponservice.entity.CouponPolicy;
 import com.example.book2onandoncouponservice.entity.CouponPolicyStatus;
@@ -11,12 +19,18 @@ import com.example.book2onandoncouponservice.exception.CouponErrorCode;
 import com.example.book2onandoncouponservice.exception.CouponIssueException;
 import com.example.book2onandoncouponservice.exception.CouponNotFoundException;
 import com.example.book2onandoncouponservice.exception.CouponPolicyNotFoundException;
+import com.example.book2onandoncouponservice.metrics.CouponMetrics;
+import com.example.book2onandoncouponservice.pagination.CursorCodec;
+import com.example.book2onandoncouponservice.redis.CouponStockStore;
+import com.example.book2onandoncouponservice.redis.MemberIssuedCouponStore;
 import com.example.book2onandoncouponservice.repository.CouponPolicyRepository;
 import com.example.book2onandoncouponservice.repository.CouponRepository;
+import com.example.book2onandoncouponservice.repository.MemberCouponBulkRepository;
 import com.example.book2onandoncouponservice.repository.MemberCouponRepository;
 import com.example.book2onandoncouponservice.service.CouponService;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -24,6 +38,8 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.redis.core.StringRedisTemplate;
@@ -40,7 +56,22 @@ public class CouponServiceImpl implements CouponService {
     private final CouponPolicyRepository policyRepository;
     private final CouponRepository couponRepository;
     private final MemberCouponRepository memberCouponRepository;
+    private final MemberCouponBulkRepository memberCouponBulkRepository;
     private final StringRedisTemplate redisTemplate;
+    private final PolicyTargetIndex policyTargetIndex;
+    private final AvailableCouponCatalog availableCouponCatalog;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final CouponStockStore couponStockStore;
+    private final CouponSnapshotCache couponSnapshotCache;
+    private final MemberIssuedCouponStore memberIssuedCouponStore;
+    private final CouponMetrics couponMetrics;
+    private final SystemCouponRegistry systemCouponRegistry;
+
+    private static final int CURSOR_PAGE_MAX_SIZE = 100;
+
+    // 선착순 쿠폰 재고를 Redis 기준으로 두고 DB에는 주기적으로 일괄 반영 (CouponStockReconciler)
+    @Value("${coupon.stock.write-behind.enabled:false}")
+    private boolean stockWriteBehind;
 
     @Transactional
     @Override
@@ -79,6 +110,7 @@ public class CouponServiceImpl implements CouponService {
         } else {
             log.debug("무제한 쿠폰이므로 Redis 재고 초기화를 건너뜁니다. couponId={}", savedCoupon.getCouponId());
         }
+        cacheInvalidationBus.publishCouponChanged(savedCoupon.getCouponId());
 
         log.debug("쿠폰 생성 완료. generatedCouponId={}", savedCoupon.getCouponId());
         return savedCoupon.getCouponId();
@@ -91,22 +123,52 @@ public class CouponServiceImpl implements CouponService {
 
         log.debug("전체 쿠폰 목록 조회 요청. page={}, size={}, status={}", pageable.getPageNumber(), pageable.getPageSize(),
                 status);
-        CouponPolicyStatus policyStatus = null;
+        CouponPolicyStatus policyStatus = parsePolicyStatus(status);
+
+        Page<Coupon> coupons = couponRepository.findAllByPolicyStatus(policyStatus, pageable);
+        log.debug("전체 쿠폰 목록 조회 완료. totalElements={}", coupons.getTotalElements());
+
+        return coupons.map(CouponResponseDto::new);
+    }
+
+    // 전체 쿠폰 커서 조회
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPageResponseDto<CouponResponseDto> getCouponsByCursor(String cursor, int size, String status) {
 
+        log.debug("전체 쿠폰 목록 커서 조회 요청. size={}, status={}", size, status);
+        CouponPolicyStatus policyStatus = parsePolicyStatus(status);
+        int pageSize = Math.clamp(size, 1, CURSOR_PAGE_MAX_SIZE);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Coupon> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = couponRepository.findAllByPolicyStatusFirstPage(policyStatus, limit);
+        } else {
+            Long couponId;
+            try {
+                couponId = Long.valueOf(CursorCodec.decode(cursor, 1)[0]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            rows = couponRepository.findAllByPolicyStatusAfter(policyStatus, couponId, limit);
+        }
+
+        return CursorPageResponseDto.of(rows, pageSize, CouponResponseDto::new,
+                last -> CursorCodec.encode(last.getCouponId()));
+    }
+
+    private CouponPolicyStatus parsePolicyStatus(String status) {
         if (status != null && !status.isEmpty() && !status.equals("ALL")) {
             try {
-                policyStatus = CouponPolicyStatus.valueOf(status);
+                return CouponPolicyStatus.valueOf(status);
             } catch (IllegalArgumentException e) {
                 log.warn("유효하지 않은 쿠폰 상태 검색어: {}", status);
             }
         }
-        Page<Coupon> coupons = couponRepository.findAllByPolicyStatus(policyStatus, pageable);
-        log.debug("전체 쿠폰 목록 조회 완료. totalElements={}", coupons.getTotalElements());
-
-        return coupons.map(CouponResponseDto::new);
+        return null;
     }
 
-
     // 쿠폰 상세 조회
     @Override
     public CouponResponseDto getCouponDetail(Long couponId) {
@@ -116,35 +178,50 @@ public class CouponServiceImpl implements CouponService {
         return new CouponResponseDto(coupon);
     }
 
-    @Transactional(readOnly = true)
+    // 카탈로그 적중 시에는 DB를 쓰지 않으므로 트랜잭션 없이 반환하고, 정렬 요청/카탈로그 미적재 시에만 조회 트랜잭션을 연다
     @Override
-    public Page<CouponResponseDto> getAvailableCoupon(Pageable pageable) {
+    public AvailableCouponPageDto getAvailableCoupon(Pageable pageable) {
 
         log.debug("발급 가능(다운로드용) 쿠폰 목록 조회 요청. page={}", pageable.getPageNumber());
+        if (pageable.getSort().isUnsorted() && availableCouponCatalog.isReady()) {
+            return availableCouponCatalog.page(pageable);
+        }
+
         LocalDate today = LocalDate.now();
         Page<Coupon> coupons = couponRepository.findAvailableCoupons(
                 CouponPolicyStatus.ACTIVE,
                 today,
                 pageable
         );
-        return coupons.map(CouponResponseDto::new);
+        return new AvailableCouponPageDto(coupons.map(CouponResponseDto::new), null);
     }
 
     @Transactional
     @Override
     public Long issueMemberCoupon(Long userId, Long couponId) {
+        return couponMetrics.record(CouponMetrics.Operation.ISSUE, couponId,
+                () -> issue(userId, couponId, false));
+    }
 
-        Coupon coupon = couponRepository.findById(couponId)
+    @Transactional
+    @Override
+    public Long issueReservedMemberCoupon(Long userId, Long couponId) {
+        return couponMetrics.record(CouponMetrics.Operation.ISSUE, couponId,
+                () -> issue(userId, couponId, stockWriteBehind));
+    }
+
+    // deferStockUpdate: DB 재고 차감을 건너뛰고 Redis에 미반영 차감량으로 누적
+    private Long issue(Long userId, Long couponId, boolean deferStockUpdate) {
+
+        CouponSnapshot coupon = couponSnapshotCache.find(couponId)
                 .orElseThrow(() -> {
                             log.error("존재하지 않는 쿠폰. couponId={}", couponId);
                             return new CouponNotFoundException();
                         }
                 );
 
-        CouponPolicy policy = coupon.getCouponPolicy();
-
-        if (!policy.isIssuable()) {
-            log.warn("발급 기간이 아니거나 비활성화된 정책. policyId={}, userId={}", policy.getCouponPolicyId(), userId);
+        if (!coupon.issuable()) {
+            log.warn("발급 기간이 아니거나 비활성화된 정책. policyId={}, userId={}", coupon.policyId(), userId);
             throw new CouponIssueException(CouponErrorCode.POLICY_NOT_ISSUABLE);
         }
 
@@ -153,32 +230,138 @@ public class CouponServiceImpl implements CouponService {
             throw new CouponIssueException(CouponErrorCode.COUPON_ALREADY_ISSUED);
         }
 
-        if (coupon.getCouponRemainingQuantity() != null) {
-            int updatedRows = couponRepository.decreaseRemainingQuantity(couponId);
+        if (coupon.limited()) {
+            if (deferStockUpdate) {
+                recordIssuedAfterCommit(couponId, 1);
+            } else {
+                int updatedRows = couponRepository.decreaseRemainingQuantity(couponId);
 
-            if (updatedRows == 0) {
-                log.error("DB 재고 차감 실패 - 이미 소진됨. couponId={}", couponId);
-                throw new CouponIssueException(CouponErrorCode.COUPON_OUT_OF_STOCK);
+                if (updatedRows == 0) {
+                    log.error("DB 재고 차감 실패 - 이미 소진됨. couponId={}", couponId);
+                    throw new CouponIssueException(CouponErrorCode.COUPON_OUT_OF_STOCK);
+                }
             }
         }
 
         LocalDateTime now = LocalDateTime.now();
-        LocalDateTime endDate = calculateExpirationDate(policy, now);
+        LocalDateTime endDate = calculateExpirationDate(
+                coupon.fixedEndDate(), coupon.durationDays(), coupon.policyId(), now);
 
+        // 스냅샷으로 검증했으므로 쿠폰 행은 조회하지 않고 FK 참조만 사용
         MemberCoupon memberCoupon = new MemberCoupon(
                 userId,
-                coupon,
+                couponRepository.getReferenceById(couponId),
                 now,
                 endDate
         );
 
         MemberCoupon savedMemberCoupon = memberCouponRepository.save(memberCoupon);
+        afterCommit(() -> memberIssuedCouponStore.markIssued(userId, couponId));
         log.info("회원 쿠폰 발급 성공. memberCouponId={}, userId={}, expirationDate={}",
                 savedMemberCoupon.getMemberCouponId(), userId, endDate);
 
         return savedMemberCoupon.getMemberCouponId();
     }
 
+    @Transactional
+    @Override
+    public List<Long> issueMemberCoupons(Long couponId, List<Long> userIds) {
+
+        Coupon coupon = couponRepository.findById(couponId)
+                .orElseThrow(() -> {
+                            log.error("존재하지 않는 쿠폰. couponId={}", couponId);
+                            return new CouponNotFoundException();
+                        }
+                );
+
+        CouponPolicy policy = coupon.getCouponPolicy();
+
+        if (!policy.isIssuable()) {
+            log.warn("발급 기간이 아니거나 비활성화된 정책. policyId={}, count={}", policy.getCouponPolicyId(), userIds.size());
+            throw new CouponIssueException(CouponErrorCode.POLICY_NOT_ISSUABLE);
+        }
+
+        Set<Long> issuedUserIds = new HashSet<>(
+                memberCouponRepository.findIssuedUserIds(couponId, userIds.stream().distinct().toList()));
+
+        // 이미 보유했거나 같은 묶음 안에서 중복된 userId는 발급 대상에서 제외
+        List<Long> targets = new ArrayList<>(userIds.size());
+        List<Long> duplicated = new ArrayList<>();
+        for (Long userId : userIds) {
+            if (issuedUserIds.add(userId)) {
+                targets.add(userId);
+            } else {
+                duplicated.add(userId);
+            }
+        }
+
+        if (targets.isEmpty()) {
+            return duplicated;
+        }
+
+        if (coupon.getCouponRemainingQuantity() != null && stockWriteBehind) {
+            recordIssuedAfterCommit(couponId, targets.size());
+        } else if (coupon.getCouponRemainingQuantity() != null) {
+            int updatedRows = couponRepository.decreaseRemainingQuantityBy(couponId, targets.size());
+
+            if (updatedRows == 0) {
+                log.warn("DB 재고 일괄 차감 실패 - 남은 재고 부족. couponId={}, count={}", couponId, targets.size());
+                throw new CouponIssueException(CouponErrorCode.COUPON_OUT_OF_STOCK);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime endDate = calculateExpirationDate(policy, now);
+
+        int inserted = memberCouponBulkRepository.insertAll(couponId, targets, now, endDate);
+        afterCommit(() -> memberIssuedCouponStore.markIssued(targets, couponId));
+        log.info("회원 쿠폰 대량 발급 성공. couponId={}, issued={}, duplicated={}", couponId, inserted, duplicated.size());
+
+        return duplicated;
+    }
+
+    // 호출자(대량 발급 Job)의 청크 트랜잭션에 참여하므로 예외 시 청크 전체가 롤백되고 재시작 시 같은 청크부터 다시 처리
+    @Transactional
+    @Override
+    public int issueMemberCouponsChunk(Long couponId, List<Long> userIds) {
+
+        Coupon coupon = couponRepository.findById(couponId)
+                .orElseThrow(() -> {
+                    log.error("존재하지 않는 쿠폰. couponId={}", couponId);
+                    return new CouponNotFoundException();
+                });
+
+        CouponPolicy policy = coupon.getCouponPolicy();
+
+        if (!policy.isIssuable()) {
+            log.warn("발급 기간이 아니거나 비활성화된 정책. policyId={}, count={}", policy.getCouponPolicyId(), userIds.size());
+            throw new CouponIssueException(CouponErrorCode.POLICY_NOT_ISSUABLE);
+        }
+
+        List<Long> distinct = userIds.stream().distinct().toList();
+        Set<Long> issuedUserIds = new HashSet<>(memberCouponRepository.findIssuedUserIds(couponId, distinct));
+        List<Long> targets = distinct.stream().filter(userId -> !issuedUserIds.contains(userId)).toList();
+
+        if (targets.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime endDate = calculateExpirationDate(policy, now);
+
+        // 먼저 저장하고 실제 저장된 수만큼 재고를 차감 (조회 이후 단건 발급과 겹친 행은 유니크 키로 건너뜀)
+        int inserted = memberCouponBulkRepository.insertIgnoreAll(couponId, targets, now, endDate);
+
+        if (inserted > 0 && coupon.getCouponRemainingQuantity() != null) {
+            decreaseStockForChunk(couponId, inserted);
+        }
+
+        afterCommit(() -> memberIssuedCouponStore.markIssued(targets, couponId));
+        log.debug("회원 쿠폰 청크 발급. couponId={}, requested={}, issued={}", couponId, userIds.size(), inserted);
+
+        return inserted;
+    }
+
     //쿠폰 수량 업데이트
     @Transactional
     @Override
@@ -201,10 +384,14 @@ public class CouponServiceImpl implements CouponService {
                         : String.valueOf(quantity);
 
                 redisTemplate.opsForValue().set(redisKey, redisValue);
+                if (stockWriteBehind) {
+                    couponStockStore.resetPending(couponId);
+                }
 
                 log.info("Redis 재고 동기화(수정) 완료. key={}, newQuantity={}", redisKey, redisValue);
             }
         });
+        cacheInvalidationBus.publishCouponChanged(couponId);
 
         log.info("쿠폰 수량 변경 완료. couponId={}", couponId);
         return quantity;
@@ -214,20 +401,10 @@ public class CouponServiceImpl implements CouponService {
     @Transactional
     @Override
     public void issueWelcomeCoupon(Long userId) {
-        CouponPolicy welcomePolicy = policyRepository.findActivePolicyByType(CouponPolicyType.WELCOME)
-                .orElseThrow(() -> {
-                    log.error("활성화된 웰컴 쿠폰 정책이 없습니다.");
-                    return new CouponPolicyNotFoundException();
-                });
-
-        Coupon welcomeCoupon = couponRepository.findByCouponPolicy_CouponPolicyId(welcomePolicy.getCouponPolicyId())
-                .orElseThrow(() -> {
-                    log.error("웰컴 쿠폰이 존재하지 않습니다. policyId={}", welcomePolicy.getCouponPolicyId());
-                    return new CouponNotFoundException();
-                });
+        Long welcomeCouponId = systemCouponRegistry.couponId(CouponPolicyType.WELCOME);
 
         try {
-            issueMemberCoupon(userId, welcomeCoupon.getCouponId());
+            issueMemberCoupon(userId, welcomeCouponId);
             log.info("웰컴 쿠폰 지급 성공. userId={}", userId);
         } catch (Exception e) {
             log.error("웰컴 쿠폰 지급 중 예외 발생. userId={}, error={}", userId, e.getMessage());
@@ -240,20 +417,10 @@ public class CouponServiceImpl implements CouponService {
     @Transactional
     @Override
     public void issueBirthdayCoupon(Long userId) {
-        CouponPolicy birthdayPolicy = policyRepository.findActivePolicyByType(CouponPolicyType.BIRTHDAY)
-                .orElseThrow(() -> {
-                    log.warn("활성화된 생일 쿠폰 정책이 없습니다. userId={}", userId);
-                    return new CouponPolicyNotFoundException();
-                });
-
-        Coupon birthdayCoupon = couponRepository.findByCouponPolicy_CouponPolicyId(birthdayPolicy.getCouponPolicyId())
-                .orElseThrow(() -> {
-                    log.error("생일 쿠폰이 존재하지 않습니다. policyId={}", birthdayPolicy.getCouponPolicyId());
-                    return new CouponNotFoundException();
-                });
+        Long birthdayCouponId = systemCouponRegistry.couponId(CouponPolicyType.BIRTHDAY);
 
         try {
-            issueMemberCoupon(userId, birthdayCoupon.getCouponId());
+            issueMemberCoupon(userId, birthdayCouponId);
             log.info("생일 쿠폰 지급 성공. userId={}", userId);
         } catch (Exception e) {
             log.error("생일 쿠폰 지급 중 예외 발생. userId={}, error={}", userId, e.getMessage());
@@ -261,19 +428,23 @@ public class CouponServiceImpl implements CouponService {
         }
     }
 
+    @Override
+    public Long getBirthdayCouponId() {
+        return systemCouponRegistry.couponId(CouponPolicyType.BIRTHDAY);
+    }
+
     //적용가능한 쿠폰 확인 (쿠폰 다운로드용)
     @Transactional(readOnly = true)
     @Override
     public List<CouponResponseDto> getIssuableCoupons(Long userId, Long bookId, List<Long> categoryIds) {
         log.debug("상품 적용 가능 쿠폰 조회 요청. bookId={}, categoryIds={}", bookId, categoryIds);
 
-        List<Coupon> coupons = couponRepository.findAppliableCoupons(bookId, categoryIds);
+        List<Coupon> coupons = findAppliableCoupons(bookId, categoryIds);
 
         Set<Long> myCouponIds;
 
         if (userId != null) {
-            List<Long> ids = memberCouponRepository.findAllCouponIdsByUserId(userId);
-            myCouponIds = new HashSet<>(ids);
+            myCouponIds = findIssuedCouponIds(userId, coupons);
         } else {
             myCouponIds = Collections.emptySet();
         }
@@ -299,15 +470,120 @@ public class CouponServiceImpl implements CouponService {
     }
 
 
+    // 화면에 노출할 쿠폰만 Redis에서 확인하고, 적재 전이면 DB 전체 이력으로 적재
+    private Set<Long> findIssuedCouponIds(Long userId, List<Coupon> coupons) {
+        if (coupons.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        List<Long> couponIds = coupons.stream().map(Coupon::getCouponId).toList();
+        return memberIssuedCouponStore.findIssued(userId, couponIds)
+                .orElseGet(() -> {
+                    List<Long> ids = memberCouponRepository.findAllCouponIdsByUserId(userId);
+                    memberIssuedCouponStore.warm(userId, ids);
+                    return new HashSet<>(ids);
+                });
+    }
+
+    // 적용 대상 인덱스가 적재되기 전에는 DB 조인 조회
+    private List<Coupon> findAppliableCoupons(Long bookId, List<Long> categoryIds) {
+        if (!policyTargetIndex.isReady()) {
+            return couponRepository.findAppliableCoupons(bookId, categoryIds);
+        }
+
+        List<Long> policyIds = policyTargetIndex.findIssuablePolicyIds(bookId, categoryIds);
+        if (policyIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return couponRepository.findAllByPolicyIds(policyIds);
+    }
+
+    // 트랜잭션 밖에서 호출되면 즉시 실행
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 발급이 커밋된 경우에만 미반영 차감량 누적
+    private void recordIssuedAfterCommit(Long couponId, int count) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                couponStockStore.recordIssued(couponId, count);
+            }
+        });
+    }
+
+    // 선착순 게이트가 보는 Redis 재고도 같이 차감해야 게이트가 초과 발급하지 않는다
+    // Redis 재고가 있으면 먼저 원자적으로 차감하고(write-behind 모드에서는 이것이 재고 검사), 롤백 시 되돌림
+    private void decreaseStockForChunk(Long couponId, int count) {
+        long remaining = couponStockStore.reserve(couponId, count);
+
+        if (remaining == CouponStockStore.RESERVE_SOLD_OUT) {
+            log.warn("Redis 재고 일괄 차감 실패 - 남은 재고 부족. couponId={}, count={}", couponId, count);
+            availableCouponCatalog.onSoldOut(couponId);
+            throw new CouponIssueException(CouponErrorCode.COUPON_OUT_OF_STOCK);
+        }
+
+        boolean reserved = remaining != CouponStockStore.RESERVE_UNTRACKED;
+        if (reserved) {
+            afterRollback(() -> couponStockStore.restock(couponId, count));
+            afterCommit(() -> {
+                couponStockStore.recordBulkIssued(couponId, count);
+                if (remaining == 0) {
+                    availableCouponCatalog.onSoldOut(couponId);
+                }
+            });
+        }
+
+        // Redis 재고가 없는 쿠폰은 DB가 유일한 기준이므로 write-behind 모드여도 바로 차감
+        if (stockWriteBehind && reserved) {
+            recordIssuedAfterCommit(couponId, count);
+        } else if (couponRepository.decreaseRemainingQuantityBy(couponId, count) == 0) {
+            log.warn("DB 재고 일괄 차감 실패 - 남은 재고 부족. couponId={}, count={}", couponId, count);
+            throw new CouponIssueException(CouponErrorCode.COUPON_OUT_OF_STOCK);
+        }
+    }
+
+    private void afterRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    action.run();
+                }
+            }
+        });
+    }
+
     //만료일 계산
     private LocalDateTime calculateExpirationDate(CouponPolicy policy, LocalDateTime now) {
-        if (policy.getFixedEndDate() != null) {
-            return policy.getFixedEndDate().atTime(23, 59, 59, 999999000);
+        return calculateExpirationDate(policy.getFixedEndDate(), policy.getDurationDays(),
+                policy.getCouponPolicyId(), now);
+    }
+
+    private LocalDateTime calculateExpirationDate(LocalDate fixedEndDate, Integer durationDays, Long policyId,
+                                                  LocalDateTime now) {
+        if (fixedEndDate != null) {
+            return fixedEndDate.atTime(23, 59, 59, 999999000);
         }
-        if (policy.getDurationDays() != null) {
-            return now.plusDays(policy.getDurationDays());
+        if (durationDays != null) {
+            return now.plusDays(durationDays);
         }
-        log.error("쿠폰 정책에 만료일 기준 누락. policyId={}", policy.getCouponPolicyId());
-        throw new IllegalStateException("쿠폰 정책에 만료일 기준이 없습니다. policyId=" + policy.getCouponPolicyId());
+        log.error("쿠폰 정책에 만료일 기준 누락. policyId={}", policyId);
+        throw new IllegalStateException("쿠폰 정책에 만료일 기준이 없습니다. policyId=" + policyId);
     }
 }
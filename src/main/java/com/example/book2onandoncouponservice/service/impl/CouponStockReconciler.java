@@ -0,0 +1,152 @@
+package com.example.book2onandoncouponservice.service.impl;
+
+import com.example.book2onandoncouponservice.entity.Coupon;
+import com.example.book2onandoncouponservice.redis.CouponStockStore;
+import com.example.book2onandoncouponservice.repository.CouponRepository;
+import com.example.book2onandoncouponservice.repository.MemberCouponRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+// write-behind 모드의 선착순 쿠폰 재고 정산
+// 발급 중에는 Redis 재고가 기준이고, 발급 완료 후 누적된 차감량을 쿠폰별 UPDATE 1회로 DB에 반영한다
+// 정산과 함께 Redis 발급 이력/재고와 DB(member_coupon 수, 남은 수량)의 불일치를 지표로 노출한다
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "coupon.stock.write-behind.enabled", havingValue = "true")
+public class CouponStockReconciler {
+
+    private final CouponStockStore couponStockStore;
+    private final CouponRepository couponRepository;
+    private final MemberCouponRepository memberCouponRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final Counter flushedCounter;
+    private final Counter oversoldCounter;
+    private final Counter flushFailedCounter;
+
+    private final Map<Long, DriftGauges> driftGauges = new ConcurrentHashMap<>();
+
+    public CouponStockReconciler(CouponStockStore couponStockStore,
+                                 CouponRepository couponRepository,
+                                 MemberCouponRepository memberCouponRepository,
+                                 MeterRegistry meterRegistry) {
+        this.couponStockStore = couponStockStore;
+        this.couponRepository = couponRepository;
+        this.memberCouponRepository = memberCouponRepository;
+        this.meterRegistry = meterRegistry;
+        this.flushedCounter = Counter.builder("coupon.stock.reconcile.flushed")
+                .description("DB에 반영한 쿠폰 재고 차감량")
+                .register(meterRegistry);
+        this.oversoldCounter = Counter.builder("coupon.stock.reconcile.oversold")
+                .description("DB 재고보다 차감량이 많아 남은 수량을 0으로 맞춘 차감량 (초과 발급)")
+                .register(meterRegistry);
+        this.flushFailedCounter = Counter.builder("coupon.stock.reconcile.failed")
+                .description("DB 반영에 실패해 다음 주기로 미룬 쿠폰 재고 차감량")
+                .register(meterRegistry);
+    }
+
+    public void reconcile() {
+        for (Long couponId : couponStockStore.drainDirtyCouponIds()) {
+            flush(couponId);
+        }
+        for (Long couponId : couponStockStore.trackedCouponIds()) {
+            measureDrift(couponId);
+        }
+    }
+
+    // 누적된 차감량을 UPDATE 1회로 반영
+    void flush(Long couponId) {
+        long pending = couponStockStore.claimPending(couponId);
+        if (pending <= 0) {
+            return;
+        }
+
+        int amount = Math.toIntExact(pending);
+        try {
+            if (couponRepository.decreaseRemainingQuantityBy(couponId, amount) == 0) {
+                // 차감량이 DB 남은 수량보다 많음 (초과 발급) - 발급된 쿠폰은 이미 있으므로 남은 수량을 0으로 맞추고 지표로 드러냄
+                couponRepository.decreaseRemainingQuantityToZero(couponId, amount);
+                log.error("쿠폰 재고 정산 - DB 남은 수량보다 차감량이 많아 0으로 맞춤. couponId={}, pending={}",
+                        couponId, pending);
+                oversoldCounter.increment(pending);
+                return;
+            }
+        } catch (RuntimeException e) {
+            log.error("쿠폰 재고 정산 실패, 다음 주기에 재시도. couponId={}, pending={}", couponId, pending, e);
+            couponStockStore.restorePending(couponId, pending);
+            flushFailedCounter.increment(pending);
+            return;
+        }
+
+        flushedCounter.increment(pending);
+        log.info("쿠폰 재고 정산 완료. couponId={}, decreased={}", couponId, pending);
+    }
+
+    // inflight = Redis 발급 이력 수 + 대량 발급 수 - DB 발급 수 (대기열이 비면 0, 양수로 남으면 메시지 유실)
+    // drift = (DB 남은 수량 - 미반영 차감량 - inflight) - Redis 재고 (항상 0이어야 함)
+    void measureDrift(Long couponId) {
+        if (!couponStockStore.hasIssueHistory(couponId)) {
+            // 발급 이력 TTL 만료 = 선착순 발급 종료
+            untrack(couponId);
+            return;
+        }
+
+        Optional<Coupon> coupon = couponRepository.findById(couponId);
+        Long redisStock = couponStockStore.stock(couponId);
+        if (coupon.isEmpty() || coupon.get().getCouponRemainingQuantity() == null || redisStock == null) {
+            untrack(couponId);
+            return;
+        }
+
+        long inFlight = couponStockStore.issuedUserCount(couponId)
+                + couponStockStore.bulkIssuedCount(couponId)
+                - memberCouponRepository.countByCoupon_CouponId(couponId);
+        long expectedStock = coupon.get().getCouponRemainingQuantity()
+                - couponStockStore.pending(couponId)
+                - inFlight;
+        long drift = expectedStock - redisStock;
+
+        DriftGauges gauges = driftGauges.computeIfAbsent(couponId, this::registerGauges);
+        gauges.inFlight().set(inFlight);
+        gauges.drift().set(drift);
+
+        if (drift != 0) {
+            log.warn("쿠폰 재고 불일치 감지. couponId={}, redisStock={}, expected={}, inFlight={}",
+                    couponId, redisStock, expectedStock, inFlight);
+        }
+    }
+
+    private void untrack(Long couponId) {
+        couponStockStore.untrack(couponId);
+        DriftGauges gauges = driftGauges.remove(couponId);
+        if (gauges != null) {
+            meterRegistry.remove(gauges.inFlightGauge());
+            meterRegistry.remove(gauges.driftGauge());
+        }
+    }
+
+    private DriftGauges registerGauges(Long couponId) {
+        AtomicLong inFlight = new AtomicLong();
+        AtomicLong drift = new AtomicLong();
+        Gauge inFlightGauge = Gauge.builder("coupon.stock.inflight", inFlight, AtomicLong::get)
+                .description("Redis 발급 이력 수 - DB 발급 수")
+                .tag("couponId", String.valueOf(couponId))
+                .register(meterRegistry);
+        Gauge driftGauge = Gauge.builder("coupon.stock.drift", drift, AtomicLong::get)
+                .description("DB 기준 기대 재고 - Redis 재고")
+                .tag("couponId", String.valueOf(couponId))
+                .register(meterRegistry);
+        return new DriftGauges(inFlight, drift, inFlightGauge, driftGauge);
+    }
+
+    private record DriftGauges(AtomicLong inFlight, AtomicLong drift, Gauge inFlightGauge, Gauge driftGauge) {
+    }
+}
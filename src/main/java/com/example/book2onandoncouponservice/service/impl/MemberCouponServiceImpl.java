@@ -1,8 +1,17 @@
 package com.example.book2onandoncouponservice.service.impl;
 
+import com.example.book2onandoncouponservice.cache.PolicyTargetIndex;
+import com.example.book2onandoncouponservice.cache.PolicyTargetIndex.PolicyTargets;
+import com.example.book2onandoncouponservice.discount.DiscountCart;
+import com.example.book2onandoncouponservice.discount.DiscountEngine;
+import com.example.book2onandoncouponservice.dto.request.CouponDiscountRequestDto;
 import com.example.book2onandoncouponservice.dto.request.OrderCouponCheckRequestDto;
+import com.example.book2onandoncouponservice.dto.response.CouponDiscountResponseDto;
+import com.example.book2onandoncouponservice.dto.response.CouponTargetBulkResponseDto;
 import com.example.book2onandoncouponservice.dto.response.CouponTargetResponseDto;
+import com.example.book2onandoncouponservice.dto.response.CursorPageResponseDto;
 import com.example.book2onandoncouponservice.dto.response.MemberCouponResponseDto;
+import com.example.book2onandoncouponservice.dto.response.PolicyTargetGroupDto;
 import com.example.book2onandoncouponservice.entity.CouponPolicy;
 import com.example.book2onandoncouponservice.entity.CouponPolicyTargetBook;
 import com.example.book2onandoncouponservice.entity.CouponPolicyTargetCategory;
@@ -11,14 +20,28 @@ import com.example.book2onandoncouponservice.entity.MemberCouponStatus;
 import com.example.book2onandoncouponservice.exception.CouponErrorCode;
 import com.example.book2onandoncouponservice.exception.CouponIssueException;
 import com.example.book2onandoncouponservice.exception.CouponNotFoundException;
+import com.example.book2onandoncouponservice.metrics.CouponMetrics;
+import com.example.book2onandoncouponservice.pagination.CursorCodec;
 import com.example.book2onandoncouponservice.repository.CouponPolicyRepository;
+import com.example.book2onandoncouponservice.repository.CouponPolicyTargetBookRepository;
+import com.example.book2onandoncouponservice.repository.CouponPolicyTargetCategoryRepository;
 import com.example.book2onandoncouponservice.repository.MemberCouponRepository;
+import com.example.book2onandoncouponservice.repository.projection.MemberCouponPolicyRow;
+import com.example.book2onandoncouponservice.repository.projection.MemberCouponRow;
 import com.example.book2onandoncouponservice.service.MemberCouponService;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -31,6 +54,13 @@ public class MemberCouponServiceImpl implements MemberCouponService {
 
     private final MemberCouponRepository memberCouponRepository;
     private final CouponPolicyRepository couponPolicyRepository;
+    private final PolicyTargetIndex policyTargetIndex;
+    private final CouponMetrics couponMetrics;
+    private final DiscountEngine discountEngine;
+    private final CouponPolicyTargetBookRepository targetBookRepository;
+    private final CouponPolicyTargetCategoryRepository targetCategoryRepository;
+
+    private static final int CURSOR_PAGE_MAX_SIZE = 100;
 
     @Transactional(readOnly = true)
     @Override
@@ -38,20 +68,54 @@ public class MemberCouponServiceImpl implements MemberCouponService {
 
         log.info("내 쿠폰 목록 조회 요청. userId={}, status={}, page={}", userId, status, pageable.getPageNumber());
 
-        MemberCouponStatus searchStatus = null;
+        MemberCouponStatus searchStatus = parseStatus(status);
+
+        Page<MemberCouponRow> myCoupons = memberCouponRepository.findCouponsWithPolicy(userId, searchStatus, pageable);
 
+        log.info("내 쿠폰 목록 조회 완료. totalElements={}", myCoupons.getTotalElements());
+        return myCoupons.map(MemberCouponResponseDto::new);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPageResponseDto<MemberCouponResponseDto> getMyCouponsByCursor(Long userId, String cursor, int size,
+                                                                              String status) {
+        log.debug("내 쿠폰 목록 커서 조회 요청. userId={}, status={}, size={}", userId, status, size);
+
+        MemberCouponStatus searchStatus = parseStatus(status);
+        int pageSize = Math.clamp(size, 1, CURSOR_PAGE_MAX_SIZE);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<MemberCouponRow> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = memberCouponRepository.findCouponsWithPolicyFirstPage(userId, searchStatus, limit);
+        } else {
+            String[] keys = CursorCodec.decode(cursor, 2);
+            LocalDateTime endDate;
+            Long memberCouponId;
+            try {
+                endDate = LocalDateTime.parse(keys[0]);
+                memberCouponId = Long.valueOf(keys[1]);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            rows = memberCouponRepository.findCouponsWithPolicyAfter(userId, searchStatus, endDate, memberCouponId,
+                    limit);
+        }
+
+        return CursorPageResponseDto.of(rows, pageSize, MemberCouponResponseDto::new,
+                last -> CursorCodec.encode(last.memberCouponEndDate(), last.memberCouponId()));
+    }
+
+    private MemberCouponStatus parseStatus(String status) {
         if (status != null && !status.isEmpty() && !status.equals("ALL")) {
             try {
-                searchStatus = MemberCouponStatus.valueOf(status);
+                return MemberCouponStatus.valueOf(status);
             } catch (IllegalArgumentException e) {
                 log.warn("유효하지 않은 쿠폰 상태 검색어: {}", status);
             }
         }
-
-        Page<MemberCoupon> myCoupons = memberCouponRepository.findCouponsWithPolicy(userId, searchStatus, pageable);
-
-        log.info("내 쿠폰 목록 조회 완료. totalElements={}", myCoupons.getTotalElements());
-        return myCoupons.map(MemberCouponResponseDto::new);
+        return null;
     }
 
     @Transactional
@@ -59,19 +123,22 @@ public class MemberCouponServiceImpl implements MemberCouponService {
     public void useMemberCoupon(Long memberCouponId, Long userId, String orderNumber) {
         log.info("쿠폰 사용 요청. memberCouponId={}, userId={}, orderNumber={}", memberCouponId, userId, orderNumber);
 
-        MemberCoupon memberCoupon = memberCouponRepository.findById(memberCouponId)
-                .orElseThrow(() -> {
-                    log.error("쿠폰 사용 실패: 존재하지 않는 쿠폰. memberCouponId={}", memberCouponId);
-                    return new CouponNotFoundException();
-                });
-
-        if (!memberCoupon.getUserId().equals(userId)) {
-            log.warn("쿠폰 사용 실패: 소유자 불일치. reqUserId={}, ownerId={}", userId, memberCoupon.getUserId());
-            throw new CouponIssueException(CouponErrorCode.NOT_COUPON_OWNER);
-        }
+        couponMetrics.run(CouponMetrics.Operation.USE, sample -> {
+            MemberCoupon memberCoupon = memberCouponRepository.findById(memberCouponId)
+                    .orElseThrow(() -> {
+                        log.error("쿠폰 사용 실패: 존재하지 않는 쿠폰. memberCouponId={}", memberCouponId);
+                        return new CouponNotFoundException();
+                    });
+            sample.coupon(memberCoupon.getCoupon().getCouponId());
+
+            if (!memberCoupon.getUserId().equals(userId)) {
+                log.warn("쿠폰 사용 실패: 소유자 불일치. reqUserId={}, ownerId={}", userId, memberCoupon.getUserId());
+                throw new CouponIssueException(CouponErrorCode.NOT_COUPON_OWNER);
+            }
 
-        memberCoupon.use(orderNumber);
-        log.info("쿠폰 사용 : orderNumber: {}, couponId: {}", orderNumber, memberCoupon.getMemberCouponId());
+            memberCoupon.use(orderNumber);
+            log.info("쿠폰 사용 : orderNumber: {}, couponId: {}", orderNumber, memberCoupon.getMemberCouponId());
+        });
     }
 
     @Transactional
@@ -80,20 +147,24 @@ public class MemberCouponServiceImpl implements MemberCouponService {
 
         log.info("쿠폰 사용 취소(롤백) 요청. orderNumber={}", orderNumber);
 
-        MemberCoupon memberCoupon = memberCouponRepository.findByOrderNumber(orderNumber)
-                .orElseThrow(() -> {
-                    log.warn("쿠폰 취소 실패: 해당 주문에 사용된 쿠폰 없음. orderNumber={}", orderNumber);
-                    return new CouponNotFoundException();
-                });
-
-        if (memberCoupon.getOrderNumber() != null && !memberCoupon.getOrderNumber().equals(orderNumber)) {
-            log.warn("쿠폰 취소 실패: 주문 번호 불일치. reqorderNumber={}, couponOrderNumber={}", orderNumber,
-                    memberCoupon.getOrderNumber());
-            throw new CouponIssueException(CouponErrorCode.INVALID_COUPON_ORDER_MATCH);
-        }
+        couponMetrics.run(CouponMetrics.Operation.CANCEL, sample -> {
+            MemberCoupon memberCoupon = memberCouponRepository.findByOrderNumber(orderNumber)
+                    .orElseThrow(() -> {
+                        log.warn("쿠폰 취소 실패: 해당 주문에 사용된 쿠폰 없음. orderNumber={}", orderNumber);
+                        return new CouponNotFoundException();
+                    });
+            sample.coupon(memberCoupon.getCoupon().getCouponId());
+
+            if (memberCoupon.getOrderNumber() != null && !memberCoupon.getOrderNumber().equals(orderNumber)) {
+                log.warn("쿠폰 취소 실패: 주문 번호 불일치. reqorderNumber={}, couponOrderNumber={}", orderNumber,
+                        memberCoupon.getOrderNumber());
+                throw new CouponIssueException(CouponErrorCode.INVALID_COUPON_ORDER_MATCH);
+            }
 
-        memberCoupon.cancelUsage();
-        log.info("주문 취소로 인한 쿠폰 복구 완료: orderNumber={}, couponId={}", orderNumber, memberCoupon.getMemberCouponId());
+            memberCoupon.cancelUsage();
+            log.info("주문 취소로 인한 쿠폰 복구 완료: orderNumber={}, couponId={}", orderNumber,
+                    memberCoupon.getMemberCouponId());
+        });
     }
 
 
@@ -107,9 +178,7 @@ public class MemberCouponServiceImpl implements MemberCouponService {
         log.info("주문 적용 가능 쿠폰 조회 요청. userId={}, bookIdsCount={}, categoryIdsCount={}",
                 userId, bookCount, categoryCount);
 
-        List<Long> couponPolicyIds = couponPolicyRepository.findApplicablePolicyIds(
-                requestDto.getBookIds(),
-                requestDto.getCategoryIds());
+        List<Long> couponPolicyIds = findApplicablePolicyIds(requestDto.getBookIds(), requestDto.getCategoryIds());
 
         if (couponPolicyIds.isEmpty()) {
             log.info("사용 가능한 쿠폰이 없습니다. userId:{}", userId);
@@ -129,6 +198,33 @@ public class MemberCouponServiceImpl implements MemberCouponService {
                 .toList();
     }
 
+    // 주문 장바구니 기준 쿠폰별 할인 금액 계산 (사용 가능 쿠폰 조회 + 쿠폰별 적용 대상 조회 + 할인 계산을 한 번에)
+    @Transactional(readOnly = true)
+    @Override
+    public CouponDiscountResponseDto calculateDiscounts(Long userId, CouponDiscountRequestDto requestDto) {
+        DiscountCart cart = DiscountCart.of(requestDto.getLines());
+
+        log.info("주문 쿠폰 할인 계산 요청. userId={}, lines={}, cartAmount={}", userId, cart.size(), cart.total());
+
+        List<Long> couponPolicyIds = findApplicablePolicyIds(cart.distinctBookIds(), cart.distinctCategoryIds());
+        List<MemberCoupon> usableCoupons = couponPolicyIds.isEmpty()
+                ? List.of()
+                : memberCouponRepository.findUsableCouponsByPolicyIds(userId, couponPolicyIds, LocalDateTime.now());
+
+        CouponDiscountResponseDto response = discountEngine.evaluate(usableCoupons, cart);
+
+        log.info("주문 쿠폰 할인 계산 완료. userId={}, candidates={}, bestMemberCouponId={}, bestDiscount={}",
+                userId, usableCoupons.size(), response.getBestMemberCouponId(), response.getBestDiscountAmount());
+        return response;
+    }
+
+    // 적용 대상 인덱스가 적재되기 전에는 DB 조회
+    private List<Long> findApplicablePolicyIds(List<Long> bookIds, List<Long> categoryIds) {
+        return policyTargetIndex.isReady()
+                ? policyTargetIndex.findApplicablePolicyIds(bookIds, categoryIds)
+                : couponPolicyRepository.findApplicablePolicyIds(bookIds, categoryIds);
+    }
+
     @Transactional(readOnly = true)
     @Override
     public CouponTargetResponseDto getCouponTargets(Long memberCouponId) {
@@ -172,4 +268,94 @@ public class MemberCouponServiceImpl implements MemberCouponService {
 
         return response;
     }
+
+    // 주문 서비스가 쿠폰마다 getCouponTargets를 호출하던 것을 대체 (요청 수와 관계없이 쿼리 1~3회)
+    @Transactional(readOnly = true)
+    @Override
+    public CouponTargetBulkResponseDto getCouponTargets(List<Long> memberCouponIds) {
+        Set<Long> requested = new LinkedHashSet<>(memberCouponIds);
+
+        log.info("쿠폰 적용 대상 일괄 조회 요청. memberCoupons={}", requested.size());
+
+        Map<Long, MemberCouponPolicyRow> rows = new HashMap<>();
+        for (MemberCouponPolicyRow row : memberCouponRepository.findPolicyRowsByMemberCouponIds(requested)) {
+            rows.put(row.memberCouponId(), row);
+        }
+
+        // 정책별로 묶고, 회원 쿠폰 ID는 요청 순서를 유지한다
+        Map<Long, List<MemberCouponPolicyRow>> byPolicy = new TreeMap<>();
+        List<Long> notFound = new ArrayList<>();
+        for (Long memberCouponId : requested) {
+            MemberCouponPolicyRow row = rows.get(memberCouponId);
+            if (row == null) {
+                notFound.add(memberCouponId);
+            } else {
+                byPolicy.computeIfAbsent(row.couponPolicyId(), id -> new ArrayList<>()).add(row);
+            }
+        }
+
+        Map<Long, Targets> targets = findTargets(byPolicy.keySet());
+
+        List<PolicyTargetGroupDto> policies = new ArrayList<>(byPolicy.size());
+        byPolicy.forEach((policyId, group) -> {
+            MemberCouponPolicyRow first = group.getFirst();
+            Targets policyTargets = targets.get(policyId);
+            policies.add(PolicyTargetGroupDto.builder()
+                    .couponPolicyId(policyId)
+                    .memberCouponIds(group.stream().map(MemberCouponPolicyRow::memberCouponId).toList())
+                    .targetBookIds(policyTargets.bookIds())
+                    .targetCategoryIds(policyTargets.categoryIds())
+                    .minPrice(first.minPrice())
+                    .maxPrice(first.maxPrice())
+                    .discountType(first.discountType())
+                    .discountValue(first.discountValue())
+                    .build());
+        });
+
+        if (!notFound.isEmpty()) {
+            log.warn("쿠폰 적용 대상 일괄 조회 - 존재하지 않는 쿠폰. memberCouponIds={}", notFound);
+        }
+        log.info("쿠폰 적용 대상 일괄 조회 완료. memberCoupons={}, policies={}", rows.size(), policies.size());
+
+        return new CouponTargetBulkResponseDto(policies, notFound);
+    }
+
+    // 정책별 적용 대상 - 적용 대상 인덱스에 없는 정책만 DB에서 한 번에 조회
+    private Map<Long, Targets> findTargets(Set<Long> policyIds) {
+        Map<Long, Targets> result = new HashMap<>();
+        if (policyTargetIndex.isReady()) {
+            Map<Long, PolicyTargets> indexed = policyTargetIndex.findTargets(policyIds);
+            indexed.forEach((policyId, targets) ->
+                    result.put(policyId, new Targets(toList(targets.bookIds()), toList(targets.categoryIds()))));
+        }
+
+        List<Long> missing = policyIds.stream().filter(policyId -> !result.containsKey(policyId)).toList();
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        Map<Long, List<Long>> books = groupByPolicy(targetBookRepository.findPolicyTargetPairsByPolicyIds(missing));
+        Map<Long, List<Long>> categories =
+                groupByPolicy(targetCategoryRepository.findPolicyTargetPairsByPolicyIds(missing));
+        for (Long policyId : missing) {
+            result.put(policyId, new Targets(books.getOrDefault(policyId, List.of()),
+                    categories.getOrDefault(policyId, List.of())));
+        }
+        return result;
+    }
+
+    private static Map<Long, List<Long>> groupByPolicy(List<Object[]> pairs) {
+        Map<Long, List<Long>> grouped = new HashMap<>();
+        for (Object[] pair : pairs) {
+            grouped.computeIfAbsent((Long) pair[0], id -> new ArrayList<>()).add((Long) pair[1]);
+        }
+        return grouped;
+    }
+
+    private static List<Long> toList(long[] ids) {
+        return Arrays.stream(ids).boxed().toList();
+    }
+
+    private record Targets(List<Long> bookIds, List<Long> categoryIds) {
+    }
 }
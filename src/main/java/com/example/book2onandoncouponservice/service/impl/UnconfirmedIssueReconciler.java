@@ -0,0 +1,62 @@
+package com.example.book2onandoncouponservice.service.impl;
+
+import com.example.book2onandoncouponservice.redis.CouponStockStore;
+import com.example.book2onandoncouponservice.redis.UnconfirmedIssue;
+import com.example.book2onandoncouponservice.repository.MemberCouponRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+// buffered 모드에서 확인 시간 초과로 끝난 발급 요청(전달 여부 불명) 정산
+// 유예 시간이 지나도 DB에 회원 쿠폰이 없으면 전달되지 않은 것으로 보고 Redis 재고/이력을 복구한다
+// 유예 시간은 발급 큐 적체로 소비가 늦어지는 최대 시간보다 길어야 한다 (그 전에 복구하면 나중에 발급된 만큼 재고가 남음)
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "coupon.issue.publisher", havingValue = "buffered")
+public class UnconfirmedIssueReconciler {
+
+    static final String RELEASED = "coupon.issue.unconfirmed.released";
+    static final String CONFIRMED = "coupon.issue.unconfirmed.confirmed";
+
+    private static final int BATCH_SIZE = 500;
+
+    private final CouponStockStore couponStockStore;
+    private final MemberCouponRepository memberCouponRepository;
+    private final long graceMs;
+
+    private final Counter releasedCounter;
+    private final Counter confirmedCounter;
+
+    public UnconfirmedIssueReconciler(CouponStockStore couponStockStore,
+                                      MemberCouponRepository memberCouponRepository,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${coupon.issue.unconfirmed.grace-ms:600000}") long graceMs) {
+        this.couponStockStore = couponStockStore;
+        this.memberCouponRepository = memberCouponRepository;
+        this.graceMs = graceMs;
+        this.releasedCounter = Counter.builder(RELEASED)
+                .description("전달 여부 불명 요청 중 발급되지 않아 재고를 복구한 수")
+                .register(meterRegistry);
+        this.confirmedCounter = Counter.builder(CONFIRMED)
+                .description("전달 여부 불명 요청 중 발급이 확인된 수")
+                .register(meterRegistry);
+    }
+
+    public void reconcile() {
+        long recordedBefore = System.currentTimeMillis() - graceMs;
+        for (UnconfirmedIssue issue : couponStockStore.unconfirmedBefore(recordedBefore, BATCH_SIZE)) {
+            if (memberCouponRepository.existsByUserIdAndCoupon_CouponId(issue.userId(), issue.couponId())) {
+                confirmedCounter.increment();
+            } else {
+                couponStockStore.release(issue.couponId(), issue.userId());
+                releasedCounter.increment();
+                log.warn("전달 여부 불명 발급 요청 - 발급 이력 없음, 재고 복구. userId={}, couponId={}",
+                        issue.userId(), issue.couponId());
+            }
+            couponStockStore.removeUnconfirmed(issue);
+        }
+    }
+}
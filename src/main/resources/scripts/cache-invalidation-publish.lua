@@ -0,0 +1,9 @@
+-- 캐시 무효화 이벤트 발행 (순번 채번과 PUBLISH를 원자적으로 수행해 모든 노드가 순번 순서대로 수신)
+-- KEYS[1] : 이벤트 순번 카운터 (coupon:cache:invalidation:seq)
+-- ARGV[1] : 채널 (coupon:cache:invalidation)
+-- ARGV[2] : 이벤트 본문 ({nodeId}:{target}:{id})
+-- return  : 발행한 이벤트 순번
+
+local seq = redis.call('INCR', KEYS[1])
+redis.call('PUBLISH', ARGV[1], seq .. ':' .. ARGV[2])
+return seq
@@ -0,0 +1,20 @@
+-- 선착순 쿠폰 발급 게이트 (중복 검사 -> 재고 차감 -> 발급 이력 기록을 원자적으로 수행)
+-- KEYS[1] : 발급 이력 Set (coupon:{couponId}users:)
+-- KEYS[2] : 재고 카운터 (coupon:{couponId}stock:)
+-- ARGV[1] : userId
+-- ARGV[2] : 발급 이력 TTL(초)
+-- return  : 0 = ISSUED, 1 = DUPLICATE, 2 = SOLD_OUT
+
+if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then
+    return 1
+end
+
+local stock = tonumber(redis.call('GET', KEYS[2]))
+if stock == nil or stock <= 0 then
+    return 2
+end
+
+redis.call('DECR', KEYS[2])
+redis.call('SADD', KEYS[1], ARGV[1])
+redis.call('EXPIRE', KEYS[1], ARGV[2])
+return 0
@@ -0,0 +1,11 @@
+-- 선착순 쿠폰 재고 반환 (발급 이력이 남아 있을 때만 재고 복구 -> 같은 실패가 여러 번 처리돼도 1회만 반환)
+-- KEYS[1] : 발급 이력 Set (coupon:{couponId}users:)
+-- KEYS[2] : 재고 카운터 (coupon:{couponId}stock:)
+-- ARGV[1] : userId
+-- return  : 1 = 반환, 0 = 이미 반환됨
+
+if redis.call('SREM', KEYS[1], ARGV[1]) == 1 then
+    redis.call('INCR', KEYS[2])
+    return 1
+end
+return 0
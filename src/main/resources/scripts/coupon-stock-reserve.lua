@@ -0,0 +1,16 @@
+-- 대량 발급분 재고 일괄 차감 (남은 재고가 차감 수량 이상일 때만 차감)
+-- KEYS[1] : 재고 카운터 (coupon:{couponId}stock:)
+-- ARGV[1] : 차감 수량
+-- return  : 차감 후 남은 재고, -1 = 재고 부족, -2 = 재고 키 없음 (선착순 발급 대상이 아님)
+
+local stock = tonumber(redis.call('GET', KEYS[1]))
+if stock == nil then
+    return -2
+end
+
+local count = tonumber(ARGV[1])
+if stock < count then
+    return -1
+end
+
+return redis.call('DECRBY', KEYS[1], count)
@@ -0,0 +1,50 @@
+package com.example.book2onandoncouponservice.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+class CouponExpireJobMetricsListenerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Job 종료 시 모드/상태 태그와 함께 전체 소요 시간을 기록한다")
+    void afterJob_RecordsDuration() {
+        // given
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 0, 0);
+        JobExecution jobExecution = MetaDataInstanceFactory.createJobExecution();
+        jobExecution.setStartTime(start);
+        jobExecution.setEndTime(start.plusSeconds(90));
+        jobExecution.setStatus(BatchStatus.COMPLETED);
+
+        // when
+        new CouponExpireJobMetricsListener(meterRegistry, "bulk").afterJob(jobExecution);
+
+        // then
+        Timer timer = meterRegistry.get(CouponExpireJobMetricsListener.DURATION)
+                .tags("mode", "bulk", "status", "COMPLETED")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.SECONDS)).isEqualTo(90);
+    }
+
+    @Test
+    @DisplayName("시작되지 않은 Job은 기록하지 않는다")
+    void afterJob_NotStarted() {
+        // when
+        new CouponExpireJobMetricsListener(meterRegistry, "entity")
+                .afterJob(MetaDataInstanceFactory.createJobExecution());
+
+        // then
+        assertThat(meterRegistry.find(CouponExpireJobMetricsListener.DURATION).timer()).isNull();
+    }
+}
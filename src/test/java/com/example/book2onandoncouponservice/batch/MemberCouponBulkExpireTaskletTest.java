@@ -0,0 +1,98 @@
+package com.example.book2onandoncouponservice.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.example.book2onandoncouponservice.repository.MemberCouponBulkRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+@ExtendWith(MockitoExtension.class)
+class MemberCouponBulkExpireTaskletTest {
+
+    @Mock
+    private MemberCouponBulkRepository memberCouponBulkRepository;
+
+    private final LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private MemberCouponBulkExpireTasklet tasklet;
+    private StepExecution stepExecution;
+    private StepContribution contribution;
+    private ChunkContext chunkContext;
+
+    @BeforeEach
+    void setUp() {
+        tasklet = new MemberCouponBulkExpireTasklet(memberCouponBulkRepository, meterRegistry,
+                now, 1000, 0L, Long.MAX_VALUE);
+        stepExecution = MetaDataInstanceFactory.createStepExecution();
+        contribution = stepExecution.createStepContribution();
+        chunkContext = new ChunkContext(new StepContext(stepExecution));
+    }
+
+    @Test
+    @DisplayName("청크 처리: 구간을 UPDATE 하고 lastId를 컨텍스트에 저장한 뒤 계속 진행")
+    void execute_Chunk() {
+        // given
+        given(memberCouponBulkRepository.findExpireChunkUpperId(0L, Long.MAX_VALUE, now, 1000)).willReturn(5000L);
+        given(memberCouponBulkRepository.expireRange(0L, 5000L, now)).willReturn(1000);
+
+        // when
+        RepeatStatus status = tasklet.execute(contribution, chunkContext);
+
+        // then
+        assertThat(status).isEqualTo(RepeatStatus.CONTINUABLE);
+        assertThat(stepExecution.getExecutionContext().getLong(MemberCouponBulkExpireTasklet.LAST_ID_KEY))
+                .isEqualTo(5000L);
+        assertThat(contribution.getWriteCount()).isEqualTo(1000);
+        assertThat(meterRegistry.counter("coupon.expire.bulk.rows").count()).isEqualTo(1000);
+        assertThat(meterRegistry.counter("coupon.expire.bulk.chunks").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시작: 컨텍스트의 lastId 이후부터 이어서 처리")
+    void execute_Restart() {
+        // given
+        stepExecution.getExecutionContext().putLong(MemberCouponBulkExpireTasklet.LAST_ID_KEY, 5000L);
+        given(memberCouponBulkRepository.findExpireChunkUpperId(5000L, Long.MAX_VALUE, now, 1000)).willReturn(7000L);
+        given(memberCouponBulkRepository.expireRange(5000L, 7000L, now)).willReturn(300);
+
+        // when
+        RepeatStatus status = tasklet.execute(contribution, chunkContext);
+
+        // then
+        assertThat(status).isEqualTo(RepeatStatus.CONTINUABLE);
+        assertThat(stepExecution.getExecutionContext().getLong(MemberCouponBulkExpireTasklet.LAST_ID_KEY))
+                .isEqualTo(7000L);
+    }
+
+    @Test
+    @DisplayName("대상 없음: UPDATE 없이 종료")
+    void execute_Finished() {
+        // given
+        given(memberCouponBulkRepository.findExpireChunkUpperId(0L, Long.MAX_VALUE, now, 1000)).willReturn(null);
+
+        // when
+        RepeatStatus status = tasklet.execute(contribution, chunkContext);
+
+        // then
+        assertThat(status).isEqualTo(RepeatStatus.FINISHED);
+        verify(memberCouponBulkRepository, never()).expireRange(anyLong(), anyLong(), eq(now));
+    }
+}
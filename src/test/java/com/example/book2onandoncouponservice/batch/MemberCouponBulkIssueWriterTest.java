@@ -0,0 +1,54 @@
+package com.example.book2onandoncouponservice.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+import com.example.book2onandoncouponservice.exception.CouponErrorCode;
+import com.example.book2onandoncouponservice.exception.CouponIssueException;
+import com.example.book2onandoncouponservice.service.CouponService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.Chunk;
+
+@ExtendWith(MockitoExtension.class)
+class MemberCouponBulkIssueWriterTest {
+
+    @Mock
+    private CouponService couponService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("청크 전체를 한 번에 발급하고 발급/건너뜀 수를 지표로 남긴다")
+    void write() {
+        // given
+        MemberCouponBulkIssueWriter writer = new MemberCouponBulkIssueWriter(couponService, meterRegistry, 1L);
+        given(couponService.issueMemberCouponsChunk(1L, List.of(1L, 2L, 3L))).willReturn(2);
+
+        // when
+        writer.write(Chunk.of(1L, 2L, 3L));
+
+        // then
+        assertThat(meterRegistry.get(MemberCouponBulkIssueWriter.ISSUED).counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(MemberCouponBulkIssueWriter.SKIPPED).counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("발급 실패 시 예외를 그대로 던지고 지표에 반영하지 않는다")
+    void write_Fail() {
+        // given
+        MemberCouponBulkIssueWriter writer = new MemberCouponBulkIssueWriter(couponService, meterRegistry, 1L);
+        given(couponService.issueMemberCouponsChunk(1L, List.of(1L)))
+                .willThrow(new CouponIssueException(CouponErrorCode.COUPON_OUT_OF_STOCK));
+
+        // when & then
+        assertThatThrownBy(() -> writer.write(Chunk.of(1L))).isInstanceOf(CouponIssueException.class);
+        assertThat(meterRegistry.get(MemberCouponBulkIssueWriter.ISSUED).counter().count()).isZero();
+    }
+}
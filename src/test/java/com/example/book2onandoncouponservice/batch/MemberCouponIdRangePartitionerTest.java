@@ -0,0 +1,96 @@
+package com.example.book2onandoncouponservice.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.example.book2onandoncouponservice.repository.MemberCouponBulkRepository;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+
+@ExtendWith(MockitoExtension.class)
+class MemberCouponIdRangePartitionerTest {
+
+    @Mock
+    private MemberCouponBulkRepository memberCouponBulkRepository;
+
+    @InjectMocks
+    private MemberCouponIdRangePartitioner partitioner;
+
+    private List<ExecutionContext> sorted(Map<String, ExecutionContext> partitions) {
+        return partitions.values().stream()
+                .sorted(Comparator.comparingLong(c -> c.getLong(MemberCouponIdRangePartitioner.START_AFTER_ID_KEY)))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("PK 분위 구간을 빈틈·겹침 없이 gridSize개 파티션으로 분할")
+    void partition_CoversWholeRange() {
+        // given
+        given(memberCouponBulkRepository.findIdQuantiles(4)).willReturn(List.of(
+                new long[]{101L, 200L}, new long[]{201L, 250L}, new long[]{251L, 900L}, new long[]{901L, 1100L}));
+
+        // when
+        List<ExecutionContext> partitions = sorted(partitioner.partition(4));
+
+        // then
+        assertThat(partitions).hasSize(4);
+        assertThat(partitions.get(0).getLong(MemberCouponIdRangePartitioner.START_AFTER_ID_KEY)).isEqualTo(100L);
+        assertThat(partitions.get(3).getLong(MemberCouponIdRangePartitioner.MAX_ID_KEY)).isEqualTo(1100L);
+        for (int i = 1; i < partitions.size(); i++) {
+            assertThat(partitions.get(i).getLong(MemberCouponIdRangePartitioner.START_AFTER_ID_KEY))
+                    .isEqualTo(partitions.get(i - 1).getLong(MemberCouponIdRangePartitioner.MAX_ID_KEY));
+        }
+    }
+
+    @Test
+    @DisplayName("PK 값이 몰려 있어도 값 폭이 아니라 행 수 분위로 경계를 잡음")
+    void partition_SkewedIds_UsesRowQuantiles() {
+        // given - 앞쪽 구간에 행이 몰리고 뒤쪽은 값만 큰 경우
+        given(memberCouponBulkRepository.findIdQuantiles(2)).willReturn(List.of(
+                new long[]{1L, 10L}, new long[]{11L, 1_000_000L}));
+
+        // when
+        List<ExecutionContext> partitions = sorted(partitioner.partition(2));
+
+        // then
+        assertThat(partitions.get(0).getLong(MemberCouponIdRangePartitioner.MAX_ID_KEY)).isEqualTo(10L);
+        assertThat(partitions.get(1).getLong(MemberCouponIdRangePartitioner.START_AFTER_ID_KEY)).isEqualTo(10L);
+        assertThat(partitions.get(1).getLong(MemberCouponIdRangePartitioner.MAX_ID_KEY)).isEqualTo(1_000_000L);
+    }
+
+    @Test
+    @DisplayName("행 수보다 파티션이 많으면 빈 구간을 만들지 않음")
+    void partition_SmallRange() {
+        // given
+        given(memberCouponBulkRepository.findIdQuantiles(8)).willReturn(List.of(
+                new long[]{5L, 5L}, new long[]{6L, 6L}));
+
+        // when
+        List<ExecutionContext> partitions = sorted(partitioner.partition(8));
+
+        // then
+        assertThat(partitions).hasSize(2);
+        assertThat(partitions.get(1).getLong(MemberCouponIdRangePartitioner.MAX_ID_KEY)).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("데이터가 없으면 빈 구간 파티션 1개")
+    void partition_Empty() {
+        // given
+        given(memberCouponBulkRepository.findIdQuantiles(4)).willReturn(List.of());
+
+        // when
+        Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+        // then
+        assertThat(partitions).hasSize(1);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.book2onandoncouponservice.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+class UserIdRangeItemReaderTest {
+
+    private List<Long> readAll(UserIdRangeItemReader reader) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        Long id;
+        while ((id = reader.read()) != null) {
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    @Test
+    @DisplayName("구간의 사용자 ID를 양 끝 포함 순서대로 읽는다")
+    void read() throws Exception {
+        // given
+        UserIdRangeItemReader reader = new UserIdRangeItemReader(5L, 9L);
+        reader.open(new ExecutionContext());
+
+        // when
+        List<Long> ids = readAll(reader);
+
+        // then
+        assertThat(ids).containsExactly(5L, 6L, 7L, 8L, 9L);
+    }
+
+    @Test
+    @DisplayName("재시작 시 저장된 읽은 개수 다음 ID부터 이어서 읽는다")
+    void read_Restart() throws Exception {
+        // given - 3건 읽고 커밋된 상태
+        UserIdRangeItemReader first = new UserIdRangeItemReader(1L, 6L);
+        ExecutionContext context = new ExecutionContext();
+        first.open(context);
+        first.read();
+        first.read();
+        first.read();
+        first.update(context);
+        first.close();
+
+        // when
+        UserIdRangeItemReader restarted = new UserIdRangeItemReader(1L, 6L);
+        restarted.open(context);
+
+        // then
+        assertThat(readAll(restarted)).containsExactly(4L, 5L, 6L);
+    }
+
+    @Test
+    @DisplayName("시작 ID가 끝 ID보다 크면 예외")
+    void create_Fail_InvalidRange() {
+        assertThatThrownBy(() -> new UserIdRangeItemReader(10L, 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
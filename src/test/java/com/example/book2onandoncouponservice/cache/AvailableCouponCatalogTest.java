@@ -0,0 +1,226 @@
+package com.example.book2onandoncouponservice.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.example.book2onandoncouponservice.dto.response.AvailableCouponPageDto;
+import com.example.book2onandoncouponservice.dto.response.CouponResponseDto;
+import com.example.book2onandoncouponservice.entity.Coupon;
+import com.example.book2onandoncouponservice.entity.CouponPolicy;
+import com.example.book2onandoncouponservice.entity.CouponPolicyDiscountType;
+import com.example.book2onandoncouponservice.entity.CouponPolicyStatus;
+import com.example.book2onandoncouponservice.entity.CouponPolicyType;
+import com.example.book2onandoncouponservice.redis.CouponStockStore;
+import com.example.book2onandoncouponservice.repository.CouponRepository;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class AvailableCouponCatalogTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final LocalDate TODAY = LocalDate.of(2030, 3, 1);
+
+    @Mock
+    private CouponRepository couponRepository;
+    @Mock
+    private CouponStockStore couponStockStore;
+
+    private final MutableClock clock = new MutableClock(TODAY.atTime(12, 0).atZone(ZONE).toInstant());
+
+    private AvailableCouponCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new AvailableCouponCatalog(couponRepository, couponStockStore, clock);
+    }
+
+    private Coupon coupon(Long couponId, Integer remainingQuantity, int discountValue) {
+        CouponPolicy policy = CouponPolicy.builder()
+                .couponPolicyId(couponId)
+                .couponPolicyName("정책 " + couponId)
+                .couponPolicyType(CouponPolicyType.CUSTOM)
+                .couponPolicyDiscountType(CouponPolicyDiscountType.FIXED)
+                .couponDiscountValue(discountValue)
+                .minPrice(10000)
+                .durationDays(30)
+                .couponPolicyStatus(CouponPolicyStatus.ACTIVE)
+                .build();
+        Coupon coupon = new Coupon(remainingQuantity, policy);
+        ReflectionTestUtils.setField(coupon, "couponId", couponId);
+        return coupon;
+    }
+
+    private List<Long> ids(AvailableCouponPageDto page) {
+        return page.getCoupons().getContent().stream().map(CouponResponseDto::getCouponId).toList();
+    }
+
+    @Test
+    @DisplayName("적재 전에는 준비되지 않은 상태이며 페이지 조회 시 예외")
+    void notReady() {
+        assertThat(catalog.isReady()).isFalse();
+        assertThatThrownBy(() -> catalog.page(PageRequest.of(0, 10))).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("스냅샷 배열에서 페이지를 잘라 응답하고, Redis 재고가 소진된 수량 제한 쿠폰은 제외한다")
+    void page_FromSnapshot() {
+        // given
+        given(couponRepository.findAvailableCouponList(CouponPolicyStatus.ACTIVE, TODAY))
+                .willReturn(List.of(coupon(1L, null, 1000), coupon(2L, 10, 2000), coupon(3L, 5, 3000),
+                        coupon(4L, null, 4000)));
+        given(couponStockStore.stocks(List.of(2L, 3L))).willReturn(Map.of(2L, 0L, 3L, 5L));
+
+        // when
+        catalog.reloadAll();
+        AvailableCouponPageDto first = catalog.page(PageRequest.of(0, 2));
+        AvailableCouponPageDto second = catalog.page(PageRequest.of(1, 2));
+
+        // then
+        assertThat(ids(first)).containsExactly(1L, 3L);
+        assertThat(ids(second)).containsExactly(4L);
+        assertThat(second.getCoupons().getTotalElements()).isEqualTo(3);
+        assertThat(first.getEtag()).startsWith("\"").endsWith("-0-2\"");
+        assertThat(second.getEtag()).endsWith("-1-2\"");
+    }
+
+    @Test
+    @DisplayName("ETag는 내용이 같으면 다시 만들어도 같고, 내용이 바뀌면 달라진다")
+    void etag_FollowsContent() {
+        // given
+        given(couponRepository.findAvailableCouponList(CouponPolicyStatus.ACTIVE, TODAY))
+                .willReturn(List.of(coupon(1L, null, 1000)))
+                .willReturn(List.of(coupon(1L, null, 1000)))
+                .willReturn(List.of(coupon(1L, null, 1500)));
+
+        // when
+        catalog.reloadAll();
+        String before = catalog.page(PageRequest.of(0, 10)).getEtag();
+        catalog.onCouponChanged(1L);
+        String same = catalog.page(PageRequest.of(0, 10)).getEtag();
+        catalog.onPolicyChanged(1L);
+        String changed = catalog.page(PageRequest.of(0, 10)).getEtag();
+
+        // then
+        assertThat(same).isEqualTo(before);
+        assertThat(changed).isNotEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("재고 소진 알림은 DB 조회 없이 해당 쿠폰만 빼고, 목록에 없는 쿠폰이면 무시한다")
+    void onSoldOut() {
+        // given
+        given(couponRepository.findAvailableCouponList(CouponPolicyStatus.ACTIVE, TODAY))
+                .willReturn(List.of(coupon(1L, null, 1000), coupon(2L, 10, 2000)));
+        given(couponStockStore.stocks(List.of(2L))).willReturn(Map.of(2L, 3L));
+        catalog.reloadAll();
+        String before = catalog.page(PageRequest.of(0, 10)).getEtag();
+
+        // when
+        catalog.onSoldOut(2L);
+        catalog.onSoldOut(2L);
+        catalog.onSoldOut(99L);
+
+        // then
+        AvailableCouponPageDto page = catalog.page(PageRequest.of(0, 10));
+        assertThat(ids(page)).containsExactly(1L);
+        assertThat(page.getEtag()).isNotEqualTo(before);
+        verify(couponRepository, times(1)).findAvailableCouponList(any(), any());
+    }
+
+    @Test
+    @DisplayName("날짜가 바뀐 뒤 첫 조회는 자정 갱신을 기다리지 않고 새 날짜로 다시 만든다")
+    void page_RebuildsOnNewDay() {
+        // given
+        LocalDate tomorrow = TODAY.plusDays(1);
+        given(couponRepository.findAvailableCouponList(CouponPolicyStatus.ACTIVE, TODAY))
+                .willReturn(List.of(coupon(1L, null, 1000), coupon(2L, null, 2000)));
+        given(couponRepository.findAvailableCouponList(CouponPolicyStatus.ACTIVE, tomorrow))
+                .willReturn(List.of(coupon(2L, null, 2000)));
+        catalog.reloadAll();
+
+        // when
+        clock.set(tomorrow.atStartOfDay(ZONE).plusSeconds(1).toInstant());
+        AvailableCouponPageDto page = catalog.page(PageRequest.of(0, 10));
+        catalog.page(PageRequest.of(0, 10));
+
+        // then
+        assertThat(ids(page)).containsExactly(2L);
+        verify(couponRepository, times(1)).findAvailableCouponList(CouponPolicyStatus.ACTIVE, tomorrow);
+    }
+
+    @Test
+    @DisplayName("Redis 재고 조회가 실패하면 DB 재고 기준으로 만든다")
+    void reloadAll_RedisFailure() {
+        // given
+        given(couponRepository.findAvailableCouponList(CouponPolicyStatus.ACTIVE, TODAY))
+                .willReturn(List.of(coupon(1L, 10, 1000)));
+        given(couponStockStore.stocks(List.of(1L))).willThrow(new IllegalStateException("redis down"));
+
+        // when
+        catalog.reloadAll();
+
+        // then
+        assertThat(ids(catalog.page(PageRequest.of(0, 10)))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("수량 제한 쿠폰이 없으면 Redis를 조회하지 않는다")
+    void reloadAll_NoLimitedCoupons() {
+        // given
+        given(couponRepository.findAvailableCouponList(CouponPolicyStatus.ACTIVE, TODAY))
+                .willReturn(List.of(coupon(1L, null, 1000)));
+
+        // when
+        catalog.reloadAll();
+
+        // then
+        assertThat(catalog.isReady()).isTrue();
+        verify(couponStockStore, never()).stocks(any());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void set(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.book2onandoncouponservice.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.example.book2onandoncouponservice.cache.CacheInvalidationEvent.Target;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationBusTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisScript<Long> cacheInvalidationScript;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private CacheInvalidationListener listener;
+
+    private CacheInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        bus = new CacheInvalidationBus(redisTemplate, cacheInvalidationScript, List.of(listener));
+    }
+
+    private void receive(long sequence, String nodeId, Target target, long id) {
+        String payload = sequence + ":" + CacheInvalidationEvent.body(nodeId, target, id);
+        bus.onMessage(new DefaultMessage(CacheInvalidationBus.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                payload.getBytes(StandardCharsets.UTF_8)), null);
+    }
+
+    @Test
+    @DisplayName("발행 - 로컬 캐시에 즉시 반영하고 순번 채번 스크립트로 발행")
+    void publish_DispatchLocallyAndPublish() {
+        // when
+        bus.publishPolicyChanged(3L);
+
+        // then
+        verify(listener).onPolicyChanged(3L);
+
+        ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).execute(eq(cacheInvalidationScript), eq(List.of(CacheInvalidationBus.SEQUENCE_KEY)),
+                eq(CacheInvalidationBus.CHANNEL), body.capture());
+        assertThat(body.getValue()).endsWith(":POLICY:3");
+    }
+
+    @Test
+    @DisplayName("수신 - 다른 노드의 이벤트는 해당 ID만 갱신")
+    void receive_OtherNode() {
+        // when
+        receive(1, "other-node", Target.POLICY, 5L);
+        receive(2, "other-node", Target.COUPON, 7L);
+
+        // then
+        verify(listener).onPolicyChanged(5L);
+        verify(listener).onCouponChanged(7L);
+        verify(listener, never()).reloadAll();
+    }
+
+    @Test
+    @DisplayName("수신 - 자기 노드가 발행한 이벤트는 다시 처리하지 않음")
+    void receive_OwnEvent_Skipped() {
+        // given
+        ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+        bus.publishCouponChanged(9L);
+        verify(redisTemplate).execute(eq(cacheInvalidationScript), anyList(), anyString(), body.capture());
+
+        // when
+        bus.onMessage(new DefaultMessage(CacheInvalidationBus.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                ("1:" + body.getValue()).getBytes(StandardCharsets.UTF_8)), null);
+
+        // then (발행 시 로컬 반영 1회만)
+        verify(listener).onCouponChanged(9L);
+    }
+
+    @Test
+    @DisplayName("수신 - 순번 누락이 감지되면 전체 재적재")
+    void receive_SequenceGap_ReloadAll() {
+        // given
+        receive(1, "other-node", Target.POLICY, 5L);
+
+        // when
+        receive(3, "other-node", Target.POLICY, 6L);
+
+        // then
+        verify(listener).reloadAll();
+        verify(listener, never()).onPolicyChanged(6L);
+    }
+
+    @Test
+    @DisplayName("수신 - 이미 처리한 순번은 무시")
+    void receive_Duplicate_Ignored() {
+        // given
+        receive(1, "other-node", Target.POLICY, 5L);
+
+        // when
+        receive(1, "other-node", Target.POLICY, 5L);
+
+        // then
+        verify(listener).onPolicyChanged(5L);
+    }
+
+    @Test
+    @DisplayName("수신 - 형식이 잘못된 이벤트는 무시")
+    void receive_InvalidPayload() {
+        bus.onMessage(new DefaultMessage(new byte[0], "broken".getBytes(StandardCharsets.UTF_8)), null);
+
+        verify(listener, never()).reloadAll();
+        verify(listener, never()).onPolicyChanged(any());
+    }
+
+    @Test
+    @DisplayName("순번 대조 - 마지막 이벤트 이후 원격 순번이 앞서 있으면 전체 재적재")
+    void verifySequence_MissedTrailingEvent() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        receive(1, "other-node", Target.POLICY, 5L);
+        given(valueOperations.get(CacheInvalidationBus.SEQUENCE_KEY)).willReturn("2");
+
+        // when
+        bus.verifySequence();
+
+        // then
+        verify(listener).reloadAll();
+    }
+
+    @Test
+    @DisplayName("순번 대조 - 기준 순번이 없으면 원격 순번으로 초기화")
+    void verifySequence_Initialize() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get(CacheInvalidationBus.SEQUENCE_KEY)).willReturn("10");
+
+        // when
+        bus.verifySequence();
+        receive(11, "other-node", Target.COUPON, 1L);
+
+        // then
+        verify(listener, never()).reloadAll();
+        verify(listener).onCouponChanged(1L);
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.book2onandoncouponservice.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.example.book2onandoncouponservice.entity.Coupon;
+import com.example.book2onandoncouponservice.entity.CouponPolicy;
+import com.example.book2onandoncouponservice.entity.CouponPolicyStatus;
+import com.example.book2onandoncouponservice.repository.CouponRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class CouponSnapshotCacheTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CouponSnapshotCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CouponSnapshotCache(couponRepository, meterRegistry, 100, Duration.ofMinutes(1));
+    }
+
+    private Coupon coupon(Long couponId, Long policyId, Integer quantity) {
+        CouponPolicy policy = CouponPolicy.builder()
+                .couponPolicyId(policyId)
+                .couponPolicyStatus(CouponPolicyStatus.ACTIVE)
+                .fixedEndDate(LocalDate.of(2025, 12, 31))
+                .build();
+        Coupon coupon = new Coupon(quantity, policy);
+        ReflectionTestUtils.setField(coupon, "couponId", couponId);
+        return coupon;
+    }
+
+    @Test
+    @DisplayName("같은 쿠폰을 반복 조회해도 DB는 한 번만 조회하고 hit/miss가 기록된다")
+    void find_CachesSnapshot() {
+        // given
+        given(couponRepository.findById(1L)).willReturn(Optional.of(coupon(1L, 10L, 100)));
+
+        // when
+        CouponSnapshot first = cache.find(1L).orElseThrow();
+        cache.find(1L);
+        cache.find(1L);
+
+        // then
+        verify(couponRepository, times(1)).findById(1L);
+        assertThat(first.limited()).isTrue();
+        assertThat(first.issuable()).isTrue();
+        assertThat(first.policyId()).isEqualTo(10L);
+        assertThat(first.fixedEndDate()).isEqualTo(LocalDate.of(2025, 12, 31));
+        assertThat(meterRegistry.get("cache.gets").tag("cache", CouponSnapshotCache.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", CouponSnapshotCache.CACHE_NAME)
+                .tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 쿠폰은 캐시하지 않는다")
+    void find_NotFound() {
+        // given
+        given(couponRepository.findById(1L)).willReturn(Optional.empty());
+
+        // when
+        Optional<CouponSnapshot> first = cache.find(1L);
+        Optional<CouponSnapshot> second = cache.find(1L);
+
+        // then
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        verify(couponRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("쿠폰 변경 이벤트: 해당 쿠폰만 제거")
+    void onCouponChanged() {
+        // given
+        given(couponRepository.findById(1L)).willReturn(Optional.of(coupon(1L, 10L, 100)));
+        given(couponRepository.findById(2L)).willReturn(Optional.of(coupon(2L, 10L, null)));
+        cache.find(1L);
+        cache.find(2L);
+
+        // when
+        cache.onCouponChanged(1L);
+        cache.find(1L);
+        cache.find(2L);
+
+        // then
+        verify(couponRepository, times(2)).findById(1L);
+        verify(couponRepository, times(1)).findById(2L);
+    }
+
+    @Test
+    @DisplayName("정책 변경 이벤트: 해당 정책의 쿠폰만 제거")
+    void onPolicyChanged() {
+        // given
+        given(couponRepository.findById(1L)).willReturn(Optional.of(coupon(1L, 10L, 100)));
+        given(couponRepository.findById(2L)).willReturn(Optional.of(coupon(2L, 20L, 100)));
+        cache.find(1L);
+        cache.find(2L);
+
+        // when
+        cache.onPolicyChanged(10L);
+        cache.find(1L);
+        cache.find(2L);
+
+        // then
+        verify(couponRepository, times(2)).findById(1L);
+        verify(couponRepository, times(1)).findById(2L);
+    }
+
+    @Test
+    @DisplayName("전체 재적재: 모든 항목 제거")
+    void reloadAll() {
+        // given
+        given(couponRepository.findById(1L)).willReturn(Optional.of(coupon(1L, 10L, 100)));
+        cache.find(1L);
+
+        // when
+        cache.reloadAll();
+        cache.find(1L);
+
+        // then
+        verify(couponRepository, times(2)).findById(1L);
+    }
+}
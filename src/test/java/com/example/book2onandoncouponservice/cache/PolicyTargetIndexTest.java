@@ -0,0 +1,171 @@
+package com.example.book2onandoncouponservice.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.book2onandoncouponservice.entity.Coupon;
+import com.example.book2onandoncouponservice.entity.CouponPolicy;
+import com.example.book2onandoncouponservice.entity.CouponPolicyDiscountType;
+import com.example.book2onandoncouponservice.entity.CouponPolicyStatus;
+import com.example.book2onandoncouponservice.entity.CouponPolicyTargetBook;
+import com.example.book2onandoncouponservice.entity.CouponPolicyTargetCategory;
+import com.example.book2onandoncouponservice.entity.CouponPolicyType;
+import com.example.book2onandoncouponservice.repository.CouponPolicyRepository;
+import com.example.book2onandoncouponservice.repository.CouponRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@Import(PolicyTargetIndex.class)
+class PolicyTargetIndexTest {
+
+    @Autowired
+    private PolicyTargetIndex policyTargetIndex;
+
+    @Autowired
+    private CouponPolicyRepository couponPolicyRepository;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private CouponPolicy bookPolicy;
+    private CouponPolicy categoryPolicy;
+    private CouponPolicy customPolicy;
+    private CouponPolicy untargetedBookPolicy;
+    private CouponPolicy deactivePolicy;
+    private CouponPolicy welcomePolicy;
+
+    @BeforeEach
+    void setUp() {
+        bookPolicy = createPolicy(CouponPolicyType.BOOK, CouponPolicyStatus.ACTIVE);
+        addTargetBook(bookPolicy, 100L);
+        addTargetBook(bookPolicy, 101L);
+
+        categoryPolicy = createPolicy(CouponPolicyType.CATEGORY, CouponPolicyStatus.ACTIVE);
+        addTargetCategory(categoryPolicy, 20L);
+
+        customPolicy = createPolicy(CouponPolicyType.CUSTOM, CouponPolicyStatus.ACTIVE);
+        untargetedBookPolicy = createPolicy(CouponPolicyType.BOOK, CouponPolicyStatus.ACTIVE);
+
+        deactivePolicy = createPolicy(CouponPolicyType.BOOK, CouponPolicyStatus.DEACTIVE);
+        addTargetBook(deactivePolicy, 100L);
+
+        welcomePolicy = createPolicy(CouponPolicyType.WELCOME, CouponPolicyStatus.ACTIVE);
+
+        for (CouponPolicy policy : List.of(bookPolicy, categoryPolicy, customPolicy, untargetedBookPolicy,
+                deactivePolicy, welcomePolicy)) {
+            entityManager.persist(new Coupon(100, policy));
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private CouponPolicy createPolicy(CouponPolicyType type, CouponPolicyStatus status) {
+        return entityManager.persist(CouponPolicy.builder()
+                .couponPolicyName(type.name())
+                .couponPolicyType(type)
+                .couponPolicyDiscountType(CouponPolicyDiscountType.FIXED)
+                .couponPolicyStatus(status)
+                .couponDiscountValue(1000)
+                .minPrice(0)
+                .build());
+    }
+
+    private void addTargetBook(CouponPolicy policy, Long bookId) {
+        entityManager.persist(CouponPolicyTargetBook.builder().couponPolicy(policy).bookId(bookId).build());
+    }
+
+    private void addTargetCategory(CouponPolicy policy, Long categoryId) {
+        entityManager.persist(CouponPolicyTargetCategory.builder().couponPolicy(policy).categoryId(categoryId).build());
+    }
+
+    private List<Long> appliableCouponPolicyIdsFromDb(Long bookId, List<Long> categoryIds) {
+        return couponRepository.findAppliableCoupons(bookId, categoryIds).stream()
+                .map(coupon -> coupon.getCouponPolicy().getCouponPolicyId())
+                .sorted()
+                .toList();
+    }
+
+    @Test
+    @DisplayName("적재 전에는 조회할 수 없다")
+    void notReady_BeforeLoad() {
+        PolicyTargetIndex notLoaded = new PolicyTargetIndex(null, null, null);
+
+        assertThat(notLoaded.isReady()).isFalse();
+        assertThatThrownBy(() -> notLoaded.findApplicablePolicyIds(List.of(1L), List.of()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("주문 적용 가능 정책 - DB 조회와 같은 결과")
+    void findApplicablePolicyIds_SameAsRepository() {
+        // given
+        policyTargetIndex.reloadAll();
+
+        for (List<Long> bookIds : List.of(List.of(100L), List.of(101L, 555L), List.of(555L))) {
+            for (List<Long> categoryIds : List.of(List.of(20L), List.of(30L))) {
+                // when
+                List<Long> fromIndex = policyTargetIndex.findApplicablePolicyIds(bookIds, categoryIds);
+
+                // then
+                List<Long> fromDb = couponPolicyRepository.findApplicablePolicyIds(bookIds, categoryIds).stream()
+                        .sorted()
+                        .toList();
+                assertThat(fromIndex).as("books=%s, categories=%s", bookIds, categoryIds).isEqualTo(fromDb);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("상품 페이지 발급 가능 정책 - DB 조회와 같은 결과")
+    void findIssuablePolicyIds_SameAsRepository() {
+        // given
+        policyTargetIndex.reloadAll();
+
+        for (Long bookId : List.of(100L, 101L, 555L)) {
+            for (List<Long> categoryIds : List.of(List.of(20L), List.of(30L, 40L))) {
+                // when
+                List<Long> fromIndex = policyTargetIndex.findIssuablePolicyIds(bookId, categoryIds);
+
+                // then
+                assertThat(fromIndex).as("book=%s, categories=%s", bookId, categoryIds)
+                        .isEqualTo(appliableCouponPolicyIdsFromDb(bookId, categoryIds));
+            }
+        }
+        assertThat(policyTargetIndex.findIssuablePolicyIds(100L, List.of(20L)))
+                .containsExactlyInAnyOrder(bookPolicy.getCouponPolicyId(), categoryPolicy.getCouponPolicyId(),
+                        customPolicy.getCouponPolicyId(), untargetedBookPolicy.getCouponPolicyId());
+    }
+
+    @Test
+    @DisplayName("정책 단건 갱신 - 비활성화와 대상 변경이 반영된다")
+    void refresh_SinglePolicy() {
+        // given
+        policyTargetIndex.reloadAll();
+
+        CouponPolicy policy = couponPolicyRepository.findById(bookPolicy.getCouponPolicyId()).orElseThrow();
+        policy.deActive();
+        addTargetBook(entityManager.find(CouponPolicy.class, categoryPolicy.getCouponPolicyId()), 777L);
+        entityManager.flush();
+
+        // when
+        policyTargetIndex.refresh(bookPolicy.getCouponPolicyId());
+        policyTargetIndex.refresh(categoryPolicy.getCouponPolicyId());
+
+        // then
+        assertThat(policyTargetIndex.findIssuablePolicyIds(100L, List.of()))
+                .doesNotContain(bookPolicy.getCouponPolicyId());
+        assertThat(policyTargetIndex.findApplicablePolicyIds(List.of(777L), List.of()))
+                .contains(categoryPolicy.getCouponPolicyId());
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.book2onandoncouponservice.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.example.book2onandoncouponservice.entity.CouponPolicyType;
+import com.example.book2onandoncouponservice.exception.CouponNotFoundException;
+import com.example.book2onandoncouponservice.exception.CouponPolicyNotFoundException;
+import com.example.book2onandoncouponservice.repository.CouponPolicyRepository;
+import com.example.book2onandoncouponservice.repository.projection.SystemCouponRow;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SystemCouponRegistryTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    @Mock
+    private CouponPolicyRepository policyRepository;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2030-03-01T00:00:00Z"));
+
+    private SystemCouponRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SystemCouponRegistry(policyRepository, TTL, clock);
+    }
+
+    private static SystemCouponRow welcome(Long policyId, Long couponId) {
+        return new SystemCouponRow(CouponPolicyType.WELCOME, policyId, couponId);
+    }
+
+    private static SystemCouponRow birthday(Long policyId, Long couponId) {
+        return new SystemCouponRow(CouponPolicyType.BIRTHDAY, policyId, couponId);
+    }
+
+    @Test
+    @DisplayName("한 번 적재하면 TTL 안에서는 DB 조회 없이 타입별 쿠폰 ID를 돌려준다")
+    void couponId_Memoized() {
+        // given
+        given(policyRepository.findActiveSystemCoupons(SystemCouponRegistry.SYSTEM_TYPES))
+                .willReturn(List.of(welcome(1L, 10L), birthday(2L, 20L)));
+
+        // when
+        Long welcomeCouponId = registry.couponId(CouponPolicyType.WELCOME);
+        Long birthdayCouponId = registry.couponId(CouponPolicyType.BIRTHDAY);
+        registry.couponId(CouponPolicyType.WELCOME);
+
+        // then
+        assertThat(welcomeCouponId).isEqualTo(10L);
+        assertThat(birthdayCouponId).isEqualTo(20L);
+        verify(policyRepository, times(1)).findActiveSystemCoupons(SystemCouponRegistry.SYSTEM_TYPES);
+    }
+
+    @Test
+    @DisplayName("정책/쿠폰 변경 이벤트와 TTL 만료 시 다시 적재한다")
+    void couponId_RefreshOnChangeAndTtl() {
+        // given
+        given(policyRepository.findActiveSystemCoupons(SystemCouponRegistry.SYSTEM_TYPES))
+                .willReturn(List.of(welcome(1L, 10L)))
+                .willReturn(List.of(welcome(3L, 30L)))
+                .willReturn(List.of(welcome(4L, 40L)));
+        registry.reloadAll();
+
+        // when & then
+        registry.onPolicyChanged(3L);
+        assertThat(registry.couponId(CouponPolicyType.WELCOME)).isEqualTo(30L);
+
+        clock.set(clock.instant().plus(TTL));
+        assertThat(registry.couponId(CouponPolicyType.WELCOME)).isEqualTo(40L);
+    }
+
+    @Test
+    @DisplayName("같은 타입의 활성 정책이 여러 개면 발급 시 모호함 예외, 다른 타입은 정상 조회")
+    void couponId_Ambiguous() {
+        // given
+        given(policyRepository.findActiveSystemCoupons(SystemCouponRegistry.SYSTEM_TYPES))
+                .willReturn(List.of(welcome(1L, 10L), welcome(5L, 50L), birthday(2L, 20L)));
+
+        // when & then
+        assertThatThrownBy(() -> registry.couponId(CouponPolicyType.WELCOME))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("[1, 5]");
+        assertThat(registry.couponId(CouponPolicyType.BIRTHDAY)).isEqualTo(20L);
+    }
+
+    @Test
+    @DisplayName("정책 하나에 쿠폰이 여러 개면 정책 중복이 아닌 쿠폰 중복 예외")
+    void couponId_MultipleCoupons() {
+        // given - 정책 1개가 쿠폰 2개와 조인되어 2행
+        given(policyRepository.findActiveSystemCoupons(SystemCouponRegistry.SYSTEM_TYPES))
+                .willReturn(List.of(welcome(1L, 10L), welcome(1L, 11L), birthday(2L, 20L)));
+
+        // when & then
+        assertThatThrownBy(() -> registry.couponId(CouponPolicyType.WELCOME))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("쿠폰이 여러 개")
+                .hasMessageContaining("[10, 11]");
+        assertThat(registry.couponId(CouponPolicyType.BIRTHDAY)).isEqualTo(20L);
+    }
+
+    @Test
+    @DisplayName("쿠폰이 여러 개인 정책이 다른 정책과 함께 활성이면 정책 중복으로 판단")
+    void couponId_AmbiguousPolicyWithMultipleCoupons() {
+        // given
+        given(policyRepository.findActiveSystemCoupons(SystemCouponRegistry.SYSTEM_TYPES))
+                .willReturn(List.of(welcome(1L, 10L), welcome(1L, 11L), welcome(5L, 50L)));
+
+        // when & then
+        assertThatThrownBy(() -> registry.couponId(CouponPolicyType.WELCOME))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("정책이 여러 개")
+                .hasMessageContaining("[1, 5]");
+    }
+
+    @Test
+    @DisplayName("정책은 있지만 쿠폰이 없으면 CouponNotFoundException")
+    void couponId_NoCoupon() {
+        // given
+        given(policyRepository.findActiveSystemCoupons(SystemCouponRegistry.SYSTEM_TYPES))
+                .willReturn(List.of(welcome(1L, null)));
+
+        // when & then
+        assertThatThrownBy(() -> registry.couponId(CouponPolicyType.WELCOME))
+                .isInstanceOf(CouponNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("활성 정책이 없다는 결과도 기억하고 정책이 없으면 예외")
+    void couponId_NoPolicy() {
+        // given
+        given(policyRepository.findActiveSystemCoupons(SystemCouponRegistry.SYSTEM_TYPES)).willReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> registry.couponId(CouponPolicyType.BIRTHDAY))
+                .isInstanceOf(CouponPolicyNotFoundException.class);
+        assertThatThrownBy(() -> registry.couponId(CouponPolicyType.BIRTHDAY))
+                .isInstanceOf(CouponPolicyNotFoundException.class);
+        verify(policyRepository, times(1)).findActiveSystemCoupons(SystemCouponRegistry.SYSTEM_TYPES);
+    }
+
+    @Test
+    @DisplayName("TTL 갱신이 실패하면 이전 값을 쓰고, 적재된 값이 없으면 예외를 그대로 던진다")
+    void couponId_RefreshFailure() {
+        // given
+        given(policyRepository.findActiveSystemCoupons(SystemCouponRegistry.SYSTEM_TYPES))
+                .willThrow(new IllegalStateException("db down"))
+                .willReturn(List.of(welcome(1L, 10L)))
+                .willThrow(new IllegalStateException("db down"));
+
+        // when & then
+        assertThatThrownBy(() -> registry.couponId(CouponPolicyType.WELCOME))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("db down");
+        assertThat(registry.couponId(CouponPolicyType.WELCOME)).isEqualTo(10L);
+
+        clock.set(clock.instant().plus(TTL));
+        assertThat(registry.couponId(CouponPolicyType.WELCOME)).isEqualTo(10L);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void set(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.book2onandoncouponservice.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.book2onandoncouponservice.batch.UserIdRangeItemReader;
+import com.example.book2onandoncouponservice.service.CouponService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.JobParametersInvalidException;
+import org.springframework.batch.core.JobParametersValidator;
+import org.springframework.batch.core.job.SimpleJob;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.file.FlatFileParseException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class CouponBulkIssueJobConfigTest {
+
+    @Mock
+    private JobRepository jobRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private CouponService couponService;
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private CouponBulkIssueJobConfig couponBulkIssueJobConfig;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Job Bean 생성 확인")
+    void couponBulkIssueJob() {
+        ReflectionTestUtils.setField(couponBulkIssueJobConfig, "chunkSize", 1000);
+        ReflectionTestUtils.setField(couponBulkIssueJobConfig, "skipLimit", 10);
+
+        Job job = couponBulkIssueJobConfig.couponBulkIssueJob(couponBulkIssueJobConfig.couponBulkIssueStep(
+                couponBulkIssueJobConfig.couponBulkIssueReader(null, 1L, 10L),
+                couponBulkIssueJobConfig.couponBulkIssueWriter(1L)));
+
+        assertThat(job.getName()).isEqualTo(CouponBulkIssueJobConfig.JOB_NAME);
+        assertThat(((SimpleJob) job).getStepNames()).containsExactly("couponBulkIssueStep");
+    }
+
+    @Test
+    @DisplayName("파일 파라미터가 있으면 한 줄에 하나씩 사용자 ID를 읽고, 숫자가 아닌 줄은 파싱 예외")
+    void reader_File() throws Exception {
+        // given
+        Path file = tempDir.resolve("users.txt");
+        Files.writeString(file, "1\n 2 \nabc\n3\n");
+        ItemStreamReader<Long> reader = couponBulkIssueJobConfig.couponBulkIssueReader(file.toString(), null, null);
+        reader.open(new ExecutionContext());
+
+        // when
+        List<Long> ids = new ArrayList<>();
+        ids.add(reader.read());
+        ids.add(reader.read());
+
+        // then
+        assertThat(ids).containsExactly(1L, 2L);
+        assertThatThrownBy(reader::read).isInstanceOf(FlatFileParseException.class);
+        assertThat(reader.read()).isEqualTo(3L);
+        reader.close();
+    }
+
+    @Test
+    @DisplayName("파일이 없으면 ID 구간 Reader")
+    void reader_Range() {
+        assertThat(couponBulkIssueJobConfig.couponBulkIssueReader(null, 1L, 10L))
+                .isInstanceOf(UserIdRangeItemReader.class);
+    }
+
+    @Test
+    @DisplayName("Job 파라미터 검증 - 쿠폰 ID와 파일 또는 ID 구간이 필요하다")
+    void validator() throws Exception {
+        JobParametersValidator validator = couponBulkIssueJobConfig.couponBulkIssueParametersValidator();
+
+        validator.validate(new JobParametersBuilder()
+                .addLong(CouponBulkIssueJobConfig.COUPON_ID, 1L)
+                .addLong(CouponBulkIssueJobConfig.FROM_USER_ID, 1L)
+                .addLong(CouponBulkIssueJobConfig.TO_USER_ID, 10L)
+                .toJobParameters());
+        validator.validate(new JobParametersBuilder()
+                .addLong(CouponBulkIssueJobConfig.COUPON_ID, 1L)
+                .addString(CouponBulkIssueJobConfig.USER_ID_FILE, "users.txt")
+                .toJobParameters());
+        assertThatThrownBy(() -> validator.validate(new JobParametersBuilder()
+                .addLong(CouponBulkIssueJobConfig.COUPON_ID, 1L)
+                .addLong(CouponBulkIssueJobConfig.FROM_USER_ID, 1L)
+                .toJobParameters()))
+                .isInstanceOf(JobParametersInvalidException.class);
+        assertThatThrownBy(() -> validator.validate(new JobParametersBuilder()
+                .addLong(CouponBulkIssueJobConfig.FROM_USER_ID, 1L)
+                .addLong(CouponBulkIssueJobConfig.TO_USER_ID, 10L)
+                .toJobParameters()))
+                .isInstanceOf(JobParametersInvalidException.class);
+    }
+}
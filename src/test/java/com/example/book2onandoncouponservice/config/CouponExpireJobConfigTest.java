@@ -5,20 +5,27 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.example.book2onandoncouponservice.batch.MemberCouponBulkExpireTasklet;
 import com.example.book2onandoncouponservice.entity.MemberCoupon;
+import com.example.book2onandoncouponservice.repository.MemberCouponBulkRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.SimpleJob;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.database.JpaCursorItemReader;
 import org.springframework.batch.item.database.JpaItemWriter;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.PlatformTransactionManager;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +37,10 @@ class CouponExpireJobConfigTest {
     private PlatformTransactionManager transactionManager;
     @Mock
     private EntityManagerFactory entityManagerFactory;
+    @Mock
+    private MemberCouponBulkRepository memberCouponBulkRepository;
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     @InjectMocks
     private CouponExpireJobConfig couponExpireJobConfig;
@@ -40,6 +51,37 @@ class CouponExpireJobConfigTest {
         Job job = couponExpireJobConfig.couponExpireJob();
         assertThat(job).isNotNull();
         assertThat(job.getName()).isEqualTo("couponExpireJob");
+        assertThat(((SimpleJob) job).getStepNames()).containsExactly("couponExpireStep");
+    }
+
+    @Test
+    @DisplayName("bulk 모드: Job이 bulk UPDATE Step으로 구성된다")
+    void couponExpireJob_BulkMode() {
+        ReflectionTestUtils.setField(couponExpireJobConfig, "expireMode", "bulk");
+
+        Job job = couponExpireJobConfig.couponExpireJob();
+
+        assertThat(((SimpleJob) job).getStepNames()).containsExactly("couponExpireBulkStep");
+    }
+
+    @Test
+    @DisplayName("partitioned 모드: Job이 파티션 Step으로 구성된다")
+    void couponExpireJob_PartitionedMode() {
+        ReflectionTestUtils.setField(couponExpireJobConfig, "expireMode", "partitioned");
+        ReflectionTestUtils.setField(couponExpireJobConfig, "expirePartitions", 8);
+        ReflectionTestUtils.setField(couponExpireJobConfig, "expireThreads", 4);
+
+        Job job = couponExpireJobConfig.couponExpireJob();
+
+        assertThat(((SimpleJob) job).getStepNames()).containsExactly("couponExpirePartitionedStep");
+    }
+
+    @Test
+    @DisplayName("Bulk Tasklet Bean 생성 확인")
+    void couponExpireBulkTasklet() {
+        MemberCouponBulkExpireTasklet tasklet = couponExpireJobConfig.couponExpireBulkTasklet(
+                System.currentTimeMillis(), 100L, 200L);
+        assertThat(tasklet).isNotNull();
     }
 
     @Test
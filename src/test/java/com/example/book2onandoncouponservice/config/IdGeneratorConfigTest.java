@@ -0,0 +1,33 @@
+package com.example.book2onandoncouponservice.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.book2onandoncouponservice.entity.id.IdGenerator;
+import com.example.book2onandoncouponservice.entity.id.SnowflakeIdGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class IdGeneratorConfigTest {
+
+    private final IdGeneratorConfig idGeneratorConfig = new IdGeneratorConfig();
+
+    @Test
+    @DisplayName("노드 ID 설정 시 Snowflake 생성기 생성")
+    void idGenerator() {
+        // when
+        IdGenerator idGenerator = idGeneratorConfig.idGenerator(3L);
+
+        // then
+        assertThat(idGenerator).isInstanceOf(SnowflakeIdGenerator.class);
+        assertThat(idGenerator.nextId()).isPositive();
+    }
+
+    @Test
+    @DisplayName("노드 ID 설정이 없으면 기동 실패")
+    void idGenerator_NodeIdMissing() {
+        assertThatThrownBy(() -> idGeneratorConfig.idGenerator(null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("coupon.id.node-id");
+    }
+}
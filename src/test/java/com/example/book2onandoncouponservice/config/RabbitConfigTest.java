@@ -2,11 +2,31 @@ package com.example.book2onandoncouponservice.config;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.example.book2onandoncouponservice.messaging.CouponIssueEnvelope;
+import com.example.book2onandoncouponservice.messaging.CouponIssueMessage;
+import com.example.book2onandoncouponservice.messaging.WelcomeMessage;
+import com.example.book2onandoncouponservice.messaging.converter.CouponIssueBinaryFormat;
+import com.example.book2onandoncouponservice.messaging.converter.CouponIssueEnvelopeBatchingStrategy;
+import com.example.book2onandoncouponservice.messaging.converter.CouponIssueMessageConverter;
+import com.rabbitmq.client.Channel;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageListener;
+import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
 
@@ -21,6 +41,81 @@ class RabbitConfigTest {
         assertThat(converter).isInstanceOf(Jackson2JsonMessageConverter.class);
     }
 
+    @Test
+    @DisplayName("기본 MessageConverter는 발급 요청만 binary 형식으로 보내고 나머지는 JSON에 맡긴다")
+    void couponMessageConverter() {
+        MessageConverter converter = rabbitConfig.couponMessageConverter("binary");
+
+        assertThat(converter).isInstanceOf(CouponIssueMessageConverter.class);
+        assertThat(converter.toMessage(new CouponIssueMessage(1L, 2L), new MessageProperties())
+                .getMessageProperties().getContentType()).isEqualTo(CouponIssueBinaryFormat.CONTENT_TYPE);
+        assertThat(converter.toMessage(new WelcomeMessage(1L), new MessageProperties())
+                .getMessageProperties().getContentType()).isEqualTo(MessageProperties.CONTENT_TYPE_JSON);
+    }
+
+    @Test
+    @DisplayName("기본 리스너 컨테이너 중 발급 큐 컨테이너에만 발급 메시지 묶음 해제 전략을 적용")
+    void couponIssueEnvelopeDebatching() {
+        SimpleMessageListenerContainer issueContainer = new SimpleMessageListenerContainer();
+        issueContainer.setQueueNames(RabbitConfig.QUEUE_ISSUE);
+        SimpleMessageListenerContainer dlqContainer = new SimpleMessageListenerContainer();
+        dlqContainer.setQueueNames(RabbitConfig.QUEUE_ISSUE_DLQ);
+
+        rabbitConfig.couponIssueEnvelopeDebatching().configure(issueContainer);
+        rabbitConfig.couponIssueEnvelopeDebatching().configure(dlqContainer);
+
+        assertThat(ReflectionTestUtils.getField(issueContainer, "batchingStrategy"))
+                .isInstanceOf(CouponIssueEnvelopeBatchingStrategy.class);
+        assertThat(ReflectionTestUtils.getField(dlqContainer, "batchingStrategy"))
+                .isNotInstanceOf(CouponIssueEnvelopeBatchingStrategy.class);
+    }
+
+    @Test
+    @DisplayName("발급 큐 컨테이너는 묶음을 단건으로 나눠 리스너에 넘기고 원본 헤더를 유지한다")
+    void couponIssueEnvelopeDebatching_IssueContainer() {
+        MessageConverter converter = rabbitConfig.couponMessageConverter("binary");
+        Message message = converter.toMessage(new CouponIssueEnvelope(List.of(
+                new CouponIssueMessage(1L, 2L), new CouponIssueMessage(3L, 2L))), new MessageProperties());
+        message.getMessageProperties().setHeader("x-trace-id", "abc");
+        message.getMessageProperties().setRedelivered(true);
+
+        SimpleMessageListenerContainer container = new SimpleMessageListenerContainer();
+        container.setQueueNames(RabbitConfig.QUEUE_ISSUE);
+        rabbitConfig.couponIssueEnvelopeDebatching().configure(container);
+        List<Message> received = new ArrayList<>();
+        container.setMessageListener((MessageListener) received::add);
+
+        // 브로커 없이 수신 경로만 태우기 위해 실행 중으로 표시
+        ReflectionTestUtils.setField(container, "running", true);
+        ReflectionTestUtils.invokeMethod(container, "executeListener", mock(Channel.class), message);
+
+        assertThat(received).extracting(converter::fromMessage)
+                .containsExactly(new CouponIssueMessage(1L, 2L), new CouponIssueMessage(3L, 2L));
+        assertThat(received).allSatisfy(fragment -> {
+            assertThat(fragment.getMessageProperties().getHeaders()).containsEntry("x-trace-id", "abc");
+            assertThat(fragment.getMessageProperties().getRedelivered()).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("발급 큐 배치 리스너 컨테이너 팩토리 설정 확인")
+    void couponIssueBatchContainerFactory() {
+        SimpleRabbitListenerContainerFactoryConfigurer configurer = mock(
+                SimpleRabbitListenerContainerFactoryConfigurer.class);
+        ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+
+        SimpleRabbitListenerContainerFactory factory = rabbitConfig.couponIssueBatchContainerFactory(
+                configurer, connectionFactory, 200, 500L);
+
+        verify(configurer).configure(factory, connectionFactory);
+        assertThat(ReflectionTestUtils.getField(factory, "batchListener")).isEqualTo(true);
+        assertThat(ReflectionTestUtils.getField(factory, "consumerBatchEnabled")).isEqualTo(true);
+        assertThat(ReflectionTestUtils.getField(factory, "batchSize")).isEqualTo(200);
+        assertThat(ReflectionTestUtils.getField(factory, "receiveTimeout")).isEqualTo(500L);
+        assertThat(ReflectionTestUtils.getField(factory, "batchingStrategy"))
+                .isInstanceOf(CouponIssueEnvelopeBatchingStrategy.class);
+    }
+
     @Test
     @DisplayName("Exchanges 생성 확인")
     void exchanges() {
@@ -93,6 +188,37 @@ class RabbitConfigTest {
         assertThat(dlqBinding.getRoutingKey()).isEqualTo(RabbitConfig.DLX_ROUTING_KEY_BIRTHDAY);
     }
 
+    @Test
+    @DisplayName("생일 대상자 묶음 Queue 및 Binding 설정 확인 (실패 시 생일 DLQ)")
+    void birthdayCohortConfiguration() {
+        Queue queue = rabbitConfig.birthdayCohortQueue();
+        assertThat(queue.getName()).isEqualTo(RabbitConfig.QUEUE_BIRTHDAY_COHORT);
+        assertThat(queue.getArguments())
+                .containsEntry("x-dead-letter-exchange", RabbitConfig.DLX_EXCHANGE)
+                .containsEntry("x-dead-letter-routing-key", RabbitConfig.DLX_ROUTING_KEY_BIRTHDAY);
+
+        Binding binding = rabbitConfig.birthdayCohortBinding();
+        assertThat(binding.getDestination()).isEqualTo(RabbitConfig.QUEUE_BIRTHDAY_COHORT);
+        assertThat(binding.getExchange()).isEqualTo(RabbitConfig.USER_EXCHANGE);
+        assertThat(binding.getRoutingKey()).isEqualTo(RabbitConfig.ROUTING_KEY_BIRTHDAY_COHORT);
+    }
+
+    @Test
+    @DisplayName("생일 큐 배치 리스너 컨테이너 팩토리 설정 확인")
+    void birthdayBatchContainerFactory() {
+        SimpleRabbitListenerContainerFactoryConfigurer configurer = mock(
+                SimpleRabbitListenerContainerFactoryConfigurer.class);
+        ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+
+        SimpleRabbitListenerContainerFactory factory = rabbitConfig.birthdayBatchContainerFactory(
+                configurer, connectionFactory, 500, 1000L);
+
+        verify(configurer).configure(factory, connectionFactory);
+        assertThat(ReflectionTestUtils.getField(factory, "batchListener")).isEqualTo(true);
+        assertThat(ReflectionTestUtils.getField(factory, "consumerBatchEnabled")).isEqualTo(true);
+        assertThat(ReflectionTestUtils.getField(factory, "batchSize")).isEqualTo(500);
+    }
+
     @Test
     @DisplayName("Cancel Queue 및 Binding 설정 확인")
     void cancelConfiguration() {
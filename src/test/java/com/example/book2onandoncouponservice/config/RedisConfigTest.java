@@ -0,0 +1,58 @@
+package com.example.book2onandoncouponservice.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.script.RedisScript;
+
+class RedisConfigTest {
+
+    private final RedisConfig redisConfig = new RedisConfig();
+
+    @Test
+    @DisplayName("쿠폰 발급 Lua 스크립트 Bean 생성 확인")
+    void couponIssueScript() {
+        RedisScript<Long> script = redisConfig.couponIssueScript();
+
+        assertThat(script.getResultType()).isEqualTo(Long.class);
+        assertThat(script.getScriptAsString())
+                .contains("SISMEMBER")
+                .contains("DECR")
+                .contains("SADD")
+                .contains("EXPIRE");
+    }
+
+    @Test
+    @DisplayName("캐시 무효화 발행 Lua 스크립트 Bean 생성 확인")
+    void cacheInvalidationScript() {
+        RedisScript<Long> script = redisConfig.cacheInvalidationScript();
+
+        assertThat(script.getResultType()).isEqualTo(Long.class);
+        assertThat(script.getScriptAsString())
+                .contains("INCR")
+                .contains("PUBLISH");
+    }
+
+    @Test
+    @DisplayName("쿠폰 재고 반환 Lua 스크립트 Bean 생성 확인")
+    void couponReleaseScript() {
+        RedisScript<Long> script = redisConfig.couponReleaseScript();
+
+        assertThat(script.getResultType()).isEqualTo(Long.class);
+        assertThat(script.getScriptAsString())
+                .contains("SREM")
+                .contains("INCR");
+    }
+
+    @Test
+    @DisplayName("대량 발급 재고 차감 Lua 스크립트 Bean 생성 확인")
+    void couponStockReserveScript() {
+        RedisScript<Long> script = redisConfig.couponStockReserveScript();
+
+        assertThat(script.getResultType()).isEqualTo(Long.class);
+        assertThat(script.getScriptAsString())
+                .contains("GET")
+                .contains("DECRBY");
+    }
+}
@@ -5,18 +5,25 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.example.book2onandoncouponservice.dto.request.BulkIssueRangeRequestDto;
 import com.example.book2onandoncouponservice.dto.request.CouponCreateRequestDto;
 import com.example.book2onandoncouponservice.dto.request.CouponUpdateRequestDto;
+import com.example.book2onandoncouponservice.dto.response.BulkIssueJobResponseDto;
 import com.example.book2onandoncouponservice.dto.response.CouponResponseDto;
+import com.example.book2onandoncouponservice.dto.response.CursorPageResponseDto;
 import com.example.book2onandoncouponservice.service.CouponService;
+import com.example.book2onandoncouponservice.service.impl.CouponBulkIssueService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
@@ -27,6 +34,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
@@ -40,6 +48,9 @@ class AdminCouponControllerTest {
     @MockitoBean
     private CouponService couponService;
 
+    @MockitoBean
+    private CouponBulkIssueService couponBulkIssueService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -84,6 +95,18 @@ class AdminCouponControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("관리자 쿠폰 커서 조회 - 성공 (기본 size 20)")
+    void getCouponsByCursor_Success() throws Exception {
+        given(couponService.getCouponsByCursor(isNull(), eq(20), eq("ACTIVE")))
+                .willReturn(new CursorPageResponseDto<>(List.of(), null, false));
+
+        mockMvc.perform(get("/admin/coupons/cursor")
+                        .param("status", "ACTIVE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
     @Test
     @DisplayName("쿠폰 생성 - 성공")
     void createCoupon_Success() throws Exception {
@@ -135,4 +158,66 @@ class AdminCouponControllerTest {
                 .andExpect(content().string("500"))
                 .andDo(print());
     }
-}
\ No newline at end of file
+
+    private BulkIssueJobResponseDto bulkIssueJob(String status) {
+        return new BulkIssueJobResponseDto(10L, 1L, status, "UNKNOWN", 0, 0, 0, null, null);
+    }
+
+    @Test
+    @DisplayName("대량 발급(ID 구간) - 202와 실행 ID 반환")
+    void bulkIssueRange_Success() throws Exception {
+        // given
+        given(couponBulkIssueService.launchRange(1L, 1L, 2_000_000L)).willReturn(bulkIssueJob("STARTING"));
+
+        // when & then
+        mockMvc.perform(post("/admin/coupons/{coupon-id}/bulk-issue", 1L)
+                        .content(objectMapper.writeValueAsString(new BulkIssueRangeRequestDto(1L, 2_000_000L)))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.jobExecutionId").value(10))
+                .andExpect(jsonPath("$.status").value("STARTING"));
+    }
+
+    @Test
+    @DisplayName("대량 발급(ID 구간) - 같은 대상이 이미 진행 중이면 409")
+    void bulkIssueRange_Fail_AlreadyRunning() throws Exception {
+        // given
+        given(couponBulkIssueService.launchRange(1L, 1L, 10L))
+                .willThrow(new IllegalStateException("같은 대상의 대량 발급이 이미 진행 중입니다."));
+
+        // when & then
+        mockMvc.perform(post("/admin/coupons/{coupon-id}/bulk-issue", 1L)
+                        .content(objectMapper.writeValueAsString(new BulkIssueRangeRequestDto(1L, 10L)))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("대량 발급(파일) - 업로드 파일로 Job 실행 후 202")
+    void bulkIssueFile_Success() throws Exception {
+        // given
+        MockMultipartFile file = new MockMultipartFile("file", "users.txt", MediaType.TEXT_PLAIN_VALUE,
+                "1\n2\n3\n".getBytes());
+        given(couponBulkIssueService.launchFile(eq(1L), any())).willReturn(bulkIssueJob("STARTING"));
+
+        // when & then
+        mockMvc.perform(multipart("/admin/coupons/{coupon-id}/bulk-issue/file", 1L).file(file))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.jobExecutionId").value(10));
+    }
+
+    @Test
+    @DisplayName("대량 발급 진행 상황 조회 - 없는 실행 ID면 404")
+    void getBulkIssue() throws Exception {
+        // given
+        given(couponBulkIssueService.find(10L)).willReturn(Optional.of(bulkIssueJob("COMPLETED")));
+        given(couponBulkIssueService.find(99L)).willReturn(Optional.empty());
+
+        // when & then
+        mockMvc.perform(get("/admin/coupons/bulk-issue/{job-execution-id}", 10L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"));
+        mockMvc.perform(get("/admin/coupons/bulk-issue/{job-execution-id}", 99L))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -9,8 +9,10 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.example.book2onandoncouponservice.dto.response.AvailableCouponPageDto;
 import com.example.book2onandoncouponservice.dto.response.CouponResponseDto;
 import com.example.book2onandoncouponservice.service.CouponService;
 import com.example.book2onandoncouponservice.service.impl.CouponIssueService;
@@ -21,6 +23,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -41,7 +44,7 @@ class CouponControllerTest {
     void availableCoupon_Success() throws Exception {
         // given
         given(couponService.getAvailableCoupon(any(Pageable.class)))
-                .willReturn(new PageImpl<>(List.of()));
+                .willReturn(new AvailableCouponPageDto(new PageImpl<>(List.of()), null));
 
         // when & then
         mockMvc.perform(get("/coupons")
@@ -51,6 +54,35 @@ class CouponControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("사용자용 발급 가능 쿠폰 목록 조회 - ETag를 주고, If-None-Match가 같으면 304")
+    void availableCoupon_ETag() throws Exception {
+        // given
+        given(couponService.getAvailableCoupon(any(Pageable.class)))
+                .willReturn(new AvailableCouponPageDto(new PageImpl<>(List.of()), "\"1f-0-10\""));
+
+        // when & then
+        mockMvc.perform(get("/coupons")
+                        .param("page", "0")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1f-0-10\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+
+        mockMvc.perform(get("/coupons")
+                        .param("page", "0")
+                        .param("size", "10")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"1f-0-10\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get("/coupons")
+                        .param("page", "0")
+                        .param("size", "10")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"0e-0-10\""))
+                .andExpect(status().isOk());
+    }
+
     @Test
     @DisplayName("쿠폰 상세 조회 - 성공")
     void getCoupon_Success() throws Exception {
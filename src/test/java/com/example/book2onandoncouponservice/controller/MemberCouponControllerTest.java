@@ -7,10 +7,20 @@ import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.example.book2onandoncouponservice.dto.request.CartLineRequestDto;
+import com.example.book2onandoncouponservice.dto.request.CouponDiscountRequestDto;
+import com.example.book2onandoncouponservice.dto.request.CouponTargetBulkRequestDto;
 import com.example.book2onandoncouponservice.dto.request.OrderCouponCheckRequestDto;
 import com.example.book2onandoncouponservice.dto.request.UseCouponRequestDto;
+import com.example.book2onandoncouponservice.dto.response.CouponDiscountDto;
+import com.example.book2onandoncouponservice.dto.response.CouponDiscountResponseDto;
+import com.example.book2onandoncouponservice.dto.response.CouponTargetBulkResponseDto;
+import com.example.book2onandoncouponservice.dto.response.CursorPageResponseDto;
+import com.example.book2onandoncouponservice.dto.response.PolicyTargetGroupDto;
+import com.example.book2onandoncouponservice.entity.CouponPolicyDiscountType;
 import com.example.book2onandoncouponservice.service.MemberCouponService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.List;
@@ -72,6 +82,22 @@ class MemberCouponControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    @DisplayName("내 쿠폰 커서 조회 - 성공 (count 없이 nextCursor 반환)")
+    void getMyCouponsByCursor_Success() throws Exception {
+        Long userId = 100L;
+        given(memberCouponService.getMyCouponsByCursor(userId, "abc", 10, null))
+                .willReturn(new CursorPageResponseDto<>(List.of(), "next", true));
+
+        mockMvc.perform(get("/my-coupon/cursor")
+                        .header("X-USER-ID", userId)
+                        .param("cursor", "abc")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
     @Test
     @DisplayName("내 쿠폰 목록 조회 - 성공 (Status 없음 - 분기)")
     void getMyCoupons_Success_NoStatus() throws Exception {
@@ -107,6 +133,58 @@ class MemberCouponControllerTest {
                 .andExpect(status().isOk()); // 200 OK 확인
     }
 
+    @Test
+    @DisplayName("주문 쿠폰 할인 계산 - 최적 쿠폰 응답")
+    void calculateDiscounts_Success() throws Exception {
+        Long userId = 100L;
+        CouponDiscountRequestDto requestDto = new CouponDiscountRequestDto(
+                List.of(new CartLineRequestDto(1L, List.of(10L), 20000, 1)));
+        given(memberCouponService.calculateDiscounts(eq(userId), any()))
+                .willReturn(new CouponDiscountResponseDto(20000, List.of(), null));
+
+        mockMvc.perform(post("/my-coupon/discounts")
+                        .header("X-USER-ID", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cartAmount").value(20000))
+                .andExpect(jsonPath("$.bestMemberCouponId").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("주문 쿠폰 할인 계산 - Snowflake 회원 쿠폰 ID는 문자열로 응답")
+    void calculateDiscounts_SnowflakeIdAsString() throws Exception {
+        Long userId = 100L;
+        long memberCouponId = 9_007_199_254_740_993L; // 2^53 + 1 - JS Number로는 표현 불가
+        CouponDiscountDto best = new CouponDiscountDto(memberCouponId, "쿠폰", CouponPolicyDiscountType.FIXED,
+                1000, "1000원 할인", null, 20000, 1000, true);
+        CouponDiscountRequestDto requestDto = new CouponDiscountRequestDto(
+                List.of(new CartLineRequestDto(1L, List.of(10L), 20000, 1)));
+        given(memberCouponService.calculateDiscounts(eq(userId), any()))
+                .willReturn(new CouponDiscountResponseDto(20000, List.of(best), best));
+
+        mockMvc.perform(post("/my-coupon/discounts")
+                        .header("X-USER-ID", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bestMemberCouponId").value("9007199254740993"))
+                .andExpect(jsonPath("$.coupons[0].memberCouponId").value("9007199254740993"));
+    }
+
+    @Test
+    @DisplayName("주문 쿠폰 할인 계산 - 수량이 0이면 400")
+    void calculateDiscounts_InvalidLine() throws Exception {
+        CouponDiscountRequestDto requestDto = new CouponDiscountRequestDto(
+                List.of(new CartLineRequestDto(1L, List.of(10L), 20000, 0)));
+
+        mockMvc.perform(post("/my-coupon/discounts")
+                        .header("X-USER-ID", 100L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("쿠폰 적용 대상 조회")
     void getCouponTargets_Success() throws Exception {
@@ -115,4 +193,34 @@ class MemberCouponControllerTest {
         mockMvc.perform(get("/my-coupon/{member-coupon-id}/targets", memberCouponId))
                 .andExpect(status().isOk());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("쿠폰 적용 대상 일괄 조회 - 정책별 묶음 응답")
+    void getCouponTargetsBulk_Success() throws Exception {
+        PolicyTargetGroupDto group = PolicyTargetGroupDto.builder()
+                .couponPolicyId(10L)
+                .memberCouponIds(List.of(1L, 2L))
+                .targetBookIds(List.of(100L))
+                .targetCategoryIds(List.of())
+                .build();
+        given(memberCouponService.getCouponTargets(List.of(1L, 2L)))
+                .willReturn(new CouponTargetBulkResponseDto(List.of(group), List.of()));
+
+        mockMvc.perform(post("/my-coupon/targets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CouponTargetBulkRequestDto(List.of(1L, 2L)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.policies[0].couponPolicyId").value(10))
+                .andExpect(jsonPath("$.policies[0].memberCouponIds.length()").value(2))
+                .andExpect(jsonPath("$.policies[0].memberCouponIds[0]").value("1"));
+    }
+
+    @Test
+    @DisplayName("쿠폰 적용 대상 일괄 조회 - 빈 목록이면 400")
+    void getCouponTargetsBulk_Empty() throws Exception {
+        mockMvc.perform(post("/my-coupon/targets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CouponTargetBulkRequestDto(List.of()))))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.book2onandoncouponservice.discount;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.example.book2onandoncouponservice.dto.request.CartLineRequestDto;
+import com.example.book2onandoncouponservice.dto.response.CouponDiscountDto;
+import com.example.book2onandoncouponservice.dto.response.CouponDiscountResponseDto;
+import com.example.book2onandoncouponservice.entity.Coupon;
+import com.example.book2onandoncouponservice.entity.CouponPolicy;
+import com.example.book2onandoncouponservice.entity.CouponPolicyDiscountType;
+import com.example.book2onandoncouponservice.entity.CouponPolicyStatus;
+import com.example.book2onandoncouponservice.entity.CouponPolicyType;
+import com.example.book2onandoncouponservice.entity.MemberCoupon;
+import com.example.book2onandoncouponservice.repository.CouponPolicyRepository;
+import com.example.book2onandoncouponservice.repository.CouponPolicyTargetBookRepository;
+import com.example.book2onandoncouponservice.repository.CouponPolicyTargetCategoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class DiscountEngineTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2030, 3, 1, 12, 0);
+
+    @Mock
+    private CouponPolicyRepository couponPolicyRepository;
+    @Mock
+    private CouponPolicyTargetBookRepository targetBookRepository;
+    @Mock
+    private CouponPolicyTargetCategoryRepository targetCategoryRepository;
+
+    private DiscountEngine discountEngine;
+
+    // 도서 1(카테고리 10) 20,000원 x1, 도서 2(카테고리 20) 15,000원 x2 → 합계 50,000원
+    private final DiscountCart cart = DiscountCart.of(List.of(
+            new CartLineRequestDto(1L, List.of(10L), 20000, 1),
+            new CartLineRequestDto(2L, List.of(20L), 15000, 2)));
+
+    @BeforeEach
+    void setUp() {
+        discountEngine = new DiscountEngine(couponPolicyRepository, targetBookRepository, targetCategoryRepository,
+                new SimpleMeterRegistry(), 100, Duration.ofMinutes(10));
+    }
+
+    private CouponPolicy policy(Long policyId, CouponPolicyDiscountType type, int value, int minPrice,
+                                Integer maxPrice) {
+        return CouponPolicy.builder()
+                .couponPolicyId(policyId)
+                .couponPolicyName("정책 " + policyId)
+                .couponPolicyType(CouponPolicyType.CUSTOM)
+                .couponPolicyDiscountType(type)
+                .couponDiscountValue(value)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .couponPolicyStatus(CouponPolicyStatus.ACTIVE)
+                .build();
+    }
+
+    private MemberCoupon memberCoupon(Long memberCouponId, CouponPolicy policy, LocalDateTime endDate) {
+        MemberCoupon memberCoupon = new MemberCoupon(1L, new Coupon(null, policy), NOW.minusDays(1), endDate);
+        ReflectionTestUtils.setField(memberCoupon, "memberCouponId", memberCouponId);
+        return memberCoupon;
+    }
+
+    @Test
+    @DisplayName("정액/정률, 최소 주문 금액, 최대 할인 금액, 적용 대상을 반영해 쿠폰별 할인과 최적 쿠폰을 계산한다")
+    void evaluate() {
+        // given
+        CouponPolicy fixed = policy(1L, CouponPolicyDiscountType.FIXED, 3000, 10000, null);
+        CouponPolicy percentCapped = policy(2L, CouponPolicyDiscountType.PERCENT, 10, 0, 4000);
+        CouponPolicy bookOnly = policy(3L, CouponPolicyDiscountType.PERCENT, 50, 0, null);
+        CouponPolicy categoryMinPrice = policy(4L, CouponPolicyDiscountType.FIXED, 5000, 40000, null);
+
+        given(couponPolicyRepository.findAllById(any()))
+                .willReturn(List.of(fixed, percentCapped, bookOnly, categoryMinPrice));
+        given(targetBookRepository.findPolicyTargetPairsByPolicyIds(any()))
+                .willReturn(List.<Object[]>of(new Object[]{3L, 1L}));
+        given(targetCategoryRepository.findPolicyTargetPairsByPolicyIds(any()))
+                .willReturn(List.<Object[]>of(new Object[]{4L, 20L}));
+
+        List<MemberCoupon> candidates = List.of(
+                memberCoupon(11L, fixed, NOW.plusDays(10)),
+                memberCoupon(12L, percentCapped, NOW.plusDays(10)),
+                memberCoupon(13L, bookOnly, NOW.plusDays(10)),
+                memberCoupon(14L, categoryMinPrice, NOW.plusDays(10)));
+
+        // when
+        CouponDiscountResponseDto response = discountEngine.evaluate(candidates, cart);
+
+        // then
+        assertThat(response.getCartAmount()).isEqualTo(50000);
+        Map<Long, CouponDiscountDto> byId = response.getCoupons().stream()
+                .collect(java.util.stream.Collectors.toMap(CouponDiscountDto::getMemberCouponId, c -> c));
+        assertThat(byId.get(11L).getDiscountAmount()).isEqualTo(3000);
+        assertThat(byId.get(12L).getDiscountAmount()).isEqualTo(4000);   // 5,000원 → 최대 4,000원
+        assertThat(byId.get(13L).getEligibleAmount()).isEqualTo(20000);  // 도서 1만 대상
+        assertThat(byId.get(13L).getDiscountAmount()).isEqualTo(10000);
+        assertThat(byId.get(14L).getEligibleAmount()).isEqualTo(30000);  // 카테고리 20만 대상
+        assertThat(byId.get(14L).isApplicable()).isFalse();              // 최소 40,000원 미달
+
+        assertThat(response.getCoupons()).extracting(CouponDiscountDto::getMemberCouponId)
+                .containsExactly(13L, 12L, 11L, 14L);
+        assertThat(response.getBestMemberCouponId()).isEqualTo(13L);
+        assertThat(response.getBestDiscountAmount()).isEqualTo(10000);
+    }
+
+    @Test
+    @DisplayName("할인 금액이 같으면 만료일이 빠른 쿠폰을 최적으로 고르고, 정액 할인은 대상 금액을 넘지 않는다")
+    void evaluate_TieBreakAndFixedCap() {
+        // given
+        CouponPolicy first = policy(1L, CouponPolicyDiscountType.FIXED, 100000, 0, null);
+        CouponPolicy second = policy(2L, CouponPolicyDiscountType.FIXED, 100000, 0, null);
+        PolicyDiscountEvaluator firstEvaluator = PolicyDiscountEvaluator.of(first, new long[0], new long[0]);
+        PolicyDiscountEvaluator secondEvaluator = PolicyDiscountEvaluator.of(second, new long[0], new long[0]);
+
+        // when
+        CouponDiscountResponseDto response = DiscountEngine.evaluate(
+                List.of(memberCoupon(21L, first, NOW.plusDays(30)), memberCoupon(22L, second, NOW.plusDays(3))),
+                cart, Map.of(1L, firstEvaluator, 2L, secondEvaluator));
+
+        // then
+        assertThat(response.getBestMemberCouponId()).isEqualTo(22L);
+        assertThat(response.getBestDiscountAmount()).isEqualTo(50000);
+    }
+
+    @Test
+    @DisplayName("대상이 장바구니 줄보다 많아 줄 단위로 판정해도 역색인 조회와 같은 대상 금액이 나온다")
+    void eligibleAmount_BothPaths() {
+        // given
+        CouponPolicy policy = policy(1L, CouponPolicyDiscountType.PERCENT, 10, 0, null);
+        PolicyDiscountEvaluator indexed = PolicyDiscountEvaluator.of(policy, new long[]{2L}, new long[0]);
+        PolicyDiscountEvaluator scanned = PolicyDiscountEvaluator.of(policy, new long[]{7L, 2L, 9L}, new long[]{99L});
+        PolicyDiscountEvaluator category = PolicyDiscountEvaluator.of(policy, new long[]{7L}, new long[]{10L, 11L});
+
+        // when & then
+        assertThat(indexed.eligibleAmount(cart)).isEqualTo(30000);
+        assertThat(scanned.eligibleAmount(cart)).isEqualTo(30000);
+        assertThat(category.eligibleAmount(cart)).isEqualTo(20000);
+    }
+
+    @Test
+    @DisplayName("적용 가능한 쿠폰이 없으면 최적 쿠폰은 null")
+    void evaluate_NoApplicable() {
+        // when
+        CouponDiscountResponseDto response = discountEngine.evaluate(List.of(), cart);
+
+        // then
+        assertThat(response.getCoupons()).isEmpty();
+        assertThat(response.getBestMemberCouponId()).isNull();
+        assertThat(response.getBestDiscountAmount()).isZero();
+    }
+
+    @Test
+    @DisplayName("계산기는 캐시해 재사용하고, 정책 변경 이벤트를 받으면 다시 적재한다")
+    void evaluate_CachesEvaluators() {
+        // given
+        CouponPolicy fixed = policy(1L, CouponPolicyDiscountType.FIXED, 3000, 0, null);
+        given(couponPolicyRepository.findAllById(any())).willReturn(List.of(fixed));
+        given(targetBookRepository.findPolicyTargetPairsByPolicyIds(any())).willReturn(List.of());
+        given(targetCategoryRepository.findPolicyTargetPairsByPolicyIds(any())).willReturn(List.of());
+        List<MemberCoupon> candidates = List.of(memberCoupon(11L, fixed, NOW.plusDays(10)));
+
+        // when
+        discountEngine.evaluate(candidates, cart);
+        discountEngine.evaluate(candidates, cart);
+        discountEngine.onPolicyChanged(1L);
+        discountEngine.evaluate(candidates, cart);
+
+        // then
+        verify(couponPolicyRepository, times(2)).findAllById(any());
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.book2onandoncouponservice.entity.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SnowflakeIdGeneratorTest {
+
+    private static final long NOW = SnowflakeIdGenerator.EPOCH + 1_000_000L;
+
+    @Test
+    @DisplayName("같은 ms 안에서 생성한 ID는 모두 다르고 증가한다")
+    void nextId_SameMillis_Increasing() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, () -> NOW);
+
+        Set<Long> ids = new HashSet<>();
+        long prev = -1L;
+        for (int i = 0; i < 4_096; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(prev);
+            ids.add(id);
+            prev = id;
+        }
+        assertThat(ids).hasSize(4_096);
+    }
+
+    @Test
+    @DisplayName("시퀀스를 다 쓰면 시계가 다음 ms로 넘어갈 때까지 기다리고 시계를 앞지르지 않는다")
+    void nextId_SequenceExhausted_WaitsForNextMillis() {
+        // 1,000번 읽을 때마다 1ms 흐르는 시계 - ms당 시퀀스(4,096)보다 느리게 흐른다
+        AtomicLong reads = new AtomicLong();
+        AtomicLong current = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1,
+                () -> current.updateAndGet(t -> reads.incrementAndGet() % 1_000 == 0 ? t + 1 : t));
+
+        Set<Long> ids = new HashSet<>();
+        long prev = -1L;
+        for (int i = 0; i < 20_000; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(prev);
+            assertThat(timestampOf(id)).isLessThanOrEqualTo(current.get());
+            ids.add(id);
+            prev = id;
+        }
+        assertThat(ids).hasSize(20_000);
+    }
+
+    @Test
+    @DisplayName("시계가 조금 뒤로 가면 따라잡을 때까지 기다려 ID가 감소하지 않는다")
+    void nextId_ClockMovedBackwardsSlightly_Waits() {
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, () -> {
+            long t = clock.get();
+            clock.incrementAndGet();
+            return t;
+        });
+
+        long before = generator.nextId();
+        clock.set(NOW - SnowflakeIdGenerator.MAX_CLOCK_BACKWARD_MS);
+        long after = generator.nextId();
+
+        assertThat(after).isGreaterThan(before);
+        assertThat(timestampOf(after)).isLessThanOrEqualTo(clock.get());
+    }
+
+    @Test
+    @DisplayName("시계가 허용 범위보다 크게 뒤로 가면 ID를 만들지 않고 실패한다")
+    void nextId_ClockMovedBackwardsTooFar_Fails() {
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, clock::get);
+
+        generator.nextId();
+        clock.set(NOW - SnowflakeIdGenerator.MAX_CLOCK_BACKWARD_MS - 1);
+
+        assertThatThrownBy(generator::nextId).isInstanceOf(IllegalStateException.class);
+
+        // 시계가 돌아오면 다시 생성
+        clock.set(NOW + 1);
+        assertThat(timestampOf(generator.nextId())).isEqualTo(NOW + 1);
+    }
+
+    @Test
+    @DisplayName("노드 ID가 다르면 같은 시각에도 ID가 겹치지 않는다")
+    void nextId_DifferentNode() {
+        SnowflakeIdGenerator node1 = new SnowflakeIdGenerator(1, () -> NOW);
+        SnowflakeIdGenerator node2 = new SnowflakeIdGenerator(2, () -> NOW);
+
+        assertThat(node1.nextId()).isNotEqualTo(node2.nextId());
+        assertThat((node2.nextId() >> SnowflakeIdGenerator.SEQUENCE_BITS) & SnowflakeIdGenerator.MAX_NODE_ID)
+                .isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("노드 ID 범위를 벗어나면 예외")
+    void constructor_InvalidNodeId() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static long timestampOf(long id) {
+        return (id >> (SnowflakeIdGenerator.NODE_BITS + SnowflakeIdGenerator.SEQUENCE_BITS)) + SnowflakeIdGenerator.EPOCH;
+    }
+}
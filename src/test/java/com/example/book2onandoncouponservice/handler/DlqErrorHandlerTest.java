@@ -109,6 +109,25 @@ class DlqErrorHandlerTest {
         assertThat(reason).isEqualTo("Unknown");
     }
 
+    @Test
+    @DisplayName("에러 사유 추출: x-death 헤더가 없고 리스너가 남긴 실패 사유 헤더가 있으면 그 값을 반환해야 한다")
+    void getErrorReason_WithFailureReasonHeader() {
+        // given
+        Message message = mock(Message.class);
+        MessageProperties messageProperties = mock(MessageProperties.class);
+        Map<String, Object> headers = new HashMap<>();
+        headers.put(DlqErrorHandler.FAILURE_REASON_HEADER, "이미 발급받은 쿠폰입니다.");
+
+        when(message.getMessageProperties()).thenReturn(messageProperties);
+        when(messageProperties.getHeaders()).thenReturn(headers);
+
+        // when
+        String reason = dlqErrorHandler.getErrorReason(message);
+
+        // then
+        assertThat(reason).isEqualTo("이미 발급받은 쿠폰입니다.");
+    }
+
     @Test
     @DisplayName("두레이 알림 전송: 성공 케이스")
     void sendDoorayAlert_Success() {
@@ -0,0 +1,131 @@
+package com.example.book2onandoncouponservice.listener;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.book2onandoncouponservice.config.RabbitConfig;
+import com.example.book2onandoncouponservice.exception.CouponErrorCode;
+import com.example.book2onandoncouponservice.exception.CouponIssueException;
+import com.example.book2onandoncouponservice.exception.CouponPolicyNotFoundException;
+import com.example.book2onandoncouponservice.messaging.BirthdayCohortMessage;
+import com.example.book2onandoncouponservice.messaging.consumer.BirthdayCohortListener;
+import com.example.book2onandoncouponservice.service.CouponService;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class BirthdayCohortListenerTest {
+
+    private static final Long COUPON_ID = 20L;
+
+    @Mock
+    private CouponService couponService;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    private BirthdayCohortListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new BirthdayCohortListener(couponService, rabbitTemplate, 2);
+    }
+
+    @Test
+    @DisplayName("대상자 묶음은 생일 쿠폰을 한 번만 조회하고 청크 단위로 발급 (중복 대상자 제외)")
+    void receiveCohort_Chunked() {
+        // given
+        when(couponService.getBirthdayCouponId()).thenReturn(COUPON_ID);
+        when(couponService.issueMemberCouponsChunk(eq(COUPON_ID), anyList())).thenReturn(2, 1);
+
+        // when
+        listener.receiveCohort(new BirthdayCohortMessage(List.of(1L, 2L, 3L, 3L)));
+
+        // then
+        verify(couponService, times(1)).getBirthdayCouponId();
+        verify(couponService).issueMemberCouponsChunk(COUPON_ID, List.of(1L, 2L));
+        verify(couponService).issueMemberCouponsChunk(COUPON_ID, List.of(3L));
+        verify(couponService, never()).issueBirthdayCoupon(anyLong());
+    }
+
+    @Test
+    @DisplayName("청크 발급이 실패하면 사용자별로 다시 발급하고 실패한 사용자만 생일 DLQ로 전송")
+    void receive_ChunkFailure_FallbackPerUser() {
+        // given
+        when(couponService.getBirthdayCouponId()).thenReturn(COUPON_ID);
+        when(couponService.issueMemberCouponsChunk(COUPON_ID, List.of(1L, 2L)))
+                .thenThrow(new RuntimeException("Deadlock"));
+        doThrow(new CouponIssueException(CouponErrorCode.COUPON_ALREADY_ISSUED))
+                .when(couponService).issueMemberCoupon(1L, COUPON_ID);
+        doThrow(new RuntimeException("DB Error")).when(couponService).issueMemberCoupon(2L, COUPON_ID);
+
+        // when
+        listener.receive(List.of(1L, 2L));
+
+        // then
+        verify(rabbitTemplate, never()).convertAndSend(eq(RabbitConfig.DLX_EXCHANGE),
+                eq(RabbitConfig.DLX_ROUTING_KEY_BIRTHDAY), eq((Object) 1L), any(MessagePostProcessor.class));
+        verify(rabbitTemplate).convertAndSend(eq(RabbitConfig.DLX_EXCHANGE),
+                eq(RabbitConfig.DLX_ROUTING_KEY_BIRTHDAY), eq((Object) 2L), any(MessagePostProcessor.class));
+    }
+
+    @Test
+    @DisplayName("발급 불가(비즈니스 예외)면 남은 청크를 처리하지 않고 DLQ로도 보내지 않음")
+    void receive_BusinessException_Stops() {
+        // given
+        when(couponService.getBirthdayCouponId()).thenReturn(COUPON_ID);
+        when(couponService.issueMemberCouponsChunk(COUPON_ID, List.of(1L, 2L)))
+                .thenThrow(new CouponIssueException(CouponErrorCode.POLICY_NOT_ISSUABLE));
+
+        // when
+        listener.receive(List.of(1L, 2L, 3L));
+
+        // then
+        verify(couponService, never()).issueMemberCouponsChunk(COUPON_ID, List.of(3L));
+        verify(rabbitTemplate, never()).convertAndSend(any(String.class), any(String.class), any(Object.class),
+                any(MessagePostProcessor.class));
+    }
+
+    @Test
+    @DisplayName("활성 생일 정책이 없으면 발급 없이 종료")
+    void receive_NoPolicy() {
+        // given
+        when(couponService.getBirthdayCouponId()).thenThrow(new CouponPolicyNotFoundException());
+
+        // when
+        listener.receive(List.of(1L));
+
+        // then
+        verify(couponService, never()).issueMemberCouponsChunk(anyLong(), anyList());
+    }
+
+    @Test
+    @DisplayName("활성 생일 정책/쿠폰이 여러 개인 설정 오류면 발급 없이 종료하고 DLQ로도 보내지 않음")
+    void receive_AmbiguousPolicy() {
+        // given
+        when(couponService.getBirthdayCouponId())
+                .thenThrow(new IllegalStateException("활성 BIRTHDAY 정책이 여러 개입니다."));
+
+        // when
+        listener.receive(List.of(1L, 2L));
+
+        // then
+        verify(couponService, never()).issueMemberCouponsChunk(anyLong(), anyList());
+        verify(rabbitTemplate, never()).convertAndSend(any(String.class), any(String.class), any(Object.class),
+                any(MessagePostProcessor.class));
+    }
+}
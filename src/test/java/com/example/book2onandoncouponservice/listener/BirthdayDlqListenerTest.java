@@ -8,7 +8,9 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import com.example.book2onandoncouponservice.handler.DlqErrorHandler;
+import com.example.book2onandoncouponservice.messaging.BirthdayCohortMessage;
 import com.example.book2onandoncouponservice.messaging.consumer.BirthdayDlqListener;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -57,6 +59,24 @@ class BirthdayDlqListenerTest {
         );
     }
 
+    @Test
+    @DisplayName("대상자 묶음 메시지가 DLQ로 오면 대상자 ID 목록 대신 대상자 수로 한 번에 알림")
+    void birthdayDlq_Cohort() {
+        // given
+        Message message = mock(Message.class);
+        BirthdayCohortMessage cohort = new BirthdayCohortMessage(List.of(1L, 2L));
+
+        given(dlqErrorHandler.getErrorReason(any(Message.class))).willReturn("rejected");
+        given(rabbitTemplate.getMessageConverter()).willReturn(messageConverter);
+        given(messageConverter.fromMessage(any(Message.class))).willReturn(cohort);
+
+        // when
+        listener.birthdayDlq(message);
+
+        // then
+        verify(dlqErrorHandler).sendDoorayAlert("[긴급] 생일 쿠폰 발급 실패 (DLQ)", "생일 대상자 묶음 2명", "rejected");
+    }
+
     @Test
     @DisplayName("생일 쿠폰 DLQ 처리 중 예외 발생")
     void birthdayDlq_Exception() {
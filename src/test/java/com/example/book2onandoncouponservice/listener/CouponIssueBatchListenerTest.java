@@ -0,0 +1,131 @@
+package com.example.book2onandoncouponservice.listener;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.book2onandoncouponservice.config.RabbitConfig;
+import com.example.book2onandoncouponservice.exception.CouponErrorCode;
+import com.example.book2onandoncouponservice.exception.CouponIssueException;
+import com.example.book2onandoncouponservice.messaging.CouponIssueMessage;
+import com.example.book2onandoncouponservice.messaging.consumer.CouponIssueBatchListener;
+import com.example.book2onandoncouponservice.redis.CouponStockStore;
+import com.example.book2onandoncouponservice.service.CouponService;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+@ExtendWith(MockitoExtension.class)
+class CouponIssueBatchListenerTest {
+
+    @Mock
+    private CouponService couponService;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private CouponStockStore couponStockStore;
+
+    @InjectMocks
+    private CouponIssueBatchListener listener;
+
+    private static Message<CouponIssueMessage> message(Long userId, Long couponId) {
+        return message(userId, couponId, false);
+    }
+
+    private static Message<CouponIssueMessage> message(Long userId, Long couponId, boolean redelivered) {
+        return MessageBuilder.withPayload(new CouponIssueMessage(userId, couponId))
+                .setHeader(AmqpHeaders.REDELIVERED, redelivered)
+                .build();
+    }
+
+    @Test
+    @DisplayName("쿠폰별로 묶어서 일괄 발급")
+    void receive_GroupedByCoupon() {
+        // given
+        List<Message<CouponIssueMessage>> messages = List.of(
+                message(1L, 10L),
+                message(2L, 20L),
+                message(3L, 10L));
+
+        when(couponService.issueMemberCoupons(anyLong(), anyList())).thenReturn(List.of());
+
+        // when
+        listener.receive(messages);
+
+        // then
+        verify(couponService).issueMemberCoupons(10L, List.of(1L, 3L));
+        verify(couponService).issueMemberCoupons(20L, List.of(2L));
+        verify(couponService, never()).issueReservedMemberCoupon(anyLong(), anyLong());
+        verify(rabbitTemplate, never()).convertAndSend(any(String.class), any(String.class), any(Object.class),
+                any(MessagePostProcessor.class));
+    }
+
+    @Test
+    @DisplayName("이미 발급받은 유저의 재전달 메시지는 DLQ로 보내지 않고 재고도 반환하지 않음")
+    void receive_DuplicatedIgnored() {
+        // given
+        when(couponService.issueMemberCoupons(10L, List.of(1L, 2L))).thenReturn(List.of(2L));
+
+        // when
+        listener.receive(List.of(message(1L, 10L, true), message(2L, 10L, true)));
+
+        // then
+        verify(rabbitTemplate, never()).convertAndSend(any(String.class), any(String.class), any(Object.class),
+                any(MessagePostProcessor.class));
+        verify(couponStockStore, never()).release(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("이미 발급받은 유저의 처음 받은 메시지는 선점 재고 반환 (묶음 안 중복 요청은 제외)")
+    void receive_Duplicated_FirstDelivery_Release() {
+        // given
+        when(couponService.issueMemberCoupons(10L, List.of(1L, 2L, 3L, 3L))).thenReturn(List.of(2L, 3L));
+
+        // when
+        listener.receive(List.of(message(1L, 10L), message(2L, 10L), message(3L, 10L), message(3L, 10L)));
+
+        // then
+        verify(couponStockStore).release(10L, 2L);
+        verify(couponStockStore, never()).release(10L, 3L);
+        verify(couponStockStore, never()).release(10L, 1L);
+    }
+
+    @Test
+    @DisplayName("일괄 발급 실패 시 개별 발급으로 전환하고 실패한 메시지만 DLQ로 전송")
+    void receive_FallbackToIndividual() {
+        // given
+        doThrow(new CouponIssueException(CouponErrorCode.COUPON_OUT_OF_STOCK))
+                .when(couponService).issueMemberCoupons(10L, List.of(1L, 2L));
+        // 1번 유저 호출도 있으므로 lenient (strict stubs 인자 불일치 방지)
+        lenient().doThrow(new CouponIssueException(CouponErrorCode.COUPON_OUT_OF_STOCK))
+                .when(couponService).issueReservedMemberCoupon(2L, 10L);
+
+        // when
+        listener.receive(List.of(message(1L, 10L), message(2L, 10L)));
+
+        // then
+        verify(couponService).issueReservedMemberCoupon(1L, 10L);
+        verify(couponService).issueReservedMemberCoupon(2L, 10L);
+        verify(rabbitTemplate).convertAndSend(eq(RabbitConfig.DLX_EXCHANGE), eq(RabbitConfig.DLX_ROUTING_KEY_ISSUE),
+                eq(new CouponIssueMessage(2L, 10L)), any(MessagePostProcessor.class));
+        verify(rabbitTemplate, never()).convertAndSend(any(String.class), any(String.class),
+                eq(new CouponIssueMessage(1L, 10L)), any(MessagePostProcessor.class));
+    }
+}
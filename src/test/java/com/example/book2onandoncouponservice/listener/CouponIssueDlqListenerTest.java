@@ -1,15 +1,23 @@
 package com.example.book2onandoncouponservice.listener;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import com.example.book2onandoncouponservice.config.RabbitConfig;
 import com.example.book2onandoncouponservice.handler.DlqErrorHandler;
+import com.example.book2onandoncouponservice.messaging.CouponIssueEnvelope;
 import com.example.book2onandoncouponservice.messaging.CouponIssueMessage;
 import com.example.book2onandoncouponservice.messaging.consumer.CouponIssueDlqListener;
+import com.example.book2onandoncouponservice.redis.CouponStockStore;
+import com.example.book2onandoncouponservice.repository.MemberCouponRepository;
+import com.rabbitmq.client.Channel;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,10 +25,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
 import org.springframework.amqp.support.converter.MessageConverter;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class CouponIssueDlqListenerTest {
@@ -35,10 +44,10 @@ class CouponIssueDlqListenerTest {
     private DlqErrorHandler dlqErrorHandler;
 
     @Mock
-    private StringRedisTemplate redisTemplate;
+    private CouponStockStore couponStockStore;
 
     @Mock
-    private ValueOperations<String, String> valueOperations;
+    private MemberCouponRepository memberCouponRepository;
 
     @Mock
     private MessageConverter messageConverter;
@@ -57,15 +66,12 @@ class CouponIssueDlqListenerTest {
         given(rabbitTemplate.getMessageConverter()).willReturn(messageConverter);
         given(messageConverter.fromMessage(any(Message.class))).willReturn(payload);
 
-        // Redis Mocking
-        given(redisTemplate.opsForValue()).willReturn(valueOperations);
-
         // when
         listener.issueCouponDlq(message);
 
         // then
-        // 1. 재고 복구 확인 (키 형식 일치 여부 중요)
-        verify(valueOperations).increment("coupon:" + couponId + "stock:");
+        // 1. 재고 복구 확인
+        verify(couponStockStore).release(couponId, userId);
 
         // 2. 알림 발송 확인
         verify(dlqErrorHandler).sendDoorayAlert(
@@ -75,6 +81,63 @@ class CouponIssueDlqListenerTest {
         );
     }
 
+    @Test
+    @DisplayName("발급 요청 묶음 DLQ 처리: 이미 발급된 요청은 건너뛰고 나머지만 재고 복구")
+    void issueCouponDlq_Envelope() {
+        // given
+        Message message = mock(Message.class);
+        CouponIssueEnvelope envelope = new CouponIssueEnvelope(List.of(
+                new CouponIssueMessage(1L, 200L), new CouponIssueMessage(2L, 200L), new CouponIssueMessage(3L, 300L)));
+
+        given(dlqErrorHandler.getErrorReason(any(Message.class))).willReturn("DB Error");
+        given(rabbitTemplate.getMessageConverter()).willReturn(messageConverter);
+        given(messageConverter.fromMessage(any(Message.class))).willReturn(envelope);
+        given(memberCouponRepository.findIssuedUserIds(200L, List.of(1L, 2L))).willReturn(List.of(1L));
+        given(memberCouponRepository.findIssuedUserIds(300L, List.of(3L))).willReturn(List.of());
+
+        // when
+        listener.issueCouponDlq(message);
+
+        // then
+        verify(couponStockStore, never()).release(200L, 1L);
+        verify(couponStockStore).release(200L, 2L);
+        verify(couponStockStore).release(300L, 3L);
+        verify(dlqErrorHandler).sendDoorayAlert(eq("[긴급] 쿠폰 발급 실패 (DLQ)"), anyString(), eq("DB Error"));
+    }
+
+    @Test
+    @DisplayName("발급 요청 묶음은 DLQ 리스너 컨테이너에서 나뉘지 않고 통째로 전달되어 미발급분만 재고 복구")
+    void issueCouponDlq_EnvelopeThroughContainer() {
+        // given
+        RabbitConfig rabbitConfig = new RabbitConfig();
+        MessageConverter converter = rabbitConfig.couponMessageConverter("binary");
+        Message message = converter.toMessage(new CouponIssueEnvelope(List.of(
+                new CouponIssueMessage(1L, 200L), new CouponIssueMessage(2L, 200L))), new MessageProperties());
+        message.getMessageProperties().setHeader(DlqErrorHandler.FAILURE_REASON_HEADER, "DB Error");
+
+        // 애플리케이션과 같이 기본 팩토리 커스터마이저를 적용한 DLQ 컨테이너
+        SimpleMessageListenerContainer container = new SimpleMessageListenerContainer();
+        container.setQueueNames(RabbitConfig.QUEUE_ISSUE_DLQ);
+        rabbitConfig.couponIssueEnvelopeDebatching().configure(container);
+        container.setMessageListener(listener::issueCouponDlq);
+
+        given(dlqErrorHandler.getErrorReason(any(Message.class))).willReturn("DB Error");
+        given(rabbitTemplate.getMessageConverter()).willReturn(converter);
+        given(memberCouponRepository.findIssuedUserIds(200L, List.of(1L, 2L))).willReturn(List.of(1L));
+
+        // when
+        // 브로커 없이 수신 경로만 태우기 위해 실행 중으로 표시
+        ReflectionTestUtils.setField(container, "running", true);
+        ReflectionTestUtils.invokeMethod(container, "executeListener", mock(Channel.class), message);
+
+        // then
+        verify(dlqErrorHandler).getErrorReason(argThat(received ->
+                received.getMessageProperties().getContentType().equals(message.getMessageProperties().getContentType())));
+        verify(couponStockStore, never()).release(200L, 1L);
+        verify(couponStockStore).release(200L, 2L);
+        verify(dlqErrorHandler).sendDoorayAlert("[긴급] 쿠폰 발급 실패 (DLQ)", "발급 요청 묶음 2건 중 미발급 1건", "DB Error");
+    }
+
     @Test
     @DisplayName("쿠폰 발급 DLQ 처리 중 예외 발생")
     void issueCouponDlq_Exception() {
@@ -86,7 +149,7 @@ class CouponIssueDlqListenerTest {
         listener.issueCouponDlq(message);
 
         // then
-        verify(redisTemplate, never()).opsForValue();
+        verify(couponStockStore, never()).release(any(), any());
         verify(dlqErrorHandler, never()).sendDoorayAlert(anyString(), anyString(), anyString());
     }
 }
\ No newline at end of file
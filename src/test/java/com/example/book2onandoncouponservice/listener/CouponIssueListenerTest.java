@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -12,6 +13,7 @@ import com.example.book2onandoncouponservice.exception.CouponErrorCode;
 import com.example.book2onandoncouponservice.exception.CouponIssueException;
 import com.example.book2onandoncouponservice.messaging.CouponIssueMessage;
 import com.example.book2onandoncouponservice.messaging.consumer.CouponIssueListener;
+import com.example.book2onandoncouponservice.redis.CouponStockStore;
 import com.example.book2onandoncouponservice.service.CouponService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,8 +21,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
 
 @ExtendWith(MockitoExtension.class)
 class CouponIssueListenerTest {
@@ -32,10 +35,13 @@ class CouponIssueListenerTest {
     private CouponIssueListener couponIssueListener;
 
     @Mock
-    StringRedisTemplate redisTemplate;
+    CouponStockStore couponStockStore;
 
-    @Mock
-    ValueOperations<String, String> valueOperations;
+    private static Message<CouponIssueMessage> delivery(CouponIssueMessage message, boolean redelivered) {
+        return MessageBuilder.withPayload(message)
+                .setHeader(AmqpHeaders.REDELIVERED, redelivered)
+                .build();
+    }
 
     @Test
     @DisplayName("쿠폰 발급 성공")
@@ -46,35 +52,84 @@ class CouponIssueListenerTest {
         when(message.couponId()).thenReturn(10L);
 
         // when
-        couponIssueListener.receive(message);
+        couponIssueListener.receive(delivery(message, false));
 
         // then
-        verify(couponService, times(1)).issueMemberCoupon(1L, 10L);
+        verify(couponService, times(1)).issueReservedMemberCoupon(1L, 10L);
     }
 
     @Test
-    @DisplayName("비즈니스 예외 발생 시 Redis 재고 복구(increment) 호출 확인")
+    @DisplayName("비즈니스 예외 발생 시 Redis 재고 반환 호출 확인")
     void receive_BusinessException() {
         // given
         Long userId = 1L;
         Long couponId = 10L;
-        // [중요] 실제 코드에 적힌 키 포맷과 정확히 일치해야 합니다. (오타 주의!)
-        String expectedKey = "coupon:" + couponId + "stock:";
 
         CouponIssueMessage message = mock(CouponIssueMessage.class);
         when(message.userId()).thenReturn(userId);
         when(message.couponId()).thenReturn(couponId);
 
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-
         doThrow(new CouponIssueException(CouponErrorCode.COUPON_OUT_OF_STOCK))
-                .when(couponService).issueMemberCoupon(anyLong(), anyLong());
+                .when(couponService).issueReservedMemberCoupon(anyLong(), anyLong());
+
+        // when
+        couponIssueListener.receive(delivery(message, false));
+
+        // then
+        verify(couponStockStore, times(1)).release(couponId, userId);
+    }
+
+    @Test
+    @DisplayName("이미 발급된 쿠폰(재전달 메시지)이면 재고를 반환하지 않음")
+    void receive_AlreadyIssued_NoRelease() {
+        // given
+        CouponIssueMessage message = mock(CouponIssueMessage.class);
+        when(message.userId()).thenReturn(1L);
+        when(message.couponId()).thenReturn(10L);
+
+        doThrow(new CouponIssueException(CouponErrorCode.COUPON_ALREADY_ISSUED))
+                .when(couponService).issueReservedMemberCoupon(anyLong(), anyLong());
+
+        // when
+        couponIssueListener.receive(delivery(message, true));
+
+        // then
+        verify(couponStockStore, never()).release(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("처음 받은 메시지인데 이미 보유 중이면(발급 이력 만료 후 재요청) 선점 재고 반환")
+    void receive_AlreadyIssued_FirstDelivery_Release() {
+        // given
+        CouponIssueMessage message = new CouponIssueMessage(1L, 10L);
+
+        doThrow(new CouponIssueException(CouponErrorCode.COUPON_ALREADY_ISSUED))
+                .when(couponService).issueReservedMemberCoupon(1L, 10L);
+
+        // when
+        couponIssueListener.receive(delivery(message, false));
+
+        // then
+        verify(couponStockStore).release(10L, 1L);
+    }
+
+    @Test
+    @DisplayName("발행 측이 재전송한 메시지가 이미 발급된 경우 재고를 반환하지 않음")
+    void receive_AlreadyIssued_Republished_NoRelease() {
+        // given
+        Message<CouponIssueMessage> message = MessageBuilder.withPayload(new CouponIssueMessage(1L, 10L))
+                .setHeader(AmqpHeaders.REDELIVERED, false)
+                .setHeader(CouponIssueMessage.REPUBLISHED_HEADER, true)
+                .build();
+
+        doThrow(new CouponIssueException(CouponErrorCode.COUPON_ALREADY_ISSUED))
+                .when(couponService).issueReservedMemberCoupon(1L, 10L);
 
         // when
         couponIssueListener.receive(message);
 
         // then
-        verify(valueOperations, times(1)).increment(expectedKey);
+        verify(couponStockStore, never()).release(anyLong(), anyLong());
     }
 
     @Test
@@ -86,9 +141,9 @@ class CouponIssueListenerTest {
         when(message.couponId()).thenReturn(10L);
 
         doThrow(new RuntimeException("DB 에러"))
-                .when(couponService).issueMemberCoupon(anyLong(), anyLong());
+                .when(couponService).issueReservedMemberCoupon(anyLong(), anyLong());
 
         // when & then
-        assertThrows(RuntimeException.class, () -> couponIssueListener.receive(message));
+        assertThrows(RuntimeException.class, () -> couponIssueListener.receive(delivery(message, false)));
     }
 }
\ No newline at end of file
@@ -0,0 +1,130 @@
+package com.example.book2onandoncouponservice.messaging.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.book2onandoncouponservice.messaging.CouponIssueEnvelope;
+import com.example.book2onandoncouponservice.messaging.CouponIssueMessage;
+import com.example.book2onandoncouponservice.messaging.WelcomeMessage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.batch.MessageBatch;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+class CouponIssueMessageConverterTest {
+
+    private final CouponIssueMessageConverter binaryConverter =
+            new CouponIssueMessageConverter(new Jackson2JsonMessageConverter(), true);
+    private final CouponIssueMessageConverter jsonConverter =
+            new CouponIssueMessageConverter(new Jackson2JsonMessageConverter(), false);
+
+    @Test
+    @DisplayName("발급 요청은 버전 바이트를 포함한 17바이트 고정 길이로 변환되고 그대로 복원된다")
+    void binary_RoundTrip() {
+        // given
+        CouponIssueMessage issueMessage = new CouponIssueMessage(Long.MAX_VALUE, 42L);
+
+        // when
+        Message message = binaryConverter.toMessage(issueMessage, new MessageProperties());
+
+        // then
+        assertThat(message.getBody()).hasSize(17);
+        assertThat(message.getBody()[0]).isEqualTo(CouponIssueBinaryFormat.VERSION);
+        assertThat(message.getMessageProperties().getContentType()).isEqualTo(CouponIssueBinaryFormat.CONTENT_TYPE);
+        assertThat(jsonConverter.fromMessage(message)).isEqualTo(issueMessage);
+    }
+
+    @Test
+    @DisplayName("묶음은 리스너 컨테이너에서 단건 메시지로 나뉘고 각각 복원된다")
+    void envelope_Debatch() {
+        // given
+        List<CouponIssueMessage> issueMessages = LongStream.rangeClosed(1, 300)
+                .mapToObj(userId -> new CouponIssueMessage(userId, 7L))
+                .toList();
+        Message message = binaryConverter.toMessage(new CouponIssueEnvelope(issueMessages), new MessageProperties());
+        CouponIssueEnvelopeBatchingStrategy strategy = new CouponIssueEnvelopeBatchingStrategy();
+
+        // when
+        List<Object> received = new ArrayList<>();
+        assertThat(strategy.canDebatch(message.getMessageProperties())).isTrue();
+        strategy.deBatch(message, fragment -> received.add(binaryConverter.fromMessage(fragment)));
+
+        // then
+        assertThat(message.getBody()).hasSize(5 + 16 * 300);
+        assertThat(received).containsExactlyElementsOf(issueMessages);
+        assertThat(binaryConverter.fromMessage(message)).isEqualTo(new CouponIssueEnvelope(issueMessages));
+    }
+
+    @Test
+    @DisplayName("단건 메시지는 batchSize마다, 목적지가 바뀌면 즉시 묶음으로 내보낸다")
+    void envelope_AddToBatch() {
+        // given
+        CouponIssueEnvelopeBatchingStrategy strategy = new CouponIssueEnvelopeBatchingStrategy(2, 0L);
+        Message first = binaryConverter.toMessage(new CouponIssueMessage(1L, 7L), new MessageProperties());
+        Message second = binaryConverter.toMessage(new CouponIssueMessage(2L, 7L), new MessageProperties());
+        Message third = binaryConverter.toMessage(new CouponIssueMessage(3L, 8L), new MessageProperties());
+
+        // when
+        MessageBatch pending = strategy.addToBatch("ex", "rk", first);
+        MessageBatch full = strategy.addToBatch("ex", "rk", second);
+        strategy.addToBatch("ex", "rk", third);
+        MessageBatch switched = strategy.addToBatch("ex", "other", first);
+
+        // then
+        assertThat(pending).isNull();
+        assertThat(full.getMessage().getMessageProperties().getContentType())
+                .isEqualTo(CouponIssueBinaryFormat.ENVELOPE_CONTENT_TYPE);
+        assertThat(jsonConverter.fromMessage(full.getMessage())).isEqualTo(new CouponIssueEnvelope(List.of(
+                new CouponIssueMessage(1L, 7L), new CouponIssueMessage(2L, 7L))));
+        assertThat(switched.getRoutingKey()).isEqualTo("rk");
+        assertThat(jsonConverter.fromMessage(switched.getMessage()))
+                .isEqualTo(new CouponIssueEnvelope(List.of(new CouponIssueMessage(3L, 8L))));
+        assertThat(strategy.releaseBatches()).singleElement()
+                .satisfies(batch -> assertThat(batch.getRoutingKey()).isEqualTo("other"));
+        assertThat(strategy.releaseBatches()).isEmpty();
+        assertThatThrownBy(() -> strategy.addToBatch("ex", "rk",
+                jsonConverter.toMessage(new CouponIssueMessage(1L, 7L), new MessageProperties())))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("발급 요청이 아닌 메시지와 binary 형식을 끈 경우는 JSON으로 변환한다")
+    void json_Fallback() {
+        // when
+        Message welcome = binaryConverter.toMessage(new WelcomeMessage(1L), new MessageProperties());
+        Message issue = jsonConverter.toMessage(new CouponIssueMessage(1L, 2L), new MessageProperties());
+
+        // then
+        assertThat(welcome.getMessageProperties().getContentType()).isEqualTo(MessageProperties.CONTENT_TYPE_JSON);
+        assertThat(issue.getMessageProperties().getContentType()).isEqualTo(MessageProperties.CONTENT_TYPE_JSON);
+        assertThat(binaryConverter.fromMessage(issue)).isEqualTo(new CouponIssueMessage(1L, 2L));
+        assertThatThrownBy(() -> jsonConverter.toMessage(new CouponIssueEnvelope(List.of()), new MessageProperties()))
+                .isInstanceOf(MessageConversionException.class);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 버전이나 길이가 맞지 않는 본문은 변환 예외")
+    void invalidBody() {
+        // given
+        byte[] body = CouponIssueBinaryFormat.encode(new CouponIssueMessage(1L, 2L));
+        body[0] = 9;
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(CouponIssueBinaryFormat.CONTENT_TYPE);
+
+        MessageProperties envelopeProperties = new MessageProperties();
+        envelopeProperties.setContentType(CouponIssueBinaryFormat.ENVELOPE_CONTENT_TYPE);
+        byte[] truncated = new byte[]{CouponIssueBinaryFormat.VERSION, 0, 0, 0, 2, 1, 2, 3};
+
+        // when & then
+        assertThatThrownBy(() -> binaryConverter.fromMessage(new Message(body, properties)))
+                .isInstanceOf(MessageConversionException.class);
+        assertThatThrownBy(() -> binaryConverter.fromMessage(new Message(truncated, envelopeProperties)))
+                .isInstanceOf(MessageConversionException.class);
+    }
+}
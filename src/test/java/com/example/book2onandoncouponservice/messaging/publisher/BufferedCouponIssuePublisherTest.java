@@ -0,0 +1,282 @@
+package com.example.book2onandoncouponservice.messaging.publisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.example.book2onandoncouponservice.config.RabbitConfig;
+import com.example.book2onandoncouponservice.exception.CouponErrorCode;
+import com.example.book2onandoncouponservice.exception.CouponIssueException;
+import com.example.book2onandoncouponservice.messaging.CouponIssueEnvelope;
+import com.example.book2onandoncouponservice.messaging.CouponIssueMessage;
+import com.example.book2onandoncouponservice.messaging.publisher.BufferedCouponIssuePublisher.Pending;
+import com.example.book2onandoncouponservice.redis.CouponStockStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.ConnectException;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class BufferedCouponIssuePublisherTest {
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+    @Mock
+    private RabbitOperations operations;
+    @Mock
+    private ConnectionFactory connectionFactory;
+    @Mock
+    private CouponStockStore couponStockStore;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private BufferedCouponIssuePublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        given(rabbitTemplate.getConnectionFactory()).willReturn(connectionFactory);
+        given(connectionFactory.isPublisherConfirms()).willReturn(true);
+        // 용량 2, 배치 10, in-flight 10, 대기 없이 거절, 확인 대기 1초, 전송 스레드는 시작하지 않음
+        publisher = new BufferedCouponIssuePublisher(rabbitTemplate, couponStockStore, meterRegistry,
+                2, 10, 10, 0, 1000, 1, 1, "json");
+    }
+
+    private void givenInvokeRunsOnChannel() {
+        given(rabbitTemplate.invoke(any())).willAnswer(invocation ->
+                invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(operations));
+    }
+
+    // 브로커 확인 결과를 바로 돌려주는 채널
+    private void givenBrokerConfirms(boolean ack) {
+        willAnswer(invocation -> {
+            invocation.<CorrelationData>getArgument(3).getFuture()
+                    .complete(new CorrelationData.Confirm(ack, ack ? null : "internal error"));
+            return null;
+        }).given(operations).convertAndSend(eq(RabbitConfig.COUPON_EXCHANGE), eq(RabbitConfig.ROUTING_KEY_ISSUE),
+                any(Object.class), any(CorrelationData.class));
+    }
+
+    private double confirmCount(String result) {
+        return meterRegistry.get(BufferedCouponIssuePublisher.CONFIRM_LATENCY).tag("result", result).timer().count();
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 ISSUE_REQUEST_BUSY로 거절한다")
+    void publish_BufferFull_Rejects() {
+        // given
+        publisher.publish(new CouponIssueMessage(1L, 10L));
+        publisher.publish(new CouponIssueMessage(2L, 10L));
+
+        // when & then
+        assertThatThrownBy(() -> publisher.publish(new CouponIssueMessage(3L, 10L)))
+                .isInstanceOf(CouponIssueException.class)
+                .extracting("errorCode").isEqualTo(CouponErrorCode.ISSUE_REQUEST_BUSY);
+        assertThat(publisher.bufferedCount()).isEqualTo(2);
+        assertThat(meterRegistry.get(BufferedCouponIssuePublisher.REJECTED).counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("배치를 한 채널로 보내고, ack를 받으면 확인 지연을 기록하고 in-flight를 돌려준다")
+    void flush_Ack() throws InterruptedException {
+        // given
+        givenInvokeRunsOnChannel();
+        givenBrokerConfirms(true);
+
+        // when
+        publisher.flush(List.of(new Pending(new CouponIssueMessage(1L, 10L), 1),
+                new Pending(new CouponIssueMessage(2L, 10L), 1)));
+
+        // then
+        assertThat(confirmCount("ack")).isEqualTo(2);
+        assertThat(publisher.inFlightCount()).isZero();
+        assertThat(publisher.bufferedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("envelope-size만큼 묶어 AMQP 메시지 1건으로 보내고 확인도 묶음 단위로 받는다")
+    void flush_Envelope() throws InterruptedException {
+        // given
+        publisher = new BufferedCouponIssuePublisher(rabbitTemplate, couponStockStore, new SimpleMeterRegistry(),
+                10, 10, 10, 0, 1000, 1, 2, "binary");
+        givenInvokeRunsOnChannel();
+        givenBrokerConfirms(true);
+
+        // when
+        publisher.flush(List.of(new Pending(new CouponIssueMessage(1L, 10L), 1),
+                new Pending(new CouponIssueMessage(2L, 10L), 1),
+                new Pending(new CouponIssueMessage(3L, 10L), 1)));
+
+        // then
+        verify(operations).convertAndSend(eq(RabbitConfig.COUPON_EXCHANGE), eq(RabbitConfig.ROUTING_KEY_ISSUE),
+                eq(new CouponIssueEnvelope(List.of(new CouponIssueMessage(1L, 10L), new CouponIssueMessage(2L, 10L)))),
+                any(CorrelationData.class));
+        verify(operations).convertAndSend(eq(RabbitConfig.COUPON_EXCHANGE), eq(RabbitConfig.ROUTING_KEY_ISSUE),
+                eq(new CouponIssueMessage(3L, 10L)), any(CorrelationData.class));
+        assertThat(publisher.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("nack를 받으면 시도 횟수를 늘려 버퍼로 되돌린다")
+    void flush_Nack_Requeues() throws InterruptedException {
+        // given
+        givenInvokeRunsOnChannel();
+        givenBrokerConfirms(false);
+
+        // when
+        publisher.flush(List.of(new Pending(new CouponIssueMessage(1L, 10L), 1)));
+
+        // then
+        assertThat(confirmCount("nack")).isEqualTo(1);
+        assertThat(publisher.bufferedCount()).isEqualTo(1);
+        verify(couponStockStore, never()).release(any(), any());
+    }
+
+    @Test
+    @DisplayName("재전송하는 요청에는 소비 측이 재고를 반환하지 않도록 재전송 표시를 붙인다")
+    void flush_Retry_MarkedRepublished() throws InterruptedException {
+        // given
+        givenInvokeRunsOnChannel();
+
+        // when
+        publisher.flush(List.of(new Pending(new CouponIssueMessage(1L, 10L), 2)));
+
+        // then
+        ArgumentCaptor<MessagePostProcessor> captor = ArgumentCaptor.forClass(MessagePostProcessor.class);
+        verify(operations).convertAndSend(eq(RabbitConfig.COUPON_EXCHANGE), eq(RabbitConfig.ROUTING_KEY_ISSUE),
+                eq(new CouponIssueMessage(1L, 10L)), captor.capture(), any(CorrelationData.class));
+        Message message = captor.getValue().postProcessMessage(new Message(new byte[0], new MessageProperties()));
+        assertThat(message.getMessageProperties().getHeaders())
+                .containsEntry(CouponIssueMessage.REPUBLISHED_HEADER, true);
+    }
+
+    @Test
+    @DisplayName("재전송 한도를 넘기면 Redis 재고/이력을 복구한다")
+    void retry_Exhausted_ReleasesStock() {
+        // when
+        publisher.retry(new Pending(new CouponIssueMessage(1L, 10L), BufferedCouponIssuePublisher.MAX_ATTEMPTS),
+                false, "nack");
+
+        // then
+        verify(couponStockStore).release(10L, 1L);
+        assertThat(publisher.bufferedCount()).isZero();
+        assertThat(meterRegistry.get(BufferedCouponIssuePublisher.DROPPED).counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("확인 시간 초과는 전달 여부 불명으로 표시해 버퍼로 되돌리고 재고는 복구하지 않는다")
+    void flush_Timeout_RequeuesAsUnconfirmed() throws InterruptedException {
+        // given
+        givenInvokeRunsOnChannel();
+        willAnswer(invocation -> {
+            invocation.<CorrelationData>getArgument(3).getFuture().completeExceptionally(new TimeoutException());
+            return null;
+        }).given(operations).convertAndSend(eq(RabbitConfig.COUPON_EXCHANGE), eq(RabbitConfig.ROUTING_KEY_ISSUE),
+                any(Object.class), any(CorrelationData.class));
+
+        // when
+        publisher.flush(List.of(new Pending(new CouponIssueMessage(1L, 10L), 1)));
+
+        // then
+        assertThat(confirmCount("timeout")).isEqualTo(1);
+        assertThat(publisher.bufferedCount()).isEqualTo(1);
+        verify(couponStockStore, never()).release(any(), any());
+    }
+
+    @Test
+    @DisplayName("시간 초과가 있었던 요청은 재전송 한도를 넘겨도 재고를 복구하지 않고 정산 대상으로 기록한다")
+    void retry_ExhaustedAfterTimeout_MarksUnconfirmed() {
+        // when
+        publisher.retry(new Pending(new CouponIssueMessage(1L, 10L), BufferedCouponIssuePublisher.MAX_ATTEMPTS, true),
+                false, "nack");
+        publisher.retry(new Pending(new CouponIssueMessage(2L, 10L), BufferedCouponIssuePublisher.MAX_ATTEMPTS),
+                true, "timeout");
+
+        // then
+        verify(couponStockStore, never()).release(any(), any());
+        verify(couponStockStore).markUnconfirmed(eq(10L), eq(1L), anyLong());
+        verify(couponStockStore).markUnconfirmed(eq(10L), eq(2L), anyLong());
+        assertThat(meterRegistry.get(BufferedCouponIssuePublisher.UNCONFIRMED).counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(BufferedCouponIssuePublisher.DROPPED).counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("ack와 함께 반송(return)된 요청은 큐에 들어가지 않았으므로 버퍼로 되돌린다")
+    void flush_Returned_Requeues() throws InterruptedException {
+        // given
+        givenInvokeRunsOnChannel();
+        willAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(3);
+            correlation.setReturned(new ReturnedMessage(new Message(new byte[0], new MessageProperties()),
+                    312, "NO_ROUTE", RabbitConfig.COUPON_EXCHANGE, RabbitConfig.ROUTING_KEY_ISSUE));
+            correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+            return null;
+        }).given(operations).convertAndSend(eq(RabbitConfig.COUPON_EXCHANGE), eq(RabbitConfig.ROUTING_KEY_ISSUE),
+                any(Object.class), any(CorrelationData.class));
+
+        // when
+        publisher.flush(List.of(new Pending(new CouponIssueMessage(1L, 10L), 1)));
+
+        // then
+        assertThat(confirmCount("ack")).isEqualTo(1);
+        assertThat(publisher.bufferedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("채널 오류로 보내지 못한 요청은 in-flight를 돌려주고 버퍼로 되돌린다")
+    void flush_ChannelFailure_Requeues() throws InterruptedException {
+        // given
+        willThrow(new AmqpConnectException(new ConnectException("refused")))
+                .given(rabbitTemplate).invoke(any());
+
+        // when
+        publisher.flush(List.of(new Pending(new CouponIssueMessage(1L, 10L), 1),
+                new Pending(new CouponIssueMessage(2L, 10L), 1)));
+
+        // then
+        assertThat(publisher.inFlightCount()).isZero();
+        assertThat(publisher.bufferedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("JSON 형식에서 묶음 전송을 켜면 생성 시점에 실패한다")
+    void create_EnvelopeWithJson_Fails() {
+        assertThatThrownBy(() -> new BufferedCouponIssuePublisher(rabbitTemplate, couponStockStore,
+                new SimpleMeterRegistry(), 2, 10, 10, 0, 1000, 1, 100, "json"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("correlated publisher confirm이 꺼져 있으면 생성 시점에 실패한다")
+    void create_WithoutConfirms_Fails() {
+        // given
+        given(connectionFactory.isPublisherConfirms()).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> new BufferedCouponIssuePublisher(rabbitTemplate, couponStockStore,
+                new SimpleMeterRegistry(), 2, 10, 10, 0, 1000, 1, 1, "json"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.book2onandoncouponservice.messaging.publisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.example.book2onandoncouponservice.config.RabbitConfig;
+import com.example.book2onandoncouponservice.entity.CouponIssueOutbox;
+import com.example.book2onandoncouponservice.messaging.CouponIssueMessage;
+import com.example.book2onandoncouponservice.repository.CouponIssueOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class CouponIssueOutboxRelayTest {
+
+    @Mock
+    private CouponIssueOutboxRepository outboxRepository;
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+    @Mock
+    private RabbitOperations operations;
+    @Mock
+    private ConnectionFactory connectionFactory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CouponIssueOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        given(rabbitTemplate.getConnectionFactory()).willReturn(connectionFactory);
+        given(connectionFactory.isSimplePublisherConfirms()).willReturn(true);
+        relay = new CouponIssueOutboxRelay(outboxRepository, rabbitTemplate, meterRegistry, 2, 1000, 30000);
+    }
+
+    private CouponIssueOutbox outbox(long outboxId, long userId) {
+        CouponIssueOutbox outbox = new CouponIssueOutbox(userId, 10L, LocalDateTime.now());
+        ReflectionTestUtils.setField(outbox, "outboxId", outboxId);
+        return outbox;
+    }
+
+    private void givenInvokeRunsOnChannel() {
+        given(rabbitTemplate.invoke(any())).willAnswer(invocation ->
+                invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(operations));
+    }
+
+    @Test
+    @DisplayName("배치 크기만큼 전송하고 확인을 받은 뒤 삭제하며, 남은 기록이 없을 때까지 반복한다")
+    void relay_DrainsInBatches() {
+        // given
+        given(outboxRepository.findOldest(any(Pageable.class)))
+                .willReturn(List.of(outbox(1L, 100L), outbox(2L, 200L)))
+                .willReturn(List.of(outbox(3L, 300L)));
+        givenInvokeRunsOnChannel();
+
+        // when
+        int relayed = relay.relay();
+
+        // then
+        assertThat(relayed).isEqualTo(3);
+        verify(operations).convertAndSend(RabbitConfig.COUPON_EXCHANGE, RabbitConfig.ROUTING_KEY_ISSUE,
+                new CouponIssueMessage(100L, 10L));
+        verify(operations).convertAndSend(RabbitConfig.COUPON_EXCHANGE, RabbitConfig.ROUTING_KEY_ISSUE,
+                new CouponIssueMessage(300L, 10L));
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(3L));
+        assertThat(meterRegistry.get(CouponIssueOutboxRelay.PUBLISHED).counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("브로커 확인을 받지 못하면 기록을 지우지 않고 다음 주기로 미룬다")
+    void relay_ConfirmTimeout_KeepsRows() {
+        // given
+        given(outboxRepository.findOldest(any(Pageable.class)))
+                .willReturn(List.of(outbox(1L, 100L), outbox(2L, 200L)));
+        givenInvokeRunsOnChannel();
+        willThrow(new AmqpTimeoutException("confirm timeout")).given(operations).waitForConfirmsOrDie(1000);
+
+        // when
+        int relayed = relay.relay();
+
+        // then
+        assertThat(relayed).isZero();
+        verify(outboxRepository, never()).deleteAllByIdInBatch(anyList());
+        verify(outboxRepository).markRelayFailed(List.of(1L, 2L));
+        assertThat(meterRegistry.get(CouponIssueOutboxRelay.FAILED).counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("확인을 받지 못했던 기록은 재전송 표시를 붙여 다시 보낸다")
+    void relay_RelayFailedRow_MarkedRepublished() {
+        // given
+        CouponIssueOutbox failed = outbox(1L, 100L);
+        ReflectionTestUtils.setField(failed, "relayFailed", true);
+        given(outboxRepository.findOldest(any(Pageable.class))).willReturn(List.of(failed));
+        givenInvokeRunsOnChannel();
+
+        // when
+        relay.relay();
+
+        // then
+        ArgumentCaptor<MessagePostProcessor> captor = ArgumentCaptor.forClass(MessagePostProcessor.class);
+        verify(operations).convertAndSend(eq(RabbitConfig.COUPON_EXCHANGE), eq(RabbitConfig.ROUTING_KEY_ISSUE),
+                eq(new CouponIssueMessage(100L, 10L)), captor.capture());
+        Message message = captor.getValue().postProcessMessage(new Message(new byte[0], new MessageProperties()));
+        assertThat(message.getMessageProperties().getHeaders())
+                .containsEntry(CouponIssueMessage.REPUBLISHED_HEADER, true);
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("전송 확인 뒤 기록 삭제에 실패하면 다음 주기에 재전송 표시를 붙여 다시 보낸다")
+    void relay_DeleteFailsAfterConfirm_NextRelayMarkedRepublished() {
+        // given - markRelayFailed 가 DB 값을 바꾸듯 같은 엔티티의 표시를 켠다
+        CouponIssueOutbox row = outbox(1L, 100L);
+        given(outboxRepository.findOldest(any(Pageable.class))).willReturn(List.of(row));
+        givenInvokeRunsOnChannel();
+        willThrow(new QueryTimeoutException("delete timeout"))
+                .willDoNothing()
+                .given(outboxRepository).deleteAllByIdInBatch(anyList());
+        willAnswer(invocation -> {
+            ReflectionTestUtils.setField(row, "relayFailed", true);
+            return 1;
+        }).given(outboxRepository).markRelayFailed(List.of(1L));
+
+        // when
+        int first = relay.relay();
+        int second = relay.relay();
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isEqualTo(1);
+        verify(outboxRepository).markRelayFailed(List.of(1L));
+        verify(operations).convertAndSend(RabbitConfig.COUPON_EXCHANGE, RabbitConfig.ROUTING_KEY_ISSUE,
+                new CouponIssueMessage(100L, 10L));
+        ArgumentCaptor<MessagePostProcessor> captor = ArgumentCaptor.forClass(MessagePostProcessor.class);
+        verify(operations).convertAndSend(eq(RabbitConfig.COUPON_EXCHANGE), eq(RabbitConfig.ROUTING_KEY_ISSUE),
+                eq(new CouponIssueMessage(100L, 10L)), captor.capture());
+        Message message = captor.getValue().postProcessMessage(new Message(new byte[0], new MessageProperties()));
+        assertThat(message.getMessageProperties().getHeaders())
+                .containsEntry(CouponIssueMessage.REPUBLISHED_HEADER, true);
+        assertThat(meterRegistry.get(CouponIssueOutboxRelay.PUBLISHED).counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("시간 예산을 다 쓰면 기록이 남아 있어도 이번 주기를 끝낸다")
+    void relay_BudgetExhausted_StopsEarly() {
+        // given - 예산 0이면 배치 1회만 보낸다
+        relay = new CouponIssueOutboxRelay(outboxRepository, rabbitTemplate, meterRegistry, 2, 1000, 0);
+        given(outboxRepository.findOldest(any(Pageable.class)))
+                .willReturn(List.of(outbox(1L, 100L), outbox(2L, 200L)));
+        givenInvokeRunsOnChannel();
+
+        // when
+        int relayed = relay.relay();
+
+        // then
+        assertThat(relayed).isEqualTo(2);
+        verify(outboxRepository, times(1)).findOldest(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("시간 예산과 확인 대기 시간의 합이 릴레이 락 시간 이상이면 생성 시점에 실패한다")
+    void create_BudgetExceedsLock_Fails() {
+        assertThatThrownBy(() -> new CouponIssueOutboxRelay(outboxRepository, rabbitTemplate, meterRegistry,
+                2, 5000, 55000))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("publisher confirm이 꺼져 있으면 생성 시점에 실패한다")
+    void create_WithoutConfirms_Fails() {
+        // given
+        given(connectionFactory.isSimplePublisherConfirms()).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> new CouponIssueOutboxRelay(outboxRepository, rabbitTemplate, meterRegistry, 2, 1000, 30000))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.book2onandoncouponservice.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.example.book2onandoncouponservice.cache.CouponSnapshot;
+import com.example.book2onandoncouponservice.cache.CouponSnapshotCache;
+import com.example.book2onandoncouponservice.entity.CouponPolicyType;
+import com.example.book2onandoncouponservice.exception.CouponErrorCode;
+import com.example.book2onandoncouponservice.exception.CouponIssueException;
+import com.example.book2onandoncouponservice.exception.CouponNotFoundException;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CouponMetricsTest {
+
+    @Mock
+    private CouponSnapshotCache couponSnapshotCache;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CouponMetrics couponMetrics;
+
+    @BeforeEach
+    void setUp() {
+        couponMetrics = new CouponMetrics(meterRegistry, couponSnapshotCache);
+    }
+
+    private void givenCouponType(Long couponId, CouponPolicyType type) {
+        given(couponSnapshotCache.find(couponId)).willReturn(Optional.of(
+                new CouponSnapshot(couponId, true, 1L, type, true, null, 30)));
+    }
+
+    @Test
+    @DisplayName("성공 시 쿠폰 타입 태그와 함께 처리 시간을 기록하고 결과를 그대로 반환한다")
+    void record_Success() {
+        // given
+        givenCouponType(1L, CouponPolicyType.WELCOME);
+
+        // when
+        Long result = couponMetrics.record(CouponMetrics.Operation.ISSUE, 1L, () -> 99L);
+
+        // then
+        assertThat(result).isEqualTo(99L);
+        Timer timer = meterRegistry.get(CouponMetrics.DURATION)
+                .tags("operation", "issue", "couponType", "WELCOME", "outcome", "success")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(meterRegistry.find(CouponMetrics.FAILURES).counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("CouponServiceException은 에러 코드별 실패 건수로 집계하고 다시 던진다")
+    void record_CouponFailure() {
+        // given
+        givenCouponType(1L, CouponPolicyType.CUSTOM);
+
+        // when & then
+        assertThatThrownBy(() -> couponMetrics.record(CouponMetrics.Operation.ISSUE_REQUEST, 1L, () -> {
+            throw new CouponIssueException(CouponErrorCode.COUPON_OUT_OF_STOCK);
+        })).isInstanceOf(CouponIssueException.class);
+
+        assertThat(meterRegistry.get(CouponMetrics.FAILURES)
+                .tags("operation", "issue.request", "couponType", "CUSTOM", "errorCode", "COUPON_OUT_OF_STOCK")
+                .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(CouponMetrics.DURATION).tag("outcome", "failure").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("예상하지 못한 예외는 INTERNAL_SERVER_ERROR로 집계한다")
+    void record_UnexpectedFailure() {
+        // given
+        givenCouponType(1L, CouponPolicyType.BOOK);
+
+        // when & then
+        assertThatThrownBy(() -> couponMetrics.record(CouponMetrics.Operation.ISSUE, 1L, () -> {
+            throw new IllegalStateException("DB down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(meterRegistry.get(CouponMetrics.FAILURES)
+                .tags("couponType", "BOOK", "errorCode", "INTERNAL_SERVER_ERROR")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("쿠폰을 찾지 못했거나 쿠폰 ID를 모르면 타입은 UNKNOWN이며 캐시를 다시 조회하지 않는다")
+    void record_UnknownType() {
+        // when
+        assertThatThrownBy(() -> couponMetrics.record(CouponMetrics.Operation.ISSUE, 1L, () -> {
+            throw new CouponNotFoundException();
+        })).isInstanceOf(CouponNotFoundException.class);
+        couponMetrics.run(CouponMetrics.Operation.CANCEL, sample -> {
+        });
+
+        // then
+        verify(couponSnapshotCache, never()).find(any());
+        assertThat(meterRegistry.get(CouponMetrics.FAILURES)
+                .tags("couponType", CouponMetrics.UNKNOWN_TYPE, "errorCode", "COUPON_NOT_FOUND")
+                .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(CouponMetrics.DURATION)
+                .tags("operation", "cancel", "couponType", CouponMetrics.UNKNOWN_TYPE)
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처리 중 기록한 쿠폰 ID로 타입을 조회한다")
+    void run_SampleCoupon() {
+        // given
+        givenCouponType(7L, CouponPolicyType.CATEGORY);
+
+        // when
+        couponMetrics.run(CouponMetrics.Operation.USE, sample -> sample.coupon(7L));
+
+        // then
+        assertThat(meterRegistry.get(CouponMetrics.DURATION)
+                .tags("operation", "use", "couponType", "CATEGORY", "outcome", "success")
+                .timer().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.book2onandoncouponservice.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.example.book2onandoncouponservice.config.RabbitConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueInformation;
+
+@ExtendWith(MockitoExtension.class)
+class CouponQueueGaugesTest {
+
+    @Mock
+    private AmqpAdmin amqpAdmin;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("큐별 적체 메시지 수와 소비자 수를 게이지로 노출하고, 브로커에 없는 큐는 건너뛴다")
+    void refresh() {
+        // given
+        CouponQueueGauges gauges = new CouponQueueGauges(amqpAdmin,
+                List.of(new Queue(RabbitConfig.QUEUE_ISSUE), new Queue(RabbitConfig.QUEUE_ISSUE_DLQ)),
+                meterRegistry);
+        given(amqpAdmin.getQueueInfo(RabbitConfig.QUEUE_ISSUE))
+                .willReturn(new QueueInformation(RabbitConfig.QUEUE_ISSUE, 1200, 4))
+                .willReturn(new QueueInformation(RabbitConfig.QUEUE_ISSUE, 30, 4));
+        given(amqpAdmin.getQueueInfo(RabbitConfig.QUEUE_ISSUE_DLQ)).willReturn(null);
+
+        // when
+        gauges.refresh();
+        gauges.refresh();
+
+        // then
+        assertThat(meterRegistry.get(CouponQueueGauges.MESSAGES).tag("queue", RabbitConfig.QUEUE_ISSUE)
+                .gauge().value()).isEqualTo(30);
+        assertThat(meterRegistry.get(CouponQueueGauges.CONSUMERS).tag("queue", RabbitConfig.QUEUE_ISSUE)
+                .gauge().value()).isEqualTo(4);
+        assertThat(meterRegistry.find(CouponQueueGauges.MESSAGES).tag("queue", RabbitConfig.QUEUE_ISSUE_DLQ)
+                .gauge()).isNull();
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.book2onandoncouponservice.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+import com.example.book2onandoncouponservice.entity.CouponPolicyStatus;
+import com.example.book2onandoncouponservice.redis.CouponStockStore;
+import com.example.book2onandoncouponservice.repository.CouponRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CouponStockGaugesTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+    @Mock
+    private CouponStockStore couponStockStore;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CouponStockGauges couponStockGauges;
+
+    @BeforeEach
+    void setUp() {
+        couponStockGauges = new CouponStockGauges(couponRepository, couponStockStore, meterRegistry);
+    }
+
+    private double stock(Long couponId) {
+        return meterRegistry.get(CouponStockGauges.STOCK).tag("couponId", String.valueOf(couponId)).gauge().value();
+    }
+
+    @Test
+    @DisplayName("진행 중인 선착순 쿠폰별 Redis 재고를 게이지로 노출하고 갱신한다")
+    void refresh_RegistersAndUpdates() {
+        // given
+        given(couponRepository.findActiveLimitedCouponIds(eq(CouponPolicyStatus.ACTIVE), any()))
+                .willReturn(List.of(1L, 2L));
+        given(couponStockStore.stocks(List.of(1L, 2L)))
+                .willReturn(Map.of(1L, 100L, 2L, 5L))
+                .willReturn(Map.of(1L, 40L, 2L, 0L));
+
+        // when
+        couponStockGauges.refresh();
+
+        // then
+        assertThat(stock(1L)).isEqualTo(100);
+        assertThat(stock(2L)).isEqualTo(5);
+
+        // when
+        couponStockGauges.refresh();
+
+        // then
+        assertThat(stock(1L)).isEqualTo(40);
+        assertThat(stock(2L)).isZero();
+    }
+
+    @Test
+    @DisplayName("종료되었거나 Redis 재고가 사라진 쿠폰의 게이지는 제거한다")
+    void refresh_RemovesEndedCoupons() {
+        // given
+        given(couponRepository.findActiveLimitedCouponIds(eq(CouponPolicyStatus.ACTIVE), any()))
+                .willReturn(List.of(1L, 2L))
+                .willReturn(List.of(1L));
+        given(couponStockStore.stocks(List.of(1L, 2L))).willReturn(Map.of(1L, 10L, 2L, 10L));
+        given(couponStockStore.stocks(List.of(1L))).willReturn(Map.of());
+
+        // when
+        couponStockGauges.refresh();
+        couponStockGauges.refresh();
+
+        // then
+        assertThat(meterRegistry.find(CouponStockGauges.STOCK).gauges()).isEmpty();
+    }
+}
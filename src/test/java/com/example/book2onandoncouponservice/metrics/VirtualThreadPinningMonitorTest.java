@@ -0,0 +1,57 @@
+package com.example.book2onandoncouponservice.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final VirtualThreadPinningMonitor monitor =
+            new VirtualThreadPinningMonitor(meterRegistry, Duration.ofMillis(10));
+
+    private final Object monitorLock = new Object();
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    // synchronized 안에서 sleep하면 가상 스레드가 언마운트되지 못하고 캐리어 스레드를 고정한다
+    private void sleepWhileHoldingMonitor() {
+        synchronized (monitorLock) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("synchronized 안에서 블로킹한 가상 스레드를 감지해 발생 위치별 시간으로 기록한다")
+    void detectsPinnedVirtualThread() throws InterruptedException {
+        // given
+        monitor.start();
+
+        // when
+        Timer timer = null;
+        long deadline = System.nanoTime() + Duration.ofSeconds(15).toNanos();
+        while (timer == null && System.nanoTime() < deadline) {
+            Thread.ofVirtual().start(this::sleepWhileHoldingMonitor).join();
+            Thread.sleep(200);
+            timer = meterRegistry.find(VirtualThreadPinningMonitor.PINNED)
+                    .tag("site", VirtualThreadPinningMonitorTest.class.getName() + ".sleepWhileHoldingMonitor")
+                    .timer();
+        }
+
+        // then
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isPositive();
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.book2onandoncouponservice.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class MemberIssuedCouponStoreTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    private MemberIssuedCouponStore store;
+
+    private final String key = MemberIssuedCouponStore.issuedKey(1L);
+
+    @BeforeEach
+    void setUp() {
+        store = new MemberIssuedCouponStore(redisTemplate, Duration.ofDays(1));
+        given(redisTemplate.opsForSet()).willReturn(setOperations);
+    }
+
+    @Test
+    @DisplayName("적재된 상태: 요청한 쿠폰 중 발급받은 ID만 반환")
+    void findIssued_Warm() {
+        // given
+        given(setOperations.isMember(key, MemberIssuedCouponStore.WARM_MARKER, "10", "20"))
+                .willReturn(Map.of(MemberIssuedCouponStore.WARM_MARKER, true, "10", true, "20", false));
+
+        // when
+        Optional<Set<Long>> result = store.findIssued(1L, List.of(10L, 20L));
+
+        // then
+        assertThat(result).contains(Set.of(10L));
+    }
+
+    @Test
+    @DisplayName("적재 표시가 없으면 콜드 상태로 empty 반환")
+    void findIssued_Cold() {
+        // given
+        given(setOperations.isMember(key, MemberIssuedCouponStore.WARM_MARKER, "10"))
+                .willReturn(Map.of(MemberIssuedCouponStore.WARM_MARKER, false, "10", true));
+
+        // when & then
+        assertThat(store.findIssued(1L, List.of(10L))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 empty 반환 (DB 조회로 대체)")
+    void findIssued_RedisFailure() {
+        // given
+        given(setOperations.isMember(key, MemberIssuedCouponStore.WARM_MARKER, "10"))
+                .willThrow(new RedisConnectionFailureException("down"));
+
+        // when & then
+        assertThat(store.findIssued(1L, List.of(10L))).isEmpty();
+    }
+}
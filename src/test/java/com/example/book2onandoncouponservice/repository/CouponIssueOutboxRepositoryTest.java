@@ -0,0 +1,39 @@
+package com.example.book2onandoncouponservice.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.book2onandoncouponservice.entity.CouponIssueOutbox;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+@DataJpaTest
+class CouponIssueOutboxRepositoryTest {
+
+    @Autowired
+    private CouponIssueOutboxRepository outboxRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("접수 순서(Snowflake ID 순)대로 요청한 개수만큼 조회한다")
+    void findOldest_Test() {
+        // given
+        for (long userId = 1; userId <= 3; userId++) {
+            outboxRepository.save(new CouponIssueOutbox(userId, 10L, LocalDateTime.now()));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<CouponIssueOutbox> oldest = outboxRepository.findOldest(PageRequest.of(0, 2));
+
+        // then
+        assertThat(oldest).extracting(CouponIssueOutbox::getUserId).containsExactly(1L, 2L);
+    }
+}
@@ -2,12 +2,14 @@ package com.example.book2onandoncouponservice.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.example.book2onandoncouponservice.entity.Coupon;
 import com.example.book2onandoncouponservice.entity.CouponPolicy;
 import com.example.book2onandoncouponservice.entity.CouponPolicyDiscountType;
 import com.example.book2onandoncouponservice.entity.CouponPolicyStatus;
 import com.example.book2onandoncouponservice.entity.CouponPolicyTargetBook;
 import com.example.book2onandoncouponservice.entity.CouponPolicyTargetCategory;
 import com.example.book2onandoncouponservice.entity.CouponPolicyType;
+import com.example.book2onandoncouponservice.repository.projection.SystemCouponRow;
 import com.example.book2onandoncouponservice.service.CouponPolicyService;
 import java.util.Collections;
 import java.util.List;
@@ -204,4 +206,34 @@ class CouponPolicyRepositoryTest {
         // then
         assertThat(resultIds).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("시스템 쿠폰 조회 - 타입별 활성 정책과 쿠폰 ID (쿠폰 없는 정책은 null, 같은 타입 활성 정책은 모두)")
+    void findActiveSystemCoupons() {
+        // given
+        CouponPolicy welcome = savePolicy("Welcome", CouponPolicyType.WELCOME, CouponPolicyDiscountType.FIXED,
+                CouponPolicyStatus.ACTIVE);
+        CouponPolicy secondWelcome = savePolicy("Welcome 2", CouponPolicyType.WELCOME,
+                CouponPolicyDiscountType.FIXED, CouponPolicyStatus.ACTIVE);
+        CouponPolicy birthday = savePolicy("Birthday", CouponPolicyType.BIRTHDAY, CouponPolicyDiscountType.FIXED,
+                CouponPolicyStatus.ACTIVE);
+        savePolicy("Old Birthday", CouponPolicyType.BIRTHDAY, CouponPolicyDiscountType.FIXED,
+                CouponPolicyStatus.DEACTIVE);
+        savePolicy("Book", CouponPolicyType.BOOK, CouponPolicyDiscountType.FIXED, CouponPolicyStatus.ACTIVE);
+        Coupon welcomeCoupon = entityManager.persist(new Coupon(null, welcome));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<SystemCouponRow> rows = couponPolicyRepository.findActiveSystemCoupons(
+                List.of(CouponPolicyType.WELCOME, CouponPolicyType.BIRTHDAY));
+
+        // then
+        assertThat(rows).containsExactly(
+                new SystemCouponRow(CouponPolicyType.WELCOME, welcome.getCouponPolicyId(),
+                        welcomeCoupon.getCouponId()),
+                new SystemCouponRow(CouponPolicyType.WELCOME, secondWelcome.getCouponPolicyId(), null),
+                new SystemCouponRow(CouponPolicyType.BIRTHDAY, birthday.getCouponPolicyId(), null));
+    }
+}
@@ -19,6 +19,7 @@ import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.redis.core.StringRedisTemplate;
@@ -102,6 +103,30 @@ class CouponRepositoryTest {
                 CouponPolicyStatus.ACTIVE);
     }
 
+    @Test
+    @DisplayName("관리자 쿠폰 커서 조회 - 최신(ID 내림차순)부터 이어서 조회하고 상태로 거른다")
+    void findAllByPolicyStatus_Seek() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            createCoupon(createPolicy("Active " + i, CouponPolicyType.CUSTOM, CouponPolicyStatus.ACTIVE, null), 10);
+        }
+        createCoupon(createPolicy("Deactive", CouponPolicyType.CUSTOM, CouponPolicyStatus.DEACTIVE, null), 10);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<Coupon> first = couponRepository.findAllByPolicyStatusFirstPage(CouponPolicyStatus.ACTIVE, Limit.of(2));
+        List<Coupon> rest = couponRepository.findAllByPolicyStatusAfter(CouponPolicyStatus.ACTIVE,
+                first.get(1).getCouponId(), Limit.of(2));
+
+        // then
+        assertThat(first).hasSize(2);
+        assertThat(first.get(0).getCouponId()).isGreaterThan(first.get(1).getCouponId());
+        assertThat(rest).hasSize(1);
+        assertThat(rest.get(0).getCouponId()).isLessThan(first.get(1).getCouponId());
+        assertThat(rest.get(0).getCouponPolicy().getCouponPolicyName()).startsWith("Active");
+    }
+
     @Test
     @DisplayName("다운로드 가능 쿠폰 조회 - 재고가 없거나 만료된 쿠폰 제외")
     void findAvailableCoupons_Test() {
@@ -147,6 +172,31 @@ class CouponRepositoryTest {
                 .containsExactlyInAnyOrder(c1.getCouponId(), c5.getCouponId());
     }
 
+    @Test
+    @DisplayName("발급 가능 쿠폰 카탈로그 적재 - 같은 조건의 전체 목록을 쿠폰 ID 순으로 조회")
+    void findAvailableCouponList_Test() {
+        // given
+        LocalDate today = LocalDate.now();
+        CouponPolicy p1 = createPolicy("Valid", CouponPolicyType.CUSTOM, CouponPolicyStatus.ACTIVE, today);
+        Coupon c1 = createCoupon(p1, 10);
+        CouponPolicy p2 = createPolicy("No Stock", CouponPolicyType.CUSTOM, CouponPolicyStatus.ACTIVE, today);
+        createCoupon(p2, 0);
+        CouponPolicy p3 = createPolicy("Unlimited", CouponPolicyType.CUSTOM, CouponPolicyStatus.ACTIVE, today);
+        Coupon c3 = createCoupon(p3, null);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<Coupon> result = couponRepository.findAvailableCouponList(CouponPolicyStatus.ACTIVE, today);
+
+        // then
+        assertThat(result).extracting(Coupon::getCouponId)
+                .containsExactly(Math.min(c1.getCouponId(), c3.getCouponId()),
+                        Math.max(c1.getCouponId(), c3.getCouponId()));
+        assertThat(result.get(0).getCouponPolicy().getCouponPolicyName()).isNotNull();
+    }
+
     @Test
     @DisplayName("상품/카테고리 적용 가능 쿠폰 목록 조회")
     void findAppliableCoupons_Test() {
@@ -209,4 +259,70 @@ class CouponRepositoryTest {
         assertThat(found).isPresent();
         assertThat(found.get().getCouponId()).isEqualTo(coupon.getCouponId());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("재고 일괄 차감 - 남은 재고가 충분할 때만 차감")
+    void decreaseRemainingQuantityBy_Test() {
+        // given
+        CouponPolicy policy = createPolicy("Bulk Policy", CouponPolicyType.CUSTOM, CouponPolicyStatus.ACTIVE, null);
+        Coupon coupon = createCoupon(policy, 10);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        int success = couponRepository.decreaseRemainingQuantityBy(coupon.getCouponId(), 7);
+        int fail = couponRepository.decreaseRemainingQuantityBy(coupon.getCouponId(), 4);
+
+        // then
+        assertThat(success).isEqualTo(1);
+        assertThat(fail).isZero();
+        assertThat(couponRepository.findById(coupon.getCouponId()))
+                .get()
+                .extracting(Coupon::getCouponRemainingQuantity)
+                .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("재고 정산 초과분 차감 - 남은 재고보다 많이 차감해도 0 아래로 내려가지 않음")
+    void decreaseRemainingQuantityToZero_Test() {
+        // given
+        CouponPolicy policy = createPolicy("Clamp Policy", CouponPolicyType.CUSTOM, CouponPolicyStatus.ACTIVE, null);
+        Coupon coupon = createCoupon(policy, 3);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        int updated = couponRepository.decreaseRemainingQuantityToZero(coupon.getCouponId(), 5);
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        assertThat(couponRepository.findById(coupon.getCouponId()))
+                .get()
+                .extracting(Coupon::getCouponRemainingQuantity)
+                .isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("진행 중인 선착순 쿠폰 ID 조회 - 무제한/비활성/기간 만료 쿠폰 제외")
+    void findActiveLimitedCouponIds_Test() {
+        // given
+        LocalDate today = LocalDate.now();
+        Coupon limited = createCoupon(
+                createPolicy("Limited", CouponPolicyType.CUSTOM, CouponPolicyStatus.ACTIVE, today), 0);
+        createCoupon(createPolicy("Unlimited", CouponPolicyType.CUSTOM, CouponPolicyStatus.ACTIVE, null), null);
+        createCoupon(createPolicy("Deactive", CouponPolicyType.CUSTOM, CouponPolicyStatus.DEACTIVE, null), 10);
+        createCoupon(createPolicy("Expired", CouponPolicyType.CUSTOM, CouponPolicyStatus.ACTIVE,
+                today.minusDays(1)), 10);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<Long> result = couponRepository.findActiveLimitedCouponIds(CouponPolicyStatus.ACTIVE, today);
+
+        // then
+        assertThat(result).containsExactly(limited.getCouponId());
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.book2onandoncouponservice.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.book2onandoncouponservice.entity.Coupon;
+import com.example.book2onandoncouponservice.entity.CouponPolicy;
+import com.example.book2onandoncouponservice.entity.CouponPolicyDiscountType;
+import com.example.book2onandoncouponservice.entity.CouponPolicyStatus;
+import com.example.book2onandoncouponservice.entity.CouponPolicyType;
+import com.example.book2onandoncouponservice.entity.MemberCouponStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@Import(MemberCouponBulkRepository.class)
+class MemberCouponBulkRepositoryTest {
+
+    @Autowired
+    private MemberCouponBulkRepository memberCouponBulkRepository;
+    @Autowired
+    private MemberCouponRepository memberCouponRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Coupon createCoupon() {
+        CouponPolicy policy = entityManager.persist(CouponPolicy.builder()
+                .couponPolicyName("Bulk")
+                .couponPolicyType(CouponPolicyType.CUSTOM)
+                .couponPolicyDiscountType(CouponPolicyDiscountType.FIXED)
+                .couponDiscountValue(1000)
+                .couponPolicyStatus(CouponPolicyStatus.ACTIVE)
+                .minPrice(0)
+                .build());
+        return entityManager.persist(new Coupon(null, policy));
+    }
+
+    @Test
+    @DisplayName("multi-row insert - 문장당 최대 행 수를 넘어가도 전부 저장")
+    void insertAll_Test() {
+        // given
+        Coupon coupon = createCoupon();
+        entityManager.flush();
+
+        List<Long> userIds = LongStream.rangeClosed(1, 1200).boxed().toList();
+        LocalDateTime now = LocalDateTime.now();
+
+        // when
+        int inserted = memberCouponBulkRepository.insertAll(coupon.getCouponId(), userIds, now, now.plusDays(7));
+
+        // then
+        assertThat(inserted).isEqualTo(1200);
+        assertThat(memberCouponRepository.findIssuedUserIds(coupon.getCouponId(), List.of(1L, 600L, 1200L)))
+                .containsExactlyInAnyOrder(1L, 600L, 1200L);
+        assertThat(memberCouponRepository.findAll())
+                .allMatch(mc -> mc.getMemberCouponStatus() == MemberCouponStatus.NOT_USED);
+    }
+
+    @Test
+    @DisplayName("중복 무시 insert - 이미 보유한 사용자는 건너뛰고 저장된 행 수만 반환")
+    void insertIgnoreAll_Test() {
+        // given
+        Coupon coupon = createCoupon();
+        entityManager.flush();
+        LocalDateTime now = LocalDateTime.now();
+        memberCouponBulkRepository.insertAll(coupon.getCouponId(), List.of(2L, 700L), now, now.plusDays(7));
+
+        List<Long> userIds = LongStream.rangeClosed(1, 800).boxed().toList();
+
+        // when
+        int inserted = memberCouponBulkRepository.insertIgnoreAll(coupon.getCouponId(), userIds, now,
+                now.plusDays(7));
+
+        // then
+        assertThat(inserted).isEqualTo(798);
+        assertThat(memberCouponRepository.count()).isEqualTo(800);
+        assertThat(memberCouponRepository.findAll())
+                .allMatch(mc -> mc.getMemberCouponStatus() == MemberCouponStatus.NOT_USED);
+    }
+
+    @Test
+    @DisplayName("만료 bulk UPDATE - PK 구간 청크 단위로 기한 지난 미사용 쿠폰만 EXPIRED 처리")
+    void expireRange_Test() {
+        // given
+        Coupon coupon = createCoupon();
+        entityManager.flush();
+
+        LocalDateTime now = LocalDateTime.now();
+        memberCouponBulkRepository.insertAll(coupon.getCouponId(),
+                LongStream.rangeClosed(1, 30).boxed().toList(), now.minusDays(10), now.minusDays(1));
+        memberCouponBulkRepository.insertAll(coupon.getCouponId(),
+                LongStream.rangeClosed(31, 40).boxed().toList(), now, now.plusDays(7));
+        memberCouponBulkRepository.insertAll(coupon.getCouponId(),
+                LongStream.rangeClosed(41, 45).boxed().toList(), now.minusDays(10), now.minusDays(1));
+
+        // when
+        long lastId = 0L;
+        int chunks = 0;
+        int expired = 0;
+        Long upperId;
+        while ((upperId = memberCouponBulkRepository.findExpireChunkUpperId(lastId, Long.MAX_VALUE, now, 7))
+                != null) {
+            expired += memberCouponBulkRepository.expireRange(lastId, upperId, now);
+            lastId = upperId;
+            chunks++;
+        }
+        entityManager.clear();
+
+        // then
+        assertThat(expired).isEqualTo(35);
+        assertThat(chunks).isEqualTo(5);
+        assertThat(memberCouponRepository.findAll())
+                .filteredOn(mc -> mc.getMemberCouponStatus() == MemberCouponStatus.EXPIRED)
+                .hasSize(35)
+                .allMatch(mc -> mc.getMemberCouponEndDate().isBefore(now));
+        assertThat(memberCouponRepository.findAll())
+                .filteredOn(mc -> mc.getMemberCouponStatus() == MemberCouponStatus.NOT_USED)
+                .hasSize(10);
+    }
+
+    @Test
+    @DisplayName("PK 분위 구간 조회 - 행 수가 고르게 나뉘고 데이터가 없으면 빈 목록")
+    void findIdQuantiles_Test() {
+        assertThat(memberCouponBulkRepository.findIdQuantiles(4)).isEmpty();
+
+        Coupon coupon = createCoupon();
+        entityManager.flush();
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> userIds = LongStream.rangeClosed(1, 10).boxed().toList();
+        memberCouponBulkRepository.insertAll(coupon.getCouponId(), userIds, now, now.plusDays(1));
+
+        List<long[]> quantiles = memberCouponBulkRepository.findIdQuantiles(4);
+        assertThat(quantiles).hasSize(4);
+        for (int i = 1; i < quantiles.size(); i++) {
+            assertThat(quantiles.get(i)[0]).isGreaterThan(quantiles.get(i - 1)[1]);
+        }
+
+        // 10건을 4개로 나누면 3, 3, 2, 2건
+        List<Long> ids = memberCouponRepository.findAll().stream()
+                .map(mc -> mc.getMemberCouponId()).sorted().toList();
+        assertThat(quantiles.get(0)[1]).isEqualTo(ids.get(2));
+        assertThat(quantiles.get(1)[1]).isEqualTo(ids.get(5));
+        assertThat(quantiles.get(2)[1]).isEqualTo(ids.get(7));
+        assertThat(quantiles.get(3)[1]).isEqualTo(ids.get(9));
+
+        assertThat(memberCouponBulkRepository.findIdQuantiles(20)).hasSize(10);
+    }
+}
@@ -9,14 +9,19 @@ import com.example.book2onandoncouponservice.entity.CouponPolicyStatus;
 import com.example.book2onandoncouponservice.entity.CouponPolicyType;
 import com.example.book2onandoncouponservice.entity.MemberCoupon;
 import com.example.book2onandoncouponservice.entity.MemberCouponStatus;
+import com.example.book2onandoncouponservice.repository.projection.MemberCouponPolicyRow;
+import com.example.book2onandoncouponservice.repository.projection.MemberCouponRow;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import org.hibernate.Session;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -76,7 +81,7 @@ class MemberCouponRepositoryTest {
     // --- Tests ---
 
     @Test
-    @DisplayName("내 쿠폰 조회 - 상태 필터링 및 Fetch Join 확인")
+    @DisplayName("내 쿠폰 조회 - 상태 필터링 및 정책 컬럼 프로젝션 확인")
     void findCouponsWithPolicy_StatusTest() {
         // given
         Long userId = 1L;
@@ -97,13 +102,18 @@ class MemberCouponRepositoryTest {
         entityManager.clear();
 
         // when
-        Page<MemberCoupon> result = memberCouponRepository.findCouponsWithPolicy(
+        Page<MemberCouponRow> result = memberCouponRepository.findCouponsWithPolicy(
                 userId, MemberCouponStatus.NOT_USED, PageRequest.of(0, 10));
 
         // then
         assertThat(result.getContent()).hasSize(1);
-        assertThat(result.getContent().get(0).getCoupon().getCouponPolicy().getCouponPolicyName()).isEqualTo(
-                "Policy A");
+        assertThat(result.getContent().get(0).couponName()).isEqualTo("Policy A");
+        assertThat(result.getContent().get(0).discountType()).isEqualTo(CouponPolicyDiscountType.FIXED);
+        assertThat(result.getContent().get(0).discountValue()).isEqualTo(1000);
+        assertThat(result.getContent().get(0).memberCouponStatus()).isEqualTo(MemberCouponStatus.NOT_USED);
+        // 프로젝션 조회는 엔티티를 영속성 컨텍스트에 올리지 않는다
+        assertThat(entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount())
+                .isZero();
     }
 
     @Test
@@ -123,13 +133,51 @@ class MemberCouponRepositoryTest {
         entityManager.clear();
 
         // when
-        Page<MemberCoupon> result = memberCouponRepository.findCouponsWithPolicy(
+        Page<MemberCouponRow> result = memberCouponRepository.findCouponsWithPolicy(
                 userId, null, PageRequest.of(0, 10));
 
         // then
         assertThat(result.getContent()).hasSize(2);
     }
 
+    @Test
+    @DisplayName("내 쿠폰 커서 조회 - (만료일, ID) 순으로 이어서 조회하고 같은 만료일은 ID로 구분")
+    void findCouponsWithPolicy_Seek() {
+        // given
+        Long userId = 1L;
+        LocalDateTime base = LocalDateTime.of(2030, 1, 1, 0, 0);
+        int[] endDayOffsets = {3, 1, 2, 2, 5};
+        for (int i = 0; i < endDayOffsets.length; i++) {
+            MemberCoupon mc = createMemberCoupon(userId, createCoupon(createPolicy("Policy " + i)),
+                    MemberCouponStatus.NOT_USED, null);
+            ReflectionTestUtils.setField(mc, "memberCouponEndDate", base.plusDays(endDayOffsets[i]));
+        }
+        createMemberCoupon(2L, createCoupon(createPolicy("Other")), MemberCouponStatus.NOT_USED, null);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<MemberCouponRow> scanned = new ArrayList<>(
+                memberCouponRepository.findCouponsWithPolicyFirstPage(userId, null, Limit.of(2)));
+        while (true) {
+            MemberCouponRow last = scanned.get(scanned.size() - 1);
+            List<MemberCouponRow> next = memberCouponRepository.findCouponsWithPolicyAfter(userId, null,
+                    last.memberCouponEndDate(), last.memberCouponId(), Limit.of(2));
+            if (next.isEmpty()) {
+                break;
+            }
+            scanned.addAll(next);
+        }
+
+        // then
+        assertThat(scanned).hasSize(5);
+        assertThat(scanned).extracting(MemberCouponRow::memberCouponEndDate)
+                .containsExactly(base.plusDays(1), base.plusDays(2), base.plusDays(2), base.plusDays(3),
+                        base.plusDays(5));
+        assertThat(scanned.get(1).memberCouponId()).isLessThan(scanned.get(2).memberCouponId());
+    }
+
     @Test
     @DisplayName("쿠폰 중복 발급 여부 확인")
     void existsByUserIdAndCoupon_CouponId_Test() {
@@ -288,4 +336,53 @@ class MemberCouponRepositoryTest {
         assertThat(loadedPolicy.getCouponPolicyTargetCategories()).isNotEmpty();
         assertThat(loadedPolicy.getCouponPolicyTargetCategories().get(0).getCategoryId()).isEqualTo(50L);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("대량 발급 전 이미 발급받은 유저 ID 조회")
+    void findIssuedUserIds_Test() {
+        // given
+        CouponPolicy policy = createPolicy("Bulk");
+        Coupon coupon = createCoupon(policy);
+        Coupon otherCoupon = createCoupon(createPolicy("Other"));
+
+        createMemberCoupon(1L, coupon, MemberCouponStatus.NOT_USED, null);
+        createMemberCoupon(2L, coupon, MemberCouponStatus.USED, "ORDER-1");
+        createMemberCoupon(3L, otherCoupon, MemberCouponStatus.NOT_USED, null);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<Long> issued = memberCouponRepository.findIssuedUserIds(coupon.getCouponId(), List.of(1L, 2L, 3L, 4L));
+
+        // then
+        assertThat(issued).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("쿠폰 적용 대상 일괄 조회 - 회원 쿠폰별 정책 ID와 할인 조건을 한 번에 조회")
+    void findPolicyRowsByMemberCouponIds_Test() {
+        // given
+        CouponPolicy policy = createPolicy("Policy A");
+        MemberCoupon first = createMemberCoupon(1L, createCoupon(policy), MemberCouponStatus.NOT_USED, null);
+        MemberCoupon second = createMemberCoupon(2L, createCoupon(createPolicy("Policy B")),
+                MemberCouponStatus.NOT_USED, null);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<MemberCouponPolicyRow> rows = memberCouponRepository.findPolicyRowsByMemberCouponIds(
+                List.of(first.getMemberCouponId(), second.getMemberCouponId(), -1L));
+
+        // then
+        assertThat(rows).hasSize(2);
+        assertThat(rows).filteredOn(row -> row.memberCouponId().equals(first.getMemberCouponId()))
+                .singleElement()
+                .satisfies(row -> {
+                    assertThat(row.couponPolicyId()).isEqualTo(policy.getCouponPolicyId());
+                    assertThat(row.discountType()).isEqualTo(CouponPolicyDiscountType.FIXED);
+                    assertThat(row.discountValue()).isEqualTo(1000);
+                });
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.book2onandoncouponservice.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.book2onandoncouponservice.cache.CacheInvalidationBus;
+import com.example.book2onandoncouponservice.dto.request.CouponPolicyRequestDto;
+import com.example.book2onandoncouponservice.entity.CouponPolicyDiscountType;
+import com.example.book2onandoncouponservice.entity.CouponPolicyType;
+import com.example.book2onandoncouponservice.service.impl.CouponPolicyServiceImpl;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=500",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(CouponPolicyServiceImpl.class)
+class TargetBookBatchInsertTest {
+
+    private static final int BOOK_COUNT = 10_000;
+
+    @Autowired
+    private CouponPolicyServiceImpl couponPolicyService;
+
+    @Autowired
+    private CouponPolicyTargetBookRepository targetBookRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockitoBean
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    @Test
+    @DisplayName("도서 1만 건 대상 정책 생성 시 타겟 도서 insert가 JDBC 배치로 전송된다")
+    void createPolicy_TargetBooksInsertedInBatches() {
+        // given
+        List<Long> bookIds = LongStream.rangeClosed(1, BOOK_COUNT).boxed().toList();
+        CouponPolicyRequestDto requestDto = new CouponPolicyRequestDto(
+                "대량 도서 정책", CouponPolicyType.BOOK, CouponPolicyDiscountType.FIXED,
+                1000, 0, null, 30, null, null, bookIds, null);
+
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        Long policyId = couponPolicyService.createPolicy(requestDto);
+        entityManager.flush();
+
+        // then
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(BOOK_COUNT + 1L);
+        // 10,000건 / batch_size 500 = 20개 배치 (+ 정책 insert)
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(BOOK_COUNT / 500 + 5);
+
+        entityManager.clear();
+        assertThat(targetBookRepository.findAllByCouponPolicy_CouponPolicyId(policyId)).hasSize(BOOK_COUNT);
+    }
+}
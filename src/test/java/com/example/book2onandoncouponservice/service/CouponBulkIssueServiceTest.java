@@ -0,0 +1,129 @@
+package com.example.book2onandoncouponservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+import com.example.book2onandoncouponservice.config.CouponBulkIssueJobConfig;
+import com.example.book2onandoncouponservice.dto.response.BulkIssueJobResponseDto;
+import com.example.book2onandoncouponservice.exception.CouponNotFoundException;
+import com.example.book2onandoncouponservice.repository.CouponRepository;
+import com.example.book2onandoncouponservice.service.impl.CouponBulkIssueService;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.mock.web.MockMultipartFile;
+
+@ExtendWith(MockitoExtension.class)
+class CouponBulkIssueServiceTest {
+
+    @Mock
+    private Job couponBulkIssueJob;
+    @Mock
+    private JobRepository jobRepository;
+    @Mock
+    private JobExplorer jobExplorer;
+    @Mock
+    private CouponRepository couponRepository;
+
+    @TempDir
+    Path uploadDir;
+
+    private CouponBulkIssueService couponBulkIssueService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        couponBulkIssueService = new CouponBulkIssueService(couponBulkIssueJob, jobRepository, jobExplorer,
+                couponRepository, uploadDir.toString(), 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        couponBulkIssueService.shutdown();
+    }
+
+    @Test
+    @DisplayName("대량 발급 실패 - 존재하지 않는 쿠폰")
+    void launchRange_Fail_CouponNotFound() {
+        // given
+        given(couponRepository.existsById(1L)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> couponBulkIssueService.launchRange(1L, 1L, 10L))
+                .isInstanceOf(CouponNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("대량 발급 실패 - 시작 ID가 끝 ID보다 크면 예외")
+    void launchRange_Fail_InvalidRange() {
+        assertThatThrownBy(() -> couponBulkIssueService.launchRange(1L, 10L, 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("같은 내용의 파일은 같은 경로에 저장되어 같은 Job 파라미터가 된다")
+    void launchFile_StoresByContentHash() throws Exception {
+        // given
+        given(couponRepository.existsById(1L)).willReturn(false);
+        MockMultipartFile file = new MockMultipartFile("file", "a.txt", "text/plain", "1\n2\n".getBytes());
+        MockMultipartFile same = new MockMultipartFile("file", "b.txt", "text/plain", "1\n2\n".getBytes());
+
+        // when (쿠폰이 없어 실행은 실패하지만 파일은 먼저 저장된다)
+        assertThatThrownBy(() -> couponBulkIssueService.launchFile(1L, file))
+                .isInstanceOf(CouponNotFoundException.class);
+        assertThatThrownBy(() -> couponBulkIssueService.launchFile(1L, same))
+                .isInstanceOf(CouponNotFoundException.class);
+
+        // then
+        try (var files = Files.list(uploadDir)) {
+            assertThat(files.map(path -> path.getFileName().toString()).toList())
+                    .singleElement()
+                    .satisfies(name -> assertThat(name).startsWith("coupon-1-").endsWith(".txt"));
+        }
+    }
+
+    @Test
+    @DisplayName("실행 조회 - Step별 처리 건수를 합산하고, 다른 Job의 실행 ID는 찾지 않는다")
+    void find() {
+        // given
+        JobExecution execution = new JobExecution(new JobInstance(1L, CouponBulkIssueJobConfig.JOB_NAME), 10L,
+                new JobParametersBuilder().addLong(CouponBulkIssueJobConfig.COUPON_ID, 5L).toJobParameters());
+        StepExecution step = new StepExecution("couponBulkIssueStep", execution);
+        step.setReadCount(1000);
+        step.setWriteCount(998);
+        step.setReadSkipCount(2);
+        execution.addStepExecutions(List.of(step));
+        given(jobExplorer.getJobExecution(10L)).willReturn(execution);
+        given(jobExplorer.getJobExecution(11L))
+                .willReturn(new JobExecution(new JobInstance(2L, "couponExpireJob"), 11L, null));
+
+        // when
+        Optional<BulkIssueJobResponseDto> found = couponBulkIssueService.find(10L);
+        Optional<BulkIssueJobResponseDto> other = couponBulkIssueService.find(11L);
+
+        // then
+        assertThat(found).hasValueSatisfying(dto -> {
+            assertThat(dto.getCouponId()).isEqualTo(5L);
+            assertThat(dto.getReadCount()).isEqualTo(1000);
+            assertThat(dto.getWriteCount()).isEqualTo(998);
+            assertThat(dto.getSkipCount()).isEqualTo(2);
+        });
+        assertThat(other).isEmpty();
+    }
+}
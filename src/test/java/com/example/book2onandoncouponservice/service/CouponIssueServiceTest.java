@@ -3,6 +3,7 @@ package com.example.book2onandoncouponservice.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
@@ -12,14 +13,24 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import com.example.book2onandoncouponservice.cache.AvailableCouponCatalog;
+import com.example.book2onandoncouponservice.cache.CouponSnapshotCache;
 import com.example.book2onandoncouponservice.entity.Coupon;
 import com.example.book2onandoncouponservice.entity.CouponPolicy;
+import com.example.book2onandoncouponservice.exception.CouponErrorCode;
 import com.example.book2onandoncouponservice.exception.CouponIssueException;
 import com.example.book2onandoncouponservice.messaging.CouponIssueMessage;
+import com.example.book2onandoncouponservice.messaging.publisher.CouponIssuePublisher;
+import com.example.book2onandoncouponservice.metrics.CouponMetrics;
+import com.example.book2onandoncouponservice.redis.CouponIssueResult;
+import com.example.book2onandoncouponservice.redis.CouponStockStore;
 import com.example.book2onandoncouponservice.repository.CouponRepository;
 import com.example.book2onandoncouponservice.service.impl.CouponIssueService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -27,10 +38,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.amqp.AmqpException;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.data.redis.core.SetOperations;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class CouponIssueServiceTest {
@@ -38,7 +50,7 @@ class CouponIssueServiceTest {
     @Mock
     private StringRedisTemplate redisTemplate;
     @Mock
-    private RabbitTemplate rabbitTemplate;
+    private CouponIssuePublisher couponIssuePublisher;
     @Mock
     private CouponRepository couponRepository;
     @Mock
@@ -48,6 +60,12 @@ class CouponIssueServiceTest {
     private ValueOperations<String, String> valueOperations;
     @Mock
     private SetOperations<String, String> setOperations;
+    @Mock
+    private RedisScript<Long> couponIssueScript;
+    @Mock
+    private CouponStockStore couponStockStore;
+    @Mock
+    private AvailableCouponCatalog availableCouponCatalog;
 
     @InjectMocks
     private CouponIssueService couponIssueService;
@@ -58,6 +76,16 @@ class CouponIssueServiceTest {
     private final String stockKey = "coupon:100stock:";
     private final String issueKey = "coupon:100users:";
 
+    // 쿠폰/정책 조회는 스냅샷 캐시를 거쳐 couponRepository.findById로 적재된다
+    @BeforeEach
+    void setUpSnapshotCache() {
+        CouponSnapshotCache couponSnapshotCache =
+                new CouponSnapshotCache(couponRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(couponIssueService, "couponSnapshotCache", couponSnapshotCache);
+        ReflectionTestUtils.setField(couponIssueService, "couponMetrics",
+                new CouponMetrics(new SimpleMeterRegistry(), couponSnapshotCache));
+    }
+
     private void setupCoupon(Integer remainingQuantity, boolean isIssuable) {
         Coupon coupon = mock(Coupon.class);
         CouponPolicy policy = mock(CouponPolicy.class);
@@ -77,6 +105,12 @@ class CouponIssueServiceTest {
         lenient().when(redisTemplate.opsForSet()).thenReturn(setOperations);
     }
 
+    private void givenIssueScriptResult(CouponIssueResult result) {
+        given(redisTemplate.execute(eq(couponIssueScript), eq(List.of(issueKey, stockKey)),
+                eq(String.valueOf(userId)), anyString()))
+                .willReturn(result.getCode());
+    }
+
     @Test
     @DisplayName("무제한 쿠폰: 동기 발급 성공 (Redis/MQ 사용 안 함)")
     void issueRequest_Unlimited_Success() {
@@ -94,20 +128,15 @@ class CouponIssueServiceTest {
         // Redis나 MQ는 호출되지 않아야 함
         verify(redisTemplate, never()).opsForValue();
         verify(redisTemplate, never()).opsForSet();
-        verify(rabbitTemplate, never()).convertAndSend(anyString(), anyString(), any(CouponIssueMessage.class));
+        verify(couponIssuePublisher, never()).publish(any(CouponIssueMessage.class));
     }
 
     @Test
-    @DisplayName("선착순 쿠폰: 발급 요청 접수 성공 (Redis Set -> Stock -> MQ)")
+    @DisplayName("선착순 쿠폰: 발급 요청 접수 성공 (Lua 게이트 1회 -> MQ)")
     void issueRequest_Limited_Success() {
         // given
         setupCoupon(100, true);
-        setupRedisMocks();
-
-        // 1. Set 중복 검사 (성공: 1 반환)
-        given(setOperations.add(issueKey, String.valueOf(userId))).willReturn(1L);
-        // 2. 재고 차감 (성공: 99 반환)
-        given(valueOperations.decrement(stockKey)).willReturn(99L);
+        givenIssueScriptResult(CouponIssueResult.ISSUED);
 
         // when
         boolean result = couponIssueService.issueRequest(userId, couponId);
@@ -115,49 +144,57 @@ class CouponIssueServiceTest {
         // then
         assertThat(result).isFalse(); // 비동기 접수 완료
 
-        // 순서 검증: TTL 설정 확인
-        verify(redisTemplate).expire(eq(issueKey), any(Duration.class));
+        // 개별 Redis 명령은 호출되지 않아야 함 (스크립트 1 RTT)
+        verify(redisTemplate, never()).opsForValue();
+        verify(redisTemplate, never()).opsForSet();
         // MQ 전송 확인
-        verify(rabbitTemplate).convertAndSend(anyString(), anyString(), any(CouponIssueMessage.class));
+        verify(couponIssuePublisher).publish(new CouponIssueMessage(userId, couponId));
     }
 
     @Test
-    @DisplayName("선착순 쿠폰: 중복 요청 시 재고 차감 없이 예외 발생")
+    @DisplayName("선착순 쿠폰: 중복 요청 시 예외 발생 (보상 쓰기 없음)")
     void issueRequest_Limited_Fail_Duplicate() {
         // given
         setupCoupon(100, true);
-        setupRedisMocks();
-
-        // Redis Set에 이미 존재함 (0 반환)
-        given(setOperations.add(issueKey, String.valueOf(userId))).willReturn(0L);
+        givenIssueScriptResult(CouponIssueResult.DUPLICATE);
 
         // when & then
         assertThrows(CouponIssueException.class, () -> couponIssueService.issueRequest(userId, couponId));
 
-        // 검증: 재고 차감(decrement)은 절대로 호출되면 안 됨 (순서 보장)
-        verify(valueOperations, never()).decrement(anyString());
-        verify(rabbitTemplate, never()).convertAndSend(anyString(), anyString(), any(CouponIssueMessage.class));
+        verify(redisTemplate, never()).opsForValue();
+        verify(redisTemplate, never()).opsForSet();
+        verify(couponIssuePublisher, never()).publish(any(CouponIssueMessage.class));
     }
 
     @Test
-    @DisplayName("선착순 쿠폰: 재고 소진 시 Set 롤백 및 예외 발생")
+    @DisplayName("선착순 쿠폰: 재고 소진 시 롤백 없이 예외 발생")
     void issueRequest_Limited_Fail_OutOfStock() {
         // given
         setupCoupon(100, true);
-        setupRedisMocks();
-
-        given(setOperations.add(issueKey, String.valueOf(userId))).willReturn(1L);
-        // 재고가 0보다 작아짐
-        given(valueOperations.decrement(stockKey)).willReturn(-1L);
+        givenIssueScriptResult(CouponIssueResult.SOLD_OUT);
 
         // when & then
         assertThrows(CouponIssueException.class, () -> couponIssueService.issueRequest(userId, couponId));
 
-        // 롤백 검증: Set에서 유저 제거
-        verify(setOperations).remove(issueKey, String.valueOf(userId));
-        verify(valueOperations).increment(stockKey);
+        // 스크립트가 차감하지 않았으므로 보상(remove/increment) 불필요
+        verify(redisTemplate, never()).opsForValue();
+        verify(redisTemplate, never()).opsForSet();
+        verify(couponIssuePublisher, never()).publish(any(CouponIssueMessage.class));
+        // 발급 가능 목록에서 바로 제외
+        verify(availableCouponCatalog).onSoldOut(couponId);
+    }
+
+    @Test
+    @DisplayName("선착순 쿠폰: 스크립트 결과가 없으면 예외 발생")
+    void issueRequest_Limited_Fail_UnknownScriptResult() {
+        // given
+        setupCoupon(100, true);
+        given(redisTemplate.execute(eq(couponIssueScript), anyList(), any(), any())).willReturn(null);
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> couponIssueService.issueRequest(userId, couponId));
 
-        verify(rabbitTemplate, never()).convertAndSend(anyString(), anyString(), any(CouponIssueMessage.class));
+        verify(couponIssuePublisher, never()).publish(any(CouponIssueMessage.class));
     }
 
     @Test
@@ -166,19 +203,34 @@ class CouponIssueServiceTest {
         // given
         setupCoupon(100, true);
         setupRedisMocks();
-
-        given(setOperations.add(issueKey, String.valueOf(userId))).willReturn(1L);
-        given(valueOperations.decrement(stockKey)).willReturn(99L);
+        givenIssueScriptResult(CouponIssueResult.ISSUED);
 
         // MQ 전송 시 예외 발생
-        willThrow(new AmqpException("MQ Error")).given(rabbitTemplate)
-                .convertAndSend(anyString(), anyString(), any(CouponIssueMessage.class));
+        willThrow(new AmqpException("MQ Error")).given(couponIssuePublisher)
+                .publish(any(CouponIssueMessage.class));
 
         // when & then
         assertThrows(CouponIssueException.class, () -> couponIssueService.issueRequest(userId, couponId));
 
-        verify(valueOperations).increment(stockKey); // 재고 복구
-        verify(setOperations).remove(issueKey, String.valueOf(userId)); // 이력 삭제
+        verify(couponStockStore).release(couponId, userId); // 이력 삭제 + 재고 복구
+    }
+
+    @Test
+    @DisplayName("선착순 쿠폰: 전송 버퍼가 가득 차면 재고를 복구하고 ISSUE_REQUEST_BUSY를 그대로 던진다")
+    void issueRequest_Limited_Fail_PublisherBusy() {
+        // given
+        setupCoupon(100, true);
+        setupRedisMocks();
+        givenIssueScriptResult(CouponIssueResult.ISSUED);
+        willThrow(new CouponIssueException(CouponErrorCode.ISSUE_REQUEST_BUSY)).given(couponIssuePublisher)
+                .publish(any(CouponIssueMessage.class));
+
+        // when & then
+        CouponIssueException exception = assertThrows(CouponIssueException.class,
+                () -> couponIssueService.issueRequest(userId, couponId));
+
+        assertThat(exception.getErrorCode()).isEqualTo(CouponErrorCode.ISSUE_REQUEST_BUSY);
+        verify(couponStockStore).release(couponId, userId);
     }
 
     @Test
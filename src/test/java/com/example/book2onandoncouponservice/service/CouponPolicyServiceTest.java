@@ -9,6 +9,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import com.example.book2onandoncouponservice.cache.CacheInvalidationBus;
 import com.example.book2onandoncouponservice.dto.request.CouponPolicyRequestDto;
 import com.example.book2onandoncouponservice.dto.request.CouponPolicyUpdateRequestDto;
 import com.example.book2onandoncouponservice.dto.response.CouponPolicyResponseDto;
@@ -51,6 +52,9 @@ class CouponPolicyServiceTest {
     @Mock
     private CouponPolicyTargetCategoryRepository targetCategoryRepository;
 
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
     private CouponPolicy createDummyPolicy(Long id) {
         // 빌더나 생성자 패턴에 맞게 수정 필요 (여기서는 기본 생성자 후 Reflection 사용 가정)
         CouponPolicy policy = new CouponPolicy();
@@ -160,6 +164,9 @@ class CouponPolicyServiceTest {
 
         // 3. 타겟 카테고리 저장 호출 확인 (saveAll)
         verify(targetCategoryRepository).saveAll(anyList());
+
+        // 4. 커밋 후 캐시 무효화 이벤트 발행 확인
+        verify(cacheInvalidationBus).publishPolicyChanged(1L);
     }
 
     @Test
@@ -3,17 +3,27 @@ package com.example.book2onandoncouponservice.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import com.example.book2onandoncouponservice.cache.AvailableCouponCatalog;
+import com.example.book2onandoncouponservice.cache.CacheInvalidationBus;
+import com.example.book2onandoncouponservice.cache.CouponSnapshotCache;
+import com.example.book2onandoncouponservice.cache.PolicyTargetIndex;
+import com.example.book2onandoncouponservice.cache.SystemCouponRegistry;
 import com.example.book2onandoncouponservice.dto.request.CouponCreateRequestDto;
+import com.example.book2onandoncouponservice.dto.response.AvailableCouponPageDto;
 import com.example.book2onandoncouponservice.dto.response.CouponResponseDto;
+import com.example.book2onandoncouponservice.dto.response.CursorPageResponseDto;
 import com.example.book2onandoncouponservice.entity.Coupon;
 import com.example.book2onandoncouponservice.entity.CouponPolicy;
 import com.example.book2onandoncouponservice.entity.CouponPolicyDiscountType;
@@ -24,13 +34,24 @@ import com.example.book2onandoncouponservice.exception.CouponErrorCode;
 import com.example.book2onandoncouponservice.exception.CouponIssueException;
 import com.example.book2onandoncouponservice.exception.CouponNotFoundException;
 import com.example.book2onandoncouponservice.exception.CouponPolicyNotFoundException;
+import com.example.book2onandoncouponservice.metrics.CouponMetrics;
+import com.example.book2onandoncouponservice.pagination.CursorCodec;
+import com.example.book2onandoncouponservice.redis.CouponStockStore;
+import com.example.book2onandoncouponservice.redis.MemberIssuedCouponStore;
 import com.example.book2onandoncouponservice.repository.CouponPolicyRepository;
 import com.example.book2onandoncouponservice.repository.CouponRepository;
+import com.example.book2onandoncouponservice.repository.MemberCouponBulkRepository;
 import com.example.book2onandoncouponservice.repository.MemberCouponRepository;
+import com.example.book2onandoncouponservice.repository.projection.SystemCouponRow;
 import com.example.book2onandoncouponservice.service.impl.CouponServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -39,12 +60,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
@@ -61,10 +85,34 @@ class CouponServiceTest {
     @Mock
     private MemberCouponRepository memberCouponRepository;
     @Mock
+    private MemberCouponBulkRepository memberCouponBulkRepository;
+    @Mock
     private StringRedisTemplate redisTemplate;
     @Mock
+    private PolicyTargetIndex policyTargetIndex;
+    @Mock
+    private AvailableCouponCatalog availableCouponCatalog;
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+    @Mock
+    private CouponStockStore couponStockStore;
+    @Mock
+    private MemberIssuedCouponStore memberIssuedCouponStore;
+    @Mock
     private ValueOperations<String, String> valueOperations;
 
+    // 발급 경로는 스냅샷 캐시를 거쳐 couponRepository.findById로 적재된다
+    @BeforeEach
+    void setUpSnapshotCache() {
+        CouponSnapshotCache couponSnapshotCache =
+                new CouponSnapshotCache(couponRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(couponService, "couponSnapshotCache", couponSnapshotCache);
+        ReflectionTestUtils.setField(couponService, "couponMetrics",
+                new CouponMetrics(new SimpleMeterRegistry(), couponSnapshotCache));
+        ReflectionTestUtils.setField(couponService, "systemCouponRegistry",
+                new SystemCouponRegistry(policyRepository, Duration.ofMinutes(10)));
+    }
+
     private void setupIssueMock(Long userId, Long couponId, Coupon coupon, CouponPolicy policy, Integer quantity) {
         given(couponRepository.findById(couponId)).willReturn(Optional.of(coupon));
         given(coupon.getCouponPolicy()).willReturn(policy);
@@ -104,6 +152,7 @@ class CouponServiceTest {
             // then
             assertThat(resultId).isEqualTo(10L);
             verify(couponRepository).save(any(Coupon.class));
+            verify(cacheInvalidationBus).publishCouponChanged(10L);
 
             ArgumentCaptor<TransactionSynchronization> captor = ArgumentCaptor.forClass(
                     TransactionSynchronization.class);
@@ -267,6 +316,32 @@ class CouponServiceTest {
     }
 
 
+    @Test
+    @DisplayName("쿠폰 목록 커서 조회 - 커서의 쿠폰 ID 이후를 조회하고 마지막 페이지면 nextCursor 없음")
+    void getCouponsByCursor() {
+        Coupon coupon = mock(Coupon.class);
+        given(coupon.getCouponPolicy()).willReturn(mock(CouponPolicy.class));
+        given(couponRepository.findAllByPolicyStatusAfter(CouponPolicyStatus.ACTIVE, 500L, Limit.of(21)))
+                .willReturn(List.of(coupon));
+
+        CursorPageResponseDto<CouponResponseDto> result =
+                couponService.getCouponsByCursor(CursorCodec.encode(500L), 20, "ACTIVE");
+
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("쿠폰 목록 커서 조회 - 페이지 크기는 최대 100건으로 제한")
+    void getCouponsByCursor_ClampsSize() {
+        given(couponRepository.findAllByPolicyStatusFirstPage(null, Limit.of(101))).willReturn(List.of());
+
+        couponService.getCouponsByCursor(null, 10_000, null);
+
+        verify(couponRepository).findAllByPolicyStatusFirstPage(null, Limit.of(101));
+    }
+
     // getCouponDetail (상세 조회)
     @Test
     @DisplayName("쿠폰 상세 조회 성공")
@@ -297,19 +372,48 @@ class CouponServiceTest {
     // getAvailableCoupon (사용자용 조회)
 
     @Test
-    @DisplayName("발급 가능 쿠폰 목록 조회 성공")
+    @DisplayName("발급 가능 쿠폰 목록 조회 성공 - 카탈로그 적재 전에는 DB 조회")
     void getAvailableCoupon_Success() {
         Pageable pageable = PageRequest.of(0, 10);
         Coupon coupon = mock(Coupon.class);
         CouponPolicy policy = mock(CouponPolicy.class);
         given(coupon.getCouponPolicy()).willReturn(policy);
+        given(availableCouponCatalog.isReady()).willReturn(false);
 
         given(couponRepository.findAvailableCoupons(eq(CouponPolicyStatus.ACTIVE), any(LocalDate.class), eq(pageable)))
                 .willReturn(new PageImpl<>(List.of(coupon)));
 
-        Page<CouponResponseDto> result = couponService.getAvailableCoupon(pageable);
+        AvailableCouponPageDto result = couponService.getAvailableCoupon(pageable);
 
-        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getCoupons().getContent()).hasSize(1);
+        assertThat(result.getEtag()).isNull();
+    }
+
+    @Test
+    @DisplayName("발급 가능 쿠폰 목록 조회 - 정렬 조건이 없으면 카탈로그 스냅샷에서 응답")
+    void getAvailableCoupon_FromCatalog() {
+        Pageable pageable = PageRequest.of(0, 10);
+        AvailableCouponPageDto catalogPage = new AvailableCouponPageDto(new PageImpl<>(List.of()), "\"abc-0-10\"");
+        given(availableCouponCatalog.isReady()).willReturn(true);
+        given(availableCouponCatalog.page(pageable)).willReturn(catalogPage);
+
+        AvailableCouponPageDto result = couponService.getAvailableCoupon(pageable);
+
+        assertThat(result).isSameAs(catalogPage);
+        verify(couponRepository, never()).findAvailableCoupons(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("발급 가능 쿠폰 목록 조회 - 정렬 요청은 카탈로그 대신 DB 조회")
+    void getAvailableCoupon_SortedUsesDb() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("couponId").descending());
+        given(couponRepository.findAvailableCoupons(eq(CouponPolicyStatus.ACTIVE), any(LocalDate.class), eq(pageable)))
+                .willReturn(new PageImpl<>(List.of()));
+
+        AvailableCouponPageDto result = couponService.getAvailableCoupon(pageable);
+
+        assertThat(result.getEtag()).isNull();
+        verify(availableCouponCatalog, never()).page(any());
     }
 
     @Test
@@ -335,6 +439,7 @@ class CouponServiceTest {
 
         // then
         assertThat(result).isEqualTo(100L);
+        verify(memberIssuedCouponStore).markIssued(userId, couponId);
 
         // [수정] 더 이상 엔티티의 decreaseStock()을 호출하지 않으므로 삭제하거나 Repository 호출 검증으로 대체
         verify(couponRepository).decreaseRemainingQuantity(couponId);
@@ -343,6 +448,68 @@ class CouponServiceTest {
         verify(memberCouponRepository).save(any(MemberCoupon.class));
     }
 
+    @Test
+    @DisplayName("선점 발급(write-behind) - DB 재고 차감 없이 커밋 후 미반영 차감량 누적")
+    void issueReservedMemberCoupon_WriteBehind() {
+        // given
+        Long userId = 1L, couponId = 1L;
+        Coupon coupon = mock(Coupon.class);
+        CouponPolicy policy = mock(CouponPolicy.class);
+
+        given(couponRepository.findById(couponId)).willReturn(Optional.of(coupon));
+        given(coupon.getCouponPolicy()).willReturn(policy);
+        given(coupon.getCouponRemainingQuantity()).willReturn(100);
+        given(policy.isIssuable()).willReturn(true);
+        given(memberCouponRepository.existsByUserIdAndCoupon_CouponId(userId, couponId)).willReturn(false);
+        given(policy.getDurationDays()).willReturn(30);
+
+        MemberCoupon savedMC = mock(MemberCoupon.class);
+        given(savedMC.getMemberCouponId()).willReturn(100L);
+        given(memberCouponRepository.save(any(MemberCoupon.class))).willReturn(savedMC);
+        ReflectionTestUtils.setField(couponService, "stockWriteBehind", true);
+
+        try (MockedStatic<TransactionSynchronizationManager> synchronizationManager = mockStatic(
+                TransactionSynchronizationManager.class)) {
+
+            // when
+            couponService.issueReservedMemberCoupon(userId, couponId);
+
+            // then
+            verify(couponRepository, never()).decreaseRemainingQuantity(any());
+
+            ArgumentCaptor<TransactionSynchronization> captor = ArgumentCaptor.forClass(
+                    TransactionSynchronization.class);
+            synchronizationManager.verify(
+                    () -> TransactionSynchronizationManager.registerSynchronization(captor.capture()));
+
+            captor.getValue().afterCommit();
+            verify(couponStockStore).recordIssued(couponId, 1);
+        }
+    }
+
+    @Test
+    @DisplayName("일반 발급 - write-behind 모드여도 DB 재고를 바로 차감 (Redis 게이트를 거치지 않은 발급)")
+    void issueMemberCoupon_WriteBehind_StillDecreasesDb() {
+        // given
+        Long userId = 1L, couponId = 1L;
+        Coupon coupon = mock(Coupon.class);
+        CouponPolicy policy = mock(CouponPolicy.class);
+
+        setupIssueMock(userId, couponId, coupon, policy, 100);
+        given(policy.getDurationDays()).willReturn(30);
+
+        MemberCoupon savedMC = mock(MemberCoupon.class);
+        given(memberCouponRepository.save(any(MemberCoupon.class))).willReturn(savedMC);
+        ReflectionTestUtils.setField(couponService, "stockWriteBehind", true);
+
+        // when
+        couponService.issueMemberCoupon(userId, couponId);
+
+        // then
+        verify(couponRepository).decreaseRemainingQuantity(couponId);
+        verify(couponStockStore, never()).recordIssued(any(), anyLong());
+    }
+
     @Test
     @DisplayName("발급 성공 - DurationDays 만료일 계산")
     void issueMemberCoupon_Success_DurationDays() {
@@ -434,6 +601,260 @@ class CouponServiceTest {
                 .hasMessage(CouponErrorCode.COUPON_ALREADY_ISSUED.getMessage());
     }
 
+    @Test
+    @DisplayName("대량 발급 성공 - 재고 1회 차감 후 중복을 제외한 대상만 insert")
+    void issueMemberCoupons_Success() {
+        // given
+        Long couponId = 1L;
+        Coupon coupon = mock(Coupon.class);
+        CouponPolicy policy = mock(CouponPolicy.class);
+
+        given(couponRepository.findById(couponId)).willReturn(Optional.of(coupon));
+        given(coupon.getCouponPolicy()).willReturn(policy);
+        given(coupon.getCouponRemainingQuantity()).willReturn(100);
+        given(policy.isIssuable()).willReturn(true);
+        given(policy.getDurationDays()).willReturn(30);
+        // 2번 유저는 이미 보유
+        given(memberCouponRepository.findIssuedUserIds(couponId, List.of(1L, 2L, 3L))).willReturn(List.of(2L));
+        given(couponRepository.decreaseRemainingQuantityBy(couponId, 2)).willReturn(1);
+        given(memberCouponBulkRepository.insertAll(eq(couponId), eq(List.of(1L, 3L)), any(), any())).willReturn(2);
+
+        // when (3번 유저는 묶음 안에서 중복)
+        List<Long> duplicated = couponService.issueMemberCoupons(couponId, List.of(1L, 2L, 3L, 3L));
+
+        // then
+        assertThat(duplicated).containsExactly(2L, 3L);
+        verify(couponRepository).decreaseRemainingQuantityBy(couponId, 2);
+        verify(couponRepository, never()).decreaseRemainingQuantity(any());
+        verify(memberCouponRepository, never()).save(any(MemberCoupon.class));
+    }
+
+    @Test
+    @DisplayName("대량 발급 - 모두 이미 보유 중이면 재고 차감/insert 없음")
+    void issueMemberCoupons_AllDuplicated() {
+        // given
+        Long couponId = 1L;
+        Coupon coupon = mock(Coupon.class);
+        CouponPolicy policy = mock(CouponPolicy.class);
+
+        given(couponRepository.findById(couponId)).willReturn(Optional.of(coupon));
+        given(coupon.getCouponPolicy()).willReturn(policy);
+        given(policy.isIssuable()).willReturn(true);
+        given(memberCouponRepository.findIssuedUserIds(couponId, List.of(1L))).willReturn(List.of(1L));
+
+        // when
+        List<Long> duplicated = couponService.issueMemberCoupons(couponId, List.of(1L));
+
+        // then
+        assertThat(duplicated).containsExactly(1L);
+        verify(couponRepository, never()).decreaseRemainingQuantityBy(any(), anyInt());
+        verify(memberCouponBulkRepository, never()).insertAll(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("대량 발급 실패 - 남은 재고보다 많이 요청하면 재고 소진 예외")
+    void issueMemberCoupons_Fail_OutOfStock() {
+        // given
+        Long couponId = 1L;
+        Coupon coupon = mock(Coupon.class);
+        CouponPolicy policy = mock(CouponPolicy.class);
+
+        given(couponRepository.findById(couponId)).willReturn(Optional.of(coupon));
+        given(coupon.getCouponPolicy()).willReturn(policy);
+        given(coupon.getCouponRemainingQuantity()).willReturn(1);
+        given(policy.isIssuable()).willReturn(true);
+        given(memberCouponRepository.findIssuedUserIds(couponId, List.of(1L, 2L))).willReturn(List.of());
+        given(couponRepository.decreaseRemainingQuantityBy(couponId, 2)).willReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> couponService.issueMemberCoupons(couponId, List.of(1L, 2L)))
+                .isInstanceOf(CouponIssueException.class)
+                .hasMessage(CouponErrorCode.COUPON_OUT_OF_STOCK.getMessage());
+        verify(memberCouponBulkRepository, never()).insertAll(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("대량 발급 실패 - 정책 발급 불가")
+    void issueMemberCoupons_Fail_PolicyNotIssuable() {
+        // given
+        Long couponId = 1L;
+        Coupon coupon = mock(Coupon.class);
+        CouponPolicy policy = mock(CouponPolicy.class);
+
+        given(couponRepository.findById(couponId)).willReturn(Optional.of(coupon));
+        given(coupon.getCouponPolicy()).willReturn(policy);
+        given(policy.isIssuable()).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> couponService.issueMemberCoupons(couponId, List.of(1L)))
+                .isInstanceOf(CouponIssueException.class)
+                .hasMessage(CouponErrorCode.POLICY_NOT_ISSUABLE.getMessage());
+    }
+
+    @Test
+    @DisplayName("청크 발급 - 이미 보유한 사용자를 빼고 저장한 뒤 실제 저장된 수만큼 재고 차감")
+    void issueMemberCouponsChunk_Success() {
+        // given
+        Long couponId = 1L;
+        Coupon coupon = mock(Coupon.class);
+        CouponPolicy policy = mock(CouponPolicy.class);
+
+        given(couponRepository.findById(couponId)).willReturn(Optional.of(coupon));
+        given(coupon.getCouponPolicy()).willReturn(policy);
+        given(coupon.getCouponRemainingQuantity()).willReturn(100);
+        given(policy.isIssuable()).willReturn(true);
+        given(policy.getDurationDays()).willReturn(30);
+        given(memberCouponRepository.findIssuedUserIds(couponId, List.of(1L, 2L, 3L))).willReturn(List.of(2L));
+        // 조회 이후 3번 유저가 단건 발급으로 먼저 저장되어 1건만 저장됨
+        given(memberCouponBulkRepository.insertIgnoreAll(eq(couponId), eq(List.of(1L, 3L)), any(), any()))
+                .willReturn(1);
+        given(couponStockStore.reserve(couponId, 1)).willReturn(99L);
+        given(couponRepository.decreaseRemainingQuantityBy(couponId, 1)).willReturn(1);
+
+        // when
+        int issued = couponService.issueMemberCouponsChunk(couponId, List.of(1L, 2L, 3L, 3L));
+
+        // then
+        assertThat(issued).isEqualTo(1);
+        verify(couponStockStore).reserve(couponId, 1);
+        verify(couponStockStore).recordBulkIssued(couponId, 1);
+        verify(couponRepository).decreaseRemainingQuantityBy(couponId, 1);
+        verify(memberIssuedCouponStore).markIssued(List.of(1L, 3L), couponId);
+        verify(availableCouponCatalog, never()).onSoldOut(any());
+    }
+
+    @Test
+    @DisplayName("청크 발급 - write-behind 모드는 Redis 재고를 차감하고 DB에는 정산으로 반영, 재고가 0이 되면 목록에서 제외")
+    void issueMemberCouponsChunk_WriteBehind() {
+        // given
+        Long couponId = 1L;
+        Coupon coupon = mock(Coupon.class);
+        CouponPolicy policy = mock(CouponPolicy.class);
+
+        given(couponRepository.findById(couponId)).willReturn(Optional.of(coupon));
+        given(coupon.getCouponPolicy()).willReturn(policy);
+        given(coupon.getCouponRemainingQuantity()).willReturn(2);
+        given(policy.isIssuable()).willReturn(true);
+        given(policy.getDurationDays()).willReturn(30);
+        given(memberCouponRepository.findIssuedUserIds(couponId, List.of(1L, 2L))).willReturn(List.of());
+        given(memberCouponBulkRepository.insertIgnoreAll(eq(couponId), eq(List.of(1L, 2L)), any(), any()))
+                .willReturn(2);
+        given(couponStockStore.reserve(couponId, 2)).willReturn(0L);
+        ReflectionTestUtils.setField(couponService, "stockWriteBehind", true);
+
+        try (MockedStatic<TransactionSynchronizationManager> synchronizationManager = mockStatic(
+                TransactionSynchronizationManager.class)) {
+
+            // when
+            couponService.issueMemberCouponsChunk(couponId, List.of(1L, 2L));
+
+            // then
+            verify(couponRepository, never()).decreaseRemainingQuantityBy(any(), anyInt());
+            verify(couponStockStore).recordBulkIssued(couponId, 2);
+            verify(availableCouponCatalog).onSoldOut(couponId);
+
+            ArgumentCaptor<TransactionSynchronization> captor = ArgumentCaptor.forClass(
+                    TransactionSynchronization.class);
+            synchronizationManager.verify(
+                    () -> TransactionSynchronizationManager.registerSynchronization(captor.capture()));
+
+            captor.getValue().afterCommit();
+            verify(couponStockStore).recordIssued(couponId, 2);
+        }
+    }
+
+    @Test
+    @DisplayName("청크 발급 실패 - Redis 재고가 저장된 수보다 적으면 재고 소진 예외 (DB 재고는 건드리지 않음)")
+    void issueMemberCouponsChunk_Fail_RedisOutOfStock() {
+        // given
+        Long couponId = 1L;
+        Coupon coupon = mock(Coupon.class);
+        CouponPolicy policy = mock(CouponPolicy.class);
+
+        given(couponRepository.findById(couponId)).willReturn(Optional.of(coupon));
+        given(coupon.getCouponPolicy()).willReturn(policy);
+        given(coupon.getCouponRemainingQuantity()).willReturn(5);
+        given(policy.isIssuable()).willReturn(true);
+        given(policy.getDurationDays()).willReturn(30);
+        given(memberCouponRepository.findIssuedUserIds(couponId, List.of(1L, 2L))).willReturn(List.of());
+        given(memberCouponBulkRepository.insertIgnoreAll(eq(couponId), eq(List.of(1L, 2L)), any(), any()))
+                .willReturn(2);
+        given(couponStockStore.reserve(couponId, 2)).willReturn(CouponStockStore.RESERVE_SOLD_OUT);
+        ReflectionTestUtils.setField(couponService, "stockWriteBehind", true);
+
+        // when & then
+        assertThatThrownBy(() -> couponService.issueMemberCouponsChunk(couponId, List.of(1L, 2L)))
+                .isInstanceOf(CouponIssueException.class)
+                .hasMessage(CouponErrorCode.COUPON_OUT_OF_STOCK.getMessage());
+        verify(availableCouponCatalog).onSoldOut(couponId);
+        verify(couponRepository, never()).decreaseRemainingQuantityBy(any(), anyInt());
+        verify(couponStockStore, never()).recordIssued(any(), anyLong());
+        verify(couponStockStore, never()).recordBulkIssued(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("청크 발급 - 모두 이미 보유 중이면 저장/재고 차감 없음")
+    void issueMemberCouponsChunk_AllIssued() {
+        // given
+        Long couponId = 1L;
+        Coupon coupon = mock(Coupon.class);
+        CouponPolicy policy = mock(CouponPolicy.class);
+
+        given(couponRepository.findById(couponId)).willReturn(Optional.of(coupon));
+        given(coupon.getCouponPolicy()).willReturn(policy);
+        given(policy.isIssuable()).willReturn(true);
+        given(memberCouponRepository.findIssuedUserIds(couponId, List.of(1L))).willReturn(List.of(1L));
+
+        // when
+        int issued = couponService.issueMemberCouponsChunk(couponId, List.of(1L));
+
+        // then
+        assertThat(issued).isZero();
+        verify(memberCouponBulkRepository, never()).insertIgnoreAll(any(), any(), any(), any());
+        verify(couponRepository, never()).decreaseRemainingQuantityBy(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("청크 발급 실패 - 남은 재고가 저장된 수보다 적으면 재고 소진 예외 (청크 롤백)")
+    void issueMemberCouponsChunk_Fail_OutOfStock() {
+        // given
+        Long couponId = 1L;
+        Coupon coupon = mock(Coupon.class);
+        CouponPolicy policy = mock(CouponPolicy.class);
+
+        given(couponRepository.findById(couponId)).willReturn(Optional.of(coupon));
+        given(coupon.getCouponPolicy()).willReturn(policy);
+        given(coupon.getCouponRemainingQuantity()).willReturn(1);
+        given(policy.isIssuable()).willReturn(true);
+        given(policy.getDurationDays()).willReturn(30);
+        given(memberCouponRepository.findIssuedUserIds(couponId, List.of(1L, 2L))).willReturn(List.of());
+        given(memberCouponBulkRepository.insertIgnoreAll(eq(couponId), eq(List.of(1L, 2L)), any(), any()))
+                .willReturn(2);
+        given(couponRepository.decreaseRemainingQuantityBy(couponId, 2)).willReturn(0);
+        given(couponStockStore.reserve(couponId, 2)).willReturn(3L);
+
+        try (MockedStatic<TransactionSynchronizationManager> synchronizationManager = mockStatic(
+                TransactionSynchronizationManager.class)) {
+            synchronizationManager.when(TransactionSynchronizationManager::isSynchronizationActive).thenReturn(true);
+
+            // when & then
+            assertThatThrownBy(() -> couponService.issueMemberCouponsChunk(couponId, List.of(1L, 2L)))
+                    .isInstanceOf(CouponIssueException.class)
+                    .hasMessage(CouponErrorCode.COUPON_OUT_OF_STOCK.getMessage());
+
+            // 롤백되면 먼저 차감한 Redis 재고를 되돌림
+            ArgumentCaptor<TransactionSynchronization> captor = ArgumentCaptor.forClass(
+                    TransactionSynchronization.class);
+            synchronizationManager.verify(
+                    () -> TransactionSynchronizationManager.registerSynchronization(captor.capture()), atLeastOnce());
+            captor.getAllValues().forEach(
+                    synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            verify(couponStockStore).restock(couponId, 2);
+            verify(couponStockStore, never()).recordBulkIssued(any(), anyInt());
+        }
+        verify(memberIssuedCouponStore, never()).markIssued(any(Collection.class), any());
+    }
+
     // updateAccount (수량 수정)
     @Test
     @DisplayName("쿠폰 수량 수정 성공 & Redis 업데이트")
@@ -500,7 +921,11 @@ class CouponServiceTest {
                 .isInstanceOf(CouponNotFoundException.class);
     }
 
-    // issueWelcomeCoupon (웰컴 쿠폰)
+    // issueWelcomeCoupon (웰컴 쿠폰) - 쿠폰 ID는 SystemCouponRegistry가 정책/쿠폰 1회 조회로 적재
+
+    private void givenSystemCoupons(SystemCouponRow... rows) {
+        given(policyRepository.findActiveSystemCoupons(any())).willReturn(List.of(rows));
+    }
 
     @Test
     @DisplayName("웰컴 쿠폰 발급 성공 - 무제한 쿠폰인 경우")
@@ -511,11 +936,8 @@ class CouponServiceTest {
         CouponPolicy policy = mock(CouponPolicy.class);
         Coupon coupon = mock(Coupon.class);
 
-        given(policy.getCouponPolicyId()).willReturn(1L);
-        given(policyRepository.findActivePolicyByType(CouponPolicyType.WELCOME)).willReturn(Optional.of(policy));
-        given(couponRepository.findByCouponPolicy_CouponPolicyId(1L)).willReturn(Optional.of(coupon));
+        givenSystemCoupons(new SystemCouponRow(CouponPolicyType.WELCOME, 1L, couponId));
 
-        given(coupon.getCouponId()).willReturn(couponId);
         given(couponRepository.findById(couponId)).willReturn(Optional.of(coupon));
         given(coupon.getCouponPolicy()).willReturn(policy);
 
@@ -539,7 +961,7 @@ class CouponServiceTest {
     @Test
     @DisplayName("웰컴 쿠폰 발급 실패 - 정책 없음")
     void issueWelcomeCoupon_Fail_NoPolicy() {
-        given(policyRepository.findActivePolicyByType(CouponPolicyType.WELCOME)).willReturn(Optional.empty());
+        givenSystemCoupons();
 
         assertThatThrownBy(() -> couponService.issueWelcomeCoupon(1L))
                 .isInstanceOf(CouponPolicyNotFoundException.class);
@@ -548,27 +970,30 @@ class CouponServiceTest {
     @Test
     @DisplayName("웰컴 쿠폰 발급 실패 - 쿠폰 없음")
     void issueWelcomeCoupon_Fail_NoCoupon() {
-        CouponPolicy policy = mock(CouponPolicy.class);
-        given(policy.getCouponPolicyId()).willReturn(1L);
-
-        given(policyRepository.findActivePolicyByType(CouponPolicyType.WELCOME)).willReturn(Optional.of(policy));
-        given(couponRepository.findByCouponPolicy_CouponPolicyId(1L)).willReturn(Optional.empty());
+        givenSystemCoupons(new SystemCouponRow(CouponPolicyType.WELCOME, 1L, null));
 
         assertThatThrownBy(() -> couponService.issueWelcomeCoupon(1L))
                 .isInstanceOf(CouponNotFoundException.class);
     }
 
+    @Test
+    @DisplayName("웰컴 쿠폰 발급 실패 - 활성 웰컴 정책이 여러 개면 발급하지 않음")
+    void issueWelcomeCoupon_Fail_AmbiguousPolicy() {
+        givenSystemCoupons(new SystemCouponRow(CouponPolicyType.WELCOME, 1L, 10L),
+                new SystemCouponRow(CouponPolicyType.WELCOME, 2L, 11L));
+
+        assertThatThrownBy(() -> couponService.issueWelcomeCoupon(1L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("[1, 2]");
+        verify(couponRepository, never()).findById(any());
+    }
+
     @Test
     @DisplayName("웰컴 쿠폰 발급 중 예외 발생 시 Rethrow")
     void issueWelcomeCoupon_Exception_Rethrow() {
         Long userId = 1L;
-        CouponPolicy policy = mock(CouponPolicy.class);
-        Coupon coupon = mock(Coupon.class);
 
-        given(policy.getCouponPolicyId()).willReturn(1L);
-        given(policyRepository.findActivePolicyByType(CouponPolicyType.WELCOME)).willReturn(Optional.of(policy));
-        given(couponRepository.findByCouponPolicy_CouponPolicyId(1L)).willReturn(Optional.of(coupon));
-        given(coupon.getCouponId()).willReturn(10L);
+        givenSystemCoupons(new SystemCouponRow(CouponPolicyType.WELCOME, 1L, 10L));
 
         // issueMemberCoupon 내부에서 예외 발생 시킴 (예: 이미 발급됨)
         given(couponRepository.findById(10L)).willThrow(
@@ -590,11 +1015,8 @@ class CouponServiceTest {
         CouponPolicy policy = mock(CouponPolicy.class);
         Coupon coupon = mock(Coupon.class);
 
-        given(policyRepository.findActivePolicyByType(CouponPolicyType.BIRTHDAY)).willReturn(Optional.of(policy));
-        given(policy.getCouponPolicyId()).willReturn(2L);
-        given(couponRepository.findByCouponPolicy_CouponPolicyId(2L)).willReturn(Optional.of(coupon));
+        givenSystemCoupons(new SystemCouponRow(CouponPolicyType.BIRTHDAY, 2L, couponId));
 
-        given(coupon.getCouponId()).willReturn(couponId);
         given(couponRepository.findById(couponId)).willReturn(Optional.of(coupon));
         given(coupon.getCouponPolicy()).willReturn(policy);
 
@@ -618,7 +1040,7 @@ class CouponServiceTest {
     @Test
     @DisplayName("생일 쿠폰 발급 실패 - 정책 없음")
     void issueBirthdayCoupon_Fail_NoPolicy() {
-        given(policyRepository.findActivePolicyByType(CouponPolicyType.BIRTHDAY)).willReturn(Optional.empty());
+        givenSystemCoupons(new SystemCouponRow(CouponPolicyType.WELCOME, 1L, 10L));
         assertThatThrownBy(() -> couponService.issueBirthdayCoupon(1L))
                 .isInstanceOf(CouponPolicyNotFoundException.class);
     }
@@ -626,10 +1048,7 @@ class CouponServiceTest {
     @Test
     @DisplayName("생일 쿠폰 발급 실패 - 쿠폰 없음")
     void issueBirthdayCoupon_Fail_NoCoupon() {
-        CouponPolicy policy = mock(CouponPolicy.class);
-        given(policy.getCouponPolicyId()).willReturn(1L);
-        given(policyRepository.findActivePolicyByType(CouponPolicyType.BIRTHDAY)).willReturn(Optional.of(policy));
-        given(couponRepository.findByCouponPolicy_CouponPolicyId(1L)).willReturn(Optional.empty());
+        givenSystemCoupons(new SystemCouponRow(CouponPolicyType.BIRTHDAY, 1L, null));
 
         assertThatThrownBy(() -> couponService.issueBirthdayCoupon(1L))
                 .isInstanceOf(CouponNotFoundException.class);
@@ -639,13 +1058,8 @@ class CouponServiceTest {
     @DisplayName("생일 쿠폰 발급 중 예외 발생 시 Rethrow")
     void issueBirthdayCoupon_Exception_Rethrow() {
         Long userId = 1L;
-        CouponPolicy policy = mock(CouponPolicy.class);
-        Coupon coupon = mock(Coupon.class);
 
-        given(policy.getCouponPolicyId()).willReturn(1L);
-        given(policyRepository.findActivePolicyByType(CouponPolicyType.BIRTHDAY)).willReturn(Optional.of(policy));
-        given(couponRepository.findByCouponPolicy_CouponPolicyId(1L)).willReturn(Optional.of(coupon));
-        given(coupon.getCouponId()).willReturn(10L);
+        givenSystemCoupons(new SystemCouponRow(CouponPolicyType.BIRTHDAY, 1L, 10L));
 
         // 예외 유발
         given(couponRepository.findById(10L)).willThrow(new RuntimeException("DB Error"));
@@ -655,6 +1069,14 @@ class CouponServiceTest {
                 .hasMessage("DB Error");
     }
 
+    @Test
+    @DisplayName("생일 쿠폰 ID 조회 - 활성 생일 정책의 쿠폰")
+    void getBirthdayCouponId() {
+        givenSystemCoupons(new SystemCouponRow(CouponPolicyType.BIRTHDAY, 2L, 20L));
+
+        assertThat(couponService.getBirthdayCouponId()).isEqualTo(20L);
+    }
+
     @Test
     @DisplayName("적용 가능 쿠폰 조회 성공")
     void getIssuableCoupons_Success() { // 메서드명 변경
@@ -687,6 +1109,107 @@ class CouponServiceTest {
         assertThat(result).hasSize(1);
     }
 
+    private Coupon issuableCoupon(Long couponId) {
+        CouponPolicy policy = mock(CouponPolicy.class);
+        given(policy.isIssuable()).willReturn(true);
+        given(policy.getCouponPolicyName()).willReturn("테스트 쿠폰");
+        given(policy.getCouponPolicyDiscountType()).willReturn(CouponPolicyDiscountType.FIXED);
+        given(policy.getCouponDiscountValue()).willReturn(1000);
+        given(policy.getCouponPolicyStatus()).willReturn(CouponPolicyStatus.ACTIVE);
+
+        Coupon coupon = mock(Coupon.class);
+        given(coupon.getCouponPolicy()).willReturn(policy);
+        given(coupon.getCouponRemainingQuantity()).willReturn(10);
+        given(coupon.getCouponId()).willReturn(couponId);
+        return coupon;
+    }
+
+    @Test
+    @DisplayName("적용 가능 쿠폰 조회 - 발급 이력이 Redis에 적재돼 있으면 DB 이력 조회 생략")
+    void getIssuableCoupons_IssuedFlagsFromRedis() {
+        // given
+        Long userId = 1L;
+        List<Long> categories = List.of(1L);
+        Coupon issued = issuableCoupon(1L);
+        Coupon notIssued = issuableCoupon(2L);
+
+        given(couponRepository.findAppliableCoupons(100L, categories)).willReturn(List.of(issued, notIssued));
+        given(memberIssuedCouponStore.findIssued(userId, List.of(1L, 2L))).willReturn(Optional.of(Set.of(1L)));
+
+        // when
+        List<CouponResponseDto> result = couponService.getIssuableCoupons(userId, 100L, categories);
+
+        // then
+        assertThat(result).extracting(CouponResponseDto::getIsIssued).containsExactly(true, null);
+        verify(memberCouponRepository, never()).findAllCouponIdsByUserId(any());
+    }
+
+    @Test
+    @DisplayName("적용 가능 쿠폰 조회 - Redis가 콜드면 DB 이력으로 판정하고 적재")
+    void getIssuableCoupons_IssuedFlagsColdFallback() {
+        // given
+        Long userId = 1L;
+        List<Long> categories = List.of(1L);
+        Coupon coupon = issuableCoupon(1L);
+
+        given(couponRepository.findAppliableCoupons(100L, categories)).willReturn(List.of(coupon));
+        given(memberIssuedCouponStore.findIssued(userId, List.of(1L))).willReturn(Optional.empty());
+        given(memberCouponRepository.findAllCouponIdsByUserId(userId)).willReturn(List.of(1L, 50L));
+
+        // when
+        List<CouponResponseDto> result = couponService.getIssuableCoupons(userId, 100L, categories);
+
+        // then
+        assertThat(result).extracting(CouponResponseDto::getIsIssued).containsExactly(true);
+        verify(memberIssuedCouponStore).warm(userId, List.of(1L, 50L));
+    }
+
+    @Test
+    @DisplayName("적용 가능 쿠폰 조회 - 적용 대상 인덱스로 찾은 정책의 쿠폰만 조회")
+    void getIssuableCoupons_UsesPolicyTargetIndex() {
+        // given
+        Long bookId = 100L;
+        List<Long> categories = List.of(1L);
+
+        CouponPolicy policy = mock(CouponPolicy.class);
+        given(policy.isIssuable()).willReturn(true);
+        given(policy.getCouponPolicyName()).willReturn("테스트 쿠폰");
+        given(policy.getCouponPolicyDiscountType()).willReturn(CouponPolicyDiscountType.FIXED);
+        given(policy.getCouponDiscountValue()).willReturn(1000);
+        given(policy.getCouponPolicyStatus()).willReturn(CouponPolicyStatus.ACTIVE);
+
+        Coupon coupon = mock(Coupon.class);
+        given(coupon.getCouponPolicy()).willReturn(policy);
+        given(coupon.getCouponRemainingQuantity()).willReturn(10);
+        given(coupon.getCouponId()).willReturn(1L);
+
+        given(policyTargetIndex.isReady()).willReturn(true);
+        given(policyTargetIndex.findIssuablePolicyIds(bookId, categories)).willReturn(List.of(7L));
+        given(couponRepository.findAllByPolicyIds(List.of(7L))).willReturn(List.of(coupon));
+
+        // when
+        List<CouponResponseDto> result = couponService.getIssuableCoupons(null, bookId, categories);
+
+        // then
+        assertThat(result).hasSize(1);
+        verify(couponRepository, never()).findAppliableCoupons(any(), any());
+    }
+
+    @Test
+    @DisplayName("적용 가능 쿠폰 조회 - 적용 대상 인덱스에 일치하는 정책이 없으면 쿠폰 조회 생략")
+    void getIssuableCoupons_PolicyTargetIndexNoMatch() {
+        // given
+        given(policyTargetIndex.isReady()).willReturn(true);
+        given(policyTargetIndex.findIssuablePolicyIds(100L, List.of(1L))).willReturn(List.of());
+
+        // when
+        List<CouponResponseDto> result = couponService.getIssuableCoupons(null, 100L, List.of(1L));
+
+        // then
+        assertThat(result).isEmpty();
+        verify(couponRepository, never()).findAllByPolicyIds(any());
+    }
+
     @Test
     @DisplayName("적용 가능 쿠폰 조회 - 재고 없으면 제외")
     void getIssuableCoupons_FilteredByStock() { // 메소드명 변경
@@ -0,0 +1,189 @@
+package com.example.book2onandoncouponservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.example.book2onandoncouponservice.entity.Coupon;
+import com.example.book2onandoncouponservice.redis.CouponStockStore;
+import com.example.book2onandoncouponservice.repository.CouponRepository;
+import com.example.book2onandoncouponservice.repository.MemberCouponRepository;
+import com.example.book2onandoncouponservice.service.impl.CouponStockReconciler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+@ExtendWith(MockitoExtension.class)
+class CouponStockReconcilerTest {
+
+    @Mock
+    private CouponStockStore couponStockStore;
+    @Mock
+    private CouponRepository couponRepository;
+    @Mock
+    private MemberCouponRepository memberCouponRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CouponStockReconciler reconciler;
+
+    private final Long couponId = 10L;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reconciler = new CouponStockReconciler(couponStockStore, couponRepository, memberCouponRepository,
+                meterRegistry);
+    }
+
+    private void givenTracked(int dbRemaining, long redisStock, long pending, long redisIssued, long dbIssued) {
+        Coupon coupon = mock(Coupon.class);
+        given(coupon.getCouponRemainingQuantity()).willReturn(dbRemaining);
+        given(couponStockStore.trackedCouponIds()).willReturn(Set.of(couponId));
+        given(couponStockStore.hasIssueHistory(couponId)).willReturn(true);
+        given(couponRepository.findById(couponId)).willReturn(Optional.of(coupon));
+        given(couponStockStore.stock(couponId)).willReturn(redisStock);
+        given(couponStockStore.pending(couponId)).willReturn(pending);
+        given(couponStockStore.issuedUserCount(couponId)).willReturn(redisIssued);
+        given(memberCouponRepository.countByCoupon_CouponId(couponId)).willReturn(dbIssued);
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).tag("couponId", String.valueOf(couponId)).gauge().value();
+    }
+
+    @Test
+    @DisplayName("누적된 차감량을 UPDATE 1회로 DB에 반영")
+    void reconcile_FlushPending() {
+        // given
+        given(couponStockStore.drainDirtyCouponIds()).willReturn(Set.of(couponId));
+        given(couponStockStore.claimPending(couponId)).willReturn(37L);
+        given(couponRepository.decreaseRemainingQuantityBy(couponId, 37)).willReturn(1);
+
+        // when
+        reconciler.reconcile();
+
+        // then
+        verify(couponRepository).decreaseRemainingQuantityBy(couponId, 37);
+        assertThat(meterRegistry.get("coupon.stock.reconcile.flushed").counter().count()).isEqualTo(37.0);
+    }
+
+    @Test
+    @DisplayName("DB 반영 중 예외가 나면 차감량을 되돌려 다음 주기에 재시도")
+    void reconcile_FlushFailure_RestorePending() {
+        // given
+        given(couponStockStore.drainDirtyCouponIds()).willReturn(Set.of(couponId));
+        given(couponStockStore.claimPending(couponId)).willReturn(5L);
+        given(couponRepository.decreaseRemainingQuantityBy(couponId, 5))
+                .willThrow(new QueryTimeoutException("lock timeout"));
+
+        // when
+        reconciler.reconcile();
+
+        // then
+        verify(couponStockStore).restorePending(couponId, 5L);
+        assertThat(meterRegistry.get("coupon.stock.reconcile.failed").counter().count()).isEqualTo(5.0);
+        assertThat(meterRegistry.get("coupon.stock.reconcile.oversold").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("차감량이 DB 남은 수량보다 많으면(초과 발급) 남은 수량을 0으로 맞추고 지표로 노출")
+    void reconcile_FlushShortfall_ClampToZero() {
+        // given
+        given(couponStockStore.drainDirtyCouponIds()).willReturn(Set.of(couponId));
+        given(couponStockStore.claimPending(couponId)).willReturn(8L);
+        given(couponRepository.decreaseRemainingQuantityBy(couponId, 8)).willReturn(0);
+        given(couponRepository.decreaseRemainingQuantityToZero(couponId, 8)).willReturn(1);
+
+        // when
+        reconciler.reconcile();
+
+        // then
+        verify(couponRepository).decreaseRemainingQuantityToZero(couponId, 8);
+        verify(couponStockStore, never()).restorePending(anyLong(), anyLong());
+        assertThat(meterRegistry.get("coupon.stock.reconcile.oversold").counter().count()).isEqualTo(8.0);
+        assertThat(meterRegistry.get("coupon.stock.reconcile.failed").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("미반영 차감량이 없으면 UPDATE 하지 않음")
+    void reconcile_NoPending() {
+        // given
+        given(couponStockStore.drainDirtyCouponIds()).willReturn(Set.of(couponId));
+        given(couponStockStore.claimPending(couponId)).willReturn(0L);
+
+        // when
+        reconciler.reconcile();
+
+        // then
+        verify(couponRepository, never()).decreaseRemainingQuantityBy(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("재고가 맞으면 drift 0, 대기열에 남은 발급 수는 inflight로 노출")
+    void reconcile_NoDrift() {
+        // given DB 100 - 미반영 10 - 처리 대기 5 = Redis 85
+        givenTracked(100, 85, 10, 25, 20);
+
+        // when
+        reconciler.reconcile();
+
+        // then
+        assertThat(gauge("coupon.stock.drift")).isZero();
+        assertThat(gauge("coupon.stock.inflight")).isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("대량 발급으로 차감한 재고는 발급 이력 대신 대량 발급 수로 계산해 drift 0")
+    void reconcile_BulkIssued_NoDrift() {
+        // given 선착순 5 + 대량 발급 10 = DB 15, 미반영 15 -> Redis 100 - 15 = 85
+        givenTracked(100, 85, 15, 5, 15);
+        given(couponStockStore.bulkIssuedCount(couponId)).willReturn(10L);
+
+        // when
+        reconciler.reconcile();
+
+        // then
+        assertThat(gauge("coupon.stock.drift")).isZero();
+        assertThat(gauge("coupon.stock.inflight")).isZero();
+    }
+
+    @Test
+    @DisplayName("재고가 중복 반환되면 drift로 노출")
+    void reconcile_DriftDetected() {
+        // given Redis 재고가 2개 더 많음
+        givenTracked(90, 92, 0, 10, 10);
+
+        // when
+        reconciler.reconcile();
+
+        // then
+        assertThat(gauge("coupon.stock.drift")).isEqualTo(-2.0);
+    }
+
+    @Test
+    @DisplayName("발급 이력이 만료된 쿠폰은 감시 대상에서 제외하고 지표 제거")
+    void reconcile_UntrackFinishedDrop() {
+        // given
+        givenTracked(100, 100, 0, 0, 0);
+        reconciler.reconcile();
+        given(couponStockStore.hasIssueHistory(couponId)).willReturn(false);
+
+        // when
+        reconciler.reconcile();
+
+        // then
+        verify(couponStockStore).untrack(couponId);
+        assertThat(meterRegistry.find("coupon.stock.drift").gauges()).isEmpty();
+    }
+}
@@ -9,30 +9,55 @@ import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
+import com.example.book2onandoncouponservice.cache.CouponSnapshot;
+import com.example.book2onandoncouponservice.cache.CouponSnapshotCache;
+import com.example.book2onandoncouponservice.cache.PolicyTargetIndex;
+import com.example.book2onandoncouponservice.cache.PolicyTargetIndex.PolicyTargets;
+import com.example.book2onandoncouponservice.discount.DiscountCart;
+import com.example.book2onandoncouponservice.discount.DiscountEngine;
+import com.example.book2onandoncouponservice.dto.request.CartLineRequestDto;
+import com.example.book2onandoncouponservice.dto.request.CouponDiscountRequestDto;
 import com.example.book2onandoncouponservice.dto.request.OrderCouponCheckRequestDto;
+import com.example.book2onandoncouponservice.dto.response.CouponDiscountResponseDto;
+import com.example.book2onandoncouponservice.dto.response.CouponTargetBulkResponseDto;
 import com.example.book2onandoncouponservice.dto.response.CouponTargetResponseDto;
+import com.example.book2onandoncouponservice.dto.response.CursorPageResponseDto;
 import com.example.book2onandoncouponservice.dto.response.MemberCouponResponseDto;
+import com.example.book2onandoncouponservice.dto.response.PolicyTargetGroupDto;
 import com.example.book2onandoncouponservice.entity.Coupon;
 import com.example.book2onandoncouponservice.entity.CouponPolicy;
 import com.example.book2onandoncouponservice.entity.CouponPolicyDiscountType;
 import com.example.book2onandoncouponservice.entity.CouponPolicyTargetBook;
 import com.example.book2onandoncouponservice.entity.CouponPolicyTargetCategory;
+import com.example.book2onandoncouponservice.entity.CouponPolicyType;
 import com.example.book2onandoncouponservice.entity.MemberCoupon;
 import com.example.book2onandoncouponservice.entity.MemberCouponStatus;
 import com.example.book2onandoncouponservice.exception.CouponErrorCode;
 import com.example.book2onandoncouponservice.exception.CouponIssueException;
 import com.example.book2onandoncouponservice.exception.CouponNotFoundException;
+import com.example.book2onandoncouponservice.metrics.CouponMetrics;
+import com.example.book2onandoncouponservice.pagination.CursorCodec;
 import com.example.book2onandoncouponservice.repository.CouponPolicyRepository;
+import com.example.book2onandoncouponservice.repository.CouponPolicyTargetBookRepository;
+import com.example.book2onandoncouponservice.repository.CouponPolicyTargetCategoryRepository;
 import com.example.book2onandoncouponservice.repository.MemberCouponRepository;
+import com.example.book2onandoncouponservice.repository.projection.MemberCouponPolicyRow;
+import com.example.book2onandoncouponservice.repository.projection.MemberCouponRow;
 import com.example.book2onandoncouponservice.service.impl.MemberCouponServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -51,6 +76,40 @@ class MemberCouponServiceTest {
     @Mock
     private CouponPolicyRepository couponPolicyRepository;
 
+    @Mock
+    private PolicyTargetIndex policyTargetIndex;
+
+    @Mock
+    private CouponSnapshotCache couponSnapshotCache;
+
+    @Mock
+    private DiscountEngine discountEngine;
+
+    @Mock
+    private CouponPolicyTargetBookRepository targetBookRepository;
+
+    @Mock
+    private CouponPolicyTargetCategoryRepository targetCategoryRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private static final Long COUPON_ID = 10L;
+
+    @BeforeEach
+    void setUpMetrics() {
+        ReflectionTestUtils.setField(memberCouponService, "couponMetrics",
+                new CouponMetrics(meterRegistry, couponSnapshotCache));
+    }
+
+    // 사용/취소 경로는 지표 태그용으로 쿠폰 ID를 읽는다
+    private MemberCoupon memberCouponOf(Long couponId) {
+        MemberCoupon memberCoupon = mock(MemberCoupon.class);
+        Coupon coupon = mock(Coupon.class);
+        given(memberCoupon.getCoupon()).willReturn(coupon);
+        given(coupon.getCouponId()).willReturn(couponId);
+        return memberCoupon;
+    }
+
     // --- Helper: DTO 변환을 위한 Mock 객체 생성 ---
     private MemberCoupon createStubbedMemberCoupon(Long id, Long userId) {
         MemberCoupon mc = mock(MemberCoupon.class);
@@ -73,6 +132,11 @@ class MemberCouponServiceTest {
         return mc;
     }
 
+    private MemberCouponRow createRow(Long id, LocalDateTime endDate) {
+        return new MemberCouponRow(id, "Test Coupon", 10000, null, 1000, CouponPolicyDiscountType.FIXED,
+                MemberCouponStatus.NOT_USED, endDate, null);
+    }
+
     // ==========================================
     // 1. getMyCoupon (내 쿠폰 조회)
     // ==========================================
@@ -85,10 +149,10 @@ class MemberCouponServiceTest {
         String status = "USED";
         Pageable pageable = PageRequest.of(0, 10);
 
-        MemberCoupon mc = createStubbedMemberCoupon(1L, userId);
+        MemberCouponRow row = createRow(1L, LocalDateTime.of(2030, 1, 1, 0, 0));
 
         given(memberCouponRepository.findCouponsWithPolicy(eq(userId), eq(MemberCouponStatus.USED), any()))
-                .willReturn(new PageImpl<>(List.of(mc)));
+                .willReturn(new PageImpl<>(List.of(row)));
 
         // when
         Page<MemberCouponResponseDto> result = memberCouponService.getMyCoupon(userId, pageable, status);
@@ -96,6 +160,7 @@ class MemberCouponServiceTest {
         // then
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().get(0).getCouponName()).isEqualTo("Test Coupon");
+        assertThat(result.getContent().get(0).getDiscountDescription()).isEqualTo("1,000원 할인");
     }
 
     @Test
@@ -115,6 +180,42 @@ class MemberCouponServiceTest {
         verify(memberCouponRepository).findCouponsWithPolicy(eq(userId), eq(null), any());
     }
 
+    @Test
+    @DisplayName("내 쿠폰 커서 조회 - size + 1건으로 다음 페이지를 판단하고, 마지막 행 키로 이어서 조회")
+    void getMyCouponsByCursor() {
+        // given
+        Long userId = 1L;
+        LocalDateTime endDate = LocalDateTime.of(2030, 1, 2, 0, 0);
+        given(memberCouponRepository.findCouponsWithPolicyFirstPage(userId, MemberCouponStatus.NOT_USED,
+                Limit.of(3))).willReturn(List.of(createRow(10L, endDate.minusDays(1)), createRow(11L, endDate),
+                createRow(12L, endDate)));
+        given(memberCouponRepository.findCouponsWithPolicyAfter(userId, MemberCouponStatus.NOT_USED, endDate, 11L,
+                Limit.of(3))).willReturn(List.of());
+
+        // when
+        CursorPageResponseDto<MemberCouponResponseDto> page =
+                memberCouponService.getMyCouponsByCursor(userId, null, 2, "NOT_USED");
+        CursorPageResponseDto<MemberCouponResponseDto> next =
+                memberCouponService.getMyCouponsByCursor(userId, page.getNextCursor(), 2, "NOT_USED");
+
+        // then
+        assertThat(page.getContent()).extracting(MemberCouponResponseDto::getMemberCouponId)
+                .containsExactly(10L, 11L);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(next.getContent()).isEmpty();
+        assertThat(next.isHasNext()).isFalse();
+        assertThat(next.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("내 쿠폰 커서 조회 - 해석할 수 없는 커서는 IllegalArgumentException")
+    void getMyCouponsByCursor_InvalidCursor() {
+        assertThatThrownBy(() -> memberCouponService.getMyCouponsByCursor(1L, "not-a-cursor", 20, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> memberCouponService.getMyCouponsByCursor(1L, CursorCodec.encode("x", 1), 20, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     // ==========================================
     // 2. useMemberCoupon (쿠폰 사용 - orderNumber 추가됨)
     // ==========================================
@@ -127,7 +228,7 @@ class MemberCouponServiceTest {
         Long userId = 100L;
         String orderNumber = "12345L"; // 주문 번호
 
-        MemberCoupon memberCoupon = mock(MemberCoupon.class);
+        MemberCoupon memberCoupon = memberCouponOf(COUPON_ID);
         given(memberCouponRepository.findById(mcId)).willReturn(Optional.of(memberCoupon));
         given(memberCoupon.getUserId()).willReturn(userId); // 소유자 일치
 
@@ -156,7 +257,7 @@ class MemberCouponServiceTest {
         Long otherUser = 999L;
         String orderNumber = "12345L";
 
-        MemberCoupon memberCoupon = mock(MemberCoupon.class);
+        MemberCoupon memberCoupon = memberCouponOf(COUPON_ID);
         given(memberCouponRepository.findById(mcId)).willReturn(Optional.of(memberCoupon));
         given(memberCoupon.getUserId()).willReturn(otherUser); // 다른 사람
 
@@ -165,6 +266,30 @@ class MemberCouponServiceTest {
                 .hasMessage(CouponErrorCode.NOT_COUPON_OWNER.getMessage());
     }
 
+    @Test
+    @DisplayName("쿠폰 사용 지표 - 성공 시간과 실패 건수(에러 코드, 쿠폰 타입별) 기록")
+    void useMemberCoupon_RecordsMetrics() {
+        MemberCoupon owned = memberCouponOf(COUPON_ID);
+        MemberCoupon notOwned = memberCouponOf(COUPON_ID);
+        given(memberCouponRepository.findById(1L)).willReturn(Optional.of(owned));
+        given(memberCouponRepository.findById(2L)).willReturn(Optional.of(notOwned));
+        given(owned.getUserId()).willReturn(100L);
+        given(notOwned.getUserId()).willReturn(999L);
+        given(couponSnapshotCache.find(COUPON_ID)).willReturn(Optional.of(
+                new CouponSnapshot(COUPON_ID, false, 1L, CouponPolicyType.BOOK, true, null, 30)));
+
+        memberCouponService.useMemberCoupon(1L, 100L, "ORDER-1");
+        assertThatThrownBy(() -> memberCouponService.useMemberCoupon(2L, 100L, "ORDER-2"))
+                .isInstanceOf(CouponIssueException.class);
+
+        assertThat(meterRegistry.get("coupon.operation.duration")
+                .tags("operation", "use", "couponType", "BOOK", "outcome", "success").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("coupon.operation.failures")
+                .tags("operation", "use", "couponType", "BOOK", "errorCode", "NOT_COUPON_OWNER").counter().count())
+                .isEqualTo(1);
+    }
+
     // ==========================================
     // 3. cancelCouponByOrder (주문 번호로 취소 - 새로 추가된 메서드)
     // ==========================================
@@ -174,7 +299,7 @@ class MemberCouponServiceTest {
     void cancelCouponByOrder_Success() {
         // given
         String orderNumber = "12345L";
-        MemberCoupon memberCoupon = mock(MemberCoupon.class);
+        MemberCoupon memberCoupon = memberCouponOf(COUPON_ID);
 
         // 주문 번호로 조회 성공 가정
         given(memberCouponRepository.findByOrderNumber(orderNumber)).willReturn(Optional.of(memberCoupon));
@@ -229,6 +354,31 @@ class MemberCouponServiceTest {
         verify(memberCouponRepository).findUsableCouponsByPolicyIds(eq(userId), eq(policyIds), any());
     }
 
+    @Test
+    @DisplayName("주문 적용 가능 쿠폰 조회 - 적용 대상 인덱스가 적재되면 DB 정책 조회를 생략")
+    void getUsableCoupons_UsesPolicyTargetIndex() {
+        // given
+        Long userId = 1L;
+        List<Long> bookIds = List.of(100L);
+        List<Long> categoryIds = List.of(10L);
+        OrderCouponCheckRequestDto requestDto = new OrderCouponCheckRequestDto(bookIds, categoryIds);
+
+        List<Long> policyIds = List.of(3L);
+        given(policyTargetIndex.isReady()).willReturn(true);
+        given(policyTargetIndex.findApplicablePolicyIds(bookIds, categoryIds)).willReturn(policyIds);
+
+        MemberCoupon mc = createStubbedMemberCoupon(10L, userId);
+        given(memberCouponRepository.findUsableCouponsByPolicyIds(eq(userId), eq(policyIds), any()))
+                .willReturn(List.of(mc));
+
+        // when
+        List<MemberCouponResponseDto> result = memberCouponService.getUsableCoupons(userId, requestDto);
+
+        // then
+        assertThat(result).hasSize(1);
+        verify(couponPolicyRepository, org.mockito.Mockito.never()).findApplicablePolicyIds(any(), any());
+    }
+
     @Test
     @DisplayName("주문 적용 가능 쿠폰 조회 - 정책 없음 (Early Return)")
     void getUsableCoupons_NoPolicy() {
@@ -251,6 +401,52 @@ class MemberCouponServiceTest {
         verify(memberCouponRepository, org.mockito.Mockito.never()).findUsableCouponsByPolicyIds(any(), any(), any());
     }
 
+    @Test
+    @DisplayName("주문 쿠폰 할인 계산 - 장바구니의 도서/카테고리로 적용 가능 정책을 찾아 사용 가능 쿠폰을 계산기에 넘긴다")
+    void calculateDiscounts_Success() {
+        // given
+        Long userId = 1L;
+        CouponDiscountRequestDto requestDto = new CouponDiscountRequestDto(List.of(
+                new CartLineRequestDto(100L, List.of(10L), 20000, 1),
+                new CartLineRequestDto(101L, List.of(10L, 11L), 5000, 2)));
+
+        List<Long> policyIds = List.of(3L);
+        given(policyTargetIndex.isReady()).willReturn(true);
+        given(policyTargetIndex.findApplicablePolicyIds(List.of(100L, 101L), List.of(10L, 11L)))
+                .willReturn(policyIds);
+
+        MemberCoupon mc = createStubbedMemberCoupon(10L, userId);
+        given(memberCouponRepository.findUsableCouponsByPolicyIds(eq(userId), eq(policyIds), any()))
+                .willReturn(List.of(mc));
+        CouponDiscountResponseDto expected = new CouponDiscountResponseDto(30000, List.of(), null);
+        given(discountEngine.evaluate(eq(List.of(mc)), any(DiscountCart.class))).willReturn(expected);
+
+        // when
+        CouponDiscountResponseDto result = memberCouponService.calculateDiscounts(userId, requestDto);
+
+        // then
+        assertThat(result).isSameAs(expected);
+        verify(couponPolicyRepository, org.mockito.Mockito.never()).findApplicablePolicyIds(any(), any());
+    }
+
+    @Test
+    @DisplayName("주문 쿠폰 할인 계산 - 적용 가능 정책이 없으면 회원 쿠폰을 조회하지 않는다")
+    void calculateDiscounts_NoPolicy() {
+        // given
+        CouponDiscountRequestDto requestDto = new CouponDiscountRequestDto(List.of(
+                new CartLineRequestDto(999L, null, 10000, 1)));
+        given(couponPolicyRepository.findApplicablePolicyIds(List.of(999L), List.of())).willReturn(List.of());
+        given(discountEngine.evaluate(eq(List.of()), any(DiscountCart.class)))
+                .willReturn(new CouponDiscountResponseDto(10000, List.of(), null));
+
+        // when
+        CouponDiscountResponseDto result = memberCouponService.calculateDiscounts(1L, requestDto);
+
+        // then
+        assertThat(result.getBestMemberCouponId()).isNull();
+        verify(memberCouponRepository, org.mockito.Mockito.never()).findUsableCouponsByPolicyIds(any(), any(), any());
+    }
+
     @Test
     @DisplayName("쿠폰 적용 대상 조회 성공 - 타겟 도서와 카테고리가 존재하는 경우")
     void getCouponTargets_Success() {
@@ -346,4 +542,35 @@ class MemberCouponServiceTest {
         assertThatThrownBy(() -> memberCouponService.getCouponTargets(invalidId))
                 .isInstanceOf(CouponNotFoundException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("쿠폰 적용 대상 일괄 조회 - 정책별로 묶고, 인덱스에 없는 정책만 DB에서 한 번에 조회한다")
+    void getCouponTargetsBulk() {
+        // given
+        given(memberCouponRepository.findPolicyRowsByMemberCouponIds(Set.of(3L, 1L, 2L, 9L))).willReturn(List.of(
+                new MemberCouponPolicyRow(1L, 10L, 10000, 5000, CouponPolicyDiscountType.PERCENT, 10),
+                new MemberCouponPolicyRow(2L, 20L, 0, null, CouponPolicyDiscountType.FIXED, 3000),
+                new MemberCouponPolicyRow(3L, 10L, 10000, 5000, CouponPolicyDiscountType.PERCENT, 10)));
+        given(policyTargetIndex.isReady()).willReturn(true);
+        given(policyTargetIndex.findTargets(Set.of(10L, 20L))).willReturn(Map.of(10L,
+                new PolicyTargets(CouponPolicyType.BOOK, null, new long[]{100L, 101L}, new long[0])));
+        given(targetBookRepository.findPolicyTargetPairsByPolicyIds(List.of(20L))).willReturn(List.of());
+        given(targetCategoryRepository.findPolicyTargetPairsByPolicyIds(List.of(20L)))
+                .willReturn(List.<Object[]>of(new Object[]{20L, 7L}));
+
+        // when
+        CouponTargetBulkResponseDto result = memberCouponService.getCouponTargets(List.of(3L, 1L, 2L, 9L, 3L));
+
+        // then
+        assertThat(result.getPolicies()).extracting(PolicyTargetGroupDto::getCouponPolicyId).containsExactly(10L, 20L);
+        PolicyTargetGroupDto shared = result.getPolicies().get(0);
+        assertThat(shared.getMemberCouponIds()).containsExactly(3L, 1L);
+        assertThat(shared.getTargetBookIds()).containsExactly(100L, 101L);
+        assertThat(shared.getMaxPrice()).isEqualTo(5000);
+        PolicyTargetGroupDto fromDb = result.getPolicies().get(1);
+        assertThat(fromDb.getMemberCouponIds()).containsExactly(2L);
+        assertThat(fromDb.getTargetBookIds()).isEmpty();
+        assertThat(fromDb.getTargetCategoryIds()).containsExactly(7L);
+        assertThat(result.getNotFoundMemberCouponIds()).containsExactly(9L);
+    }
+}
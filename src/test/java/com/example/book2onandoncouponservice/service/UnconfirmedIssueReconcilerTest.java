@@ -0,0 +1,73 @@
+package com.example.book2onandoncouponservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.example.book2onandoncouponservice.redis.CouponStockStore;
+import com.example.book2onandoncouponservice.redis.UnconfirmedIssue;
+import com.example.book2onandoncouponservice.repository.MemberCouponRepository;
+import com.example.book2onandoncouponservice.service.impl.UnconfirmedIssueReconciler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class UnconfirmedIssueReconcilerTest {
+
+    @Mock
+    private CouponStockStore couponStockStore;
+    @Mock
+    private MemberCouponRepository memberCouponRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UnconfirmedIssueReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reconciler = new UnconfirmedIssueReconciler(couponStockStore, memberCouponRepository, meterRegistry, 60000);
+    }
+
+    @Test
+    @DisplayName("유예 시간이 지나도 발급 이력이 없으면 재고를 복구하고 정산 대상에서 제거")
+    void reconcile_NotIssued_Release() {
+        // given
+        UnconfirmedIssue issue = new UnconfirmedIssue(10L, 1L);
+        given(couponStockStore.unconfirmedBefore(anyLong(), anyInt())).willReturn(List.of(issue));
+        given(memberCouponRepository.existsByUserIdAndCoupon_CouponId(1L, 10L)).willReturn(false);
+
+        // when
+        reconciler.reconcile();
+
+        // then
+        verify(couponStockStore).release(10L, 1L);
+        verify(couponStockStore).removeUnconfirmed(issue);
+        assertThat(meterRegistry.get("coupon.issue.unconfirmed.released").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("발급이 확인되면 재고를 복구하지 않고 정산 대상에서만 제거")
+    void reconcile_Issued_NoRelease() {
+        // given
+        UnconfirmedIssue issue = new UnconfirmedIssue(10L, 1L);
+        given(couponStockStore.unconfirmedBefore(anyLong(), anyInt())).willReturn(List.of(issue));
+        given(memberCouponRepository.existsByUserIdAndCoupon_CouponId(1L, 10L)).willReturn(true);
+
+        // when
+        reconciler.reconcile();
+
+        // then
+        verify(couponStockStore, never()).release(10L, 1L);
+        verify(couponStockStore).removeUnconfirmed(issue);
+        assertThat(meterRegistry.get("coupon.issue.unconfirmed.confirmed").counter().count()).isEqualTo(1);
+    }
+}